@@ -3,15 +3,16 @@ package com.hjh.files.sync;
 import java.io.IOException;
 
 import org.apache.http.util.Asserts;
-import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.TException;
 
 import com.hjh.files.sync.client.ClientForSync;
 import com.hjh.files.sync.common.thrift.ThriftClientPool;
 import com.hjh.files.sync.server.ServerForSync;
+import com.hjh.files.sync.server.ServerStats;
 
 public class SyncMain {
 
-	public static void main(String argvs[]) throws TTransportException, IOException {
+	public static void main(String argvs[]) throws TException, IOException {
 		Asserts.check(argvs != null && argvs.length == 2, "require params type and config path");
 		String type = argvs[0];
 		String config = argvs[1];
@@ -25,6 +26,9 @@ public class SyncMain {
 				ClientForSync.sync(config);
 			} else if ("client_validate".equals(type)) {
 				ClientForSync.validate(config);
+			} else if ("stats".equals(type)) {
+				// 第二个参数为服务地址 ip:port
+				ServerStats.print(config);
 			} else {
 				throw new RuntimeException("unknow type " + type);
 			}
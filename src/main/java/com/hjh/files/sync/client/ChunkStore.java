@@ -0,0 +1,187 @@
+package com.hjh.files.sync.client;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.util.ChunkUtil;
+
+/**
+ * 按块内容 md5 保存的块缓存, 所有文件共用; 超过 max_size 时删除最久没有使用的块
+ * <br>
+ * 服务端代理目录的数据块缓存也使用它, key 为块的 (上游, path, 修改时间, 大小, 位置) 的 md5
+ */
+public class ChunkStore {
+
+	private static ILog logger = HLogFactory.create(ChunkStore.class);
+
+	private File folder;
+	private long max_size;
+	private long size = -1;
+
+	public ChunkStore(File folder, long max_size) {
+		this.folder = folder;
+		this.max_size = max_size;
+		if (!this.folder.isDirectory()) {
+			Asserts.check(this.folder.mkdirs(), "can not create chunk store on :" + this.folder.getAbsolutePath());
+		}
+	}
+
+	private File file(byte[] hash) {
+		String name = ChunkUtil.hex(hash);
+		return new File(new File(folder, name.substring(0, 2)), name);
+	}
+
+	public boolean has(byte[] hash) {
+		return file(hash).isFile();
+	}
+
+	/**
+	 * 把块写入 out 的 position 处, 返回写入的长度
+	 */
+	public long copyTo(byte[] hash, FileChannel out, long position) throws IOException {
+		File file = file(hash);
+		FileInputStream in = new FileInputStream(file);
+		try {
+			FileChannel channel = in.getChannel();
+			long len = channel.size();
+			long done = 0;
+			while (done < len) {
+				done += out.transferFrom(channel, position + done, len - done);
+			}
+			file.setLastModified(System.currentTimeMillis());
+			return len;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * 读取整个块, 不存在时返回 null
+	 */
+	public byte[] read(byte[] hash) throws IOException {
+		File file = file(hash);
+		FileInputStream in;
+		try {
+			in = new FileInputStream(file);
+		} catch (FileNotFoundException e) {
+			return null;
+		}
+		try {
+			FileChannel channel = in.getChannel();
+			ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+			while (data.hasRemaining()) {
+				if (channel.read(data) < 0) {
+					return null;
+				}
+			}
+			file.setLastModified(System.currentTimeMillis());
+			return data.array();
+		} finally {
+			in.close();
+		}
+	}
+
+	public synchronized void put(byte[] hash, ByteBuffer data) throws IOException {
+		File file = file(hash);
+		if (file.isFile()) {
+			return;
+		}
+		File parent = file.getParentFile();
+		if (!parent.isDirectory()) {
+			Asserts.check(parent.mkdirs(), "can not create folder :" + parent.getAbsolutePath());
+		}
+		File temp = new File(parent, file.getName() + ".temp");
+		int len = data.remaining();
+		FileOutputStream out = new FileOutputStream(temp);
+		try {
+			FileChannel channel = out.getChannel();
+			while (data.hasRemaining()) {
+				channel.write(data);
+			}
+		} finally {
+			out.close();
+		}
+		Asserts.check(temp.renameTo(file),
+				String.format("can not move file: %s => %s", temp.getAbsolutePath(), file.getAbsolutePath()));
+		if (size >= 0) {
+			size += len;
+		}
+	}
+
+	public void remove(byte[] hash) {
+		File file = file(hash);
+		if (file.isFile()) {
+			Asserts.check(file.delete(), "can not delete :" + file.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * 超过容量时按最后使用时间删除, 直到容量的 90%
+	 */
+	public synchronized void prune() {
+		if (size < 0) {
+			size = 0;
+			for (File item : files()) {
+				size += item.length();
+			}
+		}
+		if (size <= max_size) {
+			return;
+		}
+		List<File> files = files();
+		final long[] times = new long[files.size()];
+		File[] arr = files.toArray(new File[files.size()]);
+		for (int i = 0; i < arr.length; i++) {
+			times[i] = arr[i].lastModified();
+		}
+		Integer[] order = new Integer[arr.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Long.compare(times[a], times[b]);
+			}
+		});
+		int removed = 0;
+		for (Integer index : order) {
+			if (size <= max_size * 0.9) {
+				break;
+			}
+			long len = arr[index].length();
+			if (arr[index].delete()) {
+				size -= len;
+				removed++;
+			}
+		}
+		logger.info(String.format("prune chunk store %d chunks, %d K left", removed, size / 1024));
+	}
+
+	private List<File> files() {
+		List<File> result = new ArrayList<File>();
+		File[] parents = folder.listFiles();
+		if (null != parents) {
+			for (File parent : parents) {
+				File[] items = parent.listFiles();
+				if (null != items) {
+					result.addAll(Arrays.asList(items));
+				}
+			}
+		}
+		return result;
+	}
+
+}
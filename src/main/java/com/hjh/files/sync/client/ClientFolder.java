@@ -2,7 +2,12 @@ package com.hjh.files.sync.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
@@ -15,7 +20,10 @@ import com.hjh.files.sync.common.RemoteFileFactory;
 import com.hjh.files.sync.common.RemoteFileManage;
 import com.hjh.files.sync.common.RemoteSyncConfig;
 import com.hjh.files.sync.common.StopAble;
-import com.hjh.files.sync.common.util.MD5;
+import com.hjh.files.sync.common.util.DigestUtil;
+import com.hjh.files.sync.common.util.RemoteFileUtil;
+
+import tutorial.ChangeSet;
 
 public class ClientFolder {
 
@@ -28,6 +36,14 @@ public class ClientFolder {
 	private String url;
 	private FileCopy fileCopy;
 	private FileInfoRecorder infoRecorder;
+	private RemoteTree remoteTree;
+	private volatile String cursor;
+	private boolean wait_supported = true;
+	/** 上次同步完成时各目录的 merkle 摘要 (根目录为 "") */
+	private Map<String, String> digests = new HashMap<String, String>();
+	private boolean prune;
+	private String digest = DigestUtil.MD5;
+	private long full_sync_time;
 
 	private String store_name;
 	private boolean copy_remove = RemoteSyncConfig.isCopyRemove();
@@ -71,6 +87,14 @@ public class ClientFolder {
 			this.fileCopy = new FileCopyByCache(this, block_size);
 		} else if ("simple".equals(copy_type)) {
 			this.fileCopy = new FileCopyBySimple(this, block_size);
+		} else if ("stream".equals(copy_type)) {
+			this.fileCopy = new FileCopyByStream(this, block_size);
+		} else if ("delta".equals(copy_type)) {
+			this.fileCopy = new FileCopyByDelta(this, block_size);
+		} else if ("chunk".equals(copy_type)) {
+			this.fileCopy = new FileCopyByChunk(this, block_size);
+		} else if ("data".equals(copy_type)) {
+			this.fileCopy = new FileCopyByData(this, block_size);
 		} else {
 			throw new RuntimeException("error client.copy.type :" + RemoteSyncConfig.getCopyType());
 		}
@@ -112,6 +136,7 @@ public class ClientFolder {
 		if (null == fromManage) {
 			fromManage = RemoteFileFactory.queryManage(url);
 		}
+		digest = fromManage.chooseDigest(RemoteSyncConfig.getDigest());
 		logger.stdout(String.format("sync[%s] %s => %s", name, url, store_path));
 		File root = new File(store_path);
 		if (!root.exists()) {
@@ -123,22 +148,58 @@ public class ClientFolder {
 			if (stop.isStop()) {
 				return;
 			}
-			doSync(stop, null, root);
+			if (null != cursor && time - full_sync_time < RemoteSyncConfig.getFullSyncInterval()
+					&& syncChanges(stop, root)) {
+				return;
+			}
+			String next_cursor = startCursor();
+			String root_digest = rootDigest();
+			prune = null != root_digest && digests.size() > 0
+					&& time - full_sync_time < RemoteSyncConfig.getFullSyncInterval();
+			if (prune && root_digest.equals(digests.get(""))) {
+				logger.stdout(String.format("sync[%s] remote is not changed", name));
+				cursor = next_cursor;
+				return;
+			}
+			if (!prune) {
+				digests.clear();
+				remoteTree = RemoteTree.load(fromManage, RemoteSyncConfig.getTreePageSize());
+			}
+			if (stop.isStop()) {
+				return;
+			}
+			doSync(stop, null, root, null);
+			if (!stop.isStop()) {
+				cursor = next_cursor;
+				if (null != root_digest) {
+					digests.put("", root_digest);
+				}
+				if (!prune) {
+					full_sync_time = time;
+				}
+			}
 		} finally {
+			prune = false;
+			remoteTree = null;
 			long end = System.currentTimeMillis();
 			logger.stdout(String.format("sync finish[%s](cost: %s) %s => %s", name, (end - time) / 1000 + "s", url,
 					store_path));
 		}
 	}
 
-	private void doSync(StopAble stop, RemoteFile from, File target) throws IOException {
+	private void doSync(StopAble stop, RemoteFile from, File target, String from_md5) throws IOException {
 
 		if (null == from || from.isFolder()) { // 目录同步
 			String path = null == from ? null : from.path();
 			if (stop.isStop()) {
 				return;
 			}
-			RemoteFile[] remotes = fromManage.list(path);
+			if (prune && null != from && null != from.digest() && from.digest().equals(digests.get(path))
+					&& target.isDirectory()) {
+				// 摘要没有变化, 跳过整个子目录
+				return;
+			}
+			RemoteFile[] remotes = list(path);
 			if (stop.isStop()) {
 				return;
 			}
@@ -150,10 +211,20 @@ public class ClientFolder {
 				logger.stdout(String.format("sync folder[%s] %s => %s", name, path, target.getAbsolutePath()));
 				Asserts.check(target.mkdir(), "create folder fail : " + target.getAbsolutePath());
 			}
+			List<String> changes = new ArrayList<String>();
+			for (RemoteFile item : remotes) {
+				if (!item.isFolder() && !isSame(item, new File(target, item.name()))) {
+					changes.add(item.path());
+				}
+			}
+			Map<String, String> md5s = md5(changes);
+			if (stop.isStop()) {
+				return;
+			}
 			if (this.copy_remove) {
 				String[] exists = target.list();
 				for (RemoteFile item : remotes) {
-					doSync(stop, item, new File(target, item.name()));
+					doSync(stop, item, new File(target, item.name()), md5s.get(item.path()));
 					if (null != exists) {
 						for (int i = 0; i < exists.length; i++) {
 							if (exists[i] != null && exists[i].equals(item.name())) {
@@ -180,9 +251,12 @@ public class ClientFolder {
 				}
 			} else {
 				for (RemoteFile item : remotes) {
-					doSync(stop, item, new File(target, item.name()));
+					doSync(stop, item, new File(target, item.name()), md5s.get(item.path()));
 				}
 			}
+			if (null != from && null != from.digest() && !stop.isStop()) {
+				digests.put(path, from.digest());
+			}
 
 		} else { // 文件同步
 			if (!isSame(from, target)) {
@@ -190,7 +264,7 @@ public class ClientFolder {
 				if (stop.isStop()) {
 					return;
 				}
-				String md5 = fromManage.md5(from.path());
+				String md5 = null != from_md5 ? from_md5 : hash(from.path());
 				if (stop.isStop()) {
 					return;
 				}
@@ -199,9 +273,9 @@ public class ClientFolder {
 					FileUtils.deleteDirectory(target);
 				}
 
-				String local_md5 = target.isFile() ? MD5.md5(target) : null;
+				String local_md5 = target.isFile() ? digest(target) : null;
 				if (!md5.equals(local_md5)) {
-					if (target.isFile()) {
+					if (target.isFile() && fileCopy.keepOld(from, target)) {
 						logger.stdout("remove unmatch file:" + target.getAbsolutePath());
 						Asserts.check(target.delete(),
 								String.format("can not delete file : %s", target.getAbsolutePath()));
@@ -221,6 +295,189 @@ public class ClientFolder {
 		}
 	}
 
+	/**
+	 * 最近一次同步完成时的 cursor, null 表示还没有同步或者远程不支持变更日志
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
+	public boolean isWaitSupported() {
+		return wait_supported;
+	}
+
+	/**
+	 * 长轮询等待远程在 cursor 之后的变更, 返回 false 表示超时
+	 */
+	public boolean waitForChanges(String cursor, long timeout) {
+		try {
+			return fromManage.waitForChanges(cursor, timeout);
+		} catch (UnsupportedOperationException e) {
+			logger.info("waitForChanges is not supported by remote:" + url);
+			wait_supported = false;
+			return false;
+		}
+	}
+
+	private String rootDigest() {
+		try {
+			return fromManage.digest(null);
+		} catch (UnsupportedOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 全量同步前取得当前 cursor, 同步期间的变更在下次增量同步时补上
+	 */
+	private String startCursor() {
+		if (RemoteSyncConfig.getFullSyncInterval() <= 0) {
+			return null;
+		}
+		try {
+			return fromManage.changesSince(null, 1).getCursor();
+		} catch (UnsupportedOperationException e) {
+			logger.info("changesSince is not supported by remote, use full sync");
+			return null;
+		}
+	}
+
+	/**
+	 * 只同步 cursor 之后的变更, 返回 false 表示需要全量同步
+	 */
+	private boolean syncChanges(StopAble stop, File root) throws IOException {
+		String current = cursor;
+		int changed = 0;
+		int deleted = 0;
+		while (true) {
+			ChangeSet changes;
+			try {
+				changes = fromManage.changesSince(current, RemoteSyncConfig.getTreePageSize());
+			} catch (UnsupportedOperationException e) {
+				cursor = null;
+				return false;
+			}
+			if (changes.isExpired()) {
+				logger.info(String.format("[%s] cursor %s expired, use full sync", name, current));
+				cursor = null;
+				return false;
+			}
+			if (this.copy_remove && null != changes.getDeleted()) {
+				for (String path : changes.getDeleted()) {
+					File target = new File(root, path);
+					if (target.isDirectory()) {
+						logger.stdout("remove directory:" + target.getAbsolutePath());
+						FileUtils.deleteDirectory(target);
+					} else if (target.exists()) {
+						logger.stdout("remove file:" + target.getAbsolutePath());
+						Asserts.check(target.delete(), "can not delete file :" + target.getAbsolutePath());
+					}
+					deleted++;
+				}
+			}
+			if (null != changes.getChanged()) {
+				applyChanges(stop, root, RemoteFileUtil.from(changes.getChanged()));
+				changed += changes.getChangedSize();
+			}
+			if (stop.isStop()) {
+				return true;
+			}
+			current = changes.getCursor();
+			if (!changes.isMore()) {
+				break;
+			}
+		}
+		cursor = current;
+		logger.stdout(String.format("sync changes[%s] %d changed %d deleted", name, changed, deleted));
+		return true;
+	}
+
+	private void applyChanges(StopAble stop, File root, RemoteFile[] items) throws IOException {
+		// 父目录在前
+		Arrays.sort(items, new Comparator<RemoteFile>() {
+			public int compare(RemoteFile a, RemoteFile b) {
+				return a.path().compareTo(b.path());
+			}
+		});
+		List<String> files = new ArrayList<String>();
+		for (RemoteFile item : items) {
+			if (!item.isFolder() && !isSame(item, new File(root, item.path()))) {
+				files.add(item.path());
+			}
+		}
+		Map<String, String> md5s = md5(files);
+		List<RemoteFile> folders = new ArrayList<RemoteFile>();
+		for (RemoteFile item : items) {
+			if (stop.isStop()) {
+				return;
+			}
+			File target = new File(root, item.path());
+			File parent = target.getParentFile();
+			if (!parent.isDirectory()) {
+				Asserts.check(parent.mkdirs(), "create folder fail : " + parent.getAbsolutePath());
+			}
+			if (item.isFolder()) {
+				if (target.isFile()) {
+					logger.stdout("remove file:" + target.getAbsolutePath());
+					Asserts.check(target.delete(), "delete file fail : " + target.getAbsolutePath());
+				}
+				if (!target.exists()) {
+					logger.stdout(String.format("sync folder[%s] %s => %s", name, item.path(),
+							target.getAbsolutePath()));
+					Asserts.check(target.mkdir(), "create folder fail : " + target.getAbsolutePath());
+				}
+				folders.add(item);
+			} else {
+				doSync(stop, item, target, md5s.get(item.path()));
+			}
+		}
+		// 目录时间在其中的文件写完之后设置
+		Collections.reverse(folders);
+		for (RemoteFile item : folders) {
+			File target = new File(root, item.path());
+			if (this.copy_time && !isSameTime(item, target)) {
+				target.setLastModified(item.lastModify());
+			}
+			if (!infoRecorder.isSame(item)) {
+				infoRecorder.record(item);
+			}
+		}
+	}
+
+	/**
+	 * 本地文件的摘要, 算法与远程协商一致 (FileCopy 校验下载结果时使用)
+	 */
+	public String digest(File file) throws IOException {
+		return DigestUtil.digest(digest, file);
+	}
+
+	private String hash(String path) {
+		return fromManage.hashBatch(digest, new String[] { path })[0];
+	}
+
+	/**
+	 * 按 md5 批量大小分组获取远程 md5, 避免逐个文件请求
+	 */
+	private Map<String, String> md5(List<String> paths) {
+		Map<String, String> result = new HashMap<String, String>();
+		int batch = RemoteSyncConfig.getMd5BatchSize();
+		for (int i = 0; i < paths.size(); i += batch) {
+			List<String> cur = paths.subList(i, Math.min(paths.size(), i + batch));
+			String[] md5s = fromManage.hashBatch(digest, cur.toArray(new String[cur.size()]));
+			for (int j = 0; j < md5s.length; j++) {
+				result.put(cur.get(j), md5s[j]);
+			}
+		}
+		return result;
+	}
+
+	private RemoteFile[] list(String path) {
+		if (null != remoteTree) {
+			return remoteTree.list(path);
+		}
+		return fromManage.list(path);
+	}
+
 	private boolean isSameTime(RemoteFile from, File to) {
 		if (from.lastModify() != to.lastModified()) {
 			if (Math.abs(from.lastModify() - to.lastModified()) > RemoteSyncConfig.getMinDiffTime()) {
@@ -271,6 +528,7 @@ public class ClientFolder {
 		if (null == fromManage) {
 			fromManage = RemoteFileFactory.queryManage(url);
 		}
+		digest = fromManage.chooseDigest(RemoteSyncConfig.getDigest());
 		logger.stdout(String.format("validate [%s] %s => %s", name, url, store_path));
 		File root = new File(store_path);
 		if (!root.exists()) {
@@ -279,27 +537,36 @@ public class ClientFolder {
 		}
 		long time = System.currentTimeMillis();
 		try {
-			doValidate(null, root);
+			remoteTree = RemoteTree.load(fromManage, RemoteSyncConfig.getTreePageSize());
+			doValidate(null, root, null);
 		} finally {
+			remoteTree = null;
 			long end = System.currentTimeMillis();
 			logger.stdout(String.format("validate finish[%s](cost: %s) %s => %s", name, (end - time) / 1000 + "s", url,
 					store_path));
 		}
 	}
 
-	private void doValidate(RemoteFile from, File target) throws IOException {
+	private void doValidate(RemoteFile from, File target, String from_md5) throws IOException {
 		if (null == from || from.isFolder()) { // 目录同步
 			String path = null == from ? null : from.path();
-			RemoteFile[] remotes = fromManage.list(path);
+			RemoteFile[] remotes = list(path);
 			if (target.isFile()) {
 				logger.stdout("file type error (must be a folder) :" + target.getAbsolutePath());
 			} else if (!target.exists()) {
 				logger.stdout("can not found folder:" + target.getAbsolutePath());
 			} else {
+				List<String> files = new ArrayList<String>();
+				for (RemoteFile item : remotes) {
+					if (!item.isFolder() && new File(target, item.name()).isFile()) {
+						files.add(item.path());
+					}
+				}
+				Map<String, String> md5s = md5(files);
 				if (this.copy_remove) {
 					String[] exists = target.list();
 					for (RemoteFile item : remotes) {
-						doValidate(item, new File(target, item.name()));
+						doValidate(item, new File(target, item.name()), md5s.get(item.path()));
 						if (null != exists) {
 							for (int i = 0; i < exists.length; i++) {
 								if (exists[i] != null && exists[i].equals(item.name())) {
@@ -319,7 +586,7 @@ public class ClientFolder {
 					}
 				} else {
 					for (RemoteFile item : remotes) {
-						doValidate(item, new File(target, item.name()));
+						doValidate(item, new File(target, item.name()), md5s.get(item.path()));
 					}
 				}
 			}
@@ -332,8 +599,8 @@ public class ClientFolder {
 				if (!isSame(from, target)) {
 					logger.stdout("file info not match : " + target.getAbsolutePath());
 				}
-				String md5_from = fromManage.md5(from.path());
-				String md5_target = MD5.md5(target);
+				String md5_from = null != from_md5 ? from_md5 : hash(from.path());
+				String md5_target = digest(target);
 				if (!md5_from.equals(md5_target)) {
 					logger.stdout("file md5 not match : " + target.getAbsolutePath());
 				}
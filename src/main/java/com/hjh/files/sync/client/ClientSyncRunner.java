@@ -1,17 +1,32 @@
 package com.hjh.files.sync.client;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import com.hjh.files.sync.common.HLogFactory;
 import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteSyncConfig;
 import com.hjh.files.sync.common.StopAble;
+import com.hjh.files.sync.common.thrift.RemoteFileManageThriftImpl;
 import com.hjh.files.sync.common.thrift.ThriftClientPool;
+import com.hjh.files.sync.common.util.ThreadUtil;
 
 public class ClientSyncRunner implements StopAble {
 
 	private static ILog logger = HLogFactory.create(ClientFolder.class);
 
 	private ClientForSync client;
-	private boolean running = false;
-	private boolean stop = false;
+	private volatile boolean running = false;
+	private volatile boolean stop = false;
+	private Thread thread;
+	/** 长轮询线程, 停止时中断并等待结束之后才关闭连接池 */
+	private final List<Thread> waiters = new ArrayList<Thread>();
+
+	/** 长轮询发现有变更的目录, 为空时按间隔同步全部目录 */
+	private final Set<ClientFolder> dirty = new HashSet<ClientFolder>();
+	private boolean sync_all = true;
 
 	public ClientSyncRunner(ClientForSync clientForSync) {
 		this.client = clientForSync;
@@ -25,11 +40,12 @@ public class ClientSyncRunner implements StopAble {
 		if (running) {
 			return;
 		}
-		new Thread() {
+		running = true;
+		stop = false;
+		thread = new Thread() {
 			public void run() {
 				logger.stdout("#启动同步数据线程");
-				running = true;
-				stop = false;
+				startWaiters();
 				try {
 					while (true) {
 						if (stop) {
@@ -41,6 +57,7 @@ public class ClientSyncRunner implements StopAble {
 					}
 				} finally {
 					try {
+						stopWaiters();
 						ThriftClientPool.closeAll();
 					} finally {
 						running = false;
@@ -48,10 +65,105 @@ public class ClientSyncRunner implements StopAble {
 					}
 				}
 			}
-		}.start();
+		};
+		thread.start();
+	}
+
+	/**
+	 * 每个目录一个长轮询线程 (大部分时间在等待, 开启 config.virtual.threads 时为虚拟线程), 有变更时唤醒同步线程
+	 */
+	private void startWaiters() {
+		if (RemoteSyncConfig.getWaitTimeout() <= 0) {
+			return;
+		}
+		for (final ClientFolder folder : client.getFolders()) {
+			Thread waiter = ThreadUtil.start("wait-" + folder.getName(), true, new Runnable() {
+				public void run() {
+					doWait(folder);
+				}
+			});
+			synchronized (waiters) {
+				waiters.add(waiter);
+			}
+		}
+	}
+
+	/**
+	 * 中断长轮询线程并等待结束; 阻塞在 socket 读取上的线程不响应中断, 关闭它们借出的连接
+	 */
+	private void stopWaiters() {
+		List<Thread> cur;
+		synchronized (waiters) {
+			cur = new ArrayList<Thread>(waiters);
+			waiters.clear();
+		}
+		for (Thread waiter : cur) {
+			waiter.interrupt();
+		}
+		ThriftClientPool.abort(RemoteFileManageThriftImpl.WAIT_CHANNEL);
+		try {
+			for (Thread waiter : cur) {
+				waiter.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void doWait(ClientFolder folder) {
+		long timeout = RemoteSyncConfig.getWaitTimeout();
+		while (!stop && folder.isWaitSupported()) {
+			try {
+				String cursor = folder.getCursor();
+				if (null == cursor) {
+					Thread.sleep(1000);
+					continue;
+				}
+				long time = System.currentTimeMillis();
+				if (folder.waitForChanges(cursor, timeout)) {
+					synchronized (dirty) {
+						dirty.add(folder);
+						dirty.notifyAll();
+						while (!stop && dirty.contains(folder)) {
+							dirty.wait(500);
+						}
+					}
+				} else if (System.currentTimeMillis() - time < timeout / 2) {
+					// 服务端没有长轮询 (server.wait.max 为 0)
+					Thread.sleep(Math.max(1000, client.getInterval()));
+				}
+			} catch (InterruptedException e) {
+				return;
+			} catch (Throwable e) {
+				if (stop) {
+					// 停止时连接被关闭
+					return;
+				}
+				logger.error("等待目录[" + folder.getName() + "]变更失败!", e);
+				try {
+					Thread.sleep(Math.max(1000, client.getInterval()));
+				} catch (InterruptedException e1) {
+					return;
+				}
+			}
+		}
 	}
 
 	protected void doSleep() {
+		if (RemoteSyncConfig.getWaitTimeout() > 0) {
+			long end = System.currentTimeMillis() + client.getInterval();
+			try {
+				synchronized (dirty) {
+					while (!stop && dirty.isEmpty() && System.currentTimeMillis() < end) {
+						dirty.wait(Math.min(500, Math.max(1, end - System.currentTimeMillis())));
+					}
+					sync_all = dirty.isEmpty();
+				}
+			} catch (InterruptedException e) {
+				logger.error("sleep 异常", e);
+			}
+			return;
+		}
 		if (client.getInterval() > 0) {
 			try {
 				if (client.getInterval() < 1000) {
@@ -80,11 +192,23 @@ public class ClientSyncRunner implements StopAble {
 	}
 
 	protected void doSync() {
+		boolean all = sync_all;
+		sync_all = true;
 		for (ClientFolder folder : client.getFolders()) {
+			synchronized (dirty) {
+				if (!all && !dirty.contains(folder)) {
+					continue;
+				}
+			}
 			try {
 				folder.sync(this);
 			} catch (Throwable e) {
 				logger.error("同步目录[" + folder.getName() + "]失败!", e);
+			} finally {
+				synchronized (dirty) {
+					dirty.remove(folder);
+					dirty.notifyAll();
+				}
 			}
 			if (stop) {
 				break;
@@ -96,8 +220,27 @@ public class ClientSyncRunner implements StopAble {
 		return stop;
 	}
 
+	/**
+	 * 停止并等待同步线程结束 (同步线程先等待长轮询线程结束), 之后可以重新 start
+	 */
 	public void stop() {
-		stop = true;
+		Thread cur;
+		synchronized (this) {
+			stop = true;
+			cur = thread;
+		}
+		synchronized (dirty) {
+			dirty.notifyAll();
+		}
+		if (null == cur || cur == Thread.currentThread()) {
+			return;
+		}
+		stopWaiters();
+		try {
+			cur.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 }
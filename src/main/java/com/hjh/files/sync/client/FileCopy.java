@@ -9,4 +9,9 @@ import com.hjh.files.sync.common.StopAble;
 public interface FileCopy {
 
 	public void copy(StopAble stop, RemoteFile from, File target, String md5) throws IOException;
+
+	/**
+	 * copy 之前处理内容不一致的本地文件 (可以留作之后 copy 的依据), 返回 true 表示调用者需要删除 target
+	 */
+	public boolean keepOld(RemoteFile from, File target) throws IOException;
 }
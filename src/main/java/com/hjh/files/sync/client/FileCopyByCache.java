@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.http.util.Asserts;
@@ -12,7 +13,6 @@ import com.hjh.files.sync.common.HLogFactory;
 import com.hjh.files.sync.common.ILog;
 import com.hjh.files.sync.common.RemoteFile;
 import com.hjh.files.sync.common.StopAble;
-import com.hjh.files.sync.common.util.MD5;
 import com.hjh.files.sync.common.util.RemoteFileUtil;
 
 public class FileCopyByCache implements FileCopy {
@@ -69,19 +69,18 @@ public class FileCopyByCache implements FileCopy {
 				try {
 					FileOutputStream out = new FileOutputStream(cur_part_temp);
 					try {
+						FileChannel channel = out.getChannel();
 						for (int j = 0; j < per_file_part_count; j++) {
 							if (stop.isStop()) {
 								return;
 							}
 							int cur_part_index = i + j;
 							if (cur_part_index < totalParts) {
-								byte[] part_data = client_folder.getFromManage().part(from.path(), cur_part_index,
-										block_size);
+								long len = client_folder.getFromManage().partTo(from.path(), cur_part_index,
+										block_size, channel);
 								logger.debug(String.format("[%s] [%s] [%d/%d] receive part data %d K",
 										this.client_folder.getName(), from.path(), cur_part_index + 1, totalParts,
-										part_data.length / 1024));
-								out.write(part_data);
-								part_data = null;
+										len / 1024));
 							}
 							if (stop.isStop()) {
 								return;
@@ -107,7 +106,7 @@ public class FileCopyByCache implements FileCopy {
 		}
 
 		if (target_temp.isFile()) {
-			String cache_md5 = MD5.md5(target_temp);
+			String cache_md5 = client_folder.digest(target_temp);
 			if (!md5.equals(cache_md5)) {
 				Asserts.check(target_temp.delete(),
 						"can not delete wrong file[md5 do not match]:" + target_temp.getAbsolutePath());
@@ -147,7 +146,7 @@ public class FileCopyByCache implements FileCopy {
 		}
 
 		{
-			String cache_md5 = MD5.md5(target_temp);
+			String cache_md5 = client_folder.digest(target_temp);
 			if (!md5.equals(cache_md5)) {
 				logger.stdout("clear dirty directory : " + current_cache_root.getAbsolutePath());
 				FileUtils.deleteDirectory(current_cache_root);
@@ -160,4 +159,9 @@ public class FileCopyByCache implements FileCopy {
 				String.format("can not move file: %s => %s", target_temp.getAbsolutePath(), target.getAbsolutePath()));
 	}
 
+	@Override
+	public boolean keepOld(RemoteFile from, File target) {
+		return true;
+	}
+
 }
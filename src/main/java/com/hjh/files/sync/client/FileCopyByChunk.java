@@ -0,0 +1,204 @@
+package com.hjh.files.sync.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.FrameReceiver;
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+import com.hjh.files.sync.common.StopAble;
+import com.hjh.files.sync.common.util.ChunkUtil;
+
+import tutorial.Chunk;
+import tutorial.ChunkPage;
+
+/**
+ * 按内容分块下载: 只拉取块缓存中没有的块, 改名、复制或中间插入数据的文件只传输新的内容
+ */
+public class FileCopyByChunk implements FileCopy {
+
+	private final static String CLIENT_CHUNK_FOLDER_NAME = ".k.cache";
+	private static ILog logger = HLogFactory.create(FileCopyByChunk.class);
+
+	private ClientFolder client_folder;
+	private File cache;
+	private int block_size;
+	private int chunk_size;
+	private ChunkStore store;
+	private FileCopy fallback;
+
+	public FileCopyByChunk(ClientFolder client_folder, int block_size) {
+		this.client_folder = client_folder;
+		this.block_size = block_size;
+		this.chunk_size = RemoteSyncConfig.getChunkSize();
+		this.cache = new File(client_folder.getWorkspace(), CLIENT_CHUNK_FOLDER_NAME);
+		if (!this.cache.isDirectory()) {
+			Asserts.check(this.cache.mkdirs(),
+					"can not create cache folder for client on :" + this.cache.getAbsolutePath());
+		}
+		this.store = new ChunkStore(new File(cache, "_" + chunk_size), RemoteSyncConfig.getChunkStoreSize());
+		this.fallback = new FileCopyByStream(client_folder, block_size);
+	}
+
+	/**
+	 * 把内容不一致的本地文件分块放入块缓存, 供之后的 copy 使用
+	 */
+	@Override
+	public boolean keepOld(RemoteFile from, File target) throws IOException {
+		logger.stdout("keep chunks of unmatch file:" + target.getAbsolutePath());
+		keepChunks(target);
+		return true;
+	}
+
+	private void keepChunks(File target) throws IOException {
+		RandomAccessFile in = new RandomAccessFile(target, "r");
+		try {
+			long offset = 0;
+			while (true) {
+				ChunkPage page = ChunkUtil.chunks(target, chunk_size, offset, RemoteSyncConfig.getMaxChunks());
+				for (Chunk chunk : page.getChunks()) {
+					if (!store.has(chunk.getHash())) {
+						ByteBuffer data = ByteBuffer.allocate(chunk.getLength());
+						read(in.getChannel(), data, offset);
+						store.put(chunk.getHash(), data);
+					}
+					offset += chunk.getLength();
+				}
+				if (page.isFinished()) {
+					break;
+				}
+			}
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void read(FileChannel channel, ByteBuffer data, long position) throws IOException {
+		while (data.hasRemaining()) {
+			if (channel.read(data, position + data.position()) < 0) {
+				throw new IOException("unexpected end of file");
+			}
+		}
+		data.flip();
+	}
+
+	private List<Chunk> load(RemoteFile from) {
+		List<Chunk> result = new ArrayList<Chunk>();
+		long offset = 0;
+		while (true) {
+			ChunkPage page = client_folder.getFromManage().chunks(from.path(), chunk_size, offset);
+			result.addAll(page.getChunks());
+			if (page.isFinished()) {
+				return result;
+			}
+			offset = page.getNext();
+		}
+	}
+
+	@Override
+	public void copy(final StopAble stop, final RemoteFile from, File target, String md5) throws IOException {
+
+		Asserts.check(!target.exists(), "file already exist:" + target.getAbsolutePath());
+
+		List<Chunk> chunks;
+		try {
+			chunks = load(from);
+		} catch (UnsupportedOperationException e) {
+			logger.info("chunks is not supported by remote, use stream");
+			fallback.copy(stop, from, target, md5);
+			return;
+		}
+		if (stop.isStop()) {
+			return;
+		}
+
+		File temp = new File(cache, md5 + ".temp");
+		long reused = 0;
+		List<Chunk> used = new ArrayList<Chunk>();
+		RandomAccessFile out = new RandomAccessFile(temp, "rw");
+		try {
+			out.setLength(0);
+			final FileChannel channel = out.getChannel();
+			long position = 0;
+			int i = 0;
+			while (i < chunks.size() && !stop.isStop()) {
+				Chunk chunk = chunks.get(i);
+				if (store.has(chunk.getHash())) {
+					reused += store.copyTo(chunk.getHash(), channel, position);
+					used.add(chunk);
+					position += chunk.getLength();
+					i++;
+					continue;
+				}
+				// 连续缺少的块一次拉取
+				int end = i;
+				long length = 0;
+				while (end < chunks.size() && !store.has(chunks.get(end).getHash())
+						&& length + chunks.get(end).getLength() <= RemoteSyncConfig.getMaxDeltaLiteral()) {
+					length += chunks.get(end).getLength();
+					end++;
+				}
+				client_folder.getFromManage().stream(from.path(), position, length, block_size,
+						new FrameReceiver() {
+							public boolean receive(long offset, ByteBuffer data) throws IOException {
+								while (data.hasRemaining()) {
+									offset += channel.write(data, offset);
+								}
+								return !stop.isStop();
+							}
+						});
+				if (stop.isStop()) {
+					break;
+				}
+				for (; i < end; i++) {
+					chunk = chunks.get(i);
+					ByteBuffer data = ByteBuffer.allocate(chunk.getLength());
+					read(channel, data, position);
+					Asserts.check(Arrays.equals(chunk.getHash(), ChunkUtil.hash(data.duplicate())),
+							"remote file changed while copy:" + from.path());
+					store.put(chunk.getHash(), data);
+					position += chunk.getLength();
+				}
+				logger.debug(String.format("[%s] [%s] [%d/%d] receive chunks data %d K", client_folder.getName(),
+						from.path(), position, from.length(), length / 1024));
+			}
+		} finally {
+			out.close();
+			out = null;
+		}
+
+		if (stop.isStop()) {
+			Asserts.check(temp.delete(), "can not delete :" + temp.getAbsolutePath());
+			return;
+		}
+
+		String temp_md5 = client_folder.digest(temp);
+		if (!md5.equals(temp_md5)) {
+			logger.stdout("clear dirty file : " + temp.getAbsolutePath());
+			Asserts.check(temp.delete(), "can not clear dirty file:" + temp.getAbsolutePath());
+			// 缓存中的块可能已损坏
+			for (Chunk chunk : used) {
+				store.remove(chunk.getHash());
+			}
+			throw new RuntimeException(
+					"can not fetch correct data from remote for:" + from.path() + ":" + temp_md5 + ":" + md5);
+		}
+
+		logger.stdout(String.format("chunk file[%s] %s reuse %d K of %d K", client_folder.getName(), from.path(),
+				reused / 1024, from.length() / 1024));
+		Asserts.check(temp.renameTo(target),
+				String.format("can not move file: %s => %s", temp.getAbsolutePath(), target.getAbsolutePath()));
+		store.prune();
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.hjh.files.sync.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.StopAble;
+
+/**
+ * 通过服务端的数据端口下载: 服务端 transferTo (sendfile) 发送, 客户端 transferFrom 写入临时文件,
+ * 数据不经过 Thrift 编码; 中断后从临时文件末尾继续, 服务端没有数据端口或者数据连接失败 (提前关闭) 时使用 stream
+ */
+public class FileCopyByData implements FileCopy {
+
+	private final static String CLIENT_DATA_FOLDER_NAME = ".t.cache";
+	private static ILog logger = HLogFactory.create(FileCopyByData.class);
+
+	/** 每个 ticket 传输的最大长度, 之间检查是否停止 */
+	private static final long STEP = 64L * 1024 * 1024;
+
+	private ClientFolder client_folder;
+	private File cache;
+	private FileCopy fallback;
+
+	public FileCopyByData(ClientFolder client_folder, int block_size) {
+		this.client_folder = client_folder;
+		this.cache = new File(client_folder.getWorkspace(), CLIENT_DATA_FOLDER_NAME);
+		if (!this.cache.isDirectory()) {
+			Asserts.check(this.cache.mkdirs(),
+					"can not create cache folder for client on :" + this.cache.getAbsolutePath());
+		}
+		this.fallback = new FileCopyByStream(client_folder, block_size);
+	}
+
+	@Override
+	public void copy(StopAble stop, RemoteFile from, File target, String md5) throws IOException {
+
+		Asserts.check(!target.exists(), "file already exist:" + target.getAbsolutePath());
+
+		File temp = new File(cache, md5 + ".temp");
+		if (temp.isFile() && temp.length() > from.length()) {
+			Asserts.check(temp.delete(), "can not delete :" + temp.getAbsolutePath());
+		}
+		long offset = temp.isFile() ? temp.length() : 0;
+		if (offset > 0) {
+			logger.stdout(String.format("continue file[%s] %s from %d", client_folder.getName(), from.path(), offset));
+		}
+
+		String failure = null;
+		RandomAccessFile out = new RandomAccessFile(temp, "rw");
+		try {
+			FileChannel channel = out.getChannel();
+			channel.position(offset);
+			while (offset < from.length() && !stop.isStop()) {
+				long len = client_folder.getFromManage().transfer(from.path(), offset,
+						Math.min(STEP, from.length() - offset), channel);
+				if (len <= 0) {
+					failure = "data connection closed at " + offset;
+					break;
+				}
+				offset += len;
+				logger.debug(String.format("[%s] [%s] [%d/%d] receive data %d K", client_folder.getName(),
+						from.path(), offset, from.length(), len / 1024));
+			}
+		} catch (UnsupportedOperationException e) {
+			failure = "data port is not supported by remote";
+		} catch (IOException e) {
+			failure = "data transfer failed :" + e.getMessage();
+		} finally {
+			out.close();
+			out = null;
+		}
+
+		if (null != failure && !stop.isStop()) {
+			if (0 == temp.length()) {
+				Asserts.check(temp.delete(), "can not delete :" + temp.getAbsolutePath());
+			}
+			logger.info(String.format("[%s] [%s] %s, use stream", client_folder.getName(), from.path(), failure));
+			fallback.copy(stop, from, target, md5);
+			return;
+		}
+
+		if (stop.isStop()) {
+			return;
+		}
+
+		String temp_md5 = client_folder.digest(temp);
+		if (!md5.equals(temp_md5)) {
+			logger.stdout("clear dirty file : " + temp.getAbsolutePath());
+			Asserts.check(temp.delete(), "can not clear dirty file:" + temp.getAbsolutePath());
+			throw new RuntimeException(
+					"can not fetch correct data from remote for:" + from.path() + ":" + temp_md5 + ":" + md5);
+		}
+
+		Asserts.check(temp.renameTo(target),
+				String.format("can not move file: %s => %s", temp.getAbsolutePath(), target.getAbsolutePath()));
+	}
+
+	@Override
+	public boolean keepOld(RemoteFile from, File target) {
+		return true;
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.hjh.files.sync.client;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.StopAble;
+import com.hjh.files.sync.common.util.DeltaUtil;
+import com.hjh.files.sync.common.util.MD5;
+
+import tutorial.BlockSignature;
+import tutorial.DeltaOp;
+import tutorial.DeltaPage;
+
+/**
+ * 只下载与本地旧文件不同的部分 (rsync), 没有旧文件时相当于完整下载
+ */
+public class FileCopyByDelta implements FileCopy {
+
+	private final static String CLIENT_DELTA_FOLDER_NAME = ".d.cache";
+	private static ILog logger = HLogFactory.create(FileCopyByDelta.class);
+
+	private ClientFolder client_folder;
+	private File cache;
+	private int block_size;
+
+	public FileCopyByDelta(ClientFolder client_folder, int block_size) {
+		this.client_folder = client_folder;
+		this.block_size = block_size;
+		this.cache = new File(client_folder.getWorkspace(), CLIENT_DELTA_FOLDER_NAME);
+		if (!this.cache.isDirectory()) {
+			Asserts.check(this.cache.mkdirs(),
+					"can not create cache folder for client on :" + this.cache.getAbsolutePath());
+		}
+	}
+
+	private File basis(RemoteFile from) {
+		return new File(cache, MD5.md5(client_folder.getName() + ":" + from.path()) + ".basis");
+	}
+
+	/**
+	 * 把内容不一致的本地文件移到缓存目录, 作为下次 copy 的比对基础
+	 */
+	@Override
+	public boolean keepOld(RemoteFile from, File target) throws IOException {
+		logger.stdout("keep unmatch file as delta basis:" + target.getAbsolutePath());
+		File basis = basis(from);
+		if (basis.exists()) {
+			Asserts.check(basis.delete(), "can not delete :" + basis.getAbsolutePath());
+		}
+		FileUtils.moveFile(target, basis);
+		return false;
+	}
+
+	@Override
+	public void copy(StopAble stop, RemoteFile from, File target, String md5) throws IOException {
+
+		Asserts.check(!target.exists(), "file already exist:" + target.getAbsolutePath());
+
+		File basis = basis(from);
+		int delta_block_size = DeltaUtil.blockSize(from.length(), block_size);
+		List<BlockSignature> signatures = DeltaUtil.signatures(basis, delta_block_size);
+		if (stop.isStop()) {
+			return;
+		}
+
+		File temp = new File(cache, md5 + ".temp");
+		long offset = 0;
+		long reused = 0;
+		RandomAccessFile basis_in = basis.isFile() ? new RandomAccessFile(basis, "r") : null;
+		FileOutputStream out = new FileOutputStream(temp);
+		try {
+			FileChannel channel = out.getChannel();
+			while (true) {
+				DeltaPage page = client_folder.getFromManage().delta(from.path(), delta_block_size, signatures,
+						offset);
+				for (DeltaOp op : page.getOps()) {
+					if (op.isSetData()) {
+						while (op.data.hasRemaining()) {
+							channel.write(op.data);
+						}
+					} else {
+						long position = (long) op.getBlock() * delta_block_size;
+						long count = (long) op.getCount() * delta_block_size;
+						long done = 0;
+						while (done < count) {
+							long len = basis_in.getChannel().transferTo(position + done, count - done, channel);
+							if (len <= 0) { // 签名之后本地文件被截断
+								throw new IOException("unexpected end of file:" + basis.getAbsolutePath());
+							}
+							done += len;
+						}
+						reused += count;
+					}
+				}
+				logger.debug(String.format("[%s] [%s] [%d/%d] receive delta %d ops", this.client_folder.getName(),
+						from.path(), page.getNext(), from.length(), page.getOpsSize()));
+				if (page.isFinished() || stop.isStop()) {
+					break;
+				}
+				offset = page.getNext();
+			}
+		} finally {
+			out.close();
+			out = null;
+			if (null != basis_in) {
+				basis_in.close();
+			}
+		}
+
+		if (stop.isStop()) {
+			Asserts.check(temp.delete(), "can not delete :" + temp.getAbsolutePath());
+			return;
+		}
+
+		String temp_md5 = client_folder.digest(temp);
+		if (!md5.equals(temp_md5)) {
+			logger.stdout("clear dirty file : " + temp.getAbsolutePath());
+			Asserts.check(temp.delete(), "can not clear dirty file:" + temp.getAbsolutePath());
+			if (basis.exists()) {
+				Asserts.check(basis.delete(), "can not delete :" + basis.getAbsolutePath());
+			}
+			throw new RuntimeException(
+					"can not fetch correct data from remote for:" + from.path() + ":" + temp_md5 + ":" + md5);
+		}
+
+		logger.stdout(String.format("delta file[%s] %s reuse %d K of %d K", client_folder.getName(), from.path(),
+				reused / 1024, from.length() / 1024));
+		Asserts.check(temp.renameTo(target),
+				String.format("can not move file: %s => %s", temp.getAbsolutePath(), target.getAbsolutePath()));
+		if (basis.exists()) {
+			Asserts.check(basis.delete(), "can not delete :" + basis.getAbsolutePath());
+		}
+	}
+
+}
@@ -3,6 +3,7 @@ package com.hjh.files.sync.client;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 
 import org.apache.http.util.Asserts;
 
@@ -10,7 +11,6 @@ import com.hjh.files.sync.common.HLogFactory;
 import com.hjh.files.sync.common.ILog;
 import com.hjh.files.sync.common.RemoteFile;
 import com.hjh.files.sync.common.StopAble;
-import com.hjh.files.sync.common.util.MD5;
 import com.hjh.files.sync.common.util.RemoteFileUtil;
 
 public class FileCopyBySimple implements FileCopy {
@@ -33,12 +33,11 @@ public class FileCopyBySimple implements FileCopy {
 		int totalParts = RemoteFileUtil.countPart(from.length(), this.block_size);
 		FileOutputStream out = new FileOutputStream(target);
 		try {
+			FileChannel channel = out.getChannel();
 			for (int i = 0; i < totalParts; i++) {
-				byte[] part_data = client_folder.getFromManage().part(from.path(), i, block_size);
-				out.write(part_data);
+				long len = client_folder.getFromManage().partTo(from.path(), i, block_size, channel);
 				logger.debug(String.format("[%s] [%s] [%d/%d] receive part data %d K", this.client_folder.getName(),
-						from.path(), i + 1, totalParts, part_data.length / 1024));
-				part_data = null;
+						from.path(), i + 1, totalParts, len / 1024));
 				if (stop.isStop()) {
 					return;
 				}
@@ -48,7 +47,7 @@ public class FileCopyBySimple implements FileCopy {
 			out = null;
 		}
 
-		String target_md5 = MD5.md5(target);
+		String target_md5 = client_folder.digest(target);
 		if (!md5.equals(target_md5)) {
 			logger.stdout("clear dirty file : " + target.getAbsolutePath());
 			Asserts.check(target.delete(), "can not clear dirty file:" + target.getAbsolutePath());
@@ -58,4 +57,9 @@ public class FileCopyBySimple implements FileCopy {
 
 	}
 
+	@Override
+	public boolean keepOld(RemoteFile from, File target) {
+		return true;
+	}
+
 }
@@ -0,0 +1,94 @@
+package com.hjh.files.sync.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.FrameReceiver;
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.StopAble;
+
+/**
+ * 以帧流的方式下载文件, 数据直接写入临时文件, 中断后从临时文件末尾继续
+ */
+public class FileCopyByStream implements FileCopy {
+
+	private final static String CLIENT_STREAM_FOLDER_NAME = ".s.cache";
+	private static ILog logger = HLogFactory.create(FileCopyByStream.class);
+
+	private ClientFolder client_folder;
+	private File cache;
+	private int block_size;
+
+	public FileCopyByStream(ClientFolder client_folder, int block_size) {
+		this.client_folder = client_folder;
+		this.block_size = block_size;
+		this.cache = new File(client_folder.getWorkspace(), CLIENT_STREAM_FOLDER_NAME);
+		if (!this.cache.isDirectory()) {
+			Asserts.check(this.cache.mkdirs(),
+					"can not create cache folder for client on :" + this.cache.getAbsolutePath());
+		}
+	}
+
+	@Override
+	public void copy(final StopAble stop, final RemoteFile from, File target, String md5) throws IOException {
+
+		Asserts.check(!target.exists(), "file already exist:" + target.getAbsolutePath());
+
+		File temp = new File(cache, md5 + ".temp");
+		if (temp.isFile() && temp.length() > from.length()) {
+			Asserts.check(temp.delete(), "can not delete :" + temp.getAbsolutePath());
+		}
+		long offset = temp.isFile() ? temp.length() : 0;
+		if (offset > 0) {
+			logger.stdout(String.format("continue file[%s] %s from %d", client_folder.getName(), from.path(), offset));
+		}
+
+		RandomAccessFile out = new RandomAccessFile(temp, "rw");
+		try {
+			final FileChannel channel = out.getChannel();
+			client_folder.getFromManage().stream(from.path(), offset, from.length() - offset, block_size,
+					new FrameReceiver() {
+						public boolean receive(long position, ByteBuffer data) throws IOException {
+							int len = data.remaining();
+							while (data.hasRemaining()) {
+								position += channel.write(data, position);
+							}
+							logger.debug(String.format("[%s] [%s] [%d/%d] receive frame data %d K",
+									client_folder.getName(), from.path(), position, from.length(), len / 1024));
+							return !stop.isStop();
+						}
+					});
+		} finally {
+			out.close();
+			out = null;
+		}
+
+		if (stop.isStop()) {
+			return;
+		}
+
+		String temp_md5 = client_folder.digest(temp);
+		if (!md5.equals(temp_md5)) {
+			logger.stdout("clear dirty file : " + temp.getAbsolutePath());
+			Asserts.check(temp.delete(), "can not clear dirty file:" + temp.getAbsolutePath());
+			throw new RuntimeException(
+					"can not fetch correct data from remote for:" + from.path() + ":" + temp_md5 + ":" + md5);
+		}
+
+		Asserts.check(temp.renameTo(target),
+				String.format("can not move file: %s => %s", temp.getAbsolutePath(), target.getAbsolutePath()));
+	}
+
+	@Override
+	public boolean keepOld(RemoteFile from, File target) {
+		return true;
+	}
+
+}
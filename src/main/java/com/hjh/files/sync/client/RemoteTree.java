@@ -0,0 +1,74 @@
+package com.hjh.files.sync.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.RemoteFileManage;
+
+/**
+ * 通过 listTree 分页拉取整个远程目录树, 代替逐个目录调用 list
+ */
+public class RemoteTree {
+
+	private static ILog logger = HLogFactory.create(RemoteTree.class);
+	private static final RemoteFile[] EMPTY = new RemoteFile[0];
+	private static final String ROOT = "";
+
+	private Map<String, List<RemoteFile>> children = new HashMap<String, List<RemoteFile>>();
+	private int size;
+
+	/**
+	 * @return null 表示远程不支持 listTree
+	 */
+	public static RemoteTree load(RemoteFileManage manage, int page_size) {
+		RemoteTree tree = new RemoteTree();
+		String after = null;
+		int pages = 0;
+		while (true) {
+			RemoteFile[] page;
+			try {
+				page = manage.listTree(null, after, page_size);
+			} catch (UnsupportedOperationException e) {
+				logger.info("listTree is not supported by remote, use listFiles");
+				return null;
+			}
+			pages++;
+			if (0 == page.length) {
+				break;
+			}
+			for (RemoteFile item : page) {
+				tree.add(item);
+			}
+			after = page[page.length - 1].path();
+		}
+		logger.info(String.format("load remote tree %d files in %d pages", tree.size, pages));
+		return tree;
+	}
+
+	private void add(RemoteFile item) {
+		String path = item.path();
+		int index = path.lastIndexOf('/');
+		String parent = index < 0 ? ROOT : path.substring(0, index);
+		List<RemoteFile> list = children.get(parent);
+		if (null == list) {
+			list = new ArrayList<RemoteFile>();
+			children.put(parent, list);
+		}
+		list.add(item);
+		size++;
+	}
+
+	public RemoteFile[] list(String path) {
+		List<RemoteFile> list = children.get(null == path ? ROOT : path);
+		if (null == list) {
+			return EMPTY;
+		}
+		return list.toArray(new RemoteFile[list.size()]);
+	}
+
+}
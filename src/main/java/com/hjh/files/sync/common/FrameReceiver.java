@@ -0,0 +1,13 @@
+package com.hjh.files.sync.common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public interface FrameReceiver {
+
+	/**
+	 * @return false 表示不再接收后续的帧
+	 */
+	public boolean receive(long offset, ByteBuffer data) throws IOException;
+
+}
@@ -12,4 +12,9 @@ public interface RemoteFile {
 	
 	public boolean isFolder();
 
+	/**
+	 * 目录的 merkle 摘要, 未知 (或者是文件) 时为 null
+	 */
+	public String digest();
+
 }
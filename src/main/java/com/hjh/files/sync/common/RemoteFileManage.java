@@ -1,11 +1,102 @@
 package com.hjh.files.sync.common;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import tutorial.BlockSignature;
+import tutorial.ChangeSet;
+import tutorial.ChunkPage;
+import tutorial.DeltaPage;
+
 public interface RemoteFileManage {
 
 	public RemoteFile[] list(String parent);
 
+	/**
+	 * 分页返回 parent 下的整个子树（先序遍历，同级按名称排序），after 为上一页最后一项的 path
+	 */
+	public RemoteFile[] listTree(String parent, String after, int max);
+
 	public String md5(String file);
 
+	/**
+	 * 批量计算 md5, 结果顺序与 files 一致
+	 */
+	public String[] md5Batch(String[] files);
+
+	/**
+	 * 双方都支持 prefer 时返回 prefer, 否则返回 md5
+	 */
+	public String chooseDigest(String prefer);
+
+	/**
+	 * 按 algorithm 批量计算摘要, 结果顺序与 files 一致
+	 */
+	public String[] hashBatch(String algorithm, String[] files);
+
 	public byte[] part(String file, long part ,long part_size);
 
+	/**
+	 * 与 part 相同, 返回的数据可能是当前线程复用的缓冲区, 只在当前线程下一次调用之前有效
+	 */
+	public ByteBuffer partBuffer(String file, long part, long part_size);
+
+	/**
+	 * 与 part 相同, 数据直接写入 target 的当前位置, 返回写入的长度
+	 */
+	public long partTo(String file, long part, long part_size, WritableByteChannel target) throws IOException;
+
+	/**
+	 * 读取 [offset, offset + length) 的数据, 按 frame_size 分帧依次交给 receiver
+	 */
+	public void stream(String file, long offset, long length, int frame_size, FrameReceiver receiver)
+			throws IOException;
+
+	/**
+	 * 把 [offset, offset + length) 的原始数据写入 target 的当前位置 (到文件末尾为止), 返回写入的长度
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             远程没有数据端口
+	 */
+	public long transfer(String file, long offset, long length, WritableByteChannel target) throws IOException;
+
+	/**
+	 * 按客户端旧文件的块签名计算从 offset 开始的差异
+	 */
+	public DeltaPage delta(String file, int block_size, List<BlockSignature> signatures, long offset);
+
+	/**
+	 * cursor 之后的变更 (cursor 为 null 时返回当前 cursor 并标记 expired)
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             远程不支持变更日志
+	 */
+	public ChangeSet changesSince(String cursor, int max);
+
+	/**
+	 * 从 offset (块边界) 开始按内容分块, 平均大小 avg_size
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             远程不支持分块
+	 */
+	public ChunkPage chunks(String file, int avg_size, long offset);
+
+	/**
+	 * 等待 cursor 之后出现变更, 返回 false 表示超时
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             远程不支持
+	 */
+	public boolean waitForChanges(String cursor, long timeout);
+
+	/**
+	 * 目录 (null 为根目录) 的 merkle 摘要, 未知时为 null
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             远程不支持
+	 */
+	public String digest(String folder);
+
 }
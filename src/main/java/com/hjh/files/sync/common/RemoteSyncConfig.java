@@ -1,7 +1,14 @@
 package com.hjh.files.sync.common;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
+import com.hjh.files.sync.common.thrift.ThriftStack;
+import com.hjh.files.sync.common.util.ChunkUtil;
+
 public class RemoteSyncConfig {
 
 	private static final long max_block_size = 1024 * 1024 * 5;
@@ -17,6 +24,50 @@ public class RemoteSyncConfig {
 		}
 	}
 
+	private static final int max_tree_page_size = 10000;
+
+	public static int checkTreePageSize(int page_size) {
+		if (page_size <= 0) {
+			throw new RuntimeException("tree page size must great then 0");
+		}
+		return Math.min(page_size, max_tree_page_size);
+	}
+
+	private static final int max_delta_ops = 65536;
+
+	public static int getMaxDeltaOps() {
+		return max_delta_ops;
+	}
+
+	/** 一次 delta 请求最多的块签名数量 (约 6M), 客户端按文件大小放大块使签名不超过这个数量 */
+	private static final int max_delta_signatures = 262144;
+
+	public static int getMaxDeltaSignatures() {
+		return max_delta_signatures;
+	}
+
+	public static int getMaxDeltaLiteral() {
+		return (int) max_block_size;
+	}
+
+	private static final int max_chunks = 16384;
+
+	public static int getMaxChunks() {
+		return max_chunks;
+	}
+
+	private static final int max_md5_batch_size = 1000;
+
+	public static int getMd5BatchSize() {
+		return max_md5_batch_size;
+	}
+
+	public static void checkMd5BatchSize(int batch_size) {
+		if (batch_size > max_md5_batch_size) {
+			throw new RuntimeException("md5 batch size must less or equal then " + max_md5_batch_size);
+		}
+	}
+
 	private static long min_diff_time = 1000;
 
 	private static int timeout = 1000 * 60 * 5;
@@ -27,10 +78,178 @@ public class RemoteSyncConfig {
 
 	private static String copy_type = "cache";
 
+	private static int tree_page_size = 1000;
+
+	private static int md5_threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private static String compress = "fast";
+
+	private static int compress_level = 6;
+
+	private static List<String> stacks = Arrays.asList("compact/buffered", ThriftStack.DEFAULT);
+
+	private static int frame_max = 16 * 1024 * 1024;
+
+	private static int journal_size = 100000;
+
+	private static long journal_scan = 60 * 1000;
+
+	private static long full_sync_interval = 60 * 60 * 1000;
+
+	private static long wait_timeout = 30 * 1000;
+
+	private static String digest = "xxh64";
+
+	private static int chunk_size = 32 * 1024;
+
+	private static long chunk_store_size = 1024L * 1024 * 1024;
+
+	private static long part_mmap = 64L * 1024 * 1024;
+
+	private static int selector_threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+	private static int worker_threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+
+	private static int accept_queue = 4;
+
+	private static int max_threads = Math.max(64, Runtime.getRuntime().availableProcessors() * 16);
+
+	private static boolean virtual_threads = false;
+
+	private static boolean list_cache = true;
+
+	private static File index_folder = null;
+
+	private static long index_cache = 32L * 1024 * 1024;
+
+	/**
+	 * mult_thread 服务的最大线程数, 0 表示不限制; 默认为 CPU 数 * 16 (至少 64), 长轮询的连接也占用线程
+	 */
+	public static int getMaxThreads() {
+		return max_threads;
+	}
+
+	/**
+	 * 本地目录的列表是否使用变更日志 (文件监听) 维护的快照
+	 */
+	public static boolean isListCache() {
+		return list_cache;
+	}
+
+	/**
+	 * 文件摘要索引的保存目录, 为 null 时只在内存中保留
+	 */
+	public static File getIndexFolder() {
+		return index_folder;
+	}
+
+	/**
+	 * 每个目录在内存中缓存的摘要记录的最大大小 (字节)
+	 */
+	public static long getIndexCache() {
+		return index_cache;
+	}
+
+	public static boolean isVirtualThreads() {
+		return virtual_threads;
+	}
+
 	public static String getCopyType() {
 		return copy_type;
 	}
 
+	public static int getTreePageSize() {
+		return tree_page_size;
+	}
+
+	public static String getCompress() {
+		return compress;
+	}
+
+	public static int getCompressLevel() {
+		return compress_level;
+	}
+
+	/**
+	 * 客户端希望使用的协议栈, 优先的在前, 连接时先用最后一个握手
+	 */
+	public static List<String> getStacks() {
+		return stacks;
+	}
+
+	public static int getFrameMax() {
+		return frame_max;
+	}
+
+	public static int getJournalSize() {
+		return journal_size;
+	}
+
+	public static long getJournalScan() {
+		return journal_scan;
+	}
+
+	/**
+	 * 按变更日志增量同步时, 超过此时间仍做一次全量同步 (0 表示每次都全量)
+	 */
+	public static long getFullSyncInterval() {
+		return full_sync_interval;
+	}
+
+	/**
+	 * 客户端 waitForChanges 的超时时间, 0 表示不使用长轮询
+	 */
+	public static long getWaitTimeout() {
+		return wait_timeout;
+	}
+
+	/**
+	 * 客户端希望使用的文件摘要算法, 服务端不支持时使用 md5
+	 */
+	public static String getDigest() {
+		return digest;
+	}
+
+	public static int getChunkSize() {
+		return chunk_size;
+	}
+
+	public static long getChunkStoreSize() {
+		return chunk_store_size;
+	}
+
+	/**
+	 * 服务端读取片段时, 不小于此大小的文件使用 mmap, 0 表示不使用
+	 */
+	public static long getPartMmap() {
+		return part_mmap;
+	}
+
+	/**
+	 * selector 类型服务的 selector 线程数
+	 */
+	public static int getSelectorThreads() {
+		return selector_threads;
+	}
+
+	/**
+	 * selector 类型服务的处理线程数 (固定大小)
+	 */
+	public static int getWorkerThreads() {
+		return worker_threads;
+	}
+
+	/**
+	 * selector 类型服务每个 selector 线程等待注册的新连接数
+	 */
+	public static int getAcceptQueue() {
+		return accept_queue;
+	}
+
+	public static int getMd5Threads() {
+		return md5_threads;
+	}
+
 	public static long getMinDiffTime() {
 		return min_diff_time;
 	}
@@ -57,6 +276,126 @@ public class RemoteSyncConfig {
 			timeout = Integer.parseInt(p.getProperty("config.timeout"));
 		}
 
+		if (p.containsKey("client.compress")) {
+			compress = p.getProperty("client.compress");
+		}
+
+		if (p.containsKey("config.compress.level")) {
+			compress_level = Integer.parseInt(p.getProperty("config.compress.level"));
+		}
+
+		if (p.containsKey("client.stacks")) {
+			List<String> list = new ArrayList<String>();
+			for (String stack : p.getProperty("client.stacks").split(",")) {
+				stack = stack.trim();
+				if (stack.length() > 0) {
+					ThriftStack.check(stack);
+					list.add(stack);
+				}
+			}
+			if (list.size() > 0) {
+				stacks = list;
+			}
+		}
+
+		if (p.containsKey("config.frame.max")) {
+			frame_max = Integer.parseInt(p.getProperty("config.frame.max"));
+			if (frame_max <= max_block_size) {
+				throw new RuntimeException("config.frame.max must great then " + max_block_size);
+			}
+		}
+
+		if (p.containsKey("server.journal.size")) {
+			journal_size = Integer.parseInt(p.getProperty("server.journal.size"));
+			if (journal_size <= 0) {
+				throw new RuntimeException("server.journal.size must great then 0");
+			}
+		}
+
+		if (p.containsKey("server.journal.scan")) {
+			journal_scan = Long.parseLong(p.getProperty("server.journal.scan"));
+			if (journal_scan <= 0) {
+				throw new RuntimeException("server.journal.scan must great then 0");
+			}
+		}
+
+		if (p.containsKey("client.full.sync.interval")) {
+			full_sync_interval = Long.parseLong(p.getProperty("client.full.sync.interval"));
+		}
+
+		if (p.containsKey("client.wait.timeout")) {
+			wait_timeout = Long.parseLong(p.getProperty("client.wait.timeout"));
+		}
+
+		if (p.containsKey("client.digest")) {
+			digest = p.getProperty("client.digest");
+		}
+
+		if (p.containsKey("client.chunk.size")) {
+			chunk_size = Integer.parseInt(p.getProperty("client.chunk.size"));
+			ChunkUtil.checkAvgSize(chunk_size);
+		}
+
+		if (p.containsKey("client.chunk.store.size")) {
+			chunk_store_size = Long.parseLong(p.getProperty("client.chunk.store.size"));
+		}
+
+		if (p.containsKey("server.part.mmap")) {
+			part_mmap = Long.parseLong(p.getProperty("server.part.mmap"));
+		}
+
+		if (p.containsKey("server.selector.threads")) {
+			selector_threads = Integer.parseInt(p.getProperty("server.selector.threads"));
+			if (selector_threads <= 0) {
+				throw new RuntimeException("server.selector.threads must great then 0");
+			}
+		}
+
+		if (p.containsKey("server.worker.threads")) {
+			worker_threads = Integer.parseInt(p.getProperty("server.worker.threads"));
+			if (worker_threads <= 0) {
+				throw new RuntimeException("server.worker.threads must great then 0");
+			}
+		}
+
+		if (p.containsKey("server.accept.queue")) {
+			accept_queue = Integer.parseInt(p.getProperty("server.accept.queue"));
+			if (accept_queue <= 0) {
+				throw new RuntimeException("server.accept.queue must great then 0");
+			}
+		}
+
+		if (p.containsKey("server.max.threads")) {
+			max_threads = Integer.parseInt(p.getProperty("server.max.threads"));
+			if (max_threads < 0) {
+				throw new RuntimeException("server.max.threads must great or equal then 0");
+			}
+		}
+
+		if (p.containsKey("server.list.cache")) {
+			list_cache = "true".equals(p.getProperty("server.list.cache"));
+		}
+
+		if (p.containsKey("server.index.folder")) {
+			String folder = p.getProperty("server.index.folder").trim();
+			index_folder = "none".equals(folder) ? null : new File(folder);
+		}
+
+		if (p.containsKey("server.index.cache")) {
+			index_cache = Long.parseLong(p.getProperty("server.index.cache"));
+			if (index_cache <= 0) {
+				throw new RuntimeException("server.index.cache must great then 0");
+			}
+		}
+
+		if (p.containsKey("config.virtual.threads")) {
+			virtual_threads = "true".equals(p.getProperty("config.virtual.threads"));
+		}
+
+		if (p.containsKey("config.md5.threads")) {
+			md5_threads = Integer.parseInt(p.getProperty("config.md5.threads"));
+		}
+
 		if (p.containsKey("client.copy.time")) {
 			copy_time = "true".equals(p.getProperty("client.copy.time"));
 		}
@@ -68,6 +407,10 @@ public class RemoteSyncConfig {
 		if (p.containsKey("client.copy.remove")) {
 			copy_remove = "true".equals(p.getProperty("client.copy.remove"));
 		}
+
+		if (p.containsKey("client.tree.page.size")) {
+			tree_page_size = checkTreePageSize(Integer.parseInt(p.getProperty("client.tree.page.size")));
+		}
 	}
 
 }
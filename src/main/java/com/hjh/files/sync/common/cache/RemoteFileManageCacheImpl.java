@@ -0,0 +1,308 @@
+package com.hjh.files.sync.common.cache;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hjh.files.sync.client.ChunkStore;
+import com.hjh.files.sync.common.FrameReceiver;
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.RemoteFileManage;
+import com.hjh.files.sync.common.util.ChunkUtil;
+import com.hjh.files.sync.common.util.DigestUtil;
+import com.hjh.files.sync.common.util.RemoteFileUtil;
+
+import tutorial.BlockSignature;
+import tutorial.ChangeSet;
+import tutorial.ChunkPage;
+import tutorial.DeltaPage;
+
+/**
+ * 代理目录 (from:) 的缓存: 目录列表在内存中缓存 ttl 毫秒; 摘要和数据块按 (上游, path, 修改时间, 大小) 缓存,
+ * 数据块保存在磁盘上并按 LRU 删除
+ * <br>
+ * 列表过期后重新向上游获取, 文件的修改时间或大小变化后旧的摘要和数据块不再命中
+ */
+public class RemoteFileManageCacheImpl implements RemoteFileManage, Closeable {
+
+	private static ILog logger = HLogFactory.create(RemoteFileManageCacheImpl.class);
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final int MAX_LISTS = 10000;
+	private static final int MAX_DIGESTS = 100000;
+
+	private static class Item {
+		public RemoteFile[] files;
+		public long time;
+	}
+
+	private RemoteFileManage upstream;
+	private String url;
+	private ChunkStore store;
+	private long ttl;
+	private Map<String, Item> lists = lru(MAX_LISTS);
+	private Map<String, String> digests = lru(MAX_DIGESTS);
+
+	private static <K, V> Map<K, V> lru(final int max) {
+		return new LinkedHashMap<K, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > max;
+			}
+		};
+	}
+
+	public RemoteFileManageCacheImpl(RemoteFileManage upstream, String url, File folder, long max_size, long ttl) {
+		this.upstream = upstream;
+		this.url = url;
+		this.store = new ChunkStore(folder, max_size);
+		this.ttl = ttl;
+	}
+
+	private RemoteFile[] cached(String key) {
+		synchronized (lists) {
+			Item item = lists.get(key);
+			if (null != item && System.currentTimeMillis() - item.time < ttl) {
+				return item.files;
+			}
+			return null;
+		}
+	}
+
+	private RemoteFile[] keep(String key, RemoteFile[] files) {
+		Item item = new Item();
+		item.files = files;
+		item.time = System.currentTimeMillis();
+		synchronized (lists) {
+			lists.put(key, item);
+		}
+		return files;
+	}
+
+	public RemoteFile[] list(String parent) {
+		String key = "list\n" + parent;
+		RemoteFile[] result = cached(key);
+		return null != result ? result : keep(key, upstream.list(parent));
+	}
+
+	public RemoteFile[] listTree(String parent, String after, int max) {
+		String key = "tree\n" + parent + "\n" + after + "\n" + max;
+		RemoteFile[] result = cached(key);
+		return null != result ? result : keep(key, upstream.listTree(parent, after, max));
+	}
+
+	/**
+	 * 从 (缓存的) 上级目录列表中取得文件的修改时间和大小, 找不到时返回 null, 此时不使用缓存
+	 */
+	private RemoteFile stat(String path) {
+		if (null == path) {
+			return null;
+		}
+		path = RemoteFileUtil.formatPath(path);
+		int index = path.lastIndexOf('/');
+		RemoteFile[] files;
+		try {
+			files = list(index < 0 ? null : path.substring(0, index));
+		} catch (RuntimeException e) {
+			return null;
+		}
+		for (RemoteFile item : files) {
+			if (!item.isFolder() && path.equals(item.path())) {
+				return item;
+			}
+		}
+		return null;
+	}
+
+	private String version(RemoteFile file) {
+		return url + "\n" + file.path() + "\n" + file.lastModify() + "\n" + file.length();
+	}
+
+	private byte[] blockKey(RemoteFile file, long offset, long length) {
+		return ChunkUtil.hash(ByteBuffer.wrap((version(file) + "\n" + offset + "\n" + length).getBytes(UTF8)));
+	}
+
+	private void keepBlock(byte[] key, ByteBuffer data) {
+		try {
+			store.put(key, data);
+			store.prune();
+		} catch (IOException e) {
+			logger.error("can not keep block", e);
+		}
+	}
+
+	private byte[] readBlock(byte[] key) {
+		try {
+			return store.read(key);
+		} catch (IOException e) {
+			logger.error("can not read block", e);
+			return null;
+		}
+	}
+
+	public String md5(String file) {
+		return hashBatch(DigestUtil.MD5, new String[] { file })[0];
+	}
+
+	public String[] md5Batch(String[] files) {
+		return hashBatch(DigestUtil.MD5, files);
+	}
+
+	public String chooseDigest(String prefer) {
+		return upstream.chooseDigest(prefer);
+	}
+
+	public String[] hashBatch(String algorithm, String[] files) {
+		String[] result = new String[files.length];
+		String[] keys = new String[files.length];
+		List<Integer> missing = new ArrayList<Integer>();
+		for (int i = 0; i < files.length; i++) {
+			RemoteFile stat = stat(files[i]);
+			if (null != stat) {
+				keys[i] = algorithm + "\n" + version(stat);
+				synchronized (digests) {
+					result[i] = digests.get(keys[i]);
+				}
+			}
+			if (null == result[i]) {
+				missing.add(i);
+			}
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+		String[] request = new String[missing.size()];
+		for (int i = 0; i < request.length; i++) {
+			request[i] = files[missing.get(i)];
+		}
+		String[] response = DigestUtil.MD5.equals(algorithm) ? upstream.md5Batch(request)
+				: upstream.hashBatch(algorithm, request);
+		for (int i = 0; i < request.length; i++) {
+			int index = missing.get(i);
+			result[index] = response[i];
+			if (null != keys[index] && null != response[i]) {
+				synchronized (digests) {
+					digests.put(keys[index], response[i]);
+				}
+			}
+		}
+		return result;
+	}
+
+	public byte[] part(String file, long part, long part_size) {
+		RemoteFile stat = stat(file);
+		if (null == stat) {
+			return upstream.part(file, part, part_size);
+		}
+		long offset = part * part_size;
+		long length = Math.max(0, Math.min(part_size, stat.length() - offset));
+		byte[] key = blockKey(stat, offset, length);
+		byte[] data = readBlock(key);
+		if (null == data) {
+			data = upstream.part(file, part, part_size);
+			// 长度不一致说明上游文件已经变化
+			if (data.length == length) {
+				keepBlock(key, ByteBuffer.wrap(data));
+			}
+		}
+		return data;
+	}
+
+	public ByteBuffer partBuffer(String file, long part, long part_size) {
+		return ByteBuffer.wrap(part(file, part, part_size));
+	}
+
+	public long partTo(String file, long part, long part_size, WritableByteChannel target) throws IOException {
+		ByteBuffer data = partBuffer(file, part, part_size);
+		long len = data.remaining();
+		while (data.hasRemaining()) {
+			target.write(data);
+		}
+		return len;
+	}
+
+	/**
+	 * 先发送开头连续命中的帧, 第一个没有命中的帧开始剩余部分一次向上游拉取, 同时写入缓存
+	 */
+	public void stream(String file, long offset, long length, int frame_size, final FrameReceiver receiver)
+			throws IOException {
+		final RemoteFile stat = stat(file);
+		if (null == stat) {
+			upstream.stream(file, offset, length, frame_size, receiver);
+			return;
+		}
+		long end = Math.min(offset + length, stat.length());
+		long position = offset;
+		while (position < end) {
+			int len = (int) Math.min(frame_size, end - position);
+			byte[] data = readBlock(blockKey(stat, position, len));
+			if (null == data) {
+				break;
+			}
+			if (!receiver.receive(position, ByteBuffer.wrap(data))) {
+				return;
+			}
+			position += len;
+		}
+		if (position >= end) {
+			return;
+		}
+		upstream.stream(file, position, end - position, frame_size, new FrameReceiver() {
+			public boolean receive(long frame_offset, ByteBuffer frame) throws IOException {
+				keepBlock(blockKey(stat, frame_offset, frame.remaining()), frame.duplicate());
+				return receiver.receive(frame_offset, frame);
+			}
+		});
+	}
+
+	public long transfer(String file, long offset, long length, WritableByteChannel target) throws IOException {
+		return upstream.transfer(file, offset, length, target);
+	}
+
+	public DeltaPage delta(String file, int block_size, List<BlockSignature> signatures, long offset) {
+		return upstream.delta(file, block_size, signatures, offset);
+	}
+
+	public ChangeSet changesSince(String cursor, int max) {
+		return upstream.changesSince(cursor, max);
+	}
+
+	public ChunkPage chunks(String file, int avg_size, long offset) {
+		return upstream.chunks(file, avg_size, offset);
+	}
+
+	public boolean waitForChanges(String cursor, long timeout) {
+		return upstream.waitForChanges(cursor, timeout);
+	}
+
+	public String digest(String folder) {
+		return upstream.digest(folder);
+	}
+
+	/**
+	 * 丢弃内存中的列表和摘要缓存 (磁盘上的数据块保留给之后的同一个上游), 并关闭上游
+	 */
+	public void close() throws IOException {
+		synchronized (lists) {
+			lists.clear();
+		}
+		synchronized (digests) {
+			digests.clear();
+		}
+		if (upstream instanceof Closeable) {
+			((Closeable) upstream).close();
+		}
+	}
+
+}
@@ -0,0 +1,200 @@
+package com.hjh.files.sync.common.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import com.hjh.files.sync.common.FrameReceiver;
+import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.RemoteFileManage;
+import com.hjh.files.sync.common.util.DigestUtil;
+import com.hjh.files.sync.common.util.SingleFlight;
+
+import tutorial.BlockSignature;
+import tutorial.ChangeSet;
+import tutorial.ChunkPage;
+import tutorial.DeltaPage;
+
+/**
+ * 服务端合并相同的并发请求 (列表、摘要、分块、数据块): 同一时刻只有一个请求真正读取文件或访问上游, 其余共享结果
+ */
+public class RemoteFileManageSingleFlightImpl implements RemoteFileManage, Closeable {
+
+	private RemoteFileManage delegate;
+	private SingleFlight<RemoteFile[]> lists = new SingleFlight<RemoteFile[]>();
+	private SingleFlight<String> hashes = new SingleFlight<String>();
+	private SingleFlight<byte[]> parts = new SingleFlight<byte[]>();
+	private SingleFlight<ByteBuffer> buffers = new SingleFlight<ByteBuffer>();
+	private SingleFlight<ChunkPage> chunks = new SingleFlight<ChunkPage>();
+
+	/**
+	 * 同一个目录的所有请求需要共用一个实例
+	 */
+	public RemoteFileManageSingleFlightImpl(RemoteFileManage delegate) {
+		this.delegate = delegate;
+	}
+
+	public RemoteFile[] list(final String parent) {
+		return lists.run("list\n" + parent, new Callable<RemoteFile[]>() {
+			public RemoteFile[] call() {
+				return delegate.list(parent);
+			}
+		});
+	}
+
+	public RemoteFile[] listTree(final String parent, final String after, final int max) {
+		return lists.run("tree\n" + parent + "\n" + after + "\n" + max, new Callable<RemoteFile[]>() {
+			public RemoteFile[] call() {
+				return delegate.listTree(parent, after, max);
+			}
+		});
+	}
+
+	public String md5(final String file) {
+		return hashes.run(DigestUtil.MD5 + "\n" + file, new Callable<String>() {
+			public String call() {
+				return delegate.md5(file);
+			}
+		});
+	}
+
+	public String[] md5Batch(String[] files) {
+		return hashBatch(DigestUtil.MD5, files);
+	}
+
+	public String chooseDigest(String prefer) {
+		return delegate.chooseDigest(prefer);
+	}
+
+	/**
+	 * 已经在计算中的文件等待结果, 其余的作为一批交给 delegate; 先完成自己负责的文件再等待, 不会互相等待
+	 */
+	public String[] hashBatch(String algorithm, String[] files) {
+		Map<String, SingleFlight.Call<String>> calls = new LinkedHashMap<String, SingleFlight.Call<String>>();
+		for (String file : files) {
+			if (!calls.containsKey(file)) {
+				calls.put(file, hashes.join(algorithm + "\n" + file));
+			}
+		}
+		List<String> owned = new ArrayList<String>();
+		for (Map.Entry<String, SingleFlight.Call<String>> item : calls.entrySet()) {
+			if (item.getValue().isOwner()) {
+				owned.add(item.getKey());
+			}
+		}
+		if (!owned.isEmpty()) {
+			String[] request = owned.toArray(new String[owned.size()]);
+			String[] response = null;
+			RuntimeException error = null;
+			try {
+				response = DigestUtil.MD5.equals(algorithm) ? delegate.md5Batch(request)
+						: delegate.hashBatch(algorithm, request);
+			} catch (RuntimeException e) {
+				error = e;
+			}
+			for (int i = 0; i < request.length; i++) {
+				SingleFlight.Call<String> call = calls.get(request[i]);
+				hashes.leave(algorithm + "\n" + request[i], call);
+				call.set(null == response ? null : response[i], error);
+			}
+			if (null != error) {
+				throw error;
+			}
+		}
+		String[] result = new String[files.length];
+		for (int i = 0; i < files.length; i++) {
+			result[i] = calls.get(files[i]).get();
+		}
+		return result;
+	}
+
+	public byte[] part(final String file, final long part, final long part_size) {
+		return parts.run(file + "\n" + part + "\n" + part_size, new Callable<byte[]>() {
+			public byte[] call() {
+				return delegate.part(file, part, part_size);
+			}
+		});
+	}
+
+	public ByteBuffer partBuffer(String file, long part, long part_size) {
+		String key = file + "\n" + part + "\n" + part_size;
+		SingleFlight.Call<ByteBuffer> call = buffers.join(key);
+		if (!call.isOwner()) {
+			return call.get().duplicate();
+		}
+		ByteBuffer value;
+		try {
+			value = delegate.partBuffer(file, part, part_size);
+		} catch (RuntimeException e) {
+			buffers.leave(key, call);
+			call.set(null, e);
+			throw e;
+		}
+		if (buffers.leave(key, call) > 0) {
+			// owner 的缓冲区可能是线程复用的, 等待者使用副本
+			byte[] copy = new byte[value.remaining()];
+			value.duplicate().get(copy);
+			call.set(ByteBuffer.wrap(copy), null);
+		} else {
+			call.set(null, null);
+		}
+		return value;
+	}
+
+	public long partTo(String file, long part, long part_size, WritableByteChannel target) throws IOException {
+		return delegate.partTo(file, part, part_size, target);
+	}
+
+	public void stream(String file, long offset, long length, int frame_size, FrameReceiver receiver)
+			throws IOException {
+		delegate.stream(file, offset, length, frame_size, receiver);
+	}
+
+	public long transfer(String file, long offset, long length, WritableByteChannel target) throws IOException {
+		return delegate.transfer(file, offset, length, target);
+	}
+
+	public DeltaPage delta(String file, int block_size, List<BlockSignature> signatures, long offset) {
+		return delegate.delta(file, block_size, signatures, offset);
+	}
+
+	public ChangeSet changesSince(String cursor, int max) {
+		return delegate.changesSince(cursor, max);
+	}
+
+	public ChunkPage chunks(final String file, final int avg_size, final long offset) {
+		return chunks.run(file + "\n" + avg_size + "\n" + offset, new Callable<ChunkPage>() {
+			public ChunkPage call() {
+				return delegate.chunks(file, avg_size, offset);
+			}
+		});
+	}
+
+	public boolean waitForChanges(String cursor, long timeout) {
+		return delegate.waitForChanges(cursor, timeout);
+	}
+
+	public String digest(final String folder) {
+		return hashes.run("merkle\n" + folder, new Callable<String>() {
+			public String call() {
+				return delegate.digest(folder);
+			}
+		});
+	}
+
+	/**
+	 * 关闭被合并请求的目录
+	 */
+	public void close() throws IOException {
+		if (delegate instanceof Closeable) {
+			((Closeable) delegate).close();
+		}
+	}
+
+}
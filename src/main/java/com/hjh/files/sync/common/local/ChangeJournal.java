@@ -0,0 +1,725 @@
+package com.hjh.files.sync.common.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+import com.hjh.files.sync.common.util.ChunkUtil;
+
+import tutorial.ChangeSet;
+import tutorial.RemoteFileInfo;
+
+/**
+ * 本地目录的变更日志: 文件系统监听 + 定期全量扫描, 与内存中的快照比较后记录变更的 path
+ * <br>
+ * cursor 格式为 "epoch:seq", 服务重启或日志被截断后旧的 cursor 过期, 客户端需要全量同步
+ */
+public class ChangeJournal {
+
+	private static ILog logger = HLogFactory.create(ChangeJournal.class);
+	private static final String ROOT = "";
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static Map<String, ChangeJournal> journals = new HashMap<String, ChangeJournal>();
+
+	/**
+	 * 返回目录的日志, 不存在时创建并在后台线程中初次扫描; 扫描完成之前 since 返回过期且没有 cursor, digest 返回 null
+	 */
+	public static ChangeJournal get(File root) throws IOException {
+		String key = root.getCanonicalPath();
+		ChangeJournal journal;
+		synchronized (journals) {
+			journal = journals.get(key);
+			if (null != journal) {
+				return journal;
+			}
+			journal = new ChangeJournal(key, new File(key));
+			journals.put(key, journal);
+		}
+		journal.start();
+		return journal;
+	}
+
+	/**
+	 * 已经启动的日志, 不存在或者还在初次扫描时返回 null; start 为 true 时在后台线程中启动不存在的日志
+	 */
+	public static ChangeJournal running(File root, boolean start) throws IOException {
+		ChangeJournal journal;
+		if (start) {
+			journal = get(root);
+		} else {
+			synchronized (journals) {
+				journal = journals.get(root.getCanonicalPath());
+			}
+		}
+		return null != journal && journal.ready ? journal : null;
+	}
+
+	/**
+	 * 目录不再使用时 (最后一个使用这个目录的服务目录关闭) 停止监听和扫描线程, 等待中的调用者立即返回; 之后 get 同一个目录时重新扫描
+	 */
+	public static void close(File root) throws IOException {
+		String key = root.getCanonicalPath();
+		ChangeJournal journal;
+		synchronized (journals) {
+			journal = journals.remove(key);
+		}
+		if (null != journal) {
+			journal.close();
+		}
+	}
+
+	private static class Node {
+		public long length;
+		public long last_modify;
+		public boolean folder;
+		public Set<String> children;
+		/** 目录的 merkle 摘要, 子项变化时清空 */
+		public String digest;
+		/** 目录的子项列表 (含子目录的摘要), 与 digest 同时清空 */
+		public List<RemoteFileInfo> listing;
+
+		public Node(File file) {
+			folder = file.isDirectory();
+			length = file.length();
+			last_modify = file.lastModified();
+			if (folder) {
+				children = new TreeSet<String>();
+			}
+		}
+	}
+
+	private final String canonical_path;
+	private final File root;
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+	/** 只有日志线程修改, 全量扫描时在锁外生成新的快照再替换 */
+	private Map<String, Node> snapshot = new HashMap<String, Node>();
+
+	/** changes.get(i) 的序号为 base + i + 1 */
+	private final List<String> changes = new ArrayList<String>();
+	private long base;
+	/** 最新的序号 (base + changes.size()), waitFor 不需要持有日志的锁读取 */
+	private volatile long current;
+	/** waitFor 使用 Condition 等待, 虚拟线程等待时不占住载体线程 (synchronized + wait 在 JDK 21 会) */
+	private final ReentrantLock change_lock = new ReentrantLock();
+	private final Condition changed = change_lock.newCondition();
+	private boolean recording;
+
+	private volatile WatchService watcher;
+	/** 初次扫描完成 */
+	private volatile boolean ready;
+	private volatile boolean closed;
+	private volatile Thread thread;
+	private final Map<WatchKey, String> keys = new HashMap<WatchKey, String>();
+	/** 注册监听失败的目录, 存在时目录列表不能及时更新, 不使用缓存的列表 */
+	private final Set<String> unwatched = new HashSet<String>();
+
+	private ChangeJournal(String canonical_path, File root) {
+		this.canonical_path = canonical_path;
+		this.root = root;
+	}
+
+	/**
+	 * 启动日志线程: 初次扫描之后处理文件事件和定期全量扫描
+	 */
+	private void start() {
+		thread = new Thread("journal-" + root.getName()) {
+			public void run() {
+				try {
+					init();
+				} catch (Throwable e) {
+					logger.error("journal start fail:" + root.getAbsolutePath(), e);
+					// 下次 get 时重新创建
+					synchronized (journals) {
+						if (journals.get(canonical_path) == ChangeJournal.this) {
+							journals.remove(canonical_path);
+						}
+					}
+					return;
+				}
+				loop();
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void init() {
+		try {
+			watcher = FileSystems.getDefault().newWatchService();
+		} catch (IOException e) {
+			logger.error("can not watch " + root.getAbsolutePath() + ", use scan only", e);
+		} catch (UnsupportedOperationException e) {
+			logger.error("can not watch " + root.getAbsolutePath() + ", use scan only", e);
+		} catch (LinkageError e) {
+			// 没有 java.nio.file 的平台 (android)
+			logger.error("can not watch " + root.getAbsolutePath() + ", use scan only", e);
+		}
+		long time = System.currentTimeMillis();
+		rescan();
+		synchronized (this) {
+			recording = true;
+			ready = true;
+		}
+		logger.stdout(String.format("journal %s %d files (cost: %dms)", root.getAbsolutePath(), snapshot.size(),
+				System.currentTimeMillis() - time));
+		if (closed) {
+			closeWatcher();
+		}
+	}
+
+	private void close() {
+		closed = true;
+		closeWatcher();
+		Thread cur = thread;
+		if (null != cur) {
+			cur.interrupt();
+		}
+		signalChanged();
+		logger.stdout("journal closed :" + root.getAbsolutePath());
+	}
+
+	private void closeWatcher() {
+		WatchService cur = watcher;
+		if (null != cur) {
+			try {
+				cur.close();
+			} catch (IOException e) {
+				logger.error("close watcher failed :" + root.getAbsolutePath(), e);
+			}
+		}
+	}
+
+	private void loop() {
+		long interval = RemoteSyncConfig.getJournalScan();
+		long next_scan = System.currentTimeMillis() + interval;
+		while (!closed) {
+			try {
+				long wait = next_scan - System.currentTimeMillis();
+				Set<String> dirty = new LinkedHashSet<String>();
+				boolean overflow = false;
+				if (null == watcher) {
+					Thread.sleep(Math.max(0, wait));
+				} else {
+					WatchKey key = watcher.poll(Math.max(0, wait), TimeUnit.MILLISECONDS);
+					while (null != key) {
+						overflow |= collect(key, dirty);
+						// 合并短时间内的连续事件
+						key = watcher.poll(50, TimeUnit.MILLISECONDS);
+					}
+				}
+				if (overflow || System.currentTimeMillis() >= next_scan) {
+					rescan();
+					next_scan = System.currentTimeMillis() + interval;
+				} else {
+					synchronized (this) {
+						for (String path : dirty) {
+							Node node = snapshot.get(path);
+							if (null != node && node.folder) {
+								refresh(path, node);
+								scan(path, false);
+							}
+						}
+					}
+				}
+				signalChanged();
+			} catch (InterruptedException e) {
+				return;
+			} catch (ClosedWatchServiceException e) {
+				return;
+			} catch (Throwable e) {
+				logger.error("journal scan fail:" + root.getAbsolutePath(), e);
+			}
+		}
+	}
+
+	private boolean collect(WatchKey key, Set<String> dirty) {
+		boolean overflow = false;
+		String path;
+		synchronized (this) {
+			path = keys.get(key);
+		}
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				overflow = true;
+			}
+		}
+		if (!key.reset()) {
+			synchronized (this) {
+				keys.remove(key);
+			}
+		}
+		if (null != path) {
+			dirty.add(path);
+		}
+		return overflow;
+	}
+
+	private void register(String path) {
+		register(path, keys, unwatched);
+	}
+
+	private void register(String path, Map<WatchKey, String> to_keys, Set<String> to_unwatched) {
+		if (null == watcher) {
+			return;
+		}
+		try {
+			WatchKey key = file(path).toPath().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+			to_keys.put(key, path);
+		} catch (IOException e) {
+			to_unwatched.add(path);
+			logger.info("can not watch " + path + " (rely on scan):" + e.getMessage());
+		}
+	}
+
+	/**
+	 * 全量扫描: 在锁外读取整个目录生成新的快照, 之后在锁内与旧的快照比较并替换, 扫描期间读取快照不需要等待
+	 */
+	private void rescan() {
+		Map<String, Node> fresh = new LinkedHashMap<String, Node>();
+		Map<WatchKey, String> fresh_keys = new HashMap<WatchKey, String>();
+		Set<String> fresh_unwatched = new HashSet<String>();
+		load(ROOT, new Node(root), fresh, fresh_keys, fresh_unwatched);
+		synchronized (this) {
+			install(fresh, fresh_keys, fresh_unwatched);
+		}
+	}
+
+	/**
+	 * 先序读取目录到 fresh, 旧的快照中不是目录的 path 注册监听; 只在日志线程中调用, 不需要持有锁读取旧的快照
+	 */
+	private void load(String path, Node node, Map<String, Node> fresh, Map<WatchKey, String> fresh_keys,
+			Set<String> fresh_unwatched) {
+		fresh.put(path, node);
+		Node old = snapshot.get(path);
+		if (null == old || !old.folder) {
+			register(path, fresh_keys, fresh_unwatched);
+		}
+		String[] names = file(path).list();
+		if (null == names) {
+			return;
+		}
+		for (String name : names) {
+			Node cur = new Node(new File(file(path), name));
+			node.children.add(name);
+			if (cur.folder) {
+				load(child(path, name), cur, fresh, fresh_keys, fresh_unwatched);
+			} else {
+				fresh.put(child(path, name), cur);
+			}
+		}
+	}
+
+	/**
+	 * 记录新旧快照的差异并替换; 没有变化的目录保留已经计算的摘要和列表
+	 */
+	private void install(Map<String, Node> fresh, Map<WatchKey, String> fresh_keys, Set<String> fresh_unwatched) {
+		List<String> changed = new ArrayList<String>();
+		for (Map.Entry<String, Node> entry : fresh.entrySet()) {
+			Node cur = entry.getValue();
+			Node old = snapshot.get(entry.getKey());
+			if (null == old || old.folder != cur.folder) {
+				changed.add(entry.getKey());
+				continue;
+			}
+			if (old.last_modify != cur.last_modify || old.length != cur.length) {
+				changed.add(entry.getKey());
+			}
+			if (cur.folder) {
+				cur.digest = old.digest;
+				cur.listing = old.listing;
+			}
+		}
+		for (String path : snapshot.keySet()) {
+			if (!fresh.containsKey(path)) {
+				changed.add(path);
+				unwatched.remove(path);
+			}
+		}
+		snapshot = fresh;
+		keys.putAll(fresh_keys);
+		unwatched.addAll(fresh_unwatched);
+		for (String path : changed) {
+			// 根目录自身的变化不记录, 与 refresh 一致
+			if (!ROOT.equals(path)) {
+				record(path);
+			}
+		}
+	}
+
+	private File file(String path) {
+		return ROOT.equals(path) ? root : new File(root, path);
+	}
+
+	private static String child(String parent, String name) {
+		return ROOT.equals(parent) ? name : parent + "/" + name;
+	}
+
+	private void record(String path) {
+		invalidate(path);
+		if (!recording) {
+			return;
+		}
+		changes.add(path);
+		current = base + changes.size();
+		int max = RemoteSyncConfig.getJournalSize();
+		if (changes.size() > max + max / 4) {
+			int drop = changes.size() - max;
+			changes.subList(0, drop).clear();
+			base += drop;
+		}
+	}
+
+	/**
+	 * 清空所有上级目录的摘要和列表 (列表中包含子目录的摘要)
+	 */
+	private void invalidate(String path) {
+		while (!ROOT.equals(path)) {
+			int index = path.lastIndexOf('/');
+			path = index < 0 ? ROOT : path.substring(0, index);
+			Node node = snapshot.get(path);
+			if (null != node) {
+				node.digest = null;
+				node.listing = null;
+			}
+		}
+	}
+
+	/**
+	 * 所有目录都在监听中时, 快照与文件系统的差异只在事件处理的间隔内
+	 */
+	private boolean isWatching() {
+		return null != watcher && unwatched.isEmpty();
+	}
+
+	/**
+	 * 快照可以不等待地读取: 初次扫描完成并且有文件监听 (全量扫描在锁外进行)
+	 */
+	public boolean isAvailable() {
+		return ready && null != watcher;
+	}
+
+	/**
+	 * 目录的 merkle 摘要, 快照不能及时更新时返回 null
+	 */
+	public String digestIfAvailable(String path) {
+		if (!isAvailable()) {
+			return null;
+		}
+		synchronized (this) {
+			return isWatching() ? digest(path) : null;
+		}
+	}
+
+	/**
+	 * 目录的子项 (按名称排序); 不是目录或者快照不能及时更新 (没有监听) 时返回 null, 调用者直接读取文件系统
+	 * <br>
+	 * 返回的列表在目录变化前一直共用, 不能修改
+	 */
+	public synchronized List<RemoteFileInfo> list(String path) {
+		path = null == path ? ROOT : path;
+		Node node = snapshot.get(path);
+		if (!isWatching() || null == node || !node.folder) {
+			return null;
+		}
+		return listing(path, node);
+	}
+
+	/**
+	 * 与 RemoteFileManageLocalImpl.listTree 相同的先序分页遍历, 数据来自快照; 不能使用快照时返回 null
+	 */
+	public synchronized List<RemoteFileInfo> listTree(String path, String[] cursor, int depth, int max) {
+		path = null == path ? ROOT : path;
+		Node node = snapshot.get(path);
+		if (!isWatching() || null == node || !node.folder) {
+			return null;
+		}
+		List<RemoteFileInfo> result = new ArrayList<RemoteFileInfo>();
+		walk(path, node, cursor, depth, result, max);
+		return result;
+	}
+
+	private boolean walk(String path, Node folder, String[] cursor, int depth, List<RemoteFileInfo> result,
+			int max) {
+		for (RemoteFileInfo item : listing(path, folder)) {
+			if (null != cursor) {
+				int diff = item.getName().compareTo(cursor[depth]);
+				if (diff < 0) {
+					continue;
+				}
+				if (diff == 0) {
+					if (item.isIsFolder() && !walk(item.getPath(), snapshot.get(item.getPath()),
+							depth + 1 < cursor.length ? cursor : null, depth + 1, result, max)) {
+						return false;
+					}
+					continue;
+				}
+				cursor = null;
+			}
+			if (result.size() >= max) {
+				return false;
+			}
+			result.add(item);
+			if (item.isIsFolder() && !walk(item.getPath(), snapshot.get(item.getPath()), null, depth + 1, result,
+					max)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private List<RemoteFileInfo> listing(String path, Node node) {
+		if (null == node.listing) {
+			List<RemoteFileInfo> result = new ArrayList<RemoteFileInfo>(node.children.size());
+			for (String name : node.children) {
+				String cur_path = child(path, name);
+				Node cur = snapshot.get(cur_path);
+				RemoteFileInfo info = new RemoteFileInfo();
+				info.setName(name);
+				info.setPath(cur_path);
+				info.setLength(cur.length);
+				info.setLastModify(cur.last_modify);
+				info.setIsFolder(cur.folder);
+				if (cur.folder) {
+					info.setDigest(digest(cur_path, cur));
+				}
+				result.add(info);
+			}
+			node.listing = Collections.unmodifiableList(result);
+		}
+		return node.listing;
+	}
+
+	/**
+	 * 目录的 merkle 摘要: 子项 (按名称排序) 的名称、类型、大小、修改时间以及子目录的摘要
+	 */
+	public synchronized String digest(String path) {
+		if (!ready) {
+			return null;
+		}
+		Node node = snapshot.get(null == path ? ROOT : path);
+		if (null == node || !node.folder) {
+			return null;
+		}
+		return digest(null == path ? ROOT : path, node);
+	}
+
+	private String digest(String path, Node node) {
+		if (null == node.digest) {
+			MessageDigest md;
+			try {
+				md = MessageDigest.getInstance("MD5");
+			} catch (NoSuchAlgorithmException e) {
+				throw new RuntimeException(e);
+			}
+			StringBuilder line = new StringBuilder();
+			for (String name : node.children) {
+				String cur_path = child(path, name);
+				Node cur = snapshot.get(cur_path);
+				line.setLength(0);
+				line.append(name).append('\0').append(cur.folder ? 'd' : 'f').append(':').append(cur.length)
+						.append(':').append(cur.last_modify);
+				if (cur.folder) {
+					line.append(':').append(digest(cur_path, cur));
+				}
+				line.append('\n');
+				md.update(line.toString().getBytes(UTF8));
+			}
+			node.digest = ChunkUtil.hex(md.digest());
+		}
+		return node.digest;
+	}
+
+	/**
+	 * 目录中增删文件会改变目录自身的修改时间, 上级目录不会收到事件, 在处理目录的事件时更新
+	 */
+	private void refresh(String path, Node node) {
+		if (ROOT.equals(path)) {
+			return;
+		}
+		File cur = file(path);
+		if (node.last_modify != cur.lastModified() || node.length != cur.length()) {
+			node.last_modify = cur.lastModified();
+			node.length = cur.length();
+			record(path);
+		}
+	}
+
+	/**
+	 * 比较目录与快照的差异, deep 为 false 时只比较直接子项 (新增目录仍会完整加入)
+	 */
+	private void scan(String path, boolean deep) {
+		Node node = snapshot.get(path);
+		String[] names = file(path).list();
+		Set<String> removed = new TreeSet<String>(node.children);
+		if (null != names) {
+			for (String name : names) {
+				removed.remove(name);
+				String cur_path = child(path, name);
+				File cur = new File(file(path), name);
+				Node exist = snapshot.get(cur_path);
+				if (null == exist) {
+					add(node, cur_path, name, cur);
+				} else if (exist.folder != cur.isDirectory()) {
+					remove(node, cur_path, name);
+					add(node, cur_path, name, cur);
+				} else {
+					if (exist.last_modify != cur.lastModified() || exist.length != cur.length()) {
+						exist.last_modify = cur.lastModified();
+						exist.length = cur.length();
+						record(cur_path);
+					}
+					if (exist.folder && deep) {
+						scan(cur_path, true);
+					}
+				}
+			}
+		}
+		for (String name : removed) {
+			remove(node, child(path, name), name);
+			record(child(path, name));
+		}
+	}
+
+	private void add(Node parent, String path, String name, File file) {
+		Node node = new Node(file);
+		snapshot.put(path, node);
+		parent.children.add(name);
+		record(path);
+		if (node.folder) {
+			register(path);
+			scan(path, true);
+		}
+	}
+
+	private void remove(Node parent, String path, String name) {
+		Node node = snapshot.remove(path);
+		unwatched.remove(path);
+		parent.children.remove(name);
+		if (null != node && node.folder) {
+			for (String cur : node.children.toArray(new String[node.children.size()])) {
+				remove(node, child(path, cur), cur);
+			}
+		}
+	}
+
+	private String cursor(long seq) {
+		return epoch + ":" + seq;
+	}
+
+	/**
+	 * @return -1 表示不是本日志的 cursor
+	 */
+	private long seq(String cursor) {
+		if (null != cursor) {
+			String[] arr = cursor.split(":");
+			if (2 == arr.length && epoch.equals(arr[0])) {
+				try {
+					return Long.parseLong(arr[1]);
+				} catch (NumberFormatException e) {
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 等待 cursor 之后出现变更, 返回 false 表示超时; cursor 过期或日志关闭时立即返回 true
+	 */
+	public boolean waitFor(String cursor, long timeout) throws InterruptedException {
+		long end = System.currentTimeMillis() + timeout;
+		long seq = seq(cursor);
+		change_lock.lock();
+		try {
+			// seq 小于 base 时也不等于 current
+			while (!closed && seq == current) {
+				long wait = end - System.currentTimeMillis();
+				if (wait <= 0) {
+					return false;
+				}
+				changed.await(wait, TimeUnit.MILLISECONDS);
+			}
+			return true;
+		} finally {
+			change_lock.unlock();
+		}
+	}
+
+	private void signalChanged() {
+		change_lock.lock();
+		try {
+			changed.signalAll();
+		} finally {
+			change_lock.unlock();
+		}
+	}
+
+	/**
+	 * 返回 cursor 之后最多 max 条变更, 同一个 path 只返回一次 (当前状态)
+	 */
+	public synchronized ChangeSet since(String cursor, int max) {
+		long current = base + changes.size();
+		ChangeSet result = new ChangeSet();
+		result.setChanged(new ArrayList<RemoteFileInfo>());
+		result.setDeleted(new ArrayList<String>());
+
+		if (!ready) {
+			// 初次扫描还没有完成, 与不支持日志时相同: 客户端全量同步, 之后再取得 cursor
+			result.setExpired(true);
+			return result;
+		}
+		long seq = seq(cursor);
+		if (seq < base || seq > current) {
+			result.setExpired(true);
+			result.setCursor(cursor(current));
+			return result;
+		}
+
+		long end = Math.min(current, seq + max);
+		Set<String> paths = new LinkedHashSet<String>(changes.subList((int) (seq - base), (int) (end - base)));
+		for (String path : paths) {
+			Node node = snapshot.get(path);
+			if (null == node) {
+				result.getDeleted().add(path);
+			} else {
+				RemoteFileInfo info = new RemoteFileInfo();
+				info.setName(path.substring(path.lastIndexOf('/') + 1));
+				info.setPath(path);
+				info.setLength(node.length);
+				info.setLastModify(node.last_modify);
+				info.setIsFolder(node.folder);
+				result.getChanged().add(info);
+			}
+		}
+		result.setCursor(cursor(end));
+		result.setMore(end < current);
+		return result;
+	}
+
+}
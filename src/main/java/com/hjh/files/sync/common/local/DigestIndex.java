@@ -0,0 +1,688 @@
+package com.hjh.files.sync.common.local;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.zip.CRC32;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+import com.hjh.files.sync.common.util.DigestCache;
+import com.hjh.files.sync.common.util.DigestUtil;
+import com.hjh.files.sync.common.util.ThreadUtil;
+import com.hjh.files.sync.common.util.XXHash64;
+
+import tutorial.CacheStat;
+
+/**
+ * 本地目录的文件摘要索引, 服务重启后不需要重新计算所有文件的摘要
+ * <br>
+ * 按 (算法, path) 保存, 使用时用文件的大小、修改时间和 fileKey (有 java.nio.file 时, unix 上为 dev/inode) 校验;
+ * 磁盘上是只追加的日志 (server.index.folder, 只有当前用户可以访问, 同一个目录只能被一个进程使用),
+ * 内存中只保留 key 的 64 位 hash 到日志位置的表和最近使用的记录 (DigestCache, 最多 server.index.cache 字节),
+ * 无效记录超过一半时在后台线程中压缩日志
+ * <br>
+ * 同一个文件的并发请求只读取索引或计算摘要一次
+ */
+public class DigestIndex {
+
+	private static ILog logger = HLogFactory.create(DigestIndex.class);
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final int MAGIC = 0x52534449;
+	private static final int MAX_RECORD = 64 * 1024;
+	private static final long COMPACT_MIN = 4 * 1024 * 1024;
+
+	private static Map<String, DigestIndex> indexes = new HashMap<String, DigestIndex>();
+
+	public static DigestIndex get(File root) throws IOException {
+		String key = root.getCanonicalPath();
+		DigestIndex index;
+		synchronized (indexes) {
+			index = indexes.get(key);
+			if (null != index) {
+				return index;
+			}
+			index = new DigestIndex(new File(key), RemoteSyncConfig.getIndexFolder(), RemoteSyncConfig.getIndexCache());
+			indexes.put(key, index);
+		}
+		// 上次运行留下的日志过大时在后台压缩, 不占用全局的锁
+		index.compactLater();
+		return index;
+	}
+
+	/**
+	 * 目录不再使用时 (最后一个使用这个目录的服务目录关闭) 关闭日志、释放文件锁并丢弃内存缓存; 之后 get 同一个目录时重新打开
+	 */
+	public static void close(File root) throws IOException {
+		String key = root.getCanonicalPath();
+		DigestIndex index;
+		synchronized (indexes) {
+			index = indexes.remove(key);
+		}
+		if (null != index) {
+			index.close();
+		}
+	}
+
+	/**
+	 * 所有目录的内存缓存统计
+	 */
+	public static List<CacheStat> stats() {
+		List<CacheStat> result = new ArrayList<CacheStat>();
+		synchronized (indexes) {
+			for (DigestIndex index : indexes.values()) {
+				result.add(index.cache.toStat());
+			}
+		}
+		return result;
+	}
+
+	private static class Entry {
+		public String key;
+		public long length;
+		public long last_modify;
+		public String file_key;
+		public String digest;
+		/** 记录在日志中占用的字节数 */
+		public int size;
+
+		public boolean match(Entry cur) {
+			return length == cur.length && last_modify == cur.last_modify && file_key.equals(cur.file_key);
+		}
+
+		/** 在内存中大约占用的字节数 */
+		public long weight() {
+			return 96 + 2 * (key.length() + file_key.length() + digest.length());
+		}
+	}
+
+	/**
+	 * 开放寻址表: key 的 hash (0 表示空) => 记录在日志中的位置和长度
+	 */
+	private static class Table {
+		public long[] hashes = new long[1024];
+		public long[] offsets = new long[1024];
+		public int[] sizes = new int[1024];
+		public int count;
+		public long live_bytes;
+
+		public int find(long hash) {
+			int mask = hashes.length - 1;
+			int slot = (int) (hash ^ (hash >>> 32)) & mask;
+			while (0 != hashes[slot] && hashes[slot] != hash) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		public void put(long hash, long offset, int size) {
+			int slot = find(hash);
+			if (0 == hashes[slot]) {
+				if ((count + 1) * 2 > hashes.length) {
+					grow();
+					slot = find(hash);
+				}
+				hashes[slot] = hash;
+				count++;
+			} else {
+				live_bytes -= sizes[slot];
+			}
+			offsets[slot] = offset;
+			sizes[slot] = size;
+			live_bytes += size;
+		}
+
+		private void grow() {
+			long[] old_hashes = hashes;
+			long[] old_offsets = offsets;
+			int[] old_sizes = sizes;
+			hashes = new long[old_hashes.length * 2];
+			offsets = new long[hashes.length];
+			sizes = new int[hashes.length];
+			for (int i = 0; i < old_hashes.length; i++) {
+				if (0 != old_hashes[i]) {
+					int slot = find(old_hashes[i]);
+					hashes[slot] = old_hashes[i];
+					offsets[slot] = old_offsets[i];
+					sizes[slot] = old_sizes[i];
+				}
+			}
+		}
+
+		public Table copy() {
+			Table result = new Table();
+			result.hashes = hashes.clone();
+			result.offsets = offsets.clone();
+			result.sizes = sizes.clone();
+			result.count = count;
+			result.live_bytes = live_bytes;
+			return result;
+		}
+	}
+
+	private static boolean checked = false;
+	private static Method to_path;
+	private static Method read_attributes;
+	private static Method file_key;
+	private static Class<?> attributes_class;
+	private static Object no_options;
+
+	/**
+	 * java.nio.file 在 android 上不存在, 通过反射读取 fileKey
+	 */
+	private static synchronized boolean nioSupported() {
+		if (!checked) {
+			checked = true;
+			try {
+				Class<?> path = Class.forName("java.nio.file.Path");
+				Class<?> option = Class.forName("java.nio.file.LinkOption");
+				attributes_class = Class.forName("java.nio.file.attribute.BasicFileAttributes");
+				no_options = Array.newInstance(option, 0);
+				read_attributes = Class.forName("java.nio.file.Files").getMethod("readAttributes", path, Class.class,
+						no_options.getClass());
+				file_key = attributes_class.getMethod("fileKey");
+				to_path = File.class.getMethod("toPath");
+			} catch (Exception e) {
+				to_path = null;
+				logger.info("java.nio.file not supported, digest index validates size and modify time only");
+			}
+		}
+		return null != to_path;
+	}
+
+	private static String fileKey(File target) {
+		if (!nioSupported()) {
+			return "";
+		}
+		try {
+			Object attrs = read_attributes.invoke(null, to_path.invoke(target), attributes_class, no_options);
+			Object key = file_key.invoke(attrs);
+			return null == key ? "" : key.toString();
+		} catch (Exception e) {
+			return "";
+		}
+	}
+
+	private final File root;
+	private final String root_path;
+	private final DigestCache<Entry> cache;
+
+	/** 没有配置 server.index.folder 或无法使用时为 null, 只使用内存中的 cache */
+	private File file;
+	private RandomAccessFile log;
+	private long log_size;
+	private Table table = new Table();
+
+	/** 整个进程使用期间持有, 防止其他进程同时追加同一个日志 */
+	private RandomAccessFile lock_file;
+	private FileLock lock;
+
+	private boolean compacting;
+	/** 已经关闭, 进行中的压缩放弃替换 */
+	private boolean closed;
+	/** 压缩失败后日志再增长一倍才重试 */
+	private long compact_min = COMPACT_MIN;
+
+	private DigestIndex(File root, File folder, long cache_size) throws IOException {
+		this.root = root;
+		this.root_path = root.getPath();
+		this.cache = new DigestCache<Entry>(root_path, cache_size);
+		if (null != folder) {
+			if (!folder.isDirectory()) {
+				Asserts.check(folder.mkdirs(), "can not create digest index folder :" + folder.getAbsolutePath());
+			}
+			ownerOnly(folder, true);
+			String name = Long.toHexString(hash(root_path));
+			if (lock(new File(folder, name + ".lock"))) {
+				file = new File(folder, name + ".idx");
+				load();
+			}
+		}
+	}
+
+	/**
+	 * 只允许当前用户读写 (android 2.3 之前没有这些方法)
+	 */
+	private static void ownerOnly(File target, boolean folder) {
+		try {
+			target.setReadable(false, false);
+			target.setReadable(true, true);
+			target.setWritable(false, false);
+			target.setWritable(true, true);
+			target.setExecutable(false, false);
+			if (folder) {
+				target.setExecutable(true, true);
+			}
+		} catch (LinkageError e) {
+			logger.info("can not set permission of " + target.getAbsolutePath());
+		}
+	}
+
+	private boolean lock(File target) throws IOException {
+		boolean exists = target.isFile();
+		lock_file = new RandomAccessFile(target, "rw");
+		if (!exists) {
+			ownerOnly(target, false);
+		}
+		try {
+			lock = lock_file.getChannel().tryLock();
+		} catch (OverlappingFileLockException e) {
+			lock = null;
+		}
+		if (null == lock) {
+			lock_file.close();
+			lock_file = null;
+			logger.stdout("摘要索引正在被其他进程使用, 只在内存中缓存:" + target.getAbsolutePath());
+			return false;
+		}
+		return true;
+	}
+
+	private synchronized void close() {
+		closed = true;
+		close(log);
+		log = null;
+		table = new Table();
+		// 关闭文件时释放锁
+		close(lock_file);
+		lock_file = null;
+		lock = null;
+	}
+
+	/**
+	 * 文件的摘要 (path 为相对 root 的路径), 索引中的记录与文件当前的大小、修改时间一致时直接返回
+	 */
+	public String digest(final String algorithm, String path) throws IOException {
+		final File target = null == path ? root : new File(root, path);
+		final String key = algorithm + "\n" + path;
+		Entry cur = stat(key, target);
+		Entry entry = cache.peek(key);
+		if (null != entry && entry.match(cur)) {
+			cache.hit();
+			return entry.digest;
+		}
+		cache.miss();
+		entry = cache.load(key, new Callable<Entry>() {
+			public Entry call() throws Exception {
+				return load(algorithm, key, target);
+			}
+		});
+		if (entry.match(cur)) {
+			return entry.digest;
+		}
+		// 等待其他线程计算期间文件被修改
+		cache.loaded();
+		return DigestUtil.digest(algorithm, target);
+	}
+
+	private static Entry stat(String key, File target) throws IOException {
+		Entry result = new Entry();
+		result.key = key;
+		result.length = target.length();
+		result.last_modify = target.lastModified();
+		if (0 == result.last_modify && !target.exists()) {
+			throw new FileNotFoundException("file not found :" + target.getAbsolutePath());
+		}
+		result.file_key = fileKey(target);
+		return result;
+	}
+
+	/**
+	 * 同一个 key 同时只有一个线程执行: 依次查找内存、磁盘上的索引, 都没有时计算摘要并保存
+	 */
+	private Entry load(String algorithm, String key, File target) throws IOException {
+		Entry cur = stat(key, target);
+		Entry entry = cache.peek(key);
+		if (null != entry && entry.match(cur)) {
+			return entry;
+		}
+		entry = lookup(key);
+		if (null != entry && entry.match(cur)) {
+			cache.put(key, entry, entry.weight());
+			return entry;
+		}
+		cur.digest = DigestUtil.digest(algorithm, target);
+		cache.loaded();
+		// 计算期间文件被修改时不保存
+		if (target.lastModified() == cur.last_modify && target.length() == cur.length) {
+			store(cur);
+		}
+		return cur;
+	}
+
+	/**
+	 * 从磁盘上的索引读取记录
+	 */
+	private synchronized Entry lookup(String key) throws IOException {
+		if (null == log) {
+			return null;
+		}
+		int slot = table.find(hash(key));
+		if (0 == table.hashes[slot]) {
+			return null;
+		}
+		Entry entry = read(log, table.offsets[slot]);
+		// 不同的 key 的 hash 相同时当作没有记录, 重新计算后覆盖
+		if (null == entry || !entry.key.equals(key)) {
+			return null;
+		}
+		return entry;
+	}
+
+	private void store(Entry entry) throws IOException {
+		cache.put(entry.key, entry, entry.weight());
+		synchronized (this) {
+			if (null == log) {
+				return;
+			}
+			byte[] record = encode(entry);
+			log.seek(log_size);
+			log.write(record);
+			table.put(hash(entry.key), log_size, record.length);
+			log_size += record.length;
+		}
+		compactLater();
+	}
+
+	/**
+	 * 日志中过期的记录过多时在后台线程中压缩, 同一时间只有一个压缩
+	 */
+	private void compactLater() {
+		synchronized (this) {
+			if (null == log || compacting || !needCompact()) {
+				return;
+			}
+			compacting = true;
+		}
+		ThreadUtil.start("digest-index-compact", true, new Runnable() {
+			public void run() {
+				compact();
+			}
+		});
+	}
+
+	private boolean needCompact() {
+		return log_size > compact_min && log_size > table.live_bytes * 2;
+	}
+
+	private static long hash(String key) {
+		byte[] data = key.getBytes(UTF8);
+		XXHash64 hash = new XXHash64();
+		hash.update(data, 0, data.length);
+		long result = hash.value();
+		return 0 == result ? 1 : result;
+	}
+
+	/**
+	 * 记录格式: 长度 + 内容 + crc32
+	 */
+	private static byte[] encode(Entry entry) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(body);
+		out.writeUTF(entry.key);
+		out.writeLong(entry.length);
+		out.writeLong(entry.last_modify);
+		out.writeUTF(entry.file_key);
+		out.writeUTF(entry.digest);
+		out.close();
+		byte[] data = body.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		ByteArrayOutputStream result = new ByteArrayOutputStream(data.length + 8);
+		out = new DataOutputStream(result);
+		out.writeInt(data.length);
+		out.write(data);
+		out.writeInt((int) crc.getValue());
+		out.close();
+		return result.toByteArray();
+	}
+
+	/**
+	 * 读取一条记录, 长度或 crc 不正确时返回 null
+	 */
+	private static Entry decode(DataInputStream in) throws IOException {
+		int len = in.readInt();
+		if (len <= 0 || len > MAX_RECORD) {
+			return null;
+		}
+		byte[] data = new byte[len];
+		in.readFully(data);
+		int check = in.readInt();
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		if ((int) crc.getValue() != check) {
+			return null;
+		}
+		DataInputStream body = new DataInputStream(new ByteArrayInputStream(data));
+		Entry entry = new Entry();
+		entry.key = body.readUTF();
+		entry.length = body.readLong();
+		entry.last_modify = body.readLong();
+		entry.file_key = body.readUTF();
+		entry.digest = body.readUTF();
+		entry.size = len + 8;
+		return entry;
+	}
+
+	private static Entry read(RandomAccessFile in, long offset) throws IOException {
+		in.seek(offset);
+		int len = in.readInt();
+		if (len <= 0 || len > MAX_RECORD) {
+			return null;
+		}
+		byte[] record = new byte[len + 8];
+		in.seek(offset);
+		in.readFully(record);
+		return decode(new DataInputStream(new ByteArrayInputStream(record)));
+	}
+
+	private static byte[] header(String root_path) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(result);
+		out.writeInt(MAGIC);
+		out.writeUTF(root_path);
+		out.close();
+		return result.toByteArray();
+	}
+
+	/**
+	 * 顺序读取日志建立内存中的表, 末尾不完整的记录 (写入时进程退出) 被截掉
+	 */
+	private void load() throws IOException {
+		byte[] header = header(root_path);
+		long start = System.currentTimeMillis();
+		long good = 0;
+		if (file.isFile()) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 256 * 1024));
+			try {
+				if (in.readInt() == MAGIC && in.readUTF().equals(root_path)) {
+					good = header.length;
+					while (true) {
+						Entry entry = decode(in);
+						if (null == entry) {
+							break;
+						}
+						table.put(hash(entry.key), good, entry.size);
+						good += entry.size;
+					}
+				}
+			} catch (EOFException e) {
+				// 到达末尾或最后一条记录不完整
+			} finally {
+				in.close();
+			}
+		} else {
+			new FileOutputStream(file).close();
+			ownerOnly(file, false);
+		}
+		log = new RandomAccessFile(file, "rw");
+		if (0 == good) {
+			table = new Table();
+			log.setLength(0);
+			log.write(header);
+			good = header.length;
+		} else if (log.length() != good) {
+			logger.info("truncate digest index " + file.getAbsolutePath() + " at " + good);
+			log.setLength(good);
+		}
+		log_size = good;
+		logger.stdout(String.format("digest index %s : %d entries, %d K, %d ms", root_path, table.count,
+				log_size / 1024, System.currentTimeMillis() - start));
+	}
+
+	/**
+	 * 只保留每个 key 最新的记录, 并去掉已经不存在的文件; 写入临时文件后替换
+	 * <br>
+	 * 读取旧记录和检查文件是否存在时不持有锁 (日志只追加, 快照之前的部分不会变化),
+	 * 最后在锁内补上压缩期间追加的记录, 替换成功后才使用新的表
+	 */
+	private void compact() {
+		long start = System.currentTimeMillis();
+		File temp = new File(file.getParentFile(), file.getName() + ".temp");
+		Table snapshot;
+		long snapshot_size;
+		RandomAccessFile in = null;
+		DataOutputStream out = null;
+		boolean log_closed = false;
+		boolean done = false;
+		try {
+			synchronized (this) {
+				snapshot = table.copy();
+				snapshot_size = log_size;
+				in = new RandomAccessFile(file, "r");
+			}
+			Table result = new Table();
+			out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 256 * 1024));
+			ownerOnly(temp, false);
+			byte[] header = header(root_path);
+			out.write(header);
+			long size = header.length;
+			for (int i = 0; i < snapshot.hashes.length; i++) {
+				if (0 == snapshot.hashes[i]) {
+					continue;
+				}
+				Entry entry = read(in, snapshot.offsets[i]);
+				if (null == entry) {
+					continue;
+				}
+				String path = entry.key.substring(entry.key.indexOf('\n') + 1);
+				if (!new File(root, path).isFile()) {
+					continue;
+				}
+				byte[] record = encode(entry);
+				out.write(record);
+				result.put(snapshot.hashes[i], size, record.length);
+				size += record.length;
+			}
+			synchronized (this) {
+				if (closed) {
+					throw new IOException("digest index closed");
+				}
+				// 压缩期间追加的记录
+				long offset = snapshot_size;
+				while (offset < log_size) {
+					Entry entry = read(in, offset);
+					Asserts.notNull(entry, "broken digest index record at " + offset);
+					byte[] record = encode(entry);
+					out.write(record);
+					result.put(hash(entry.key), size, record.length);
+					size += record.length;
+					offset += record.length;
+				}
+				// windows 上打开的文件不能被替换或删除
+				in.close();
+				in = null;
+				out.close();
+				out = null;
+				long before = log_size;
+				log.close();
+				log_closed = true;
+				boolean renamed = temp.renameTo(file) || (file.delete() && temp.renameTo(file));
+				if (renamed) {
+					table = result;
+					log_size = size;
+				}
+				// 替换失败时继续使用旧日志
+				reopen();
+				log_closed = false;
+				if (!renamed) {
+					throw new IOException(String.format("can not move file: %s => %s", temp.getAbsolutePath(),
+							file.getAbsolutePath()));
+				}
+				done = true;
+				logger.info(String.format("compact digest index %s : %d K => %d K, %d entries, %d ms", root_path,
+						before / 1024, log_size / 1024, table.count, System.currentTimeMillis() - start));
+			}
+		} catch (Exception e) {
+			logger.error("compact digest index failed :" + root_path, e);
+		} finally {
+			close(in);
+			close(out);
+			if (!done) {
+				temp.delete();
+			}
+			synchronized (this) {
+				if (log_closed) {
+					reopen();
+				}
+				compacting = false;
+				if (!done) {
+					compact_min = Math.max(compact_min, log_size * 2);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 替换失败后重新打开旧日志; 旧日志已经不存在时清空索引, 之后只追加新的记录
+	 */
+	private void reopen() {
+		try {
+			if (file.isFile()) {
+				log = new RandomAccessFile(file, "rw");
+				return;
+			}
+			table = new Table();
+			log = null;
+			load();
+		} catch (IOException e) {
+			logger.error("can not reopen digest index, use memory only :" + file.getAbsolutePath(), e);
+			log = null;
+		}
+	}
+
+	private static void close(Closeable item) {
+		if (null != item) {
+			try {
+				item.close();
+			} catch (IOException e) {
+				logger.error("close failed", e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,350 @@
+package com.hjh.files.sync.common.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+/**
+ * 服务端读取文件片段: 打开的 FileChannel 按路径缓存 (大小或修改时间变化后重新打开, 空闲一段时间后关闭),
+ * 按位置读取直到读满; 不小于 server.part.mmap 的文件映射到内存后直接复制, 关闭文件时同时释放映射
+ * (不能主动释放映射的平台不使用 mmap)
+ * <br>
+ * Thrift 0.9.3 写 binary 时需要 heap 数组, 所以复用的是每个线程一块 heap 缓冲区, 而不是 direct buffer;
+ * 只保留不超过 MAX_BUFFER 的缓冲区, 更大的片段每次单独分配, 避免每个工作线程都长期占用 5M
+ */
+public class PartReader {
+
+	private static ILog logger = HLogFactory.create(PartReader.class);
+
+	/** 单个映射窗口的大小 */
+	private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+	private static final int MAX_OPEN = 256;
+	private static final long IDLE_TIME = 10 * 1000;
+
+	private static class Entry {
+
+		private RandomAccessFile file;
+		private FileChannel channel;
+		private long length;
+		private long last_modify;
+		private MappedByteBuffer[] windows;
+		/** 映射读取失败后改用 read, 已经映射的窗口在关闭时释放 */
+		private boolean mapped;
+		private int users;
+		private boolean retired;
+		private long last_use;
+
+		public Entry(File file, long length, long last_modify) throws IOException {
+			this.file = new RandomAccessFile(file, "r");
+			this.channel = this.file.getChannel();
+			this.length = length;
+			this.last_modify = last_modify;
+			long mmap_min = RemoteSyncConfig.getPartMmap();
+			if (mmap_min > 0 && length >= mmap_min && unmapSupported()) {
+				this.windows = new MappedByteBuffer[(int) ((length + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+				this.mapped = true;
+			}
+		}
+
+		private synchronized boolean isMapped() {
+			return mapped;
+		}
+
+		private synchronized ByteBuffer window(int index) throws IOException {
+			if (!mapped) {
+				throw new IOException("unmapped");
+			}
+			if (null == windows[index]) {
+				long start = index * WINDOW_SIZE;
+				windows[index] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, length - start));
+			}
+			return windows[index].duplicate();
+		}
+
+		private boolean readMapped(long position, ByteBuffer target) {
+			int start = target.position();
+			try {
+				while (target.hasRemaining() && position < length) {
+					int index = (int) (position / WINDOW_SIZE);
+					ByteBuffer window = window(index);
+					window.position((int) (position - index * WINDOW_SIZE));
+					int len = Math.min(window.remaining(), target.remaining());
+					window.limit(window.position() + len);
+					target.put(window);
+					position += len;
+				}
+				return true;
+			} catch (IOException e) {
+				logger.stdout("mmap failed, use read : " + e.getMessage());
+			} catch (InternalError e) {
+				// 映射之后文件被截断
+				logger.stdout("mmap read failed, use read : " + e.getMessage());
+			}
+			synchronized (this) {
+				mapped = false;
+			}
+			target.position(start);
+			return false;
+		}
+
+		public int read(long position, ByteBuffer target) throws IOException {
+			int start = target.position();
+			if (isMapped() && readMapped(position, target)) {
+				return target.position() - start;
+			}
+			while (target.hasRemaining()) {
+				if (channel.read(target, position + target.position() - start) < 0) {
+					break;
+				}
+			}
+			return target.position() - start;
+		}
+
+		/**
+		 * 只在没有使用者时调用, 此时没有线程在读取映射的内存
+		 */
+		public synchronized void close() {
+			mapped = false;
+			if (null != windows) {
+				for (int i = 0; i < windows.length; i++) {
+					if (null != windows[i]) {
+						unmap(windows[i]);
+						windows[i] = null;
+					}
+				}
+			}
+			try {
+				file.close();
+			} catch (IOException e) {
+				logger.error("close file failed", e);
+			}
+		}
+	}
+
+	private static boolean unmap_checked = false;
+	private static Object unsafe;
+	private static Method invoke_cleaner;
+	private static Method cleaner;
+	private static Method clean;
+
+	/**
+	 * 映射的内存在 GC 之前不会释放 (windows 下文件也不能删除), 关闭文件时主动释放:
+	 * java 9 之后使用 Unsafe.invokeCleaner, java 7/8 使用 DirectBuffer.cleaner, 都没有时 (android) 返回 false
+	 */
+	private static synchronized boolean unmapSupported() {
+		if (!unmap_checked) {
+			unmap_checked = true;
+			try {
+				Class<?> unsafe_class = Class.forName("sun.misc.Unsafe");
+				invoke_cleaner = unsafe_class.getMethod("invokeCleaner", ByteBuffer.class);
+				Field field = unsafe_class.getDeclaredField("theUnsafe");
+				field.setAccessible(true);
+				unsafe = field.get(null);
+			} catch (Exception e) {
+				invoke_cleaner = null;
+			} catch (LinkageError e) {
+				invoke_cleaner = null;
+			}
+			if (null == invoke_cleaner) {
+				try {
+					cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+					clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+				} catch (Exception e) {
+					cleaner = null;
+					logger.info("can not unmap buffers, server.part.mmap is disabled");
+				} catch (LinkageError e) {
+					cleaner = null;
+					logger.info("can not unmap buffers, server.part.mmap is disabled");
+				}
+			}
+		}
+		return null != invoke_cleaner || null != cleaner;
+	}
+
+	private static void unmap(MappedByteBuffer buffer) {
+		try {
+			if (null != invoke_cleaner) {
+				invoke_cleaner.invoke(unsafe, buffer);
+			} else {
+				Object cur = cleaner.invoke(buffer);
+				if (null != cur) {
+					clean.invoke(cur);
+				}
+			}
+		} catch (Exception e) {
+			logger.error("unmap failed", e);
+		}
+	}
+
+	private static final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+	/** 每个线程保留的缓冲区上限, 和客户端默认的 client.block.size 相同 */
+	private static final int MAX_BUFFER = 512 * 1024;
+
+	private static final ThreadLocal<byte[]> buffers = new ThreadLocal<byte[]>();
+
+	private static Thread sweeper;
+
+	private static Entry acquire(File file) throws IOException {
+		String path = file.getAbsolutePath();
+		long length = file.length();
+		long last_modify = file.lastModified();
+		synchronized (entries) {
+			Entry entry = entries.get(path);
+			if (null != entry) {
+				if (entry.length == length && entry.last_modify == last_modify) {
+					entry.users++;
+					return entry;
+				}
+				entries.remove(path);
+				retire(entry);
+			}
+		}
+		Entry entry = new Entry(file, length, last_modify);
+		synchronized (entries) {
+			entry.users++;
+			Entry old = entries.put(path, entry);
+			if (null != old) {
+				retire(old);
+			}
+			while (entries.size() > MAX_OPEN) {
+				Iterator<Entry> it = entries.values().iterator();
+				retire(it.next());
+				it.remove();
+			}
+			startSweeper();
+		}
+		return entry;
+	}
+
+	private static void release(Entry entry) {
+		synchronized (entries) {
+			entry.users--;
+			entry.last_use = System.currentTimeMillis();
+			if (entry.retired && 0 == entry.users) {
+				entry.close();
+			}
+		}
+	}
+
+	private static void retire(Entry entry) {
+		entry.retired = true;
+		if (0 == entry.users) {
+			entry.close();
+		}
+	}
+
+	/**
+	 * 关闭 root 下所有打开的文件, 正在读取的文件在读取结束后关闭
+	 */
+	public static void close(File root) {
+		String prefix = root.getAbsolutePath() + File.separator;
+		synchronized (entries) {
+			Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<String, Entry> item = it.next();
+				if (item.getKey().startsWith(prefix)) {
+					retire(item.getValue());
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 关闭空闲的文件, 避免长期占用文件句柄 (Windows 下打开的文件不能删除)
+	 */
+	private static void startSweeper() {
+		if (null != sweeper) {
+			return;
+		}
+		sweeper = new Thread("part-reader-sweeper") {
+			public void run() {
+				while (true) {
+					try {
+						Thread.sleep(IDLE_TIME);
+					} catch (InterruptedException e) {
+						return;
+					}
+					long now = System.currentTimeMillis();
+					synchronized (entries) {
+						Iterator<Entry> it = entries.values().iterator();
+						while (it.hasNext()) {
+							Entry entry = it.next();
+							if (0 == entry.users && now - entry.last_use >= IDLE_TIME) {
+								retire(entry);
+								it.remove();
+							}
+						}
+					}
+				}
+			}
+		};
+		sweeper.setDaemon(true);
+		sweeper.start();
+	}
+
+	/**
+	 * 从 position 开始读满 target (到文件末尾为止), 返回读取的长度
+	 */
+	public static int read(File file, long position, ByteBuffer target) throws IOException {
+		Entry entry = acquire(file);
+		try {
+			return entry.read(position, target);
+		} finally {
+			release(entry);
+		}
+	}
+
+	/**
+	 * 用 transferTo (sendfile) 把 [position, position + count) 写入 target (到文件末尾为止), 返回写入的长度
+	 */
+	public static long transfer(File file, long position, long count, WritableByteChannel target) throws IOException {
+		Entry entry = acquire(file);
+		try {
+			long done = 0;
+			while (done < count) {
+				long len = entry.channel.transferTo(position + done, count - done, target);
+				if (len <= 0) {
+					break;
+				}
+				done += len;
+			}
+			return done;
+		} finally {
+			release(entry);
+		}
+	}
+
+	/**
+	 * 读取到当前线程复用的缓冲区, 返回的数据在当前线程下一次调用之前有效
+	 */
+	public static ByteBuffer part(File file, long position, int length) throws IOException {
+		byte[] cache;
+		if (length > MAX_BUFFER) {
+			cache = new byte[length];
+		} else {
+			cache = buffers.get();
+			if (null == cache || cache.length < length) {
+				cache = new byte[length];
+				buffers.set(cache);
+			}
+		}
+		int len = read(file, position, ByteBuffer.wrap(cache, 0, length));
+		return ByteBuffer.wrap(cache, 0, len);
+	}
+
+}
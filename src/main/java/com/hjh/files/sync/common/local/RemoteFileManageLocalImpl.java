@@ -1,75 +1,380 @@
 package com.hjh.files.sync.common.local;
 
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.apache.http.util.Asserts;
 
+import com.hjh.files.sync.common.FrameReceiver;
 import com.hjh.files.sync.common.RemoteFile;
 import com.hjh.files.sync.common.RemoteFileManage;
 import com.hjh.files.sync.common.RemoteSyncConfig;
-import com.hjh.files.sync.common.util.MD5Cacher;
+import com.hjh.files.sync.common.util.ChunkUtil;
+import com.hjh.files.sync.common.util.DeltaUtil;
+import com.hjh.files.sync.common.util.DigestUtil;
 import com.hjh.files.sync.common.util.RemoteFileUtil;
 
-public class RemoteFileManageLocalImpl implements RemoteFileManage {
+import tutorial.BlockSignature;
+import tutorial.ChangeSet;
+import tutorial.ChunkPage;
+import tutorial.DeltaPage;
+import tutorial.RemoteFileInfo;
+
+public class RemoteFileManageLocalImpl implements RemoteFileManage, Closeable {
+
+	private static ExecutorService md5_executor;
+
+	private static synchronized ExecutorService md5Executor() {
+		if (null == md5_executor) {
+			md5_executor = Executors.newFixedThreadPool(RemoteSyncConfig.getMd5Threads(), new ThreadFactory() {
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "md5-worker");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return md5_executor;
+	}
+
+	/**
+	 * 每个目录 (canonical path) 的使用者数量: 变更日志、摘要索引和打开的文件按目录共用,
+	 * 多个服务目录可以指向同一个目录, 最后一个使用者关闭时才释放
+	 */
+	private static final Map<String, Integer> users = new HashMap<String, Integer>();
 
 	private File root;
+	private String canonical_path;
+	private boolean closed;
 
 	public RemoteFileManageLocalImpl(String root_path) {
 		Asserts.notNull(root_path, "root_path can not null");
 		root = new File(root_path);
 		Asserts.check(root.isDirectory(), "is not a folder :" + root_path);
+		try {
+			canonical_path = root.getCanonicalPath();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		synchronized (users) {
+			Integer count = users.get(canonical_path);
+			users.put(canonical_path, null == count ? 1 : count + 1);
+		}
+	}
+
+	/**
+	 * 开启 server.list.cache 时从变更日志的快照中取得列表; 日志在后台启动, 启动完成之前、没有文件监听
+	 * (android 等平台) 或者正在全量扫描时返回 null, 直接读取文件系统而不等待
+	 */
+	private ChangeJournal listJournal() {
+		if (!RemoteSyncConfig.isListCache()) {
+			return null;
+		}
+		try {
+			ChangeJournal journal = ChangeJournal.running(root, true);
+			return null != journal && journal.isAvailable() ? journal : null;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 启动 (第一次时扫描整个目录) 并返回变更日志, 不支持文件监听的平台 (android) 仍然可以定期扫描
+	 */
+	private ChangeJournal journal() {
+		try {
+			return ChangeJournal.get(root);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} catch (LinkageError e) {
+			throw new UnsupportedOperationException("change journal not supported", e);
+		}
+	}
+
+	/**
+	 * 已经运行并且可以不等待读取的变更日志, 用于列表中目录的摘要; 不会启动新的日志
+	 */
+	private ChangeJournal runningJournal() {
+		try {
+			ChangeJournal journal = ChangeJournal.running(root, false);
+			return null != journal && journal.isAvailable() ? journal : null;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 服务目录被移除或替换时调用, 没有其他服务目录使用同一个目录时释放变更日志、摘要索引和打开的文件
+	 */
+	public void close() throws IOException {
+		synchronized (users) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			int count = users.get(canonical_path) - 1;
+			if (count > 0) {
+				users.put(canonical_path, count);
+				return;
+			}
+			users.remove(canonical_path);
+			try {
+				ChangeJournal.close(root);
+			} catch (LinkageError e) {
+				// 没有 java.nio.file 时不会有日志
+			}
+			DigestIndex.close(root);
+			PartReader.close(root);
+		}
+	}
+
+	private DigestIndex digestIndex() throws IOException {
+		return DigestIndex.get(root);
+	}
+
+	private static String formatPath(String filePath) {
+		return null == filePath ? null : RemoteFileUtil.formatPath(filePath);
 	}
 
 	public RemoteFile[] list(String parentFilePath) {
+		ChangeJournal journal = listJournal();
+		if (null != journal) {
+			List<RemoteFileInfo> cached = journal
+					.list(null == parentFilePath ? null : RemoteFileUtil.formatPath(parentFilePath));
+			if (null != cached) {
+				return RemoteFileUtil.from(cached);
+			}
+		}
 		File current = toFile(parentFilePath);
 		Asserts.check(current.isDirectory(), "is not a folder :" + current.getAbsolutePath());
 		File[] list = current.listFiles();
 		RemoteFile[] result = new RemoteFile[list == null ? 0 : list.length];
 		if (null != list) {
+			ChangeJournal running = runningJournal();
 			int i = 0;
 			for (File cur : list) {
-				result[i++] = toFile(cur);
+				result[i++] = toFile(cur, running);
 			}
 		}
 		return result;
 	}
 
+	public RemoteFile[] listTree(String parentFilePath, String after, int max) {
+		File current = toFile(parentFilePath);
+		Asserts.check(current.isDirectory(), "is not a folder :" + current.getAbsolutePath());
+		String[] cursor = null == after ? null : RemoteFileUtil.formatPath(after).split("/");
+		int depth = null == parentFilePath ? 0 : RemoteFileUtil.formatPath(parentFilePath).split("/").length;
+		Asserts.check(null == cursor || cursor.length > depth, "after must under parent :" + after);
+		ChangeJournal journal = listJournal();
+		if (null != journal) {
+			List<RemoteFileInfo> cached = journal.listTree(
+					null == parentFilePath ? null : RemoteFileUtil.formatPath(parentFilePath), cursor, depth, max);
+			if (null != cached) {
+				return RemoteFileUtil.from(cached);
+			}
+		}
+		List<RemoteFile> result = new ArrayList<RemoteFile>();
+		walk(current, cursor, depth, result, max, runningJournal());
+		return result.toArray(new RemoteFile[result.size()]);
+	}
+
+	/**
+	 * 先序遍历, 跳过 cursor 之前(含)的项, 返回 false 表示当前页已满
+	 */
+	private boolean walk(File folder, String[] cursor, int depth, List<RemoteFile> result, int max,
+			ChangeJournal running) {
+		String[] names = folder.list();
+		if (null == names) {
+			return true;
+		}
+		Arrays.sort(names);
+		for (String name : names) {
+			File cur = new File(folder, name);
+			if (null != cursor) {
+				int diff = name.compareTo(cursor[depth]);
+				if (diff < 0) {
+					continue;
+				}
+				if (diff == 0) {
+					if (cur.isDirectory()
+							&& !walk(cur, depth + 1 < cursor.length ? cursor : null, depth + 1, result, max, running)) {
+						return false;
+					}
+					continue;
+				}
+				cursor = null;
+			}
+			if (result.size() >= max) {
+				return false;
+			}
+			result.add(toFile(cur, running));
+			if (cur.isDirectory() && !walk(cur, null, depth + 1, result, max, running)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public String md5(String filePath) {
 		try {
-			return MD5Cacher.md5(toFile(filePath));
+			return digestIndex().digest(DigestUtil.MD5, formatPath(filePath));
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	public String[] md5Batch(String[] filePaths) {
+		return hashBatch(DigestUtil.MD5, filePaths);
+	}
+
+	public String chooseDigest(String prefer) {
+		return DigestUtil.choose(prefer, DigestUtil.supported());
+	}
+
+	public String[] hashBatch(final String algorithm, String[] filePaths) {
+		RemoteSyncConfig.checkMd5BatchSize(filePaths.length);
+		List<Future<String>> tasks = new ArrayList<Future<String>>(filePaths.length);
+		for (final String filePath : filePaths) {
+			tasks.add(md5Executor().submit(new Callable<String>() {
+				public String call() throws Exception {
+					return digestIndex().digest(algorithm, formatPath(filePath));
+				}
+			}));
+		}
+		String[] result = new String[filePaths.length];
+		try {
+			for (int i = 0; i < result.length; i++) {
+				result[i] = tasks.get(i).get();
+			}
+			return result;
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+			for (Future<String> task : tasks) {
+				task.cancel(true);
+			}
+		}
+	}
+
 	public byte[] part(String filePath, long part, long part_size) {
 		RemoteSyncConfig.checkBockSize(part_size);
 		long start = part_size * part;
-		long end = start + part_size;
 		File file = toFile(filePath);
-		if (file.length() < start) {
+		long length = file.length();
+		if (length < start) {
 			return new byte[0];
 		}
-		end = Math.min(end, file.length());
-		byte[] cache = new byte[(int) (end - start)];
-		FileInputStream in = null;
+		byte[] cache = new byte[(int) Math.min(part_size, length - start)];
 		try {
-			in = new FileInputStream(file);
-			in.skip(start);
-			in.read(cache, 0, cache.length);
-			return cache;
+			int len = PartReader.read(file, start, ByteBuffer.wrap(cache));
+			return len == cache.length ? cache : Arrays.copyOf(cache, len);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
-		} finally {
-			if (null != in) {
-				try {
-					in.close();
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
+		}
+	}
+
+	public ByteBuffer partBuffer(String filePath, long part, long part_size) {
+		RemoteSyncConfig.checkBockSize(part_size);
+		long start = part_size * part;
+		File file = toFile(filePath);
+		long length = file.length();
+		if (length < start) {
+			return ByteBuffer.allocate(0);
+		}
+		try {
+			return PartReader.part(file, start, (int) Math.min(part_size, length - start));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public long partTo(String filePath, long part, long part_size, WritableByteChannel target) throws IOException {
+		RemoteSyncConfig.checkBockSize(part_size);
+		return PartReader.transfer(toFile(filePath), part_size * part, part_size, target);
+	}
+
+	public void stream(String filePath, long offset, long length, int frame_size, FrameReceiver receiver)
+			throws IOException {
+		RemoteSyncConfig.checkBockSize(frame_size);
+		File file = toFile(filePath);
+		if (!file.isFile()) {
+			throw new FileNotFoundException(file.getAbsolutePath());
+		}
+		long end = Math.min(offset + length, file.length());
+		if (end <= offset) {
+			return;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(frame_size, end - offset));
+		long position = offset;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(buffer.capacity(), end - position));
+			PartReader.read(file, position, buffer);
+			buffer.flip();
+			int len = buffer.remaining();
+			if (0 == len || !receiver.receive(position, buffer)) {
+				return;
 			}
+			position += len;
+		}
+	}
+
+	public long transfer(String filePath, long offset, long length, WritableByteChannel target) throws IOException {
+		return PartReader.transfer(toFile(filePath), offset, length, target);
+	}
+
+	public DeltaPage delta(String filePath, int block_size, List<BlockSignature> signatures, long offset) {
+		RemoteSyncConfig.checkBockSize(block_size);
+		try {
+			return DeltaUtil.delta(toFile(filePath), block_size, signatures, offset,
+					RemoteSyncConfig.getMaxDeltaLiteral(), RemoteSyncConfig.getMaxDeltaOps());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public ChangeSet changesSince(String cursor, int max) {
+		return journal().since(cursor, max);
+	}
+
+	public ChunkPage chunks(String filePath, int avg_size, long offset) {
+		try {
+			return ChunkUtil.chunks(toFile(filePath), avg_size, offset, RemoteSyncConfig.getMaxChunks());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public String digest(String folderPath) {
+		return journal().digest(formatPath(folderPath));
+	}
+
+	public boolean waitForChanges(String cursor, long timeout) {
+		try {
+			return journal().waitFor(cursor, timeout);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
 		}
 	}
 
@@ -80,7 +385,10 @@ public class RemoteFileManageLocalImpl implements RemoteFileManage {
 		return new File(root, filePath);
 	}
 
-	private RemoteFile toFile(final File file) {
+	/**
+	 * running 为 null 时目录没有摘要, 客户端不跳过目录的比较
+	 */
+	private RemoteFile toFile(final File file, final ChangeJournal running) {
 		return new RemoteFile() {
 
 			public String name() {
@@ -103,6 +411,10 @@ public class RemoteFileManageLocalImpl implements RemoteFileManage {
 				return file.isDirectory();
 			}
 
+			public String digest() {
+				return null != running && file.isDirectory() ? running.digestIfAvailable(path()) : null;
+			}
+
 		};
 	}
 
@@ -0,0 +1,113 @@
+package com.hjh.files.sync.common.thrift;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+/**
+ * 从服务端数据端口读取 ticket 对应的原始数据; 写入文件时使用 transferFrom,
+ * 超过 config.timeout 没有收到数据时关闭连接 (SocketChannel 的读取不受 soTimeout 限制)
+ */
+public class DataTransfer {
+
+	private static ILog logger = HLogFactory.create(DataTransfer.class);
+
+	private static final long STEP = 1024 * 1024;
+
+	private static final Map<SocketChannel, Long> active = new HashMap<SocketChannel, Long>();
+	private static Thread watchdog;
+
+	private static void progress(SocketChannel channel) {
+		synchronized (active) {
+			active.put(channel, System.currentTimeMillis());
+			if (null == watchdog) {
+				watchdog = new Thread("data-watchdog") {
+					public void run() {
+						while (true) {
+							try {
+								Thread.sleep(1000);
+							} catch (InterruptedException e) {
+								return;
+							}
+							long now = System.currentTimeMillis();
+							synchronized (active) {
+								Iterator<Map.Entry<SocketChannel, Long>> it = active.entrySet().iterator();
+								while (it.hasNext()) {
+									Map.Entry<SocketChannel, Long> item = it.next();
+									if (now - item.getValue() > RemoteSyncConfig.getTimeout()) {
+										logger.stdout("data transfer timeout, close");
+										try {
+											item.getKey().close();
+										} catch (IOException e) {
+											logger.error("close data connection failed", e);
+										}
+										it.remove();
+									}
+								}
+							}
+						}
+					}
+				};
+				watchdog.setDaemon(true);
+				watchdog.start();
+			}
+		}
+	}
+
+	/**
+	 * 把数据写入 target 的当前位置, 返回收到的长度
+	 */
+	public static long read(String ip, int port, byte[] ticket, WritableByteChannel target) throws IOException {
+		SocketChannel channel = SocketChannel.open();
+		try {
+			channel.socket().connect(new InetSocketAddress(ip, port), RemoteSyncConfig.getTimeout());
+			ByteBuffer head = ByteBuffer.wrap(ticket);
+			while (head.hasRemaining()) {
+				channel.write(head);
+			}
+			progress(channel);
+			long total = 0;
+			if (target instanceof FileChannel) {
+				FileChannel file = (FileChannel) target;
+				while (true) {
+					// 阻塞模式下返回 0 表示对方已关闭
+					long len = file.transferFrom(channel, file.position(), STEP);
+					if (len <= 0) {
+						break;
+					}
+					file.position(file.position() + len);
+					total += len;
+					progress(channel);
+				}
+			} else {
+				ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+				while (channel.read(buffer) >= 0) {
+					buffer.flip();
+					total += buffer.remaining();
+					while (buffer.hasRemaining()) {
+						target.write(buffer);
+					}
+					buffer.clear();
+					progress(channel);
+				}
+			}
+			return total;
+		} finally {
+			synchronized (active) {
+				active.remove(channel);
+			}
+			channel.close();
+		}
+	}
+
+}
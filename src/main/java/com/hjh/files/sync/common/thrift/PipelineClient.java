@@ -0,0 +1,150 @@
+package com.hjh.files.sync.common.thrift;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TTransport;
+
+import tutorial.ServerBusy;
+import tutorial.SyncFileServer;
+
+/**
+ * 允许在同一连接上连续发送多个请求, 再按发送顺序读取结果
+ */
+public class PipelineClient extends SyncFileServer.Client {
+
+	private static final int COPY_SIZE = 64 * 1024;
+
+	private int received;
+	private byte[] copy_buffer;
+
+	public PipelineClient(TProtocol prot) {
+		super(prot);
+	}
+
+	/**
+	 * 已发送但还未读取结果的请求数
+	 */
+	public int pending() {
+		return seqid_ - received;
+	}
+
+	private void receiveBegin(String methodName) throws TException {
+		TMessage msg = iprot_.readMessageBegin();
+		received++;
+		if (msg.type == TMessageType.EXCEPTION) {
+			TApplicationException x = TApplicationException.read(iprot_);
+			iprot_.readMessageEnd();
+			throw x;
+		}
+		if (msg.seqid != received || !methodName.equals(msg.name)) {
+			throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID,
+					methodName + " failed: out of sequence response");
+		}
+	}
+
+	@Override
+	protected void receiveBase(TBase<?, ?> result, String methodName) throws TException {
+		receiveBegin(methodName);
+		result.read(iprot_);
+		iprot_.readMessageEnd();
+	}
+
+	/**
+	 * 与 part 相同, 但 binary 结果按小块直接从传输层写入 target, 不为整个数据块分配数组; 返回写入的长度
+	 */
+	public long partTo(String folder, String path, long part, long part_size, WritableByteChannel target)
+			throws TException, IOException {
+		send_part(folder, path, part, part_size);
+		receiveBegin("part");
+		long result = -1;
+		IOException error = null;
+		ServerBusy busy = null;
+		iprot_.readStructBegin();
+		while (true) {
+			TField field = iprot_.readFieldBegin();
+			if (field.type == TType.STOP) {
+				break;
+			}
+			if (0 == field.id && field.type == TType.STRING) {
+				result = readBinaryLength();
+				error = copy(iprot_.getTransport(), (int) result, target);
+			} else if (1 == field.id && field.type == TType.STRUCT) {
+				busy = new ServerBusy();
+				busy.read(iprot_);
+			} else {
+				TProtocolUtil.skip(iprot_, field.type);
+			}
+			iprot_.readFieldEnd();
+		}
+		iprot_.readStructEnd();
+		iprot_.readMessageEnd();
+		if (null != error) {
+			throw error;
+		}
+		if (null != busy) {
+			throw busy;
+		}
+		if (result < 0) {
+			throw new TApplicationException(TApplicationException.MISSING_RESULT, "part failed: unknown result");
+		}
+		return result;
+	}
+
+	private int readBinaryLength() throws TException {
+		if (iprot_ instanceof TCompactProtocol) {
+			// 与 TCompactProtocol.readVarint32 相同
+			byte[] b = new byte[1];
+			int result = 0;
+			int shift = 0;
+			while (true) {
+				iprot_.getTransport().readAll(b, 0, 1);
+				result |= (b[0] & 0x7f) << shift;
+				if ((b[0] & 0x80) != 0x80) {
+					break;
+				}
+				shift += 7;
+			}
+			return result;
+		}
+		return iprot_.readI32();
+	}
+
+	/**
+	 * 写入失败时仍然读完剩余的数据, 保证连接可以继续使用
+	 */
+	private IOException copy(TTransport in, int length, WritableByteChannel target) throws TException {
+		if (null == copy_buffer) {
+			copy_buffer = new byte[COPY_SIZE];
+		}
+		IOException error = null;
+		while (length > 0) {
+			int len = Math.min(length, copy_buffer.length);
+			in.readAll(copy_buffer, 0, len);
+			length -= len;
+			if (null == error) {
+				try {
+					ByteBuffer data = ByteBuffer.wrap(copy_buffer, 0, len);
+					while (data.hasRemaining()) {
+						target.write(data);
+					}
+				} catch (IOException e) {
+					error = e;
+				}
+			}
+		}
+		return error;
+	}
+
+}
@@ -1,16 +1,41 @@
 package com.hjh.files.sync.common.thrift;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 import org.apache.thrift.transport.TTransportException;
 
+import com.hjh.files.sync.common.FrameReceiver;
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
 import com.hjh.files.sync.common.RemoteFile;
 import com.hjh.files.sync.common.RemoteFileManage;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+import com.hjh.files.sync.common.util.CompressUtil;
+import com.hjh.files.sync.common.util.DigestUtil;
 import com.hjh.files.sync.common.util.RemoteFileUtil;
 
-import tutorial.SyncFileServer;
+import tutorial.BlockSignature;
+import tutorial.ChangeSet;
+import tutorial.ChunkPage;
+import tutorial.DataTicket;
+import tutorial.DeltaPage;
+import tutorial.FileFrame;
+import tutorial.ServerBusy;
 
 public class RemoteFileManageThriftImpl implements RemoteFileManage {
 
+	private static ILog logger = HLogFactory.create(RemoteFileManageThriftImpl.class);
+	private static final long MAX_BACKOFF = 30 * 1000;
+	/** 长轮询使用的连接池, 停止时用 ThriftClientPool.abort 唤醒 */
+	public static final String WAIT_CHANNEL = "wait";
+
 	private String folder;
 	private String ip;
 	private int port;
@@ -25,7 +50,7 @@ public class RemoteFileManageThriftImpl implements RemoteFileManage {
 		ThriftClientPool.reg(ip, port, truststore);
 	}
 
-	private SyncFileServer.Client client() {
+	private PipelineClient client() {
 		return ThriftClientPool.get(ip, port);
 	}
 
@@ -37,21 +62,337 @@ public class RemoteFileManageThriftImpl implements RemoteFileManage {
 		}
 	}
 
+	public RemoteFile[] listTree(String parent, String after, int max) {
+		try {
+			PipelineClient client = client();
+			String codec = ThriftClientPool.codec(ip, port);
+			if (!CompressUtil.NONE.equals(codec)) {
+				return RemoteFileUtil.from(RemoteFileUtil
+						.decode(CompressUtil.unpack(client.listTreeCompressed(folder, parent, after, max, codec))));
+			}
+			return RemoteFileUtil.from(client.listTree(folder, parent, after, max));
+		} catch (TApplicationException e) {
+			if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+				throw new UnsupportedOperationException("listTree", e);
+			}
+			throw new RuntimeException(e);
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	public String md5(String file) {
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				return client().md5(folder, file);
+			} catch (ServerBusy e) {
+				backoff(e, attempt, start);
+			} catch (TException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	public String[] md5Batch(String[] files) {
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				List<String> result = client().md5Batch(folder, Arrays.asList(files));
+				return result.toArray(new String[result.size()]);
+			} catch (ServerBusy e) {
+				backoff(e, attempt, start);
+			} catch (TApplicationException e) {
+				return md5Each(files, e);
+			} catch (TException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * 服务端不支持 md5Batch 时逐个计算
+	 */
+	private String[] md5Each(String[] files, TApplicationException e) {
+		if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+			String[] result = new String[files.length];
+			for (int i = 0; i < files.length; i++) {
+				result[i] = md5(files[i]);
+			}
+			return result;
+		}
+		throw new RuntimeException(e);
+	}
+
+	public String chooseDigest(String prefer) {
 		try {
-			return client().md5(folder, file);
+			List<String> digests = client().digests(folder);
+			return DigestUtil.choose(prefer, digests);
+		} catch (TApplicationException e) {
+			if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+				return DigestUtil.MD5;
+			}
+			throw new RuntimeException(e);
 		} catch (TException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	public String[] hashBatch(String algorithm, String[] files) {
+		if (DigestUtil.MD5.equals(algorithm)) {
+			return md5Batch(files);
+		}
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				List<String> result = client().hashBatch(folder, Arrays.asList(files), algorithm);
+				return result.toArray(new String[result.size()]);
+			} catch (ServerBusy e) {
+				backoff(e, attempt, start);
+			} catch (TApplicationException e) {
+				// 旧版本的服务端没有 hashBatch, 只能使用 md5
+				if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+					throw new UnsupportedOperationException(
+							String.format("digest %s not supported by %s:%d", algorithm, ip, port), e);
+				}
+				throw new RuntimeException(e);
+			} catch (TException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
 	public byte[] part(String file, long part, long part_size)
 	{
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				PipelineClient client = client();
+				String codec = ThriftClientPool.codec(ip, port);
+				if (!CompressUtil.NONE.equals(codec)) {
+					return CompressUtil.unpack(client.partCompressed(folder, file, part, part_size, codec));
+				}
+				ByteBuffer data = client.part(folder, file, part, part_size);
+				// framed 传输时 data 是整个帧的一部分
+				if (data.arrayOffset() == 0 && data.position() == 0 && data.remaining() == data.array().length) {
+					return data.array();
+				}
+				byte[] result = new byte[data.remaining()];
+				data.get(result);
+				return result;
+			} catch (ServerBusy e) {
+				backoff(e, attempt, start);
+			} catch (TException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	public long partTo(String file, long part, long part_size, WritableByteChannel target) throws IOException {
+		try {
+			if (!CompressUtil.NONE.equals(ThriftClientPool.codec(ip, port))) {
+				ByteBuffer data = ByteBuffer.wrap(part(file, part, part_size));
+				long len = data.remaining();
+				while (data.hasRemaining()) {
+					target.write(data);
+				}
+				return len;
+			}
+			long start = System.currentTimeMillis();
+			for (int attempt = 0;; attempt++) {
+				try {
+					return client().partTo(folder, file, part, part_size, target);
+				} catch (ServerBusy e) {
+					backoff(e, attempt, start);
+				}
+			}
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public ByteBuffer partBuffer(String file, long part, long part_size) {
+		return ByteBuffer.wrap(part(file, part, part_size));
+	}
+
+	public DeltaPage delta(String file, int block_size, List<BlockSignature> signatures, long offset) {
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				return client().delta(folder, file, block_size, signatures, offset);
+			} catch (ServerBusy e) {
+				backoff(e, attempt, start);
+			} catch (TException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	public ChangeSet changesSince(String cursor, int max) {
 		try {
-			return client().part(folder, file, part, part_size).array();
+			ChangeSet result = client().changesSince(folder, cursor, max);
+			if (null == result.getCursor()) {
+				// 服务端 (例如代理的上游) 没有变更日志
+				throw new UnsupportedOperationException("changesSince");
+			}
+			return result;
+		} catch (TApplicationException e) {
+			if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+				throw new UnsupportedOperationException("changesSince", e);
+			}
+			throw new RuntimeException(e);
 		} catch (TException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	public ChunkPage chunks(String file, int avg_size, long offset) {
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				return client().chunks(folder, file, avg_size, offset);
+			} catch (ServerBusy e) {
+				backoff(e, attempt, start);
+			} catch (TApplicationException e) {
+				if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+					throw new UnsupportedOperationException("chunks", e);
+				}
+				throw new RuntimeException(e);
+			} catch (TException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	public String digest(String path) {
+		try {
+			String result = client().digest(folder, path);
+			return null == result || 0 == result.length() ? null : result;
+		} catch (TApplicationException e) {
+			if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+				throw new UnsupportedOperationException("digest", e);
+			}
+			throw new RuntimeException(e);
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * 长轮询会占用连接, 因此从单独的连接池借出连接, 返回后归还; 出错的连接直接关闭
+	 */
+	public boolean waitForChanges(String cursor, long timeout) {
+		ThriftClientPool.ClientItem item = ThriftClientPool.borrow(ip, port, WAIT_CHANNEL);
+		boolean ok = false;
+		try {
+			boolean result = item.get().waitForChanges(folder, cursor, (int) Math.min(Integer.MAX_VALUE, timeout));
+			ok = true;
+			return result;
+		} catch (TApplicationException e) {
+			if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+				throw new UnsupportedOperationException("waitForChanges", e);
+			}
+			throw new RuntimeException(e);
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		} finally {
+			ThriftClientPool.giveBack(ip, port, WAIT_CHANNEL, item, ok);
+		}
+	}
+
+	public long transfer(String file, long offset, long length, WritableByteChannel target) throws IOException {
+		DataTicket ticket;
+		try {
+			ticket = client().openData(folder, file, offset, length);
+		} catch (TApplicationException e) {
+			if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+				throw new UnsupportedOperationException("openData", e);
+			}
+			throw new RuntimeException(e);
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
+		if (0 == ticket.getPort()) {
+			throw new UnsupportedOperationException("data port is disabled on " + ip + ":" + port);
+		}
+		return DataTransfer.read(ip, ticket.getPort(), ticket.getTicket(), target);
+	}
+
+	/**
+	 * 在一个连接上保持最多 credit (由服务端决定) 个 readFrame 请求, 收到一帧就补发下一个请求;
+	 * 服务端繁忙时丢弃之后已经请求的帧, 退避后从繁忙的帧重新开始
+	 */
+	public void stream(String file, long offset, long length, int frame_size, FrameReceiver receiver)
+			throws IOException {
+		PipelineClient client = client();
+		LinkedList<long[]> waiting = new LinkedList<long[]>();
+		long next = offset;
+		long end = offset + length;
+		int credit = 1;
+		boolean finish = false;
+		ServerBusy busy = null;
+		long busy_start = 0;
+		int busy_attempt = 0;
+		try {
+			while (true) {
+				while (!finish && null == busy && waiting.size() < credit && next < end) {
+					int size = (int) Math.min(frame_size, end - next);
+					client.send_readFrame(folder, file, next, size);
+					waiting.add(new long[] { next, size });
+					next += size;
+				}
+				if (waiting.isEmpty()) {
+					if (null == busy) {
+						break;
+					}
+					backoff(busy, busy_attempt++, busy_start);
+					busy = null;
+					credit = 1;
+					continue;
+				}
+				long[] request = waiting.removeFirst();
+				FileFrame frame;
+				try {
+					frame = client.recv_readFrame();
+				} catch (ServerBusy e) {
+					if (!finish && null == busy) {
+						busy = e;
+						busy_start = 0 == busy_attempt ? System.currentTimeMillis() : busy_start;
+						next = request[0];
+					}
+					continue;
+				}
+				credit = Math.max(1, frame.getCredit());
+				if (finish || null != busy) { // 丢弃已经请求的帧
+					continue;
+				}
+				busy_attempt = 0;
+				int len = frame.data.remaining();
+				if (!receiver.receive(frame.getOffset(), frame.data) || len < request[1]) {
+					finish = true;
+				}
+			}
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * 服务端繁忙 (ServerBusy) 时按 retry_after 指数退避并加随机抖动, 从第一次繁忙起超过 config.timeout 后放弃
+	 */
+	private static void backoff(ServerBusy e, int attempt, long start) {
+		if (System.currentTimeMillis() - start > RemoteSyncConfig.getTimeout()) {
+			throw new RuntimeException("server busy", e);
+		}
+		long wait = Math.min(MAX_BACKOFF, Math.max(100, e.getRetry_after()) * (1L << Math.min(attempt, 5)));
+		wait = wait / 2 + (long) (Math.random() * (wait / 2));
+		logger.info("server busy, retry after " + wait + "ms");
+		try {
+			Thread.sleep(wait);
+		} catch (InterruptedException e1) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("interrupted while server busy", e);
+		}
+	}
+
 }
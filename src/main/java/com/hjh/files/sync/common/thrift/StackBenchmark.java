@@ -0,0 +1,69 @@
+package com.hjh.files.sync.common.thrift;
+
+import java.util.List;
+
+import org.apache.http.util.Asserts;
+import org.apache.thrift.TException;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+import tutorial.RemoteFileInfo;
+import tutorial.SyncFileServer;
+
+/**
+ * 对比各协议栈的耗时: 参数 ip port folder file [count]
+ * <br>
+ * listTree 代表目录为主的负载, part 代表数据为主的负载 (file 的前 512K)
+ */
+public class StackBenchmark {
+
+	private static final int PART_SIZE = 512 * 1024;
+
+	public static void main(String[] argv) throws TException {
+		Asserts.check(argv.length >= 4, "require params ip port folder file [count]");
+		String ip = argv[0];
+		int port = Integer.parseInt(argv[1]);
+		String folder = argv[2];
+		String file = argv[3];
+		int count = argv.length > 4 ? Integer.parseInt(argv[4]) : 200;
+
+		for (String stack : ThriftStack.list(ThriftStack.AUTO, ThriftStack.AUTO)) {
+			TTransport socket = new TSocket(ip, port);
+			socket.open();
+			try {
+				TTransport transport = ThriftStack.wrap(socket, stack, RemoteSyncConfig.getFrameMax());
+				SyncFileServer.Client client = new SyncFileServer.Client(ThriftStack.protocol(transport, stack));
+
+				// 预热
+				for (int i = 0; i < count / 10 + 1; i++) {
+					client.listTree(folder, null, null, RemoteSyncConfig.getTreePageSize());
+					client.part(folder, file, 0, PART_SIZE);
+				}
+
+				long start = System.nanoTime();
+				long size = 0;
+				for (int i = 0; i < count; i++) {
+					List<RemoteFileInfo> files = client.listTree(folder, null, null, RemoteSyncConfig.getTreePageSize());
+					size += files.size();
+				}
+				long tree_time = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				long bytes = 0;
+				for (int i = 0; i < count; i++) {
+					bytes += client.part(folder, file, 0, PART_SIZE).remaining();
+				}
+				long part_time = System.nanoTime() - start;
+
+				System.out.println(String.format("%-17s listTree %.3f ms/call (%d items)  part %.3f ms/call %.1f MB/s",
+						stack, tree_time / 1e6 / count, size / count, part_time / 1e6 / count,
+						bytes / 1024.0 / 1024.0 / (part_time / 1e9)));
+			} finally {
+				socket.close();
+			}
+		}
+	}
+
+}
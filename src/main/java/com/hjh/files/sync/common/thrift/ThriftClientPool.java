@@ -1,11 +1,13 @@
 package com.hjh.files.sync.common.thrift;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSSLTransportFactory;
 import org.apache.thrift.transport.TSSLTransportFactory.TSSLTransportParameters;
 import org.apache.thrift.transport.TSocket;
@@ -15,8 +17,7 @@ import org.apache.thrift.transport.TTransportException;
 import com.hjh.files.sync.common.HLogFactory;
 import com.hjh.files.sync.common.ILog;
 import com.hjh.files.sync.common.RemoteSyncConfig;
-
-import tutorial.SyncFileServer;
+import com.hjh.files.sync.common.util.CompressUtil;
 
 public class ThriftClientPool {
 
@@ -26,8 +27,11 @@ public class ThriftClientPool {
 		public String ip;
 		public int port;
 		public String truststore;
+		private TTransport socket;
 		private TTransport transport;
-		private SyncFileServer.Client client;
+		private PipelineClient client;
+		private String stack;
+		private String codec = CompressUtil.NONE;
 
 		public ClientItem(String ip, int port, String truststore) {
 			logger.stdout("reg:" + ip + ":" + port + ":with:" + truststore);
@@ -40,11 +44,16 @@ public class ThriftClientPool {
 			if (null != transport) {
 				transport.close();
 				transport = null;
+				socket = null;
 				client = null;
 			}
 		}
 
-		public SyncFileServer.Client get() {
+		public PipelineClient get() {
+			if (null != client && 0 != client.pending()) {
+				logger.info("close client with pending request:" + ip + ":" + port);
+				close();
+			}
 			if (null != client) {
 				try {
 					client.ping();
@@ -68,8 +77,8 @@ public class ThriftClientPool {
 				return;
 			}
 			if (null == truststore) {
-				transport = new TSocket(ip, port);
-				transport.open();
+				socket = new TSocket(ip, port);
+				socket.open();
 			} else {
 				/*
 				 * Similar to the server, you can use the parameters to setup
@@ -93,16 +102,69 @@ public class ThriftClientPool {
 				 * connection is opened on invocation of the factory method, no
 				 * need to specifically call open()
 				 */
-				transport = TSSLTransportFactory.getClientSocket(ip, port, RemoteSyncConfig.getTimeout(), params);
+				socket = TSSLTransportFactory.getClientSocket(ip, port, RemoteSyncConfig.getTimeout(), params);
+			}
+
+			List<String> stacks = RemoteSyncConfig.getStacks();
+			use(stacks.get(stacks.size() - 1));
+			handshake(stacks);
+			codec = negotiate();
+		}
+
+		private void use(String stack) {
+			this.stack = stack;
+			transport = ThriftStack.wrap(socket, stack, RemoteSyncConfig.getFrameMax());
+			client = new PipelineClient(ThriftStack.protocol(transport, stack));
+		}
+
+		/**
+		 * 用最后一个 (兼容性最好的) 协议栈询问服务端, 然后在同一个连接上切换
+		 */
+		private void handshake(List<String> stacks) throws TTransportException {
+			if (1 == stacks.size()) {
+				return;
+			}
+			try {
+				String result = client.handshake(stacks);
+				logger.info("use stack " + result + " by " + stacks + ":" + ip + ":" + port);
+				if (result.length() > 0 && !result.equals(stack)) {
+					use(result);
+				}
+			} catch (TApplicationException e) {
+				if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+					throw new TTransportException(e);
+				}
+			} catch (TException e) {
+				throw new TTransportException(e);
 			}
+		}
 
-			TProtocol protocol = new TBinaryProtocol(transport);
-			client = new SyncFileServer.Client(protocol);
+		private String negotiate() throws TTransportException {
+			try {
+				List<String> codecs = client.codecs();
+				String result = CompressUtil.choose(RemoteSyncConfig.getCompress(), codecs);
+				logger.info("compress with " + result + " by " + codecs + ":" + ip + ":" + port);
+				return result;
+			} catch (TApplicationException e) {
+				if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+					return CompressUtil.NONE;
+				}
+				throw new TTransportException(e);
+			} catch (TException e) {
+				throw new TTransportException(e);
+			}
 		}
 	}
 
 	private static Map<String, ClientItem> items = new HashMap<String, ClientItem>();
 
+	/** 每个 channel 保留的空闲连接数, 多出的连接在归还时关闭 */
+	private static final int MAX_IDLE = 4;
+
+	private static Map<String, LinkedList<ClientItem>> idle = new HashMap<String, LinkedList<ClientItem>>();
+	/** 借出中的连接和对应的 channel */
+	private static Map<ClientItem, String> borrowed = new HashMap<ClientItem, String>();
+
 	public static synchronized void reg(String ip, int port, String truststore) {
 		String key = ip + ":" + port;
 		if (null == items.get(key)) {
@@ -110,16 +172,88 @@ public class ThriftClientPool {
 		}
 	}
 
-	public static SyncFileServer.Client get(String ip, int port) {
+	public static PipelineClient get(String ip, int port) {
 		String key = ip + ":" + port;
 		return items.get(key).get();
 	}
 
+	/**
+	 * 借出同一个服务端的单独连接 (例如长轮询会占用连接), 按 channel 区分, 没有空闲连接时新建;
+	 * 用完后必须调用 giveBack
+	 */
+	static ClientItem borrow(String ip, int port, String channel) {
+		String key = ip + ":" + port;
+		synchronized (ThriftClientPool.class) {
+			LinkedList<ClientItem> list = idle.get(key + "/" + channel);
+			ClientItem item = null == list ? null : list.poll();
+			if (null == item) {
+				item = new ClientItem(ip, port, items.get(key).truststore);
+			}
+			borrowed.put(item, channel);
+			return item;
+		}
+	}
+
+	/**
+	 * reuse 为 false (调用出错) 时关闭连接
+	 */
+	static void giveBack(String ip, int port, String channel, ClientItem item, boolean reuse) {
+		String key = ip + ":" + port + "/" + channel;
+		synchronized (ThriftClientPool.class) {
+			borrowed.remove(item);
+			if (reuse) {
+				LinkedList<ClientItem> list = idle.get(key);
+				if (null == list) {
+					list = new LinkedList<ClientItem>();
+					idle.put(key, list);
+				}
+				if (list.size() < MAX_IDLE) {
+					list.add(item);
+					return;
+				}
+			}
+		}
+		item.close();
+	}
+
+	/**
+	 * 关闭 channel 所有借出中的连接, 阻塞在读取上的调用立即失败 (例如停止时唤醒长轮询)
+	 */
+	public static void abort(String channel) {
+		List<ClientItem> cur = new ArrayList<ClientItem>();
+		synchronized (ThriftClientPool.class) {
+			for (Map.Entry<ClientItem, String> item : borrowed.entrySet()) {
+				if (item.getValue().equals(channel)) {
+					cur.add(item.getKey());
+				}
+			}
+		}
+		for (ClientItem item : cur) {
+			item.close();
+		}
+	}
+
+	/**
+	 * 当前连接协商好的压缩方式
+	 */
+	public static String codec(String ip, int port) {
+		String key = ip + ":" + port;
+		return items.get(key).codec;
+	}
+
+	/**
+	 * 关闭所有连接; 保留 reg 的服务端, 之后的调用重新连接 (例如同步线程停止后重新启动)
+	 */
 	public static synchronized void closeAll() {
 		for (ClientItem item : items.values()) {
 			item.close();
 		}
-		items.clear();
+		for (List<ClientItem> list : idle.values()) {
+			for (ClientItem item : list) {
+				item.close();
+			}
+		}
+		idle.clear();
 	}
 
 }
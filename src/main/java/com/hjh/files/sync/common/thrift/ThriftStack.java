@@ -0,0 +1,90 @@
+package com.hjh.files.sync.common.thrift;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.util.Asserts;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TTransport;
+
+/**
+ * 协议栈, 格式为 "协议/传输", 例如 binary/buffered, compact/framed
+ */
+public class ThriftStack {
+
+	public static final String BINARY = "binary";
+	public static final String COMPACT = "compact";
+	public static final String BUFFERED = "buffered";
+	public static final String FRAMED = "framed";
+	public static final String AUTO = "auto";
+
+	public static final String DEFAULT = BINARY + "/" + BUFFERED;
+
+	public static String protocol(String stack) {
+		return stack.split("/")[0];
+	}
+
+	public static String transport(String stack) {
+		return stack.split("/")[1];
+	}
+
+	public static void check(String stack) {
+		String[] arr = stack.split("/");
+		Asserts.check(arr.length == 2, "error stack (protocol/transport):" + stack);
+		Asserts.check(BINARY.equals(arr[0]) || COMPACT.equals(arr[0]), "unknown protocol :" + stack);
+		Asserts.check(BUFFERED.equals(arr[1]) || FRAMED.equals(arr[1]), "unknown transport :" + stack);
+	}
+
+	/**
+	 * 按配置 (auto 或者具体的值) 列出支持的协议栈
+	 */
+	public static List<String> list(String protocol, String transport) {
+		List<String> result = new ArrayList<String>();
+		for (String cur_transport : new String[] { FRAMED, BUFFERED }) {
+			if (AUTO.equals(transport) || cur_transport.equals(transport)) {
+				for (String cur_protocol : new String[] { COMPACT, BINARY }) {
+					if (AUTO.equals(protocol) || cur_protocol.equals(protocol)) {
+						result.add(cur_protocol + "/" + cur_transport);
+					}
+				}
+			}
+		}
+		Asserts.check(result.size() > 0, "unknown protocol or transport :" + protocol + "/" + transport);
+		return result;
+	}
+
+	/**
+	 * 选出客户端最希望使用且服务端支持的协议栈
+	 */
+	public static String choose(List<String> offers, List<String> supported) {
+		for (String item : offers) {
+			if (supported.contains(item)) {
+				return item;
+			}
+		}
+		return "";
+	}
+
+	public static TProtocolFactory protocolFactory(String protocol) {
+		if (COMPACT.equals(protocol)) {
+			return new TCompactProtocol.Factory();
+		}
+		return new TBinaryProtocol.Factory();
+	}
+
+	public static TTransport wrap(TTransport socket, String stack, int max_frame) {
+		if (FRAMED.equals(transport(stack))) {
+			return new TFramedTransport(socket, max_frame);
+		}
+		return socket;
+	}
+
+	public static TProtocol protocol(TTransport transport, String stack) {
+		return protocolFactory(protocol(stack)).getProtocol(transport);
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.hjh.files.sync.common.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Random;
+
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+import tutorial.Chunk;
+import tutorial.ChunkPage;
+
+/**
+ * 按内容分块 (gear 滚动哈希, 与 FastCDC 相同的判断方式): 块边界只由附近的内容决定,
+ * 因此文件中间插入数据或者改名、复制之后, 其余的块保持不变
+ */
+public class ChunkUtil {
+
+	private static final int MIN_AVG_SIZE = 1024;
+
+	private static final long[] GEAR = new long[256];
+
+	static {
+		// 固定种子, 保证不同进程的分块一致
+		Random random = new Random(0x6a09e667f3bcc908L);
+		for (int i = 0; i < GEAR.length; i++) {
+			GEAR[i] = random.nextLong();
+		}
+	}
+
+	public static void checkAvgSize(int avg_size) {
+		if (avg_size < MIN_AVG_SIZE) {
+			throw new RuntimeException("chunk size must great or equal then " + MIN_AVG_SIZE);
+		}
+		if ((long) avg_size * 4 > RemoteSyncConfig.getMaxDeltaLiteral()) {
+			throw new RuntimeException(
+					"chunk size must less or equal then " + (RemoteSyncConfig.getMaxDeltaLiteral() / 4 / 1024) + " K");
+		}
+	}
+
+	/**
+	 * 最大块大小
+	 */
+	public static int maxSize(int avg_size) {
+		return avg_size * 4;
+	}
+
+	private static MessageDigest md5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public static byte[] hash(ByteBuffer data) {
+		MessageDigest md = md5();
+		md.update(data);
+		return md.digest();
+	}
+
+	public static String hex(byte[] hash) {
+		StringBuilder result = new StringBuilder(hash.length * 2);
+		for (byte item : hash) {
+			result.append(Character.forDigit((item >> 4) & 0xf, 16));
+			result.append(Character.forDigit(item & 0xf, 16));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 从 offset (必须是块边界) 开始分块, 最多 max_chunks 块
+	 */
+	public static ChunkPage chunks(File file, int avg_size, long offset, int max_chunks) throws IOException {
+		checkAvgSize(avg_size);
+		int min = avg_size / 4;
+		int max = maxSize(avg_size);
+		int bits = 31 - Integer.numberOfLeadingZeros(avg_size);
+		// 使用高位, 每一位都受前面 64 个字节的影响
+		long mask = ((1L << bits) - 1) << (64 - bits);
+
+		ChunkPage page = new ChunkPage();
+		page.setChunks(new ArrayList<Chunk>());
+		long position = offset;
+		FileInputStream in = new FileInputStream(file);
+		try {
+			in.getChannel().position(offset);
+			MessageDigest md = md5();
+			byte[] buf = new byte[256 * 1024];
+			int pos = 0;
+			int limit = 0;
+			int from = 0;
+			int len = 0;
+			long hash = 0;
+			while (page.getChunksSize() < max_chunks) {
+				if (pos == limit) {
+					if (pos > from) {
+						md.update(buf, from, pos - from);
+					}
+					pos = 0;
+					from = 0;
+					limit = in.read(buf);
+					if (limit <= 0) {
+						if (len > 0) {
+							add(page, len, md);
+							position += len;
+						}
+						break;
+					}
+				}
+				hash = (hash << 1) + GEAR[buf[pos] & 0xff];
+				pos++;
+				len++;
+				if ((len >= min && 0 == (hash & mask)) || len >= max) {
+					md.update(buf, from, pos - from);
+					from = pos;
+					add(page, len, md);
+					position += len;
+					len = 0;
+					hash = 0;
+				}
+			}
+		} finally {
+			in.close();
+		}
+		page.setNext(position);
+		page.setFinished(position >= file.length());
+		return page;
+	}
+
+	private static void add(ChunkPage page, int len, MessageDigest md) {
+		Chunk chunk = new Chunk();
+		chunk.setLength(len);
+		chunk.setHash(md.digest());
+		page.getChunks().add(chunk);
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.hjh.files.sync.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+import tutorial.Payload;
+
+/**
+ * 数据压缩: fast 为最快速度的 deflate, deflate 使用 config.compress.level
+ */
+public class CompressUtil {
+
+	public static final String NONE = "none";
+	public static final String FAST = "fast";
+	public static final String DEFLATE = "deflate";
+
+	private static final int SAMPLE_SIZE = 32 * 1024;
+	private static final double MIN_RATIO = 0.9;
+
+	private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<String>(Arrays.asList("zip", "gz", "tgz",
+			"bz2", "xz", "7z", "rar", "jar", "apk", "jpg", "jpeg", "png", "gif", "webp", "mp3", "mp4", "mkv", "avi",
+			"mov", "flac", "ogg", "pdf", "docx", "xlsx", "pptx"));
+
+	public static boolean isSupported(String codec) {
+		return FAST.equals(codec) || DEFLATE.equals(codec) || NONE.equals(codec);
+	}
+
+	/**
+	 * 按客户端的偏好选择服务端支持的压缩方式
+	 */
+	public static String choose(String prefer, List<String> server_codecs) {
+		if (null != prefer && null != server_codecs && server_codecs.contains(prefer)) {
+			return prefer;
+		}
+		return NONE;
+	}
+
+	private static int level(String codec) {
+		return FAST.equals(codec) ? Deflater.BEST_SPEED : RemoteSyncConfig.getCompressLevel();
+	}
+
+	private static boolean isCompressedFile(String path) {
+		if (null == path) {
+			return false;
+		}
+		int index = path.lastIndexOf('.');
+		return index > 0 && COMPRESSED_EXTENSIONS.contains(path.substring(index + 1).toLowerCase());
+	}
+
+	private static byte[] deflate(int level, byte[] data, int len) {
+		Deflater deflater = new Deflater(level, true);
+		try {
+			deflater.setInput(data, 0, len);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(len / 2 + 64);
+			byte[] cache = new byte[8 * 1024];
+			while (!deflater.finished()) {
+				int count = deflater.deflate(cache);
+				out.write(cache, 0, count);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * 压缩效果不好 (已压缩的文件类型, 或者抽样压缩比不足) 时原样返回, codec 为 none
+	 */
+	public static Payload pack(String codec, String path, byte[] data) {
+		Payload result = new Payload();
+		result.setLength(data.length);
+		if (!NONE.equals(codec) && data.length > 0 && !isCompressedFile(path)) {
+			int level = level(codec);
+			int sample = Math.min(data.length, SAMPLE_SIZE);
+			if (sample == data.length || deflate(Deflater.BEST_SPEED, data, sample).length < sample * MIN_RATIO) {
+				byte[] compressed = deflate(level, data, data.length);
+				if (compressed.length < data.length * MIN_RATIO) {
+					result.setCodec(codec);
+					result.data = ByteBuffer.wrap(compressed);
+					return result;
+				}
+			}
+		}
+		result.setCodec(NONE);
+		result.data = ByteBuffer.wrap(data);
+		return result;
+	}
+
+	/**
+	 * 直接解压到 length 大小的目标数组中
+	 */
+	public static byte[] unpack(Payload payload) {
+		ByteBuffer data = payload.data;
+		if (NONE.equals(payload.getCodec())) {
+			if (data.hasArray() && data.arrayOffset() == 0 && data.position() == 0
+					&& data.remaining() == data.array().length) {
+				return data.array();
+			}
+			byte[] result = new byte[data.remaining()];
+			data.get(result);
+			return result;
+		}
+		Asserts.check(isSupported(payload.getCodec()), "unknown codec :" + payload.getCodec());
+		byte[] result = new byte[payload.getLength()];
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(data.array(), data.arrayOffset() + data.position(), data.remaining());
+			int len = 0;
+			while (len < result.length) {
+				int count = inflater.inflate(result, len, result.length - len);
+				if (0 == count && (inflater.finished() || inflater.needsInput())) {
+					break;
+				}
+				len += count;
+			}
+			Asserts.check(len == result.length, "broken compressed data");
+			return result;
+		} catch (DataFormatException e) {
+			throw new RuntimeException(e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
@@ -0,0 +1,231 @@
+package com.hjh.files.sync.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+import tutorial.BlockSignature;
+import tutorial.DeltaOp;
+import tutorial.DeltaPage;
+
+/**
+ * rsync 算法: 客户端提供旧文件每个完整块的 (滚动校验, md5), 服务端据此把新文件拆分为块引用和原始数据
+ */
+public class DeltaUtil {
+
+	/**
+	 * rsync 弱校验, 可以 O(1) 向后滚动一个字节
+	 */
+	static class Rolling {
+		private int a;
+		private int b;
+		private int len;
+
+		public void reset(byte[] data, int off, int len) {
+			this.a = 0;
+			this.b = 0;
+			this.len = len;
+			for (int i = 0; i < len; i++) {
+				int cur = data[off + i] & 0xff;
+				a += cur;
+				b += (len - i) * cur;
+			}
+		}
+
+		public void roll(byte out, byte in) {
+			a += (in & 0xff) - (out & 0xff);
+			b += a - len * (out & 0xff);
+		}
+
+		public int value() {
+			return (b << 16) | (a & 0xffff);
+		}
+	}
+
+	private static MessageDigest md5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * 按 rsync 的经验取 sqrt(文件大小), 并保证签名数量不超过 max_delta_signatures, 限制在 [4K, max_block_size] 之间
+	 */
+	public static int blockSize(long length, int max_block_size) {
+		long size = Math.max((long) Math.sqrt(length), length / RemoteSyncConfig.getMaxDeltaSignatures() + 1);
+		size = (size + 1023) / 1024 * 1024;
+		return (int) Math.max(Math.min(size, max_block_size), Math.min(4096, max_block_size));
+	}
+
+	public static List<BlockSignature> signatures(File file, int block_size) throws IOException {
+		List<BlockSignature> result = new ArrayList<BlockSignature>();
+		if (null == file || !file.isFile()) {
+			return result;
+		}
+		Rolling rolling = new Rolling();
+		MessageDigest md = md5();
+		byte[] block = new byte[block_size];
+		InputStream in = new FileInputStream(file);
+		try {
+			// 本地文件比远程文件大很多时只使用前面的块
+			int max = RemoteSyncConfig.getMaxDeltaSignatures();
+			while (result.size() < max && readFully(in, block) == block_size) {
+				rolling.reset(block, 0, block_size);
+				BlockSignature signature = new BlockSignature();
+				signature.setWeak(rolling.value());
+				signature.setStrong(md.digest(block));
+				result.add(signature);
+			}
+		} finally {
+			in.close();
+		}
+		return result;
+	}
+
+	private static int readFully(InputStream in, byte[] data) throws IOException {
+		int total = 0;
+		while (total < data.length) {
+			int len = in.read(data, total, data.length - total);
+			if (len < 0) {
+				break;
+			}
+			total += len;
+		}
+		return total;
+	}
+
+	/**
+	 * 从 offset 开始计算差异, 原始数据达到 max_literal 或者操作数达到 max_ops 时返回, 由 next 继续
+	 */
+	public static DeltaPage delta(File file, int block_size, List<BlockSignature> signatures, long offset,
+			int max_literal, int max_ops) throws IOException {
+
+		Map<Integer, List<Integer>> index = new HashMap<Integer, List<Integer>>();
+		for (int i = 0; i < signatures.size(); i++) {
+			Integer weak = signatures.get(i).getWeak();
+			List<Integer> blocks = index.get(weak);
+			if (null == blocks) {
+				blocks = new ArrayList<Integer>(1);
+				index.put(weak, blocks);
+			}
+			blocks.add(i);
+		}
+
+		DeltaPage page = new DeltaPage();
+		page.setOps(new ArrayList<DeltaOp>());
+		ByteArrayOutputStream literal = new ByteArrayOutputStream();
+		Rolling rolling = new Rolling();
+		MessageDigest md = md5();
+		byte[] buffer = new byte[Math.max(block_size * 4, 64 * 1024)];
+		int start = 0;
+		int end = 0;
+		long position = offset;
+		boolean eof = false;
+		boolean rolled = false;
+
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			in.seek(offset);
+			while (true) {
+				if (!eof && end - start <= block_size) {
+					System.arraycopy(buffer, start, buffer, 0, end - start);
+					end -= start;
+					start = 0;
+					while (end < buffer.length) {
+						int len = in.read(buffer, end, buffer.length - end);
+						if (len < 0) {
+							eof = true;
+							break;
+						}
+						end += len;
+					}
+				}
+				if (end - start < block_size) { // 文件末尾不足一块
+					literal.write(buffer, start, end - start);
+					position += end - start;
+					page.setFinished(true);
+					break;
+				}
+				if (!rolled) {
+					rolling.reset(buffer, start, block_size);
+					rolled = true;
+				}
+				int matched = -1;
+				List<Integer> blocks = index.get(rolling.value());
+				if (null != blocks) {
+					md.update(buffer, start, block_size);
+					byte[] strong = md.digest();
+					for (Integer block : blocks) {
+						if (Arrays.equals(strong, signatures.get(block).getStrong())) {
+							matched = block;
+							break;
+						}
+					}
+				}
+				if (matched >= 0) {
+					flush(page, literal);
+					copy(page, matched);
+					start += block_size;
+					position += block_size;
+					rolled = false;
+				} else {
+					literal.write(buffer[start]);
+					if (start + block_size < end) {
+						rolling.roll(buffer[start], buffer[start + block_size]);
+					} else {
+						rolled = false;
+					}
+					start++;
+					position++;
+				}
+				if (literal.size() >= max_literal || page.getOpsSize() >= max_ops) {
+					break;
+				}
+			}
+		} finally {
+			in.close();
+		}
+		flush(page, literal);
+		page.setNext(position);
+		return page;
+	}
+
+	private static void flush(DeltaPage page, ByteArrayOutputStream literal) {
+		if (literal.size() > 0) {
+			DeltaOp op = new DeltaOp();
+			op.data = ByteBuffer.wrap(literal.toByteArray());
+			page.addToOps(op);
+			literal.reset();
+		}
+	}
+
+	private static void copy(DeltaPage page, int block) {
+		if (page.getOpsSize() > 0) {
+			DeltaOp last = page.getOps().get(page.getOpsSize() - 1);
+			if (!last.isSetData() && last.getBlock() + last.getCount() == block) {
+				last.setCount(last.getCount() + 1);
+				return;
+			}
+		}
+		DeltaOp op = new DeltaOp();
+		op.setBlock(block);
+		op.setCount(1);
+		page.addToOps(op);
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.hjh.files.sync.common.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tutorial.CacheStat;
+
+/**
+ * 内存中的摘要缓存: 按 key 的 hash 分成多段, 每段是按访问顺序的 LRU 并有自己的锁;
+ * 按估计的内存大小 (weight) 限制, 每段最多使用 max_weight 的平均份额
+ * <br>
+ * 相同 key 的并发加载只计算一次 (SingleFlight), 其他调用者等待并共享结果
+ */
+public class DigestCache<V> {
+
+	private static final int SEGMENTS = 16;
+
+	private static class Item<V> {
+		public V value;
+		public long weight;
+	}
+
+	private static class Segment<V> {
+		public final LinkedHashMap<String, Item<V>> items = new LinkedHashMap<String, Item<V>>(16, 0.75f, true);
+		public final SingleFlight<V> flights = new SingleFlight<V>();
+		public long weight;
+	}
+
+	private final String name;
+	private final long max_weight;
+	private final long segment_weight;
+	private final Segment<V>[] segments;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong loads = new AtomicLong();
+	private final AtomicLong shared = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	@SuppressWarnings("unchecked")
+	public DigestCache(String name, long max_weight) {
+		if (max_weight <= 0) {
+			throw new RuntimeException("digest cache max weight must great then 0");
+		}
+		this.name = name;
+		this.max_weight = max_weight;
+		this.segment_weight = Math.max(1, max_weight / SEGMENTS);
+		this.segments = (Segment<V>[]) new Segment<?>[SEGMENTS];
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment<V>();
+		}
+	}
+
+	private Segment<V> segment(String key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return segments[h & (SEGMENTS - 1)];
+	}
+
+	/**
+	 * 不存在时返回 null, 不计入统计; 调用者判断值是否仍然有效后调用 hit 或 miss
+	 */
+	public V peek(String key) {
+		Segment<V> segment = segment(key);
+		synchronized (segment) {
+			Item<V> item = segment.items.get(key);
+			return null == item ? null : item.value;
+		}
+	}
+
+	public void hit() {
+		hits.incrementAndGet();
+	}
+
+	public void miss() {
+		misses.incrementAndGet();
+	}
+
+	/**
+	 * 实际计算了一次摘要
+	 */
+	public void loaded() {
+		loads.incrementAndGet();
+	}
+
+	public void put(String key, V value, long weight) {
+		Segment<V> segment = segment(key);
+		Item<V> item = new Item<V>();
+		item.value = value;
+		item.weight = weight;
+		synchronized (segment) {
+			Item<V> old = segment.items.put(key, item);
+			segment.weight += weight - (null == old ? 0 : old.weight);
+			// 从最久没有使用的开始删除, 至少保留刚放入的一项
+			Iterator<Map.Entry<String, Item<V>>> it = segment.items.entrySet().iterator();
+			while (segment.weight > segment_weight && segment.items.size() > 1) {
+				Map.Entry<String, Item<V>> eldest = it.next();
+				if (eldest.getValue() == item) {
+					continue;
+				}
+				segment.weight -= eldest.getValue().weight;
+				it.remove();
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	public void remove(String key) {
+		Segment<V> segment = segment(key);
+		synchronized (segment) {
+			Item<V> old = segment.items.remove(key);
+			if (null != old) {
+				segment.weight -= old.weight;
+			}
+		}
+	}
+
+	/**
+	 * 相同 key 同时只有一个调用者执行 loader, 其他调用者等待并返回同一个结果 (不再放入缓存, 由 loader 负责)
+	 */
+	public V load(String key, Callable<V> loader) {
+		SingleFlight<V> flights = segment(key).flights;
+		SingleFlight.Call<V> call = flights.join(key);
+		if (!call.isOwner()) {
+			shared.incrementAndGet();
+			return call.get();
+		}
+		// 当前线程已经是 owner, run 中的 join 返回同一个调用
+		return flights.run(key, loader);
+	}
+
+	public CacheStat toStat() {
+		long entries = 0;
+		long weight = 0;
+		for (Segment<V> segment : segments) {
+			synchronized (segment) {
+				entries += segment.items.size();
+				weight += segment.weight;
+			}
+		}
+		CacheStat result = new CacheStat();
+		result.setName(name);
+		result.setHits(hits.get());
+		result.setMisses(misses.get());
+		result.setLoads(loads.get());
+		result.setShared(shared.get());
+		result.setEvictions(evictions.get());
+		result.setEntries(entries);
+		result.setWeight(weight);
+		result.setMax_weight(max_weight);
+		return result;
+	}
+
+}
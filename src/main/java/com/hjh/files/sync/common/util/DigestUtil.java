@@ -0,0 +1,128 @@
+package com.hjh.files.sync.common.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.util.Asserts;
+
+/**
+ * 文件摘要算法: md5 (默认, 兼容旧版本), xxh64 (快速, 非加密), sha256 (加密强度)
+ * <br>
+ * 其他算法可以通过 register 加入, 通信双方都支持时才会使用
+ */
+public class DigestUtil {
+
+	public static final String MD5 = "md5";
+	public static final String XXH64 = "xxh64";
+	public static final String SHA256 = "sha256";
+
+	public interface Digester {
+
+		public void update(byte[] data, int off, int len);
+
+		/**
+		 * 小写十六进制
+		 */
+		public String finish();
+	}
+
+	public interface Factory {
+
+		public Digester create();
+	}
+
+	private static class MessageDigester implements Digester {
+
+		private MessageDigest md;
+
+		public MessageDigester(String algorithm) {
+			try {
+				md = MessageDigest.getInstance(algorithm);
+			} catch (NoSuchAlgorithmException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		public void update(byte[] data, int off, int len) {
+			md.update(data, off, len);
+		}
+
+		public String finish() {
+			return ChunkUtil.hex(md.digest());
+		}
+	}
+
+	private static final Map<String, Factory> factories = new LinkedHashMap<String, Factory>();
+
+	static {
+		register(XXH64, new Factory() {
+			public Digester create() {
+				return new XXHash64();
+			}
+		});
+		register(SHA256, new Factory() {
+			public Digester create() {
+				return new MessageDigester("SHA-256");
+			}
+		});
+		register(MD5, new Factory() {
+			public Digester create() {
+				return new MessageDigester("MD5");
+			}
+		});
+	}
+
+	public static synchronized void register(String algorithm, Factory factory) {
+		factories.put(algorithm, factory);
+	}
+
+	public static synchronized boolean isSupported(String algorithm) {
+		return factories.containsKey(algorithm);
+	}
+
+	public static synchronized List<String> supported() {
+		return new ArrayList<String>(factories.keySet());
+	}
+
+	/**
+	 * 对方支持时使用 prefer, 否则使用 md5
+	 */
+	public static String choose(String prefer, List<String> supported) {
+		if (null != prefer && null != supported && supported.contains(prefer) && isSupported(prefer)) {
+			return prefer;
+		}
+		return MD5;
+	}
+
+	public static Digester create(String algorithm) {
+		Factory factory;
+		synchronized (DigestUtil.class) {
+			factory = factories.get(algorithm);
+		}
+		Asserts.notNull(factory, "unknown digest :" + algorithm);
+		return factory.create();
+	}
+
+	public static String digest(String algorithm, File file) throws IOException {
+		Digester digester = create(algorithm);
+		FileInputStream in = new FileInputStream(file);
+		try {
+			byte[] cache = new byte[256 * 1024];
+			int len;
+			while ((len = in.read(cache)) >= 0) {
+				digester.update(cache, 0, len);
+			}
+		} finally {
+			in.close();
+		}
+		return digester.finish();
+	}
+
+}
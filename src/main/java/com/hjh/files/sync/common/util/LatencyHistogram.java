@@ -0,0 +1,88 @@
+package com.hjh.files.sync.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁的对数-线性直方图 (类似 HdrHistogram): 每个 2 的幂区间再分为 16 格, 相对误差约 6%
+ * <br>
+ * 记录非负的 long 值 (例如微秒), 只增不减
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BITS = 4;
+	private static final int SUB_COUNT = 1 << SUB_BITS;
+	private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	private static int index(long value) {
+		if (value < SUB_COUNT) {
+			return (int) value;
+		}
+		int exp = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_COUNT - 1);
+		return (exp - SUB_BITS + 1) * SUB_COUNT + sub;
+	}
+
+	/**
+	 * 格子内的最大值
+	 */
+	private static long upper(int index) {
+		if (index < SUB_COUNT) {
+			return index;
+		}
+		int exp = index / SUB_COUNT + SUB_BITS - 1;
+		long sub = index % SUB_COUNT;
+		long low = (1L << exp) | (sub << (exp - SUB_BITS));
+		return low + (1L << (exp - SUB_BITS)) - 1;
+	}
+
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(index(value));
+		total.incrementAndGet();
+		sum.addAndGet(value);
+		long cur = max.get();
+		while (value > cur && !max.compareAndSet(cur, value)) {
+			cur = max.get();
+		}
+	}
+
+	public long getCount() {
+		return total.get();
+	}
+
+	public long getSum() {
+		return sum.get();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * p 为 0 到 1, 返回所在格子的上界 (不超过最大值); 没有记录时为 0
+	 */
+	public long percentile(double p) {
+		long count = total.get();
+		if (0 == count) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(count * p));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(upper(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+}
@@ -1,8 +1,17 @@
 package com.hjh.files.sync.common.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.http.util.Asserts;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
 
 import com.hjh.files.sync.common.RemoteFile;
 
@@ -25,13 +34,20 @@ public class RemoteFileUtil {
 
 	private static final RemoteFile[] EMPTY = new RemoteFile[0];
 
+	/**
+	 * 由 from 创建的对象直接返回原来的 RemoteFileInfo, 不再复制
+	 */
 	public static RemoteFileInfo to(RemoteFile item) {
+		if (item instanceof InfoFile) {
+			return ((InfoFile) item).info;
+		}
 		RemoteFileInfo info = new RemoteFileInfo();
 		info.setName(item.name());
 		info.setPath(item.path());
 		info.setLength(item.length());
 		info.setLastModify(item.lastModify());
 		info.setIsFolder(item.isFolder());
+		info.setDigest(item.digest());
 		return info;
 	}
 
@@ -47,34 +63,79 @@ public class RemoteFileUtil {
 		return result;
 	}
 
-	public static RemoteFile from(final RemoteFileInfo info) {
-		return new RemoteFile() {
+	private static class InfoFile implements RemoteFile {
 
-			@Override
-			public String name() {
-				return info.getName();
-			}
+		private final RemoteFileInfo info;
 
-			@Override
-			public String path() {
-				return info.getPath();
-			}
+		public InfoFile(RemoteFileInfo info) {
+			this.info = info;
+		}
 
-			@Override
-			public long length() {
-				return info.getLength();
-			}
+		@Override
+		public String name() {
+			return info.getName();
+		}
+
+		@Override
+		public String path() {
+			return info.getPath();
+		}
+
+		@Override
+		public long length() {
+			return info.getLength();
+		}
+
+		@Override
+		public long lastModify() {
+			return info.getLastModify();
+		}
+
+		@Override
+		public boolean isFolder() {
+			return info.isIsFolder();
+		}
+
+		@Override
+		public String digest() {
+			return info.getDigest();
+		}
+	}
 
-			@Override
-			public long lastModify() {
-				return info.getLastModify();
+	public static RemoteFile from(RemoteFileInfo info) {
+		return new InfoFile(info);
+	}
+
+	public static byte[] encode(List<RemoteFileInfo> files) {
+		TMemoryBuffer buffer = new TMemoryBuffer(files.size() * 64 + 16);
+		TProtocol protocol = new TCompactProtocol(buffer);
+		try {
+			protocol.writeListBegin(new TList(TType.STRUCT, files.size()));
+			for (RemoteFileInfo item : files) {
+				item.write(protocol);
 			}
+			protocol.writeListEnd();
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
+		return Arrays.copyOf(buffer.getArray(), buffer.length());
+	}
 
-			@Override
-			public boolean isFolder() {
-				return info.isIsFolder();
+	public static List<RemoteFileInfo> decode(byte[] data) {
+		TProtocol protocol = new TCompactProtocol(new TMemoryInputTransport(data));
+		try {
+			TList list = protocol.readListBegin();
+			List<RemoteFileInfo> result = new ArrayList<RemoteFileInfo>(list.size);
+			for (int i = 0; i < list.size; i++) {
+				RemoteFileInfo item = new RemoteFileInfo();
+				item.read(protocol);
+				result.add(item);
 			}
-		};
+			protocol.readListEnd();
+			return result;
+		} catch (TException e) {
+			throw new RuntimeException(e);
+		}
 	}
 
 }
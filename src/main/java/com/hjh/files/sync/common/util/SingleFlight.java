@@ -0,0 +1,119 @@
+package com.hjh.files.sync.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 相同 key 的并发调用只计算一次: 第一个调用者 (owner) 计算, 其他调用者等待并共享结果
+ * <br>
+ * 等待使用 Condition 而不是 synchronized + wait, 虚拟线程等待时不会占住载体线程 (JDK 21)
+ */
+public class SingleFlight<V> {
+
+	public static class Call<V> {
+
+		private Thread owner = Thread.currentThread();
+		private int waiters;
+		private boolean done;
+		private V value;
+		private RuntimeException error;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition finished = lock.newCondition();
+
+		public boolean isOwner() {
+			return owner == Thread.currentThread();
+		}
+
+		/**
+		 * owner 计算完成后调用, 唤醒等待的调用者
+		 */
+		public void set(V value, RuntimeException error) {
+			lock.lock();
+			try {
+				this.value = value;
+				this.error = error;
+				this.done = true;
+				finished.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 等待期间不响应中断, 返回时保留中断状态
+		 */
+		public V get() {
+			lock.lock();
+			try {
+				while (!done) {
+					finished.awaitUninterruptibly();
+				}
+				if (null != error) {
+					throw error;
+				}
+				return value;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private final Map<String, Call<V>> calls = new HashMap<String, Call<V>>();
+
+	/**
+	 * 没有进行中的调用时当前线程成为 owner (isOwner), 之后必须依次调用 leave 和 set
+	 */
+	public Call<V> join(String key) {
+		synchronized (calls) {
+			Call<V> call = calls.get(key);
+			if (null == call) {
+				call = new Call<V>();
+				calls.put(key, call);
+			} else if (!call.isOwner()) {
+				call.waiters++;
+			}
+			return call;
+		}
+	}
+
+	/**
+	 * owner 在 set 之前调用, 之后的调用不再加入此次计算; 返回等待的调用者数量
+	 */
+	public int leave(String key, Call<V> call) {
+		synchronized (calls) {
+			if (calls.get(key) == call) {
+				calls.remove(key);
+			}
+			return call.waiters;
+		}
+	}
+
+	public V run(String key, Callable<V> task) {
+		Call<V> call = join(key);
+		if (!call.isOwner()) {
+			return call.get();
+		}
+		V value = null;
+		RuntimeException error = null;
+		try {
+			value = task.call();
+			return value;
+		} catch (RuntimeException e) {
+			error = e;
+			throw e;
+		} catch (Exception e) {
+			error = new RuntimeException(e);
+			throw error;
+		} catch (Error e) {
+			error = new RuntimeException(e);
+			throw e;
+		} finally {
+			leave(key, call);
+			call.set(value, error);
+		}
+	}
+
+}
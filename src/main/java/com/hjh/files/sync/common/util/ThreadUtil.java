@@ -0,0 +1,94 @@
+package com.hjh.files.sync.common.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+/**
+ * 创建连接、等待类线程: config.virtual.threads=true 且运行在 Java 21+ 时使用虚拟线程, 否则使用普通线程
+ * <br>
+ * 通过反射调用 Thread.ofVirtual, 编译目标仍然是 Java 7
+ */
+public class ThreadUtil {
+
+	private static ILog logger = HLogFactory.create(ThreadUtil.class);
+
+	private static boolean checked = false;
+	private static Method of_virtual;
+	private static Method builder_name;
+	private static Method builder_factory;
+	private static Method per_task_executor;
+
+	private static synchronized boolean virtualSupported() {
+		if (!checked) {
+			checked = true;
+			try {
+				Class<?> builder = Class.forName("java.lang.Thread$Builder");
+				of_virtual = Thread.class.getMethod("ofVirtual");
+				builder_name = builder.getMethod("name", String.class, long.class);
+				builder_factory = builder.getMethod("factory");
+				per_task_executor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+				logger.info("virtual threads supported");
+			} catch (Exception e) {
+				of_virtual = null;
+				logger.stdout("当前 Java 版本不支持虚拟线程, 使用普通线程:" + System.getProperty("java.version"));
+			}
+		}
+		return null != of_virtual;
+	}
+
+	public static boolean isVirtual() {
+		return RemoteSyncConfig.isVirtualThreads() && virtualSupported();
+	}
+
+	/**
+	 * 线程名为 name + 序号; 虚拟线程总是 daemon
+	 */
+	public static ThreadFactory factory(final String name, final boolean daemon) {
+		if (isVirtual()) {
+			try {
+				Object builder = of_virtual.invoke(null);
+				builder = builder_name.invoke(builder, name + "-", 0L);
+				return (ThreadFactory) builder_factory.invoke(builder);
+			} catch (Exception e) {
+				throw new RuntimeException("can not create virtual thread factory", e);
+			}
+		}
+		return new ThreadFactory() {
+			private int index = 0;
+
+			public synchronized Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, name + "-" + index++);
+				thread.setDaemon(daemon);
+				return thread;
+			}
+		};
+	}
+
+	public static Thread start(String name, boolean daemon, Runnable task) {
+		Thread thread = factory(name, daemon).newThread(task);
+		thread.start();
+		return thread;
+	}
+
+	/**
+	 * 每个任务一个线程: 虚拟线程时不复用, 否则为 cached 线程池
+	 */
+	public static ExecutorService pool(String name, boolean daemon) {
+		ThreadFactory factory = factory(name, daemon);
+		if (isVirtual()) {
+			try {
+				return (ExecutorService) per_task_executor.invoke(null, factory);
+			} catch (Exception e) {
+				throw new RuntimeException("can not create virtual thread executor", e);
+			}
+		}
+		return Executors.newCachedThreadPool(factory);
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.hjh.files.sync.common.util;
+
+/**
+ * 令牌桶 (字节/秒): 允许透支, 透支后调用者按到达顺序等待到自己的时间片
+ */
+public class TokenBucket {
+
+	private final double rate;
+	private final double capacity;
+	private double tokens;
+	private long last = System.nanoTime();
+
+	/**
+	 * rate 每秒的字节数, capacity 空闲时最多积累的字节数
+	 */
+	public TokenBucket(long rate, long capacity) {
+		if (rate <= 0 || capacity <= 0) {
+			throw new RuntimeException("token bucket rate and capacity must great then 0");
+		}
+		this.rate = rate;
+		this.capacity = capacity;
+		this.tokens = capacity;
+	}
+
+	/**
+	 * 预订 n 个字节, 返回需要等待的纳秒数
+	 */
+	public synchronized long reserve(long n) {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - last) * rate / 1e9);
+		last = now;
+		tokens -= n;
+		return tokens >= 0 ? 0 : (long) (-tokens / rate * 1e9);
+	}
+
+	/**
+	 * 没有用完的字节还回去, 例如按请求大小预订而实际数据更少
+	 */
+	public synchronized void refund(long n) {
+		if (n > 0) {
+			tokens = Math.min(capacity, tokens + n);
+		}
+	}
+
+	public void take(long n) {
+		long wait = reserve(n);
+		if (wait <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("interrupted while waiting for bandwidth", e);
+		}
+	}
+
+}
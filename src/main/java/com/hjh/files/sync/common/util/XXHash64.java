@@ -0,0 +1,137 @@
+package com.hjh.files.sync.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 (seed 0), 非加密的快速摘要, 支持分段 update
+ */
+public class XXHash64 implements DigestUtil.Digester {
+
+	private static final long PRIME1 = 0x9E3779B185EBCA87L;
+	private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+	private static final long PRIME3 = 0x165667B19E3779F9L;
+	private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+	private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+	private long v1 = PRIME1 + PRIME2;
+	private long v2 = PRIME2;
+	private long v3 = 0;
+	private long v4 = -PRIME1;
+	private long total;
+
+	/** 不足 32 字节的剩余数据 */
+	private final byte[] memory = new byte[32];
+	private int memory_size;
+
+	private static long round(long acc, long input) {
+		acc += input * PRIME2;
+		acc = Long.rotateLeft(acc, 31);
+		return acc * PRIME1;
+	}
+
+	private static long merge(long acc, long val) {
+		acc ^= round(0, val);
+		return acc * PRIME1 + PRIME4;
+	}
+
+	private static long readLong(byte[] data, int off) {
+		return (data[off] & 0xffL) | (data[off + 1] & 0xffL) << 8 | (data[off + 2] & 0xffL) << 16
+				| (data[off + 3] & 0xffL) << 24 | (data[off + 4] & 0xffL) << 32 | (data[off + 5] & 0xffL) << 40
+				| (data[off + 6] & 0xffL) << 48 | (data[off + 7] & 0xffL) << 56;
+	}
+
+	private static long readInt(byte[] data, int off) {
+		return (data[off] & 0xffL) | (data[off + 1] & 0xffL) << 8 | (data[off + 2] & 0xffL) << 16
+				| (data[off + 3] & 0xffL) << 24;
+	}
+
+	private void stripe(byte[] data, int off) {
+		v1 = round(v1, readLong(data, off));
+		v2 = round(v2, readLong(data, off + 8));
+		v3 = round(v3, readLong(data, off + 16));
+		v4 = round(v4, readLong(data, off + 24));
+	}
+
+	public void update(byte[] data, int off, int len) {
+		total += len;
+		if (memory_size + len < 32) {
+			System.arraycopy(data, off, memory, memory_size, len);
+			memory_size += len;
+			return;
+		}
+		int end = off + len;
+		if (memory_size > 0) {
+			int fill = 32 - memory_size;
+			System.arraycopy(data, off, memory, memory_size, fill);
+			stripe(memory, 0);
+			off += fill;
+			memory_size = 0;
+		}
+		if (off + 32 <= end) {
+			ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+			long a1 = v1, a2 = v2, a3 = v3, a4 = v4;
+			while (off + 32 <= end) {
+				a1 = round(a1, buffer.getLong(off));
+				a2 = round(a2, buffer.getLong(off + 8));
+				a3 = round(a3, buffer.getLong(off + 16));
+				a4 = round(a4, buffer.getLong(off + 24));
+				off += 32;
+			}
+			v1 = a1;
+			v2 = a2;
+			v3 = a3;
+			v4 = a4;
+		}
+		if (off < end) {
+			memory_size = end - off;
+			System.arraycopy(data, off, memory, 0, memory_size);
+		}
+	}
+
+	public long value() {
+		long h;
+		if (total >= 32) {
+			h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+			h = merge(h, v1);
+			h = merge(h, v2);
+			h = merge(h, v3);
+			h = merge(h, v4);
+		} else {
+			h = v3 + PRIME5;
+		}
+		h += total;
+		int off = 0;
+		while (off + 8 <= memory_size) {
+			h ^= round(0, readLong(memory, off));
+			h = Long.rotateLeft(h, 27) * PRIME1 + PRIME4;
+			off += 8;
+		}
+		if (off + 4 <= memory_size) {
+			h ^= readInt(memory, off) * PRIME1;
+			h = Long.rotateLeft(h, 23) * PRIME2 + PRIME3;
+			off += 4;
+		}
+		while (off < memory_size) {
+			h ^= (memory[off] & 0xffL) * PRIME5;
+			h = Long.rotateLeft(h, 11) * PRIME1;
+			off++;
+		}
+		h ^= h >>> 33;
+		h *= PRIME2;
+		h ^= h >>> 29;
+		h *= PRIME3;
+		h ^= h >>> 32;
+		return h;
+	}
+
+	public String finish() {
+		String hex = Long.toHexString(value());
+		StringBuilder result = new StringBuilder(16);
+		for (int i = hex.length(); i < 16; i++) {
+			result.append('0');
+		}
+		return result.append(hex).toString();
+	}
+
+}
@@ -0,0 +1,174 @@
+package com.hjh.files.sync.server;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+import tutorial.ServerBusy;
+
+/**
+ * 服务端准入控制: 限制同时进行的摘要计算数量和数据块 (part / readFrame) 占用的内存,
+ * 超过时最多 server.admit.queue 个请求排队等待 server.admit.wait 毫秒, 其余立即返回 ServerBusy
+ */
+public class AdmissionControl {
+
+	/**
+	 * 容量有限的闸门, 等待的请求数量有上限
+	 */
+	private static class Gate {
+
+		private final long capacity;
+		private final int max_queue;
+		private final long max_wait;
+		private long used;
+		private int waiting;
+		/** 等待时不占住虚拟线程的载体线程 (synchronized + wait 在 JDK 21 会) */
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition released = lock.newCondition();
+
+		public Gate(long capacity, int max_queue, long max_wait) {
+			this.capacity = capacity;
+			this.max_queue = max_queue;
+			this.max_wait = max_wait;
+		}
+
+		/**
+		 * 超过容量的单个请求按容量计算, 只能在没有其他请求时进入
+		 */
+		public long cost(long amount) {
+			return Math.max(0, Math.min(amount, capacity));
+		}
+
+		public boolean enter(long cost) {
+			lock.lock();
+			try {
+				if (used + cost <= capacity && 0 == waiting) {
+					used += cost;
+					return true;
+				}
+				if (waiting >= max_queue) {
+					return false;
+				}
+				waiting++;
+				try {
+					long deadline = System.currentTimeMillis() + max_wait;
+					while (used + cost > capacity) {
+						long remain = deadline - System.currentTimeMillis();
+						if (remain <= 0) {
+							return false;
+						}
+						released.await(remain, TimeUnit.MILLISECONDS);
+					}
+					used += cost;
+					return true;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				} finally {
+					waiting--;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public void leave(long cost) {
+			lock.lock();
+			try {
+				used -= cost;
+				released.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 阻塞类型的服务在回复写出之后才释放数据块占用的内存
+	 */
+	private static class Pending {
+		public Gate gate;
+		public long cost;
+	}
+
+	private static final ThreadLocal<Pending> pending = new ThreadLocal<Pending>();
+
+	private final Gate hash;
+	private final Gate part;
+	private final int retry_after;
+
+	public AdmissionControl(Properties p) {
+		int hash_max = Integer.parseInt(
+				p.getProperty("server.admit.hash.max", String.valueOf(RemoteSyncConfig.getMd5Threads())));
+		long part_bytes = Long.parseLong(p.getProperty("server.admit.part.bytes",
+				String.valueOf(Math.min(256L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 4))));
+		int max_queue = Integer.parseInt(p.getProperty("server.admit.queue", "64"));
+		long max_wait = Long.parseLong(p.getProperty("server.admit.wait", "5000"));
+		retry_after = Integer.parseInt(p.getProperty("server.admit.retry", "1000"));
+		Asserts.check(hash_max > 0, "server.admit.hash.max must great then 0");
+		Asserts.check(part_bytes > 0, "server.admit.part.bytes must great then 0");
+		Asserts.check(max_queue >= 0, "server.admit.queue must great or equal then 0");
+		Asserts.check(max_wait >= 0, "server.admit.wait must great or equal then 0");
+		Asserts.check(retry_after > 0, "server.admit.retry must great then 0");
+		hash = new Gate(hash_max, max_queue, max_wait);
+		part = new Gate(part_bytes, max_queue, max_wait);
+	}
+
+	private ServerBusy busy() {
+		ServerBusy result = new ServerBusy();
+		result.setRetry_after(retry_after);
+		return result;
+	}
+
+	/**
+	 * md5 / md5Batch / hashBatch 开始前调用, 之后必须调用 leaveHash
+	 */
+	public void enterHash() throws ServerBusy {
+		if (!hash.enter(1)) {
+			throw busy();
+		}
+	}
+
+	public void leaveHash() {
+		hash.leave(1);
+	}
+
+	/**
+	 * 读取数据块之前按请求大小占用内存, 返回占用的数量, 之后必须调用 leavePart
+	 */
+	public long enterPart(long bytes) throws ServerBusy {
+		long cost = part.cost(bytes);
+		if (!part.enter(cost)) {
+			throw busy();
+		}
+		return cost;
+	}
+
+	/**
+	 * 在阻塞类型的服务中推迟到回复写出之后 (StackProcessor 调用 releasePending), 否则立即释放
+	 */
+	public void leavePart(long cost) {
+		if (null != StackProcessor.currentConnection() && null == pending.get()) {
+			Pending item = new Pending();
+			item.gate = part;
+			item.cost = cost;
+			pending.set(item);
+		} else {
+			part.leave(cost);
+		}
+	}
+
+	public static void releasePending() {
+		Pending item = pending.get();
+		if (null != item) {
+			pending.remove();
+			item.gate.leave(item.cost);
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package com.hjh.files.sync.server;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.RemoteFileManage;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+import com.hjh.files.sync.common.util.ChunkUtil;
+import com.hjh.files.sync.common.util.ThreadUtil;
+
+/**
+ * 数据端口: 客户端先通过 openData 取得一次性的 ticket, 连接后发送 ticket,
+ * 服务端用 transferTo (sendfile) 发送对应范围的原始数据, 发送完关闭连接
+ */
+public class DataServer {
+
+	private static ILog logger = HLogFactory.create(DataServer.class);
+
+	public static final int TICKET_SIZE = 16;
+	private static final long TICKET_TIME = 60 * 1000;
+	private static final long SHAPE_STEP = 1024 * 1024;
+
+	private static class Ticket {
+		public String folder;
+		public String path;
+		public long offset;
+		public long length;
+		public long time;
+	}
+
+	private ServerForSync server;
+	private int port;
+	private SecureRandom random = new SecureRandom();
+	private Map<String, Ticket> tickets = new HashMap<String, Ticket>();
+	private ServerSocketChannel socket;
+	private ExecutorService workers;
+
+	public DataServer(ServerForSync server, int port) {
+		this.server = server;
+		this.port = port;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public byte[] issue(String folder, String path, long offset, long length) {
+		Ticket ticket = new Ticket();
+		ticket.folder = folder;
+		ticket.path = path;
+		ticket.offset = offset;
+		ticket.length = length;
+		ticket.time = System.currentTimeMillis();
+		byte[] key = new byte[TICKET_SIZE];
+		random.nextBytes(key);
+		synchronized (tickets) {
+			Iterator<Ticket> it = tickets.values().iterator();
+			while (it.hasNext()) {
+				if (ticket.time - it.next().time > TICKET_TIME) {
+					it.remove();
+				}
+			}
+			tickets.put(ChunkUtil.hex(key), ticket);
+		}
+		return key;
+	}
+
+	private Ticket take(byte[] key) {
+		synchronized (tickets) {
+			Ticket ticket = tickets.remove(ChunkUtil.hex(key));
+			if (null == ticket || System.currentTimeMillis() - ticket.time > TICKET_TIME) {
+				return null;
+			}
+			return ticket;
+		}
+	}
+
+	public void start() throws IOException {
+		socket = ServerSocketChannel.open();
+		socket.socket().setReuseAddress(true);
+		socket.socket().bind(new InetSocketAddress(port));
+		workers = ThreadUtil.pool("data-worker", true);
+		Thread thread = new Thread("data-accept-" + port) {
+			public void run() {
+				while (true) {
+					final SocketChannel channel;
+					try {
+						channel = socket.accept();
+					} catch (ClosedChannelException e) {
+						return;
+					} catch (IOException e) {
+						logger.error("data port accept failed", e);
+						continue;
+					}
+					workers.execute(new Runnable() {
+						public void run() {
+							serve(channel);
+						}
+					});
+				}
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+		logger.stdout("数据端口:" + port);
+	}
+
+	private void serve(SocketChannel channel) {
+		try {
+			channel.socket().setSoTimeout(RemoteSyncConfig.getTimeout());
+			byte[] key = new byte[TICKET_SIZE];
+			new DataInputStream(channel.socket().getInputStream()).readFully(key);
+			Ticket ticket = take(key);
+			if (null == ticket) {
+				logger.info("unknown data ticket from " + channel.socket().getRemoteSocketAddress());
+				return;
+			}
+			long len = transfer(ticket, channel);
+			logger.info(String.format("data [%s] [%s] [%d] send %d", ticket.folder, ticket.path, ticket.offset, len));
+		} catch (IOException e) {
+			logger.info("data transfer failed :" + e.getMessage());
+		} catch (RuntimeException e) {
+			logger.error("data transfer failed", e);
+		} finally {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				logger.error("close data connection failed", e);
+			}
+		}
+	}
+
+	/**
+	 * 数据端口的发送记录在方法 "data" 和对应目录的统计中
+	 */
+	private long transfer(Ticket ticket, SocketChannel channel) throws IOException {
+		RemoteFileManage manage = server.get(ticket.folder);
+		RpcStats rpc = server.getStats().method("data");
+		RpcStats folder = server.getStats().folder(ticket.folder);
+		rpc.begin();
+		folder.begin();
+		long start = System.nanoTime();
+		boolean error = true;
+		try {
+			long len = shapedTransfer(manage, ticket, channel);
+			rpc.addBytes(len);
+			folder.addBytes(len);
+			error = false;
+			return len;
+		} catch (UnsupportedOperationException e) {
+			// 之后不再为这个目录发放 ticket, 客户端收到的数据不足时改用 stream
+			server.disableTransfer(ticket.folder);
+			throw e;
+		} finally {
+			long micros = (System.nanoTime() - start) / 1000;
+			rpc.end(micros, error);
+			folder.end(micros, error);
+		}
+	}
+
+	/**
+	 * 开启限速时按 SHAPE_STEP 分段发送, 每段之前申请带宽
+	 */
+	private long shapedTransfer(RemoteFileManage manage, Ticket ticket, SocketChannel channel) throws IOException {
+		TrafficShaper shaper = server.getShaper();
+		if (!shaper.isEnabled()) {
+			return manage.transfer(ticket.path, ticket.offset, ticket.length, channel);
+		}
+		long total = 0;
+		while (total < ticket.length) {
+			long step = Math.min(SHAPE_STEP, ticket.length - total);
+			shaper.acquire(channel, ticket.folder, step);
+			long len = manage.transfer(ticket.path, ticket.offset + total, step, channel);
+			total += len;
+			if (len < step) {
+				shaper.refund(channel, ticket.folder, step - len);
+				break;
+			}
+		}
+		return total;
+	}
+
+	public void stop() {
+		try {
+			if (null != socket) {
+				socket.close();
+			}
+		} catch (IOException e) {
+			logger.error("close data port failed", e);
+		}
+		if (null != workers) {
+			workers.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.hjh.files.sync.server;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+
+/**
+ * 服务目录表: 每个目录只创建一次, 请求时只做一次查表; 可以在运行时增加、删除或修改目录,
+ * 被移除或替换的目录关闭后端的资源
+ */
+public class FolderRegistry {
+
+	private static ILog logger = HLogFactory.create(FolderRegistry.class);
+	public static final String PORP_KEY_PREFIX = "server.folder.";
+
+	private final Map<String, ServerFolder> folders = new ConcurrentHashMap<String, ServerFolder>();
+	private File cache_folder;
+	private long cache_size;
+	private long cache_ttl;
+
+	/**
+	 * 之后加入的代理目录使用缓存
+	 */
+	public void enableCache(File folder, long max_size, long ttl) {
+		this.cache_folder = folder;
+		this.cache_size = max_size;
+		this.cache_ttl = ttl;
+	}
+
+	public ServerFolder add(String name, String url) {
+		Asserts.notBlank(name, "folder name can not blank");
+		Asserts.notBlank(url, "folder url can not blank");
+		ServerFolder folder = new ServerFolder(name, url);
+		if (null != cache_folder && folder.isProxy()) {
+			folder.enableCache(new File(cache_folder, name), cache_size, cache_ttl);
+			logger.stdout("代理缓存:" + name + ":" + cache_folder);
+		}
+		ServerFolder old = folders.put(name, folder);
+		logger.stdout("服务目录:" + name + ":From:" + url);
+		if (null != old) {
+			old.close();
+		}
+		return folder;
+	}
+
+	public boolean remove(String name) {
+		ServerFolder old = folders.remove(name);
+		if (null != old) {
+			logger.stdout("移除服务目录:" + name);
+			old.close();
+			return true;
+		}
+		return false;
+	}
+
+	public ServerFolder get(String name) {
+		return null == name ? null : folders.get(name);
+	}
+
+	public ServerFolder[] list() {
+		return folders.values().toArray(new ServerFolder[0]);
+	}
+
+	public int size() {
+		return folders.size();
+	}
+
+	/**
+	 * 按配置中的 server.folder.* 增加、删除或修改 (url 变化) 目录, 没有变化的目录保持不变
+	 */
+	public void sync(Properties p) {
+		Map<String, String> target = new HashMap<String, String>();
+		for (Object item : p.keySet().toArray()) {
+			if (item.toString().startsWith(PORP_KEY_PREFIX)) {
+				target.put(item.toString().substring(PORP_KEY_PREFIX.length()), p.getProperty(item.toString()));
+			}
+		}
+		for (String name : folders.keySet().toArray(new String[0])) {
+			if (!target.containsKey(name)) {
+				remove(name);
+			}
+		}
+		for (Map.Entry<String, String> item : target.entrySet()) {
+			ServerFolder cur = folders.get(item.getKey());
+			if (null == cur || !cur.getUrl().equals(item.getValue())) {
+				add(item.getKey(), item.getValue());
+			}
+		}
+	}
+
+}
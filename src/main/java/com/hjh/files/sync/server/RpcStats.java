@@ -0,0 +1,99 @@
+package com.hjh.files.sync.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.hjh.files.sync.common.util.LatencyHistogram;
+
+import tutorial.RpcStat;
+
+/**
+ * 一个方法或一个目录的统计: 调用次数、错误数、并发数、发送字节数和延迟直方图 (微秒), 不加锁
+ */
+public class RpcStats implements RpcStatsMBean {
+
+	private final String name;
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicLong bytes = new AtomicLong();
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	public RpcStats(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void begin() {
+		active.incrementAndGet();
+	}
+
+	public void end(long micros, boolean error) {
+		active.decrementAndGet();
+		latency.record(micros);
+		if (error) {
+			errors.incrementAndGet();
+		}
+	}
+
+	public void addBytes(long len) {
+		if (len > 0) {
+			bytes.addAndGet(len);
+		}
+	}
+
+	public long getCalls() {
+		return latency.getCount();
+	}
+
+	public long getErrors() {
+		return errors.get();
+	}
+
+	public int getActive() {
+		return active.get();
+	}
+
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	public double getMeanMillis() {
+		long calls = latency.getCount();
+		return 0 == calls ? 0 : latency.getSum() / 1000.0 / calls;
+	}
+
+	public double getP50Millis() {
+		return latency.percentile(0.5) / 1000.0;
+	}
+
+	public double getP90Millis() {
+		return latency.percentile(0.9) / 1000.0;
+	}
+
+	public double getP99Millis() {
+		return latency.percentile(0.99) / 1000.0;
+	}
+
+	public double getMaxMillis() {
+		return latency.getMax() / 1000.0;
+	}
+
+	public RpcStat toStat() {
+		RpcStat result = new RpcStat();
+		result.setName(name);
+		result.setCalls(latency.getCount());
+		result.setErrors(errors.get());
+		result.setActive(active.get());
+		result.setBytes(bytes.get());
+		result.setTotal_micros(latency.getSum());
+		result.setP50_micros(latency.percentile(0.5));
+		result.setP90_micros(latency.percentile(0.9));
+		result.setP99_micros(latency.percentile(0.99));
+		result.setMax_micros(latency.getMax());
+		return result;
+	}
+
+}
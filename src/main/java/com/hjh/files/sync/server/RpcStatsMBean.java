@@ -0,0 +1,26 @@
+package com.hjh.files.sync.server;
+
+/**
+ * JMX 接口: com.hjh.files.sync:type=Rpc 或 type=Folder, 时间单位为毫秒
+ */
+public interface RpcStatsMBean {
+
+	long getCalls();
+
+	long getErrors();
+
+	int getActive();
+
+	long getBytes();
+
+	double getMeanMillis();
+
+	double getP50Millis();
+
+	double getP90Millis();
+
+	double getP99Millis();
+
+	double getMaxMillis();
+
+}
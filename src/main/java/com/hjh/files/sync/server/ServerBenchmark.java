@@ -0,0 +1,143 @@
+package com.hjh.files.sync.server;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.util.Asserts;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import com.hjh.files.sync.common.RemoteSyncConfig;
+
+import tutorial.SyncFileServer;
+
+/**
+ * 对比各服务类型在大量并发连接下的吞吐和延迟: 参数 folder file [clients] [seconds] [types] [port]
+ * <br>
+ * 每个客户端一个连接 (binary/framed, 所有类型都支持), 交替调用 listFiles 和 part (file 的前 64K)
+ */
+public class ServerBenchmark {
+
+	private static final int PART_SIZE = 64 * 1024;
+
+	public static void main(String[] argv) throws Exception {
+		Asserts.check(argv.length >= 2, "require params folder file [clients] [seconds] [types] [port]");
+		String folder = argv[0];
+		String file = argv[1];
+		int clients = argv.length > 2 ? Integer.parseInt(argv[2]) : 200;
+		int seconds = argv.length > 3 ? Integer.parseInt(argv[3]) : 10;
+		// simple 同时只处理一个连接, 不参与并发对比
+		String[] types = (argv.length > 4 ? argv[4] : "mult_thread,nio,selector").split(",");
+		int port = argv.length > 5 ? Integer.parseInt(argv[5]) : 9960;
+
+		for (String type : types) {
+			run(type.trim(), port++, folder, file, clients, seconds);
+		}
+	}
+
+	private static void run(String type, final int port, String folder, final String file, int clients,
+			int seconds) throws Exception {
+		Properties p = new Properties();
+		p.setProperty("server.type", type);
+		p.setProperty("server.port", String.valueOf(port));
+		p.setProperty("server.folder.bench", folder);
+		File prop = File.createTempFile("bench", ".properties");
+		OutputStream out = new FileOutputStream(prop);
+		try {
+			p.store(out, null);
+		} finally {
+			out.close();
+		}
+
+		final ServerForSync server = new ServerForSync(prop.getAbsolutePath());
+		Thread serve = new Thread("bench-server") {
+			public void run() {
+				try {
+					server.start();
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		};
+		serve.setDaemon(true);
+		serve.start();
+		Thread.sleep(1000);
+
+		final long end = System.currentTimeMillis() + seconds * 1000L;
+		final AtomicLong errors = new AtomicLong();
+		final List<long[]> latencies = new ArrayList<long[]>();
+		final CountDownLatch done = new CountDownLatch(clients);
+		for (int i = 0; i < clients; i++) {
+			final long[] cur = new long[1 << 16];
+			latencies.add(cur);
+			Thread thread = new Thread("bench-client-" + i) {
+				public void run() {
+					TTransport socket = new TSocket("127.0.0.1", port, RemoteSyncConfig.getTimeout());
+					try {
+						socket.open();
+						TTransport transport = new TFramedTransport(socket, RemoteSyncConfig.getFrameMax());
+						SyncFileServer.Client client = new SyncFileServer.Client(new TBinaryProtocol(transport));
+						int n = 0;
+						while (System.currentTimeMillis() < end) {
+							long start = System.nanoTime();
+							if (0 == n % 2) {
+								client.listFiles("bench", null);
+							} else {
+								client.part("bench", file, 0, PART_SIZE);
+							}
+							// 第一个元素保存调用次数
+							if (n + 1 < cur.length) {
+								cur[n + 1] = System.nanoTime() - start;
+							}
+							n++;
+							cur[0] = n;
+						}
+					} catch (Exception e) {
+						errors.incrementAndGet();
+					} finally {
+						socket.close();
+						done.countDown();
+					}
+				}
+			};
+			thread.setDaemon(true);
+			thread.start();
+		}
+		done.await();
+		server.stop();
+		Asserts.check(prop.delete(), "can not delete :" + prop.getAbsolutePath());
+
+		long calls = 0;
+		for (long[] cur : latencies) {
+			calls += cur[0];
+		}
+		long[] all = new long[(int) Math.min(calls, Integer.MAX_VALUE - 8)];
+		int size = 0;
+		for (long[] cur : latencies) {
+			int n = (int) Math.min(cur[0], cur.length - 1);
+			System.arraycopy(cur, 1, all, size, n);
+			size += n;
+		}
+		Arrays.sort(all, 0, size);
+		System.out.println(String.format("%-12s %d clients  %.0f calls/s  p50 %.2f ms  p99 %.2f ms  max %.2f ms  errors %d",
+				type, clients, calls / (double) seconds, percentile(all, size, 0.5), percentile(all, size, 0.99),
+				percentile(all, size, 1), errors.get()));
+	}
+
+	private static double percentile(long[] sorted, int size, double p) {
+		if (0 == size) {
+			return 0;
+		}
+		return sorted[(int) Math.min(size - 1, Math.floor(size * p))] / 1e6;
+	}
+
+}
@@ -1,12 +1,46 @@
 package com.hjh.files.sync.server;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
 import com.hjh.files.sync.common.RemoteFileFactory;
 import com.hjh.files.sync.common.RemoteFileManage;
+import com.hjh.files.sync.common.cache.RemoteFileManageCacheImpl;
+import com.hjh.files.sync.common.cache.RemoteFileManageSingleFlightImpl;
+import com.hjh.files.sync.common.util.DigestUtil;
 
+/**
+ * 服务目录, 后端 (本地目录或上游代理, 以及缓存和合并请求的状态) 在第一次使用时创建, 之后所有请求共用
+ */
 public class ServerFolder {
 
+	private static ILog logger = HLogFactory.create(ServerFolder.class);
+	/** 上游无法访问时, 这段时间 (毫秒) 内不再探测, 直接按不支持处理 */
+	private static final long PROBE_RETRY = 30 * 1000L;
+
 	private String name;
 	private String url;
+	private File cache_folder;
+	private long cache_size;
+	private long cache_ttl;
+	private volatile RemoteFileManage manage;
+	/** 已经被移除或替换 */
+	private boolean closed;
+	/** 代理目录的上游是否支持摘要算法, 上游无法访问时不记录 */
+	private final Map<String, Boolean> digests = new ConcurrentHashMap<String, Boolean>();
+	/** 代理目录的上游是否可以通过数据端口发送, null 表示还没有探测 */
+	private volatile Boolean transfer;
+	/** 最近一次探测上游失败的时间 */
+	private volatile long probe_failed;
 
 	public ServerFolder(String name, String url) {
 		this.name = name;
@@ -17,23 +51,130 @@ public class ServerFolder {
 		return name;
 	}
 
-	public void setName(String name) {
-		this.name = name;
-	}
-
 	public String getUrl() {
 		return url;
 	}
 
-	public void setUrl(String url) {
-		this.url = url;
+	public boolean isProxy() {
+		return url.startsWith("from:");
+	}
+
+	/**
+	 * 本地目录支持所有已注册的算法; 代理目录只能使用上游也支持的算法 (md5 总是支持),
+	 * 上游无法访问时返回 false, PROBE_RETRY 之后再重新探测
+	 */
+	public boolean supportsDigest(String algorithm) {
+		if (!isProxy() || DigestUtil.MD5.equals(algorithm)) {
+			return DigestUtil.isSupported(algorithm);
+		}
+		Boolean cur = digests.get(algorithm);
+		if (null == cur) {
+			if (probeFailedRecently()) {
+				return false;
+			}
+			try {
+				cur = algorithm.equals(get().chooseDigest(algorithm));
+			} catch (RuntimeException e) {
+				logger.error("can not query digests of upstream :" + url, e);
+				probe_failed = System.currentTimeMillis();
+				return false;
+			}
+			digests.put(algorithm, cur);
+		}
+		return cur;
 	}
 
+	/**
+	 * 本地目录总是可以通过数据端口发送; 代理目录第一次使用时以长度 0 的 transfer 探测上游,
+	 * 上游没有数据端口时记录为不支持, 上游无法访问时返回 false, PROBE_RETRY 之后再重新探测
+	 */
+	public boolean supportsTransfer(String path) {
+		if (!isProxy()) {
+			return true;
+		}
+		Boolean cur = transfer;
+		if (null == cur) {
+			if (probeFailedRecently()) {
+				return false;
+			}
+			try {
+				get().transfer(path, 0, 0, Channels.newChannel(new ByteArrayOutputStream()));
+				cur = true;
+			} catch (UnsupportedOperationException e) {
+				logger.info("data port is not supported by upstream :" + url);
+				cur = false;
+			} catch (IOException e) {
+				logger.error("can not query data port of upstream :" + url, e);
+				probe_failed = System.currentTimeMillis();
+				return false;
+			} catch (RuntimeException e) {
+				logger.error("can not query data port of upstream :" + url, e);
+				probe_failed = System.currentTimeMillis();
+				return false;
+			}
+			transfer = cur;
+		}
+		return cur;
+	}
+
+	private boolean probeFailedRecently() {
+		return System.currentTimeMillis() - probe_failed < PROBE_RETRY;
+	}
+
+	/**
+	 * 上游的数据端口已经不可用 (例如上游重新启动时关闭了数据端口)
+	 */
+	public void disableTransfer() {
+		transfer = false;
+	}
+
+	/**
+	 * 代理目录使用缓存, 数据块保存在 folder 下; 需要在第一次 get 之前调用
+	 */
+	public void enableCache(File folder, long max_size, long ttl) {
+		this.cache_folder = folder;
+		this.cache_size = max_size;
+		this.cache_ttl = ttl;
+	}
+
+	/**
+	 * 创建失败 (例如目录暂时不存在) 时抛出异常, 下次调用时重试
+	 */
 	public RemoteFileManage get() {
-		return RemoteFileFactory.queryManage(url);
+		RemoteFileManage result = manage;
+		if (null == result) {
+			synchronized (this) {
+				Asserts.check(!closed, "folder is removed :" + name);
+				if (null == manage) {
+					RemoteFileManage backend = RemoteFileFactory.queryManage(url);
+					if (null != cache_folder) {
+						backend = new RemoteFileManageCacheImpl(backend, url, cache_folder, cache_size, cache_ttl);
+					}
+					manage = new RemoteFileManageSingleFlightImpl(backend);
+				}
+				result = manage;
+			}
+		}
+		return result;
 	}
 
-	
-	
+	/**
+	 * 目录被移除或替换时释放后端 (变更日志、摘要索引、打开的文件和缓存), 之后的 get 抛出异常
+	 */
+	public void close() {
+		RemoteFileManage cur;
+		synchronized (this) {
+			closed = true;
+			cur = manage;
+			manage = null;
+		}
+		if (cur instanceof Closeable) {
+			try {
+				((Closeable) cur).close();
+			} catch (IOException e) {
+				logger.error("close folder failed :" + name, e);
+			}
+		}
+	}
 
 }
@@ -2,15 +2,19 @@ package com.hjh.files.sync.server;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 
 import org.apache.http.util.Asserts;
+import org.apache.thrift.TProcessor;
 import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TSimpleServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
 import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TNonblockingServerTransport;
 import org.apache.thrift.transport.TSSLTransportFactory;
@@ -25,7 +29,11 @@ import com.hjh.files.sync.common.RemoteFileManage;
 import com.hjh.files.sync.common.RemoteSyncConfig;
 import com.hjh.files.sync.common.log.LogUtil;
 import com.hjh.files.sync.common.thrift.ThriftClientPool;
+import com.hjh.files.sync.common.thrift.ThriftStack;
+import com.hjh.files.sync.common.util.CompressUtil;
+import com.hjh.files.sync.common.util.DigestUtil;
 import com.hjh.files.sync.common.util.PropertiesUtils;
+import com.hjh.files.sync.common.util.ThreadUtil;
 
 import tutorial.SyncFileServer;
 
@@ -36,7 +44,6 @@ public class ServerForSync {
 	}
 
 	private static ILog logger = HLogFactory.create(ServerForSync.class);
-	private static final String PORP_KEY_PREFIX = "server.folder.";
 
 	public static void main(String argv[]) throws IOException, TTransportException {
 
@@ -57,33 +64,212 @@ public class ServerForSync {
 	private String type;
 	private int port;
 	private String keystore;
-	private Map<String, ServerFolder> folders;
+	private int stream_window;
+	private long wait_max;
+	private List<String> codecs;
+	private List<String> digests;
+	private String protocol;
+	private String transport;
+	private int frame_max;
+	private List<String> stacks;
+	private String prop_path;
+	private long reload_interval;
+	private FolderRegistry folders = new FolderRegistry();
 	private TServer tserver;
+	private int data_port;
+	private DataServer data_server;
+	/** start 时启动, stop 时停止 */
+	private Thread reload_thread;
+	private ServerStats stats;
+	private TrafficShaper shaper;
+	private AdmissionControl admission;
 
 	public int getPort() {
 		return port;
 	}
 
+	public List<String> getCodecs() {
+		return codecs;
+	}
+
+	public List<String> getDigests() {
+		return digests;
+	}
+
+	/**
+	 * digests(folder) 返回的算法: 代理目录只保留它的上游支持的算法;
+	 * 旧版本的客户端不传 folder, 只保留所有代理目录的上游都支持的算法
+	 */
+	public List<String> getAdvertisedDigests(String folder) {
+		List<String> result = new ArrayList<String>(digests);
+		List<ServerFolder> cur = new ArrayList<ServerFolder>();
+		if (null == folder) {
+			cur.addAll(Arrays.asList(folders.list()));
+		} else {
+			ServerFolder item = folders.get(folder);
+			if (null != item) {
+				cur.add(item);
+			}
+		}
+		for (ServerFolder item : cur) {
+			if (item.isProxy()) {
+				for (Iterator<String> it = result.iterator(); it.hasNext();) {
+					if (!item.supportsDigest(it.next())) {
+						it.remove();
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * hashBatch 的算法是否可以用于 folder
+	 */
+	public boolean supportsDigest(String folder, String algorithm) {
+		ServerFolder cur = folders.get(folder);
+		return digests.contains(algorithm) && (null == cur || cur.supportsDigest(algorithm));
+	}
+
+	/**
+	 * 是否可以为 folder 发放数据端口的 ticket
+	 */
+	public boolean supportsTransfer(String folder, String path) {
+		ServerFolder cur = folders.get(folder);
+		return null == cur || cur.supportsTransfer(path);
+	}
+
+	public void disableTransfer(String folder) {
+		ServerFolder cur = folders.get(folder);
+		if (null != cur) {
+			cur.disableTransfer();
+		}
+	}
+
+	/**
+	 * 服务端支持的协议栈 (用于 handshake)
+	 */
+	public List<String> getStacks() {
+		return stacks;
+	}
+
+	/**
+	 * waitForChanges 最长的等待时间
+	 */
+	public long getWaitMax() {
+		return wait_max;
+	}
+
+	/**
+	 * 没有开启数据端口时为 null
+	 */
+	public DataServer getDataServer() {
+		return data_server;
+	}
+
+	public ServerStats getStats() {
+		return stats;
+	}
+
+	public AdmissionControl getAdmission() {
+		return admission;
+	}
+
+	public TrafficShaper getShaper() {
+		return shaper;
+	}
+
+	public int getStreamWindow() {
+		return stream_window;
+	}
+
 	public ServerFolder[] getFolders() {
-		return folders.values().toArray(new ServerFolder[folders.size()]);
+		return folders.list();
+	}
+
+	/**
+	 * 运行时增加 (或替换) 服务目录
+	 */
+	public ServerFolder addFolder(String name, String url) {
+		return folders.add(name, url);
+	}
+
+	public boolean removeFolder(String name) {
+		return folders.remove(name);
 	}
 
 	public ServerForSync(String propPath) throws IOException {
+		prop_path = propPath;
 		Properties p = PropertiesUtils.load(propPath);
+		File prop_file = new File(propPath);
+		if (!p.containsKey("server.index.folder") && prop_file.isFile()) {
+			// 摘要索引默认保存在配置文件所在的目录
+			p.setProperty("server.index.folder",
+					new File(prop_file.getAbsoluteFile().getParentFile(), "digest_index").getAbsolutePath());
+		}
 		RemoteSyncConfig.init(p);
 		port = Integer.parseInt(p.getProperty("server.port", "9958"));
 		type = p.getProperty("server.type", "simple");
 		keystore = p.getProperty("server.keystore");
+		stream_window = Integer.parseInt(p.getProperty("server.stream.window", "8"));
+		Asserts.check(stream_window > 0, "server.stream.window must great then 0");
+
+		// 长轮询会占用一个处理线程, 只有 mult_thread 默认开启
+		wait_max = Long.parseLong(p.getProperty("server.wait.max", "mult_thread".equals(type) ? "30000" : "0"));
+		Asserts.check(wait_max >= 0, "server.wait.max must great or equal then 0");
+
+		codecs = new ArrayList<String>();
+		for (String codec : p.getProperty("server.compress.codecs", "fast,deflate").split(",")) {
+			codec = codec.trim();
+			if (codec.length() > 0) {
+				Asserts.check(CompressUtil.isSupported(codec), "unknown codec in server.compress.codecs:" + codec);
+				codecs.add(codec);
+			}
+		}
+
+		digests = new ArrayList<String>();
+		for (String digest : p.getProperty("server.digests", "xxh64,sha256,md5").split(",")) {
+			digest = digest.trim();
+			if (digest.length() > 0) {
+				Asserts.check(DigestUtil.isSupported(digest), "unknown digest in server.digests:" + digest);
+				digests.add(digest);
+			}
+		}
 
-		folders = new HashMap<String, ServerFolder>();
-		for (Object item : p.keySet().toArray()) {
-			if (item.toString().startsWith(PORP_KEY_PREFIX)) {
-				ServerFolder cur = new ServerFolder(item.toString().substring(PORP_KEY_PREFIX.length()),
-						(String) p.get(item));
-				folders.put(cur.getName(), cur);
-				logger.stdout("服务目录:" + cur.getName() + ":From:" + cur.getUrl());
+		protocol = p.getProperty("server.protocol", ThriftStack.AUTO);
+		transport = p.getProperty("server.transport", ThriftStack.AUTO);
+		frame_max = RemoteSyncConfig.getFrameMax();
+		if ("nio".equals(type) || "selector".equals(type)) {
+			// nio 和 selector 服务只支持分帧, 并且协议固定
+			transport = ThriftStack.FRAMED;
+			if (ThriftStack.AUTO.equals(protocol)) {
+				protocol = ThriftStack.BINARY;
 			}
 		}
+		stacks = ThriftStack.list(protocol, transport);
+		logger.stdout("协议栈:" + stacks);
+
+		data_port = Integer.parseInt(p.getProperty("server.data.port", "0"));
+		if (data_port > 0 && null != keystore) {
+			// 数据端口不加密
+			logger.stdout("server.keystore 已配置, 不开启数据端口");
+			data_port = 0;
+		}
+
+		String cache_folder = p.getProperty("server.cache.folder");
+		if (null != cache_folder) {
+			long cache_size = Long.parseLong(p.getProperty("server.cache.size", String.valueOf(1024L * 1024 * 1024)));
+			long cache_ttl = Long.parseLong(p.getProperty("server.cache.ttl", "5000"));
+			Asserts.check(cache_size > 0, "server.cache.size must great then 0");
+			folders.enableCache(new File(cache_folder), cache_size, cache_ttl);
+		}
+
+		shaper = new TrafficShaper(p);
+		admission = new AdmissionControl(p);
+		stats = new ServerStats("true".equals(p.getProperty("server.stats.jmx", "true")));
+
+		folders.sync(p);
+		reload_interval = Long.parseLong(p.getProperty("server.reload.interval", "0"));
 
 		if (folders.size() == 0) {
 			logger.info("can not find any server folders");
@@ -97,9 +283,17 @@ public class ServerForSync {
 					try {
 						logger.stdout("停止server");
 						tserver.stop();
+						if (null != data_server) {
+							data_server.stop();
+						}
+						if (null != reload_thread) {
+							reload_thread.interrupt();
+						}
 						logger.stdout("停止server ok");
 					} finally {
 						tserver = null;
+						data_server = null;
+						reload_thread = null;
 					}
 				}
 			}
@@ -113,36 +307,62 @@ public class ServerForSync {
 				throw new RuntimeException("Server is start!");
 			}
 
-			SyncFileServerHandler handler = new SyncFileServerHandler(this);
-			SyncFileServer.Processor<SyncFileServerHandler> processor = new SyncFileServer.Processor<SyncFileServerHandler>(
+			SyncFileServer.Iface handler = StatsHandler.wrap(new SyncFileServerHandler(this), this);
+			SyncFileServer.Processor<SyncFileServer.Iface> processor = new SyncFileServer.Processor<SyncFileServer.Iface>(
 					handler);
 
+			startReload();
+
+			if (data_port > 0) {
+				data_server = new DataServer(this, data_port);
+				try {
+					data_server.start();
+				} catch (IOException e) {
+					throw new TTransportException(e);
+				}
+			}
+
 			if (null == this.keystore) {
-				tserver = simple(processor, port, type);
+				tserver = simple(processor, port, type, protocol, frame_max);
 			} else {
-				tserver = secure(processor, port, type, keystore);
+				tserver = secure(processor, port, type, keystore, frame_max);
 			}
 		}
 
 		tserver.serve();
 	}
 
-	public static TServer simple(SyncFileServer.Processor<SyncFileServerHandler> processor, int port, String type)
-			throws TTransportException {
+	public static TServer simple(SyncFileServer.Processor<SyncFileServer.Iface> processor, int port, String type,
+			String protocol, int frame_max) throws TTransportException {
 
 		TServer server;
 		TServerTransport transport;
 
 		if ("simple".equals(type)) {
 			transport = new TServerSocket(port, RemoteSyncConfig.getTimeout());
-			server = new TSimpleServer(new TSimpleServer.Args(transport).processor(processor));
+			server = new TSimpleServer(new TSimpleServer.Args(transport).transportFactory(stack(frame_max))
+					.processor(stack(processor)));
 		} else if ("mult_thread".equals(type)) {
 			transport = new TServerSocket(port, RemoteSyncConfig.getTimeout());
-			server = new TThreadPoolServer(new TThreadPoolServer.Args(transport).processor(processor));
+			server = new TThreadPoolServer(threadPool(new TThreadPoolServer.Args(transport))
+					.transportFactory(stack(frame_max)).processor(stack(processor)));
 		} else if ("nio".equals(type)) {
 			TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(port,
 					RemoteSyncConfig.getTimeout());
-			server = new THsHaServer(new THsHaServer.Args(serverTransport).processor(processor));
+			THsHaServer.Args args = new THsHaServer.Args(serverTransport);
+			args.maxReadBufferBytes = frame_max;
+			server = new THsHaServer(args.protocolFactory(ThriftStack.protocolFactory(protocol)).processor(processor));
+			transport = serverTransport;
+		} else if ("selector".equals(type)) {
+			TNonblockingServerTransport serverTransport = new TNonblockingServerSocket(port,
+					RemoteSyncConfig.getTimeout());
+			TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(serverTransport);
+			args.maxReadBufferBytes = frame_max;
+			args.selectorThreads(RemoteSyncConfig.getSelectorThreads())
+					.workerThreads(RemoteSyncConfig.getWorkerThreads())
+					.acceptQueueSizePerThread(RemoteSyncConfig.getAcceptQueue());
+			server = new TThreadedSelectorServer(
+					args.protocolFactory(ThriftStack.protocolFactory(protocol)).processor(processor));
 			transport = serverTransport;
 		} else {
 			throw new RuntimeException("can not create server by type:" + type);
@@ -152,8 +372,8 @@ public class ServerForSync {
 		return server;
 	}
 
-	public static TServer secure(SyncFileServer.Processor<SyncFileServerHandler> processor, int port, String type,
-			String keystoreConfig) throws TTransportException {
+	public static TServer secure(SyncFileServer.Processor<SyncFileServer.Iface> processor, int port, String type,
+			String keystoreConfig, int frame_max) throws TTransportException {
 
 		TServer server;
 		TServerTransport transport;
@@ -196,9 +416,11 @@ public class ServerForSync {
 		transport = TSSLTransportFactory.getServerSocket(port, RemoteSyncConfig.getTimeout(), null, params);
 
 		if ("simple".equals(type)) {
-			server = new TSimpleServer(new TSimpleServer.Args(transport).processor(processor));
+			server = new TSimpleServer(new TSimpleServer.Args(transport).transportFactory(stack(frame_max))
+					.processor(stack(processor)));
 		} else if ("mult_thread".equals(type)) {
-			server = new TThreadPoolServer(new TThreadPoolServer.Args(transport).processor(processor));
+			server = new TThreadPoolServer(threadPool(new TThreadPoolServer.Args(transport))
+					.transportFactory(stack(frame_max)).processor(stack(processor)));
 		} else {
 			throw new RuntimeException("can not create secure server by type:" + type);
 		}
@@ -211,8 +433,71 @@ public class ServerForSync {
 		return server;
 	}
 
+	/**
+	 * 开启虚拟线程时每个连接一个虚拟线程, 否则使用 thrift 的线程池 (server.max.threads 限制最大线程数)
+	 */
+	private static TThreadPoolServer.Args threadPool(TThreadPoolServer.Args args) {
+		if (ThreadUtil.isVirtual()) {
+			args.executorService(ThreadUtil.pool("thrift-worker", true));
+			logger.stdout("mult_thread 使用虚拟线程");
+		} else if (RemoteSyncConfig.getMaxThreads() > 0) {
+			// 连接数超过后新连接等待, thrift 在 requestTimeout 之后关闭等待的连接
+			args.minWorkerThreads(Math.min(5, RemoteSyncConfig.getMaxThreads()))
+					.maxWorkerThreads(RemoteSyncConfig.getMaxThreads());
+			logger.stdout("mult_thread 最大线程数:" + RemoteSyncConfig.getMaxThreads());
+		}
+		return args;
+	}
+
+	private static StackTransport.Factory stack(int frame_max) {
+		return new StackTransport.Factory(frame_max);
+	}
+
+	private static TProcessor stack(TProcessor processor) {
+		return new StackProcessor(processor);
+	}
+
+	public boolean isFolder(String folder) {
+		return null != folders.get(folder);
+	}
+
 	public RemoteFileManage get(String folder) {
-		return this.folders.get(folder).get();
+		ServerFolder cur = folders.get(folder);
+		Asserts.notNull(cur, "unknown folder :" + folder);
+		return cur.get();
+	}
+
+	/**
+	 * 配置文件修改后重新读取 server.folder.*, 不需要重启即可增加或删除目录; 只有一个线程
+	 */
+	private void startReload() {
+		final File file = new File(prop_path);
+		if (reload_interval <= 0 || !file.isFile() || null != reload_thread) {
+			return;
+		}
+		reload_thread = new Thread("folder-reload") {
+			public void run() {
+				long last_modify = file.lastModified();
+				while (true) {
+					try {
+						Thread.sleep(reload_interval);
+					} catch (InterruptedException e) {
+						return;
+					}
+					if (file.lastModified() == last_modify) {
+						continue;
+					}
+					last_modify = file.lastModified();
+					try {
+						folders.sync(PropertiesUtils.load(prop_path));
+					} catch (Exception e) {
+						logger.error("reload folders failed", e);
+					}
+				}
+			}
+		};
+		reload_thread.setDaemon(true);
+		reload_thread.start();
 	}
 
 }
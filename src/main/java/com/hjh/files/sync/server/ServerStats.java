@@ -0,0 +1,156 @@
+package com.hjh.files.sync.server;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.http.util.Asserts;
+import org.apache.thrift.TException;
+
+import com.hjh.files.sync.common.HLogFactory;
+import com.hjh.files.sync.common.ILog;
+import com.hjh.files.sync.common.local.DigestIndex;
+import com.hjh.files.sync.common.thrift.ThriftClientPool;
+
+import tutorial.CacheStat;
+import tutorial.RpcStat;
+import tutorial.ServerStat;
+
+/**
+ * 服务端按方法和按目录的统计, 通过 stats() 接口和 JMX (server.stats.jmx) 查看; stats() 还包括每个本地目录的摘要缓存统计
+ */
+public class ServerStats {
+
+	private static ILog logger = HLogFactory.create(ServerStats.class);
+	public static final String JMX_DOMAIN = "com.hjh.files.sync";
+
+	private final long start_time = System.currentTimeMillis();
+	private final boolean jmx;
+	private final ConcurrentMap<String, RpcStats> methods = new ConcurrentHashMap<String, RpcStats>();
+	private final ConcurrentMap<String, RpcStats> folders = new ConcurrentHashMap<String, RpcStats>();
+
+	public ServerStats(boolean jmx) {
+		this.jmx = jmx && jmxSupported();
+	}
+
+	/**
+	 * android 上没有 java.lang.management / javax.management, 不注册 MBean
+	 */
+	private static boolean jmxSupported() {
+		try {
+			Class.forName("java.lang.management.ManagementFactory");
+			Class.forName("javax.management.ObjectName");
+			return true;
+		} catch (ClassNotFoundException e) {
+			logger.info("jmx not supported, server.stats.jmx ignored");
+			return false;
+		} catch (LinkageError e) {
+			logger.info("jmx not supported, server.stats.jmx ignored");
+			return false;
+		}
+	}
+
+	public RpcStats method(String name) {
+		return get(methods, "Rpc", name);
+	}
+
+	/**
+	 * 只应该为已配置的目录调用, 避免任意的目录名占用内存
+	 */
+	public RpcStats folder(String name) {
+		return get(folders, "Folder", name);
+	}
+
+	private RpcStats get(ConcurrentMap<String, RpcStats> map, String type, String name) {
+		RpcStats cur = map.get(name);
+		if (null != cur) {
+			return cur;
+		}
+		RpcStats created = new RpcStats(name);
+		cur = map.putIfAbsent(name, created);
+		if (null != cur) {
+			return cur;
+		}
+		if (jmx) {
+			try {
+				// 同一个进程中重新启动的服务替换之前的注册
+				MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+				ObjectName object_name = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+				if (server.isRegistered(object_name)) {
+					server.unregisterMBean(object_name);
+				}
+				server.registerMBean(created, object_name);
+			} catch (Exception e) {
+				logger.error("can not register mbean :" + type + ":" + name, e);
+			} catch (LinkageError e) {
+				logger.error("can not register mbean :" + type + ":" + name, e);
+			}
+		}
+		return created;
+	}
+
+	public ServerStat toStat() {
+		ServerStat result = new ServerStat();
+		result.setStart_time(start_time);
+		result.setMethods(toList(methods));
+		result.setFolders(toList(folders));
+		result.setCaches(DigestIndex.stats());
+		return result;
+	}
+
+	/**
+	 * 读取并打印远程服务的统计, address 为 ip:port
+	 */
+	public static void print(String address) throws TException {
+		int index = address.lastIndexOf(':');
+		Asserts.check(index > 0, "stats address must be ip:port :" + address);
+		String ip = address.substring(0, index);
+		int port = Integer.parseInt(address.substring(index + 1));
+		ThriftClientPool.reg(ip, port, null);
+		ServerStat stat = ThriftClientPool.get(ip, port).stats();
+		System.out.println("start at " + new Date(stat.getStart_time()));
+		print("method", stat.getMethods());
+		print("folder", stat.getFolders());
+		if (null != stat.getCaches()) {
+			printCaches(stat.getCaches());
+		}
+	}
+
+	private static void printCaches(List<CacheStat> list) {
+		System.out.println(String.format("%-20s %10s %10s %8s %8s %10s %10s %10s %10s", "digest cache", "hits",
+				"misses", "hit(%)", "loads", "shared", "evictions", "entries", "weight(K)"));
+		for (CacheStat item : list) {
+			long total = item.getHits() + item.getMisses();
+			System.out.println(String.format("%-20s %10d %10d %8.1f %8d %10d %10d %10d %10d", item.getName(),
+					item.getHits(), item.getMisses(), 0 == total ? 0 : item.getHits() * 100.0 / total, item.getLoads(),
+					item.getShared(), item.getEvictions(), item.getEntries(), item.getWeight() / 1024));
+		}
+	}
+
+	private static void print(String title, List<RpcStat> list) {
+		System.out.println(String.format("%-20s %10s %8s %6s %14s %10s %10s %10s %10s %10s", title, "calls", "errors",
+				"active", "bytes", "mean(ms)", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+		for (RpcStat item : list) {
+			System.out.println(String.format("%-20s %10d %8d %6d %14d %10.2f %10.2f %10.2f %10.2f %10.2f", item.getName(),
+					item.getCalls(), item.getErrors(), item.getActive(), item.getBytes(),
+					0 == item.getCalls() ? 0 : item.getTotal_micros() / 1000.0 / item.getCalls(),
+					item.getP50_micros() / 1000.0, item.getP90_micros() / 1000.0, item.getP99_micros() / 1000.0,
+					item.getMax_micros() / 1000.0));
+		}
+	}
+
+	private static List<RpcStat> toList(ConcurrentMap<String, RpcStats> map) {
+		List<RpcStat> result = new ArrayList<RpcStat>();
+		for (RpcStats item : map.values()) {
+			result.add(item.toStat());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.hjh.files.sync.server;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+
+/**
+ * 配合 StackTransport 使用, 按每个消息实际的协议处理请求
+ */
+public class StackProcessor implements TProcessor {
+
+	private static final ThreadLocal<Object> connection = new ThreadLocal<Object>();
+
+	/**
+	 * 当前线程正在处理的连接, 用于按连接统计或限速; nio/selector 服务不经过这里, 为 null
+	 */
+	public static Object currentConnection() {
+		return connection.get();
+	}
+
+	private TProcessor processor;
+
+	public StackProcessor(TProcessor processor) {
+		this.processor = processor;
+	}
+
+	@Override
+	public boolean process(TProtocol in, TProtocol out) throws TException {
+		TProtocol protocol = ((StackTransport) in.getTransport()).detect();
+		connection.set(in.getTransport());
+		try {
+			return processor.process(protocol, protocol);
+		} finally {
+			connection.remove();
+			AdmissionControl.releasePending();
+		}
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.hjh.files.sync.server;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+
+/**
+ * 服务端传输层: 每个消息开始时根据第一个字节判断是否分帧以及使用的协议, 回复使用相同的方式,
+ * 因此同一个连接在握手之后可以直接切换协议栈
+ */
+public class StackTransport extends TTransport {
+
+	public static class Factory extends TTransportFactory {
+
+		private int max_frame;
+
+		public Factory(int max_frame) {
+			this.max_frame = max_frame;
+		}
+
+		@Override
+		public TTransport getTransport(TTransport trans) {
+			return new StackTransport(trans, max_frame);
+		}
+	}
+
+	private static final int BINARY_FIRST_BYTE = 0x80; // TBinaryProtocol.VERSION_1
+	private static final int COMPACT_FIRST_BYTE = 0x82; // TCompactProtocol.PROTOCOL_ID
+
+	private final TTransport transport;
+	private final int max_frame;
+
+	private final byte[] head = new byte[4];
+	private int head_pos;
+	private int head_len;
+
+	private boolean framed;
+	private byte[] frame = new byte[0];
+	private final TMemoryInputTransport frame_in = new TMemoryInputTransport();
+	private final TByteArrayOutputStream frame_out = new TByteArrayOutputStream(1024);
+
+	private TProtocol binary;
+	private TProtocol compact;
+
+	public StackTransport(TTransport transport, int max_frame) {
+		this.transport = transport;
+		this.max_frame = max_frame;
+	}
+
+	/**
+	 * 读取下一个消息之前调用, 返回该消息使用的协议
+	 */
+	public TProtocol detect() throws TTransportException {
+		transport.readAll(head, 0, 1);
+		int first = head[0] & 0xff;
+		boolean is_compact;
+		if (BINARY_FIRST_BYTE == first || COMPACT_FIRST_BYTE == first) {
+			framed = false;
+			head_pos = 0;
+			head_len = 1;
+			is_compact = COMPACT_FIRST_BYTE == first;
+		} else {
+			transport.readAll(head, 1, 3);
+			int size = TFramedTransport.decodeFrameSize(head);
+			if (size <= 0 || size > max_frame) {
+				throw new TTransportException("Frame size (" + size + ") larger than max length (" + max_frame + ")!");
+			}
+			if (frame.length < size) {
+				frame = new byte[size];
+			}
+			transport.readAll(frame, 0, size);
+			frame_in.reset(frame, 0, size);
+			framed = true;
+			is_compact = COMPACT_FIRST_BYTE == (frame[0] & 0xff);
+		}
+		if (is_compact) {
+			if (null == compact) {
+				compact = new TCompactProtocol(this);
+			}
+			return compact;
+		}
+		if (null == binary) {
+			binary = new TBinaryProtocol(this);
+		}
+		return binary;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return transport.isOpen();
+	}
+
+	@Override
+	public void open() throws TTransportException {
+		transport.open();
+	}
+
+	@Override
+	public void close() {
+		transport.close();
+	}
+
+	@Override
+	public int read(byte[] buf, int off, int len) throws TTransportException {
+		if (framed) {
+			return frame_in.read(buf, off, len);
+		}
+		if (head_pos < head_len) {
+			int count = Math.min(len, head_len - head_pos);
+			System.arraycopy(head, head_pos, buf, off, count);
+			head_pos += count;
+			return count;
+		}
+		return transport.read(buf, off, len);
+	}
+
+	@Override
+	public byte[] getBuffer() {
+		return framed ? frame_in.getBuffer() : null;
+	}
+
+	@Override
+	public int getBufferPosition() {
+		return framed ? frame_in.getBufferPosition() : 0;
+	}
+
+	@Override
+	public int getBytesRemainingInBuffer() {
+		return framed ? frame_in.getBytesRemainingInBuffer() : -1;
+	}
+
+	@Override
+	public void consumeBuffer(int len) {
+		frame_in.consumeBuffer(len);
+	}
+
+	@Override
+	public void write(byte[] buf, int off, int len) throws TTransportException {
+		if (framed) {
+			frame_out.write(buf, off, len);
+		} else {
+			transport.write(buf, off, len);
+		}
+	}
+
+	@Override
+	public void flush() throws TTransportException {
+		if (framed) {
+			byte[] size = new byte[4];
+			TFramedTransport.encodeFrameSize(frame_out.len(), size);
+			transport.write(size, 0, 4);
+			transport.write(frame_out.get(), 0, frame_out.len());
+			frame_out.reset();
+		}
+		transport.flush();
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.hjh.files.sync.server;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+
+import tutorial.FileFrame;
+import tutorial.Payload;
+import tutorial.SyncFileServer;
+
+/**
+ * 在 handler 外记录每次调用的方法、目录 (第一个参数为 String 的方法都是 folder)、耗时、发送的数据量和是否出错
+ */
+public class StatsHandler implements InvocationHandler {
+
+	public static SyncFileServer.Iface wrap(SyncFileServer.Iface handler, ServerForSync sync) {
+		return (SyncFileServer.Iface) Proxy.newProxyInstance(SyncFileServer.Iface.class.getClassLoader(),
+				new Class<?>[] { SyncFileServer.Iface.class }, new StatsHandler(handler, sync));
+	}
+
+	private SyncFileServer.Iface handler;
+	private ServerForSync sync;
+
+	private StatsHandler(SyncFileServer.Iface handler, ServerForSync sync) {
+		this.handler = handler;
+		this.sync = sync;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			return method.invoke(handler, args);
+		}
+		RpcStats rpc = sync.getStats().method(method.getName());
+		RpcStats folder = null;
+		if (null != args && args.length > 0 && args[0] instanceof String && sync.isFolder((String) args[0])) {
+			folder = sync.getStats().folder((String) args[0]);
+		}
+		rpc.begin();
+		if (null != folder) {
+			folder.begin();
+		}
+		long start = System.nanoTime();
+		boolean error = true;
+		try {
+			Object result = method.invoke(handler, args);
+			long len = bytes(result);
+			rpc.addBytes(len);
+			if (null != folder) {
+				folder.addBytes(len);
+			}
+			error = false;
+			return result;
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		} finally {
+			long micros = (System.nanoTime() - start) / 1000;
+			rpc.end(micros, error);
+			if (null != folder) {
+				folder.end(micros, error);
+			}
+		}
+	}
+
+	private static long bytes(Object result) {
+		if (result instanceof ByteBuffer) {
+			return ((ByteBuffer) result).remaining();
+		}
+		if (result instanceof FileFrame && null != ((FileFrame) result).data) {
+			return ((FileFrame) result).data.remaining();
+		}
+		if (result instanceof Payload && null != ((Payload) result).data) {
+			return ((Payload) result).data.remaining();
+		}
+		return 0;
+	}
+
+}
@@ -1,17 +1,35 @@
 package com.hjh.files.sync.server;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.apache.http.util.Asserts;
 import org.apache.thrift.TException;
 
+import com.hjh.files.sync.common.FrameReceiver;
 import com.hjh.files.sync.common.HLogFactory;
 import com.hjh.files.sync.common.ILog;
 import com.hjh.files.sync.common.RemoteFile;
+import com.hjh.files.sync.common.RemoteFileManage;
+import com.hjh.files.sync.common.RemoteSyncConfig;
+import com.hjh.files.sync.common.thrift.ThriftStack;
+import com.hjh.files.sync.common.util.ChunkUtil;
+import com.hjh.files.sync.common.util.CompressUtil;
 import com.hjh.files.sync.common.util.RemoteFileUtil;
 
+import tutorial.BlockSignature;
+import tutorial.ChangeSet;
+import tutorial.ChunkPage;
+import tutorial.DataTicket;
+import tutorial.DeltaOp;
+import tutorial.DeltaPage;
+import tutorial.FileFrame;
+import tutorial.Payload;
 import tutorial.RemoteFileInfo;
+import tutorial.ServerStat;
 import tutorial.SyncFileServer;
 
 public class SyncFileServerHandler implements SyncFileServer.Iface {
@@ -26,15 +44,149 @@ public class SyncFileServerHandler implements SyncFileServer.Iface {
 	@Override
 	public String md5(String folder, String path) throws TException {
 		logger.info(String.format("md5 [%s] [%s]", folder, path));
-		return sync.get(folder).md5(path);
+		RemoteFileManage manage = sync.get(folder);
+		sync.getAdmission().enterHash();
+		try {
+			return manage.md5(path);
+		} finally {
+			sync.getAdmission().leaveHash();
+		}
+	}
+
+	@Override
+	public List<String> md5Batch(String folder, List<String> paths) throws TException {
+		logger.info(String.format("md5 batch [%s] [%d]", folder, paths.size()));
+		RemoteFileManage manage = sync.get(folder);
+		sync.getAdmission().enterHash();
+		try {
+			return Arrays.asList(manage.md5Batch(paths.toArray(new String[paths.size()])));
+		} finally {
+			sync.getAdmission().leaveHash();
+		}
 	}
 
 	@Override
 	public ByteBuffer part(String folder, String path, long part, long part_size) throws TException {
 		logger.info(String.format("part [%s] [%s] [%d]", folder, path, part));
-		byte[] partData = sync.get(folder).part(path, part, part_size);
-		logger.info(String.format("send part data %d", partData.length));
-		return ByteBuffer.wrap(partData);
+		RemoteFileManage manage = sync.get(folder);
+		long cost = sync.getAdmission().enterPart(part_size);
+		try {
+			shape(folder, part_size);
+			ByteBuffer partData = manage.partBuffer(path, part, part_size);
+			unshape(folder, part_size - partData.remaining());
+			logger.info(String.format("send part data %d", partData.remaining()));
+			return partData;
+		} finally {
+			sync.getAdmission().leavePart(cost);
+		}
+	}
+
+	@Override
+	public FileFrame readFrame(String folder, String path, long offset, int size) throws TException {
+		logger.info(String.format("read frame [%s] [%s] [%d] [%d]", folder, path, offset, size));
+		RemoteSyncConfig.checkBockSize(size);
+		RemoteFileManage manage = sync.get(folder);
+		long cost = sync.getAdmission().enterPart(size);
+		try {
+			shape(folder, size);
+			FrameCollector collector = new FrameCollector(size);
+			try {
+				manage.stream(path, offset, size, size, collector);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			ByteBuffer data = collector.result();
+			unshape(folder, size - data.remaining());
+			FileFrame frame = new FileFrame();
+			frame.setOffset(offset);
+			frame.setCredit(sync.getStreamWindow());
+			frame.data = data; // setData 会复制一次数据
+			return frame;
+		} finally {
+			sync.getAdmission().leavePart(cost);
+		}
+	}
+
+	/**
+	 * 收集 readFrame 的数据: stream 一次给出整帧时 (本地目录由 PartReader 直接读入 stream 分配的缓冲区,
+	 * 代理目录是上游返回的帧) 直接使用这块缓冲区, 不再分配和复制; 分成多段时才合并
+	 */
+	private static class FrameCollector implements FrameReceiver {
+
+		private final int size;
+		private ByteBuffer whole;
+		private ByteBuffer merged;
+
+		public FrameCollector(int size) {
+			this.size = size;
+		}
+
+		public boolean receive(long frame_offset, ByteBuffer frame) {
+			if (null == merged && frame.remaining() == size) {
+				whole = frame;
+				return false;
+			}
+			if (null == merged) {
+				merged = ByteBuffer.allocate(size);
+			}
+			merged.put(frame);
+			return true;
+		}
+
+		public ByteBuffer result() {
+			if (null != whole) {
+				return whole;
+			}
+			if (null == merged) {
+				return ByteBuffer.allocate(0);
+			}
+			merged.flip();
+			return merged;
+		}
+	}
+
+	@Override
+	public DeltaPage delta(String folder, String path, int block_size, List<BlockSignature> signatures, long offset)
+			throws TException {
+		logger.info(String.format("delta [%s] [%s] [%d] [%d blocks] [%d]", folder, path, block_size,
+				signatures.size(), offset));
+		Asserts.check(signatures.size() <= RemoteSyncConfig.getMaxDeltaSignatures(),
+				"too many block signatures :" + signatures.size());
+		RemoteFileManage manage = sync.get(folder);
+		// 读取整个文件计算差异, 同时每页最多返回 max_delta_literal 的原始数据
+		int max_literal = RemoteSyncConfig.getMaxDeltaLiteral();
+		sync.getAdmission().enterHash();
+		try {
+			long cost = sync.getAdmission().enterPart(max_literal);
+			try {
+				shape(folder, max_literal);
+				DeltaPage result = manage.delta(path, block_size, signatures, offset);
+				unshape(folder, max_literal - literalBytes(result));
+				return result;
+			} finally {
+				sync.getAdmission().leavePart(cost);
+			}
+		} finally {
+			sync.getAdmission().leaveHash();
+		}
+	}
+
+	@Override
+	public List<String> digests(String folder) throws TException {
+		return sync.getAdvertisedDigests(folder);
+	}
+
+	@Override
+	public List<String> hashBatch(String folder, List<String> paths, String algorithm) throws TException {
+		logger.info(String.format("hash batch [%s] [%d] [%s]", folder, paths.size(), algorithm));
+		Asserts.check(sync.supportsDigest(folder, algorithm), "unsupported digest :" + algorithm);
+		RemoteFileManage manage = sync.get(folder);
+		sync.getAdmission().enterHash();
+		try {
+			return Arrays.asList(manage.hashBatch(algorithm, paths.toArray(new String[paths.size()])));
+		} finally {
+			sync.getAdmission().leaveHash();
+		}
 	}
 
 	@Override
@@ -50,6 +202,163 @@ public class SyncFileServerHandler implements SyncFileServer.Iface {
 		return result;
 	}
 
+	@Override
+	public List<RemoteFileInfo> listTree(String folder, String path, String after, int max) throws TException {
+		logger.info(String.format("list tree [%s] [%s] after [%s]", folder, path == null ? "ROOT" : path, after));
+		List<RemoteFileInfo> result = new ArrayList<RemoteFileInfo>();
+		RemoteFile[] files = sync.get(folder).listTree(path, after, RemoteSyncConfig.checkTreePageSize(max));
+		if (null != files) {
+			for (RemoteFile item : files) {
+				result.add(RemoteFileUtil.to(item));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<String> codecs() throws TException {
+		return sync.getCodecs();
+	}
+
+	@Override
+	public Payload partCompressed(String folder, String path, long part, long part_size, String codec)
+			throws TException {
+		RemoteFileManage manage = sync.get(folder);
+		long cost = sync.getAdmission().enterPart(part_size);
+		try {
+			shape(folder, part_size);
+			byte[] partData = manage.part(path, part, part_size);
+			unshape(folder, part_size - partData.length);
+			Payload result = CompressUtil.pack(accept(codec), path, partData);
+			logger.info(String.format("part [%s] [%s] [%d] send %s data %d => %d", folder, path, part,
+					result.getCodec(), partData.length, result.data.remaining()));
+			return result;
+		} finally {
+			sync.getAdmission().leavePart(cost);
+		}
+	}
+
+	@Override
+	public Payload listTreeCompressed(String folder, String path, String after, int max, String codec)
+			throws TException {
+		return CompressUtil.pack(accept(codec), null, RemoteFileUtil.encode(listTree(folder, path, after, max)));
+	}
+
+	@Override
+	public String handshake(List<String> stacks) throws TException {
+		String result = ThriftStack.choose(stacks, sync.getStacks());
+		logger.info("handshake " + stacks + " => " + result);
+		return result;
+	}
+
+	@Override
+	public ChangeSet changesSince(String folder, String cursor, int max) throws TException {
+		try {
+			ChangeSet result = sync.get(folder).changesSince(cursor, RemoteSyncConfig.checkTreePageSize(max));
+			logger.info(String.format("changes [%s] since [%s] => [%s] %d changed %d deleted", folder, cursor,
+					result.getCursor(), result.getChangedSize(), result.getDeletedSize()));
+			return result;
+		} catch (UnsupportedOperationException e) {
+			// 没有 cursor 表示不支持, 客户端继续全量同步
+			ChangeSet result = new ChangeSet();
+			result.setExpired(true);
+			return result;
+		}
+	}
+
+	@Override
+	public DataTicket openData(String folder, String path, long offset, long length) throws TException {
+		DataServer data = sync.getDataServer();
+		DataTicket result = new DataTicket();
+		// 代理目录的上游没有数据端口时也返回 0, 客户端改用 stream
+		if (null == data || !sync.supportsTransfer(folder, path)) {
+			result.setPort(0);
+			result.setTicket(new byte[0]);
+			return result;
+		}
+		Asserts.check(offset >= 0 && length >= 0, "bad data range");
+		logger.info(String.format("open data [%s] [%s] [%d] [%d]", folder, path, offset, length));
+		result.setPort(data.getPort());
+		result.setTicket(data.issue(folder, path, offset, length));
+		return result;
+	}
+
+	@Override
+	public ChunkPage chunks(String folder, String path, int avg_size, long offset) throws TException {
+		ChunkUtil.checkAvgSize(avg_size);
+		RemoteFileManage manage = sync.get(folder);
+		ChunkPage result;
+		sync.getAdmission().enterHash();
+		try {
+			result = manage.chunks(path, avg_size, offset);
+		} finally {
+			sync.getAdmission().leaveHash();
+		}
+		logger.info(String.format("chunks [%s] [%s] [%d] from %d send %d chunks", folder, path, avg_size, offset,
+				result.getChunksSize()));
+		return result;
+	}
+
+	@Override
+	public boolean waitForChanges(String folder, String since, int timeout) throws TException {
+		long wait = Math.min(timeout, sync.getWaitMax());
+		try {
+			return sync.get(folder).waitForChanges(since, wait);
+		} catch (UnsupportedOperationException e) {
+			// 与 changesSince 一致: 不支持时立即返回, 客户端按间隔全量同步
+			return true;
+		}
+	}
+
+	@Override
+	public String digest(String folder, String path) throws TException {
+		try {
+			String result = sync.get(folder).digest(path);
+			return null == result ? "" : result;
+		} catch (UnsupportedOperationException e) {
+			return "";
+		}
+	}
+
+	@Override
+	public ServerStat stats() throws TException {
+		return sync.getStats().toStat();
+	}
+
+	/**
+	 * 按请求的大小申请带宽 (server.shape.*), 读取之后用 unshape 归还没有用到的部分
+	 */
+	private void shape(String folder, long bytes) {
+		TrafficShaper shaper = sync.getShaper();
+		if (shaper.isEnabled()) {
+			shaper.acquire(StackProcessor.currentConnection(), folder, bytes);
+		}
+	}
+
+	private void unshape(String folder, long bytes) {
+		TrafficShaper shaper = sync.getShaper();
+		if (shaper.isEnabled()) {
+			shaper.refund(StackProcessor.currentConnection(), folder, bytes);
+		}
+	}
+
+	/** 一页 delta 中原始数据的字节数, 块引用不占带宽 */
+	private static long literalBytes(DeltaPage page) {
+		long result = 0;
+		if (null != page.getOps()) {
+			for (DeltaOp op : page.getOps()) {
+				if (op.isSetData()) {
+					result += op.data.remaining();
+				}
+			}
+		}
+		return result;
+	}
+
+	private String accept(String codec) {
+		return sync.getCodecs().contains(codec) ? codec : CompressUtil.NONE;
+	}
+
 	//////////////////////////////////////////////
 
 	@Override
@@ -0,0 +1,204 @@
+package com.hjh.files.sync.server;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.http.util.Asserts;
+
+import com.hjh.files.sync.common.util.TokenBucket;
+
+/**
+ * 服务端限速: 全局、每个连接、每个目录的令牌桶; 全局带宽按连接做加权公平排队 (self-clocked fair queuing),
+ * 权重由目录决定 (server.shape.weight.目录名, 默认 1)
+ * <br>
+ * 数据按 QUANTUM 分片申请, 大的请求不会一次占满带宽, 其他连接的请求可以插入
+ */
+public class TrafficShaper {
+
+	public static final String WEIGHT_PREFIX = "server.shape.weight.";
+	public static final long QUANTUM = 256 * 1024;
+
+	private static class Flow {
+		public TokenBucket bucket;
+		public double finish;
+	}
+
+	private static class Waiter implements Comparable<Waiter> {
+		public double tag;
+		public long seq;
+
+		public int compareTo(Waiter o) {
+			if (tag != o.tag) {
+				return tag < o.tag ? -1 : 1;
+			}
+			return seq < o.seq ? -1 : (seq == o.seq ? 0 : 1);
+		}
+	}
+
+	private final long rate;
+	private final long connection_rate;
+	private final long folder_rate;
+	private final TokenBucket global;
+	private final Map<String, Integer> weights = new HashMap<String, Integer>();
+	private final Map<String, TokenBucket> folder_buckets = new ConcurrentHashMap<String, TokenBucket>();
+
+	/** 阻塞类型的服务按连接区分, 连接关闭后自动回收; nio/selector 服务按目录区分 */
+	private final Map<Object, Flow> flows = new WeakHashMap<Object, Flow>();
+	private final Map<String, Flow> folder_flows = new HashMap<String, Flow>();
+
+	private final PriorityQueue<Waiter> queue = new PriorityQueue<Waiter>();
+	/** 保护 queue、virtual_time 和 seq; 使用 Condition 等待, 虚拟线程等待时不占住载体线程 */
+	private final ReentrantLock queue_lock = new ReentrantLock();
+	private final Condition queue_changed = queue_lock.newCondition();
+	private double virtual_time;
+	private long seq;
+
+	public TrafficShaper(Properties p) {
+		rate = Long.parseLong(p.getProperty("server.shape.rate", "0"));
+		connection_rate = Long.parseLong(p.getProperty("server.shape.connection.rate", "0"));
+		folder_rate = Long.parseLong(p.getProperty("server.shape.folder.rate", "0"));
+		Asserts.check(rate >= 0 && connection_rate >= 0 && folder_rate >= 0,
+				"server.shape.*.rate must great or equal then 0");
+		global = rate > 0 ? bucket(rate) : null;
+		for (Object item : p.keySet().toArray()) {
+			String key = item.toString();
+			if (key.startsWith(WEIGHT_PREFIX)) {
+				int weight = Integer.parseInt(p.getProperty(key));
+				Asserts.check(weight > 0, key + " must great then 0");
+				weights.put(key.substring(WEIGHT_PREFIX.length()), weight);
+			}
+		}
+	}
+
+	/**
+	 * 最多积累 1/4 秒的流量, 至少一个分片
+	 */
+	private static TokenBucket bucket(long rate) {
+		return new TokenBucket(rate, Math.max(QUANTUM, rate / 4));
+	}
+
+	public boolean isEnabled() {
+		return rate > 0 || connection_rate > 0 || folder_rate > 0;
+	}
+
+	/**
+	 * 发送 bytes 之前调用, 按分片等待各级令牌; connection 为 null 时只按目录区分
+	 */
+	public void acquire(Object connection, String folder, long bytes) {
+		if (!isEnabled() || bytes <= 0) {
+			return;
+		}
+		Flow flow = flow(connection, folder);
+		TokenBucket folder_bucket = folderBucket(folder);
+		Integer weight = weights.get(folder);
+		while (bytes > 0) {
+			long n = Math.min(QUANTUM, bytes);
+			if (null != flow.bucket) {
+				flow.bucket.take(n);
+			}
+			if (null != folder_bucket) {
+				folder_bucket.take(n);
+			}
+			if (null != global) {
+				fair(flow, null == weight ? 1 : weight, n);
+			}
+			bytes -= n;
+		}
+	}
+
+	/**
+	 * 实际发送的数据少于 acquire 的数量时归还差额
+	 */
+	public void refund(Object connection, String folder, long bytes) {
+		if (!isEnabled() || bytes <= 0) {
+			return;
+		}
+		Flow flow = flow(connection, folder);
+		if (null != flow.bucket) {
+			flow.bucket.refund(bytes);
+		}
+		TokenBucket folder_bucket = folderBucket(folder);
+		if (null != folder_bucket) {
+			folder_bucket.refund(bytes);
+		}
+		if (null != global) {
+			global.refund(bytes);
+		}
+	}
+
+	private Flow flow(Object connection, String folder) {
+		synchronized (flows) {
+			Flow flow = null == connection ? folder_flows.get(folder) : flows.get(connection);
+			if (null == flow) {
+				flow = new Flow();
+				if (null == connection) {
+					folder_flows.put(folder, flow);
+				} else {
+					flow.bucket = connection_rate > 0 ? bucket(connection_rate) : null;
+					flows.put(connection, flow);
+				}
+			}
+			return flow;
+		}
+	}
+
+	private TokenBucket folderBucket(String folder) {
+		if (folder_rate <= 0) {
+			return null;
+		}
+		TokenBucket cur = folder_buckets.get(folder);
+		if (null == cur) {
+			synchronized (folder_buckets) {
+				cur = folder_buckets.get(folder);
+				if (null == cur) {
+					cur = bucket(folder_rate);
+					folder_buckets.put(folder, cur);
+				}
+			}
+		}
+		return cur;
+	}
+
+	/**
+	 * 按完成标签排队, 只有队首的请求向全局令牌桶申请
+	 */
+	private void fair(Flow flow, int weight, long bytes) {
+		Waiter waiter = new Waiter();
+		queue_lock.lock();
+		try {
+			waiter.tag = Math.max(virtual_time, flow.finish) + bytes / (double) weight;
+			waiter.seq = seq++;
+			flow.finish = waiter.tag;
+			queue.add(waiter);
+			while (queue.peek() != waiter) {
+				queue_changed.await();
+			}
+		} catch (InterruptedException e) {
+			queue.remove(waiter);
+			queue_changed.signalAll();
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("interrupted while waiting for bandwidth", e);
+		} finally {
+			queue_lock.unlock();
+		}
+		try {
+			global.take(bytes);
+		} finally {
+			queue_lock.lock();
+			try {
+				queue.remove(waiter);
+				virtual_time = Math.max(virtual_time, waiter.tag);
+				queue_changed.signalAll();
+			} finally {
+				queue_lock.unlock();
+			}
+		}
+	}
+
+}
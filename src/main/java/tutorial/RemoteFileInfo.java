@@ -43,7 +43,7 @@ import org.slf4j.LoggerFactory;
  * in the serialized output if they aren't set.  Note that this requires some
  * manual management in some languages.
  */
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2016-07-31")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-17")
 public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, RemoteFileInfo._Fields>, java.io.Serializable, Cloneable, Comparable<RemoteFileInfo> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RemoteFileInfo");
 
@@ -52,6 +52,7 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
   private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I64, (short)3);
   private static final org.apache.thrift.protocol.TField LAST_MODIFY_FIELD_DESC = new org.apache.thrift.protocol.TField("lastModify", org.apache.thrift.protocol.TType.I64, (short)4);
   private static final org.apache.thrift.protocol.TField IS_FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("isFolder", org.apache.thrift.protocol.TType.BOOL, (short)5);
+  private static final org.apache.thrift.protocol.TField DIGEST_FIELD_DESC = new org.apache.thrift.protocol.TField("digest", org.apache.thrift.protocol.TType.STRING, (short)6);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -64,6 +65,7 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
   public long length; // required
   public long lastModify; // required
   public boolean isFolder; // required
+  public String digest; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -71,7 +73,8 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     PATH((short)2, "path"),
     LENGTH((short)3, "length"),
     LAST_MODIFY((short)4, "lastModify"),
-    IS_FOLDER((short)5, "isFolder");
+    IS_FOLDER((short)5, "isFolder"),
+    DIGEST((short)6, "digest");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -96,6 +99,8 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
           return LAST_MODIFY;
         case 5: // IS_FOLDER
           return IS_FOLDER;
+        case 6: // DIGEST
+          return DIGEST;
         default:
           return null;
       }
@@ -153,6 +158,8 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     tmpMap.put(_Fields.IS_FOLDER, new org.apache.thrift.meta_data.FieldMetaData("isFolder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.DIGEST, new org.apache.thrift.meta_data.FieldMetaData("digest", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RemoteFileInfo.class, metaDataMap);
   }
@@ -165,7 +172,8 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     String path,
     long length,
     long lastModify,
-    boolean isFolder)
+    boolean isFolder,
+    String digest)
   {
     this();
     this.name = name;
@@ -176,6 +184,7 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     setLastModifyIsSet(true);
     this.isFolder = isFolder;
     setIsFolderIsSet(true);
+    this.digest = digest;
   }
 
   /**
@@ -192,6 +201,9 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     this.length = other.length;
     this.lastModify = other.lastModify;
     this.isFolder = other.isFolder;
+    if (other.isSetDigest()) {
+      this.digest = other.digest;
+    }
   }
 
   public RemoteFileInfo deepCopy() {
@@ -208,6 +220,7 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     this.lastModify = 0;
     setIsFolderIsSet(false);
     this.isFolder = false;
+    this.digest = null;
   }
 
   public String getName() {
@@ -327,6 +340,30 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ISFOLDER_ISSET_ID, value);
   }
 
+  public String getDigest() {
+    return this.digest;
+  }
+
+  public RemoteFileInfo setDigest(String digest) {
+    this.digest = digest;
+    return this;
+  }
+
+  public void unsetDigest() {
+    this.digest = null;
+  }
+
+  /** Returns true if field digest is set (has been assigned a value) and false otherwise */
+  public boolean isSetDigest() {
+    return this.digest != null;
+  }
+
+  public void setDigestIsSet(boolean value) {
+    if (!value) {
+      this.digest = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case NAME:
@@ -369,6 +406,14 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
       }
       break;
 
+    case DIGEST:
+      if (value == null) {
+        unsetDigest();
+      } else {
+        setDigest((String)value);
+      }
+      break;
+
     }
   }
 
@@ -389,6 +434,9 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     case IS_FOLDER:
       return isIsFolder();
 
+    case DIGEST:
+      return getDigest();
+
     }
     throw new IllegalStateException();
   }
@@ -410,6 +458,8 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
       return isSetLastModify();
     case IS_FOLDER:
       return isSetIsFolder();
+    case DIGEST:
+      return isSetDigest();
     }
     throw new IllegalStateException();
   }
@@ -472,6 +522,15 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
         return false;
     }
 
+    boolean this_present_digest = true && this.isSetDigest();
+    boolean that_present_digest = true && that.isSetDigest();
+    if (this_present_digest || that_present_digest) {
+      if (!(this_present_digest && that_present_digest))
+        return false;
+      if (!this.digest.equals(that.digest))
+        return false;
+    }
+
     return true;
   }
 
@@ -504,6 +563,11 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     if (present_isFolder)
       list.add(isFolder);
 
+    boolean present_digest = true && (isSetDigest());
+    list.add(present_digest);
+    if (present_digest)
+      list.add(digest);
+
     return list.hashCode();
   }
 
@@ -565,6 +629,16 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetDigest()).compareTo(other.isSetDigest());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetDigest()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.digest, other.digest);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -612,6 +686,14 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
     sb.append("isFolder:");
     sb.append(this.isFolder);
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("digest:");
+    if (this.digest == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.digest);
+    }
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -697,6 +779,14 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 6: // DIGEST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.digest = iprot.readString();
+              struct.setDigestIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -731,6 +821,13 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
       oprot.writeFieldBegin(IS_FOLDER_FIELD_DESC);
       oprot.writeBool(struct.isFolder);
       oprot.writeFieldEnd();
+      if (struct.digest != null) {
+        if (struct.isSetDigest()) {
+          oprot.writeFieldBegin(DIGEST_FIELD_DESC);
+          oprot.writeString(struct.digest);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -764,7 +861,10 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
       if (struct.isSetIsFolder()) {
         optionals.set(4);
       }
-      oprot.writeBitSet(optionals, 5);
+      if (struct.isSetDigest()) {
+        optionals.set(5);
+      }
+      oprot.writeBitSet(optionals, 6);
       if (struct.isSetName()) {
         oprot.writeString(struct.name);
       }
@@ -780,12 +880,15 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
       if (struct.isSetIsFolder()) {
         oprot.writeBool(struct.isFolder);
       }
+      if (struct.isSetDigest()) {
+        oprot.writeString(struct.digest);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RemoteFileInfo struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(5);
+      BitSet incoming = iprot.readBitSet(6);
       if (incoming.get(0)) {
         struct.name = iprot.readString();
         struct.setNameIsSet(true);
@@ -806,6 +909,10 @@ public class RemoteFileInfo implements org.apache.thrift.TBase<RemoteFileInfo, R
         struct.isFolder = iprot.readBool();
         struct.setIsFolderIsSet(true);
       }
+      if (incoming.get(5)) {
+        struct.digest = iprot.readString();
+        struct.setDigestIsSet(true);
+      }
     }
   }
 
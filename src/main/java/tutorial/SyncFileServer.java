@@ -34,7 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2016-07-31")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-17")
 public class SyncFileServer {
 
   /**
@@ -51,12 +51,44 @@ public class SyncFileServer {
      */
     public void ping() throws org.apache.thrift.TException;
 
-    public String md5(String folder, String path) throws org.apache.thrift.TException;
+    public String md5(String folder, String path) throws ServerBusy, org.apache.thrift.TException;
 
-    public ByteBuffer part(String folder, String path, long part, long part_size) throws org.apache.thrift.TException;
+    public ByteBuffer part(String folder, String path, long part, long part_size) throws ServerBusy, org.apache.thrift.TException;
 
     public List<RemoteFileInfo> listFiles(String folder, String path) throws org.apache.thrift.TException;
 
+    public List<RemoteFileInfo> listTree(String folder, String path, String after, int max) throws org.apache.thrift.TException;
+
+    public List<String> md5Batch(String folder, List<String> paths) throws ServerBusy, org.apache.thrift.TException;
+
+    public FileFrame readFrame(String folder, String path, long offset, int size) throws ServerBusy, org.apache.thrift.TException;
+
+    public DeltaPage delta(String folder, String path, int block_size, List<BlockSignature> signatures, long offset) throws ServerBusy, org.apache.thrift.TException;
+
+    public List<String> codecs() throws org.apache.thrift.TException;
+
+    public Payload partCompressed(String folder, String path, long part, long part_size, String codec) throws ServerBusy, org.apache.thrift.TException;
+
+    public Payload listTreeCompressed(String folder, String path, String after, int max, String codec) throws org.apache.thrift.TException;
+
+    public String handshake(List<String> stacks) throws org.apache.thrift.TException;
+
+    public ChangeSet changesSince(String folder, String cursor, int max) throws org.apache.thrift.TException;
+
+    public ChunkPage chunks(String folder, String path, int avg_size, long offset) throws ServerBusy, org.apache.thrift.TException;
+
+    public boolean waitForChanges(String folder, String since, int timeout) throws org.apache.thrift.TException;
+
+    public String digest(String folder, String path) throws org.apache.thrift.TException;
+
+    public List<String> digests(String folder) throws org.apache.thrift.TException;
+
+    public List<String> hashBatch(String folder, List<String> paths, String algorithm) throws ServerBusy, org.apache.thrift.TException;
+
+    public DataTicket openData(String folder, String path, long offset, long length) throws org.apache.thrift.TException;
+
+    public ServerStat stats() throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -69,6 +101,38 @@ public class SyncFileServer {
 
     public void listFiles(String folder, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void listTree(String folder, String path, String after, int max, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void md5Batch(String folder, List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void readFrame(String folder, String path, long offset, int size, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void delta(String folder, String path, int block_size, List<BlockSignature> signatures, long offset, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void codecs(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void partCompressed(String folder, String path, long part, long part_size, String codec, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void listTreeCompressed(String folder, String path, String after, int max, String codec, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void handshake(List<String> stacks, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void changesSince(String folder, String cursor, int max, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void chunks(String folder, String path, int avg_size, long offset, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void waitForChanges(String folder, String since, int timeout, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void digest(String folder, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void digests(String folder, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void hashBatch(String folder, List<String> paths, String algorithm, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void openData(String folder, String path, long offset, long length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void stats(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -110,7 +174,7 @@ public class SyncFileServer {
       return;
     }
 
-    public String md5(String folder, String path) throws org.apache.thrift.TException
+    public String md5(String folder, String path) throws ServerBusy, org.apache.thrift.TException
     {
       send_md5(folder, path);
       return recv_md5();
@@ -124,17 +188,20 @@ public class SyncFileServer {
       sendBase("md5", args);
     }
 
-    public String recv_md5() throws org.apache.thrift.TException
+    public String recv_md5() throws ServerBusy, org.apache.thrift.TException
     {
       md5_result result = new md5_result();
       receiveBase(result, "md5");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.busy != null) {
+        throw result.busy;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "md5 failed: unknown result");
     }
 
-    public ByteBuffer part(String folder, String path, long part, long part_size) throws org.apache.thrift.TException
+    public ByteBuffer part(String folder, String path, long part, long part_size) throws ServerBusy, org.apache.thrift.TException
     {
       send_part(folder, path, part, part_size);
       return recv_part();
@@ -150,13 +217,16 @@ public class SyncFileServer {
       sendBase("part", args);
     }
 
-    public ByteBuffer recv_part() throws org.apache.thrift.TException
+    public ByteBuffer recv_part() throws ServerBusy, org.apache.thrift.TException
     {
       part_result result = new part_result();
       receiveBase(result, "part");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.busy != null) {
+        throw result.busy;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "part failed: unknown result");
     }
 
@@ -184,6 +254,422 @@ public class SyncFileServer {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "listFiles failed: unknown result");
     }
 
+    public List<RemoteFileInfo> listTree(String folder, String path, String after, int max) throws org.apache.thrift.TException
+    {
+      send_listTree(folder, path, after, max);
+      return recv_listTree();
+    }
+
+    public void send_listTree(String folder, String path, String after, int max) throws org.apache.thrift.TException
+    {
+      listTree_args args = new listTree_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setAfter(after);
+      args.setMax(max);
+      sendBase("listTree", args);
+    }
+
+    public List<RemoteFileInfo> recv_listTree() throws org.apache.thrift.TException
+    {
+      listTree_result result = new listTree_result();
+      receiveBase(result, "listTree");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "listTree failed: unknown result");
+    }
+
+    public List<String> md5Batch(String folder, List<String> paths) throws ServerBusy, org.apache.thrift.TException
+    {
+      send_md5Batch(folder, paths);
+      return recv_md5Batch();
+    }
+
+    public void send_md5Batch(String folder, List<String> paths) throws org.apache.thrift.TException
+    {
+      md5Batch_args args = new md5Batch_args();
+      args.setFolder(folder);
+      args.setPaths(paths);
+      sendBase("md5Batch", args);
+    }
+
+    public List<String> recv_md5Batch() throws ServerBusy, org.apache.thrift.TException
+    {
+      md5Batch_result result = new md5Batch_result();
+      receiveBase(result, "md5Batch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "md5Batch failed: unknown result");
+    }
+
+    public FileFrame readFrame(String folder, String path, long offset, int size) throws ServerBusy, org.apache.thrift.TException
+    {
+      send_readFrame(folder, path, offset, size);
+      return recv_readFrame();
+    }
+
+    public void send_readFrame(String folder, String path, long offset, int size) throws org.apache.thrift.TException
+    {
+      readFrame_args args = new readFrame_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setOffset(offset);
+      args.setSize(size);
+      sendBase("readFrame", args);
+    }
+
+    public FileFrame recv_readFrame() throws ServerBusy, org.apache.thrift.TException
+    {
+      readFrame_result result = new readFrame_result();
+      receiveBase(result, "readFrame");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readFrame failed: unknown result");
+    }
+
+    public DeltaPage delta(String folder, String path, int block_size, List<BlockSignature> signatures, long offset) throws ServerBusy, org.apache.thrift.TException
+    {
+      send_delta(folder, path, block_size, signatures, offset);
+      return recv_delta();
+    }
+
+    public void send_delta(String folder, String path, int block_size, List<BlockSignature> signatures, long offset) throws org.apache.thrift.TException
+    {
+      delta_args args = new delta_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setBlock_size(block_size);
+      args.setSignatures(signatures);
+      args.setOffset(offset);
+      sendBase("delta", args);
+    }
+
+    public DeltaPage recv_delta() throws ServerBusy, org.apache.thrift.TException
+    {
+      delta_result result = new delta_result();
+      receiveBase(result, "delta");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "delta failed: unknown result");
+    }
+
+    public List<String> codecs() throws org.apache.thrift.TException
+    {
+      send_codecs();
+      return recv_codecs();
+    }
+
+    public void send_codecs() throws org.apache.thrift.TException
+    {
+      codecs_args args = new codecs_args();
+      sendBase("codecs", args);
+    }
+
+    public List<String> recv_codecs() throws org.apache.thrift.TException
+    {
+      codecs_result result = new codecs_result();
+      receiveBase(result, "codecs");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "codecs failed: unknown result");
+    }
+
+    public Payload partCompressed(String folder, String path, long part, long part_size, String codec) throws ServerBusy, org.apache.thrift.TException
+    {
+      send_partCompressed(folder, path, part, part_size, codec);
+      return recv_partCompressed();
+    }
+
+    public void send_partCompressed(String folder, String path, long part, long part_size, String codec) throws org.apache.thrift.TException
+    {
+      partCompressed_args args = new partCompressed_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setPart(part);
+      args.setPart_size(part_size);
+      args.setCodec(codec);
+      sendBase("partCompressed", args);
+    }
+
+    public Payload recv_partCompressed() throws ServerBusy, org.apache.thrift.TException
+    {
+      partCompressed_result result = new partCompressed_result();
+      receiveBase(result, "partCompressed");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "partCompressed failed: unknown result");
+    }
+
+    public Payload listTreeCompressed(String folder, String path, String after, int max, String codec) throws org.apache.thrift.TException
+    {
+      send_listTreeCompressed(folder, path, after, max, codec);
+      return recv_listTreeCompressed();
+    }
+
+    public void send_listTreeCompressed(String folder, String path, String after, int max, String codec) throws org.apache.thrift.TException
+    {
+      listTreeCompressed_args args = new listTreeCompressed_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setAfter(after);
+      args.setMax(max);
+      args.setCodec(codec);
+      sendBase("listTreeCompressed", args);
+    }
+
+    public Payload recv_listTreeCompressed() throws org.apache.thrift.TException
+    {
+      listTreeCompressed_result result = new listTreeCompressed_result();
+      receiveBase(result, "listTreeCompressed");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "listTreeCompressed failed: unknown result");
+    }
+
+    public String handshake(List<String> stacks) throws org.apache.thrift.TException
+    {
+      send_handshake(stacks);
+      return recv_handshake();
+    }
+
+    public void send_handshake(List<String> stacks) throws org.apache.thrift.TException
+    {
+      handshake_args args = new handshake_args();
+      args.setStacks(stacks);
+      sendBase("handshake", args);
+    }
+
+    public String recv_handshake() throws org.apache.thrift.TException
+    {
+      handshake_result result = new handshake_result();
+      receiveBase(result, "handshake");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "handshake failed: unknown result");
+    }
+
+    public ChangeSet changesSince(String folder, String cursor, int max) throws org.apache.thrift.TException
+    {
+      send_changesSince(folder, cursor, max);
+      return recv_changesSince();
+    }
+
+    public void send_changesSince(String folder, String cursor, int max) throws org.apache.thrift.TException
+    {
+      changesSince_args args = new changesSince_args();
+      args.setFolder(folder);
+      args.setCursor(cursor);
+      args.setMax(max);
+      sendBase("changesSince", args);
+    }
+
+    public ChangeSet recv_changesSince() throws org.apache.thrift.TException
+    {
+      changesSince_result result = new changesSince_result();
+      receiveBase(result, "changesSince");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "changesSince failed: unknown result");
+    }
+
+    public ChunkPage chunks(String folder, String path, int avg_size, long offset) throws ServerBusy, org.apache.thrift.TException
+    {
+      send_chunks(folder, path, avg_size, offset);
+      return recv_chunks();
+    }
+
+    public void send_chunks(String folder, String path, int avg_size, long offset) throws org.apache.thrift.TException
+    {
+      chunks_args args = new chunks_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setAvg_size(avg_size);
+      args.setOffset(offset);
+      sendBase("chunks", args);
+    }
+
+    public ChunkPage recv_chunks() throws ServerBusy, org.apache.thrift.TException
+    {
+      chunks_result result = new chunks_result();
+      receiveBase(result, "chunks");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "chunks failed: unknown result");
+    }
+
+    public boolean waitForChanges(String folder, String since, int timeout) throws org.apache.thrift.TException
+    {
+      send_waitForChanges(folder, since, timeout);
+      return recv_waitForChanges();
+    }
+
+    public void send_waitForChanges(String folder, String since, int timeout) throws org.apache.thrift.TException
+    {
+      waitForChanges_args args = new waitForChanges_args();
+      args.setFolder(folder);
+      args.setSince(since);
+      args.setTimeout(timeout);
+      sendBase("waitForChanges", args);
+    }
+
+    public boolean recv_waitForChanges() throws org.apache.thrift.TException
+    {
+      waitForChanges_result result = new waitForChanges_result();
+      receiveBase(result, "waitForChanges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "waitForChanges failed: unknown result");
+    }
+
+    public String digest(String folder, String path) throws org.apache.thrift.TException
+    {
+      send_digest(folder, path);
+      return recv_digest();
+    }
+
+    public void send_digest(String folder, String path) throws org.apache.thrift.TException
+    {
+      digest_args args = new digest_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      sendBase("digest", args);
+    }
+
+    public String recv_digest() throws org.apache.thrift.TException
+    {
+      digest_result result = new digest_result();
+      receiveBase(result, "digest");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "digest failed: unknown result");
+    }
+
+    public List<String> digests(String folder) throws org.apache.thrift.TException
+    {
+      send_digests(folder);
+      return recv_digests();
+    }
+
+    public void send_digests(String folder) throws org.apache.thrift.TException
+    {
+      digests_args args = new digests_args();
+      args.setFolder(folder);
+      sendBase("digests", args);
+    }
+
+    public List<String> recv_digests() throws org.apache.thrift.TException
+    {
+      digests_result result = new digests_result();
+      receiveBase(result, "digests");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "digests failed: unknown result");
+    }
+
+    public List<String> hashBatch(String folder, List<String> paths, String algorithm) throws ServerBusy, org.apache.thrift.TException
+    {
+      send_hashBatch(folder, paths, algorithm);
+      return recv_hashBatch();
+    }
+
+    public void send_hashBatch(String folder, List<String> paths, String algorithm) throws org.apache.thrift.TException
+    {
+      hashBatch_args args = new hashBatch_args();
+      args.setFolder(folder);
+      args.setPaths(paths);
+      args.setAlgorithm(algorithm);
+      sendBase("hashBatch", args);
+    }
+
+    public List<String> recv_hashBatch() throws ServerBusy, org.apache.thrift.TException
+    {
+      hashBatch_result result = new hashBatch_result();
+      receiveBase(result, "hashBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "hashBatch failed: unknown result");
+    }
+
+    public DataTicket openData(String folder, String path, long offset, long length) throws org.apache.thrift.TException
+    {
+      send_openData(folder, path, offset, length);
+      return recv_openData();
+    }
+
+    public void send_openData(String folder, String path, long offset, long length) throws org.apache.thrift.TException
+    {
+      openData_args args = new openData_args();
+      args.setFolder(folder);
+      args.setPath(path);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("openData", args);
+    }
+
+    public DataTicket recv_openData() throws org.apache.thrift.TException
+    {
+      openData_result result = new openData_result();
+      receiveBase(result, "openData");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "openData failed: unknown result");
+    }
+
+    public ServerStat stats() throws org.apache.thrift.TException
+    {
+      send_stats();
+      return recv_stats();
+    }
+
+    public void send_stats() throws org.apache.thrift.TException
+    {
+      stats_args args = new stats_args();
+      sendBase("stats", args);
+    }
+
+    public ServerStat recv_stats() throws org.apache.thrift.TException
+    {
+      stats_result result = new stats_result();
+      receiveBase(result, "stats");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "stats failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -256,7 +742,7 @@ public class SyncFileServer {
         prot.writeMessageEnd();
       }
 
-      public String getResult() throws org.apache.thrift.TException {
+      public String getResult() throws ServerBusy, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -297,7 +783,7 @@ public class SyncFileServer {
         prot.writeMessageEnd();
       }
 
-      public ByteBuffer getResult() throws org.apache.thrift.TException {
+      public ByteBuffer getResult() throws ServerBusy, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -342,190 +828,2144 @@ public class SyncFileServer {
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-    }
-
-    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("ping", new ping());
-      processMap.put("md5", new md5());
-      processMap.put("part", new part());
-      processMap.put("listFiles", new listFiles());
-      return processMap;
+    public void listTree(String folder, String path, String after, int max, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      listTree_call method_call = new listTree_call(folder, path, after, max, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class ping<I extends Iface> extends org.apache.thrift.ProcessFunction<I, ping_args> {
-      public ping() {
-        super("ping");
+    public static class listTree_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private String after;
+      private int max;
+      public listTree_call(String folder, String path, String after, int max, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.after = after;
+        this.max = max;
       }
 
-      public ping_args getEmptyArgsInstance() {
-        return new ping_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("listTree", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        listTree_args args = new listTree_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setAfter(after);
+        args.setMax(max);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public List<RemoteFileInfo> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_listTree();
       }
+    }
 
-      public ping_result getResult(I iface, ping_args args) throws org.apache.thrift.TException {
-        ping_result result = new ping_result();
-        iface.ping();
-        return result;
-      }
+    public void md5Batch(String folder, List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      md5Batch_call method_call = new md5Batch_call(folder, paths, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class md5<I extends Iface> extends org.apache.thrift.ProcessFunction<I, md5_args> {
-      public md5() {
-        super("md5");
+    public static class md5Batch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private List<String> paths;
+      public md5Batch_call(String folder, List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.paths = paths;
       }
 
-      public md5_args getEmptyArgsInstance() {
-        return new md5_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("md5Batch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        md5Batch_args args = new md5Batch_args();
+        args.setFolder(folder);
+        args.setPaths(paths);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public List<String> getResult() throws ServerBusy, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_md5Batch();
       }
+    }
 
-      public md5_result getResult(I iface, md5_args args) throws org.apache.thrift.TException {
-        md5_result result = new md5_result();
-        result.success = iface.md5(args.folder, args.path);
-        return result;
-      }
+    public void readFrame(String folder, String path, long offset, int size, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readFrame_call method_call = new readFrame_call(folder, path, offset, size, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class part<I extends Iface> extends org.apache.thrift.ProcessFunction<I, part_args> {
-      public part() {
-        super("part");
+    public static class readFrame_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private long offset;
+      private int size;
+      public readFrame_call(String folder, String path, long offset, int size, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.offset = offset;
+        this.size = size;
       }
 
-      public part_args getEmptyArgsInstance() {
-        return new part_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readFrame", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readFrame_args args = new readFrame_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setOffset(offset);
+        args.setSize(size);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public FileFrame getResult() throws ServerBusy, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readFrame();
       }
+    }
 
-      public part_result getResult(I iface, part_args args) throws org.apache.thrift.TException {
-        part_result result = new part_result();
-        result.success = iface.part(args.folder, args.path, args.part, args.part_size);
-        return result;
-      }
+    public void delta(String folder, String path, int block_size, List<BlockSignature> signatures, long offset, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      delta_call method_call = new delta_call(folder, path, block_size, signatures, offset, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class listFiles<I extends Iface> extends org.apache.thrift.ProcessFunction<I, listFiles_args> {
-      public listFiles() {
-        super("listFiles");
+    public static class delta_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private int block_size;
+      private List<BlockSignature> signatures;
+      private long offset;
+      public delta_call(String folder, String path, int block_size, List<BlockSignature> signatures, long offset, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.block_size = block_size;
+        this.signatures = signatures;
+        this.offset = offset;
       }
 
-      public listFiles_args getEmptyArgsInstance() {
-        return new listFiles_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("delta", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        delta_args args = new delta_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setBlock_size(block_size);
+        args.setSignatures(signatures);
+        args.setOffset(offset);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public DeltaPage getResult() throws ServerBusy, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_delta();
       }
+    }
 
-      public listFiles_result getResult(I iface, listFiles_args args) throws org.apache.thrift.TException {
-        listFiles_result result = new listFiles_result();
-        result.success = iface.listFiles(args.folder, args.path);
-        return result;
-      }
+    public void codecs(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      codecs_call method_call = new codecs_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-  }
+    public static class codecs_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public codecs_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
 
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
-    }
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("codecs", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        codecs_args args = new codecs_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
 
-    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      super(iface, getProcessMap(processMap));
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_codecs();
+      }
     }
 
-    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      processMap.put("ping", new ping());
-      processMap.put("md5", new md5());
-      processMap.put("part", new part());
-      processMap.put("listFiles", new listFiles());
-      return processMap;
+    public void partCompressed(String folder, String path, long part, long part_size, String codec, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      partCompressed_call method_call = new partCompressed_call(folder, path, part, part_size, codec, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Void> {
-      public ping() {
-        super("ping");
-      }
-
-      public ping_args getEmptyArgsInstance() {
-        return new ping_args();
+    public static class partCompressed_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private long part;
+      private long part_size;
+      private String codec;
+      public partCompressed_call(String folder, String path, long part, long part_size, String codec, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.part = part;
+        this.part_size = part_size;
+        this.codec = codec;
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            ping_result result = new ping_result();
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            ping_result result = new ping_result();
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("partCompressed", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        partCompressed_args args = new partCompressed_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setPart(part);
+        args.setPart_size(part_size);
+        args.setCodec(codec);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public Payload getResult() throws ServerBusy, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_partCompressed();
       }
+    }
 
-      public void start(I iface, ping_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.ping(resultHandler);
-      }
+    public void listTreeCompressed(String folder, String path, String after, int max, String codec, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      listTreeCompressed_call method_call = new listTreeCompressed_call(folder, path, after, max, codec, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class md5<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, md5_args, String> {
-      public md5() {
-        super("md5");
+    public static class listTreeCompressed_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private String after;
+      private int max;
+      private String codec;
+      public listTreeCompressed_call(String folder, String path, String after, int max, String codec, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.after = after;
+        this.max = max;
+        this.codec = codec;
       }
 
-      public md5_args getEmptyArgsInstance() {
-        return new md5_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("listTreeCompressed", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        listTreeCompressed_args args = new listTreeCompressed_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setAfter(after);
+        args.setMax(max);
+        args.setCodec(codec);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<String>() { 
-          public void onComplete(String o) {
+      public Payload getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_listTreeCompressed();
+      }
+    }
+
+    public void handshake(List<String> stacks, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      handshake_call method_call = new handshake_call(stacks, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class handshake_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> stacks;
+      public handshake_call(List<String> stacks, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.stacks = stacks;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("handshake", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        handshake_args args = new handshake_args();
+        args.setStacks(stacks);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_handshake();
+      }
+    }
+
+    public void changesSince(String folder, String cursor, int max, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      changesSince_call method_call = new changesSince_call(folder, cursor, max, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class changesSince_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String cursor;
+      private int max;
+      public changesSince_call(String folder, String cursor, int max, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.cursor = cursor;
+        this.max = max;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("changesSince", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        changesSince_args args = new changesSince_args();
+        args.setFolder(folder);
+        args.setCursor(cursor);
+        args.setMax(max);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ChangeSet getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_changesSince();
+      }
+    }
+
+    public void chunks(String folder, String path, int avg_size, long offset, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      chunks_call method_call = new chunks_call(folder, path, avg_size, offset, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class chunks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private int avg_size;
+      private long offset;
+      public chunks_call(String folder, String path, int avg_size, long offset, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.avg_size = avg_size;
+        this.offset = offset;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("chunks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        chunks_args args = new chunks_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setAvg_size(avg_size);
+        args.setOffset(offset);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ChunkPage getResult() throws ServerBusy, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_chunks();
+      }
+    }
+
+    public void waitForChanges(String folder, String since, int timeout, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      waitForChanges_call method_call = new waitForChanges_call(folder, since, timeout, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class waitForChanges_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String since;
+      private int timeout;
+      public waitForChanges_call(String folder, String since, int timeout, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.since = since;
+        this.timeout = timeout;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("waitForChanges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        waitForChanges_args args = new waitForChanges_args();
+        args.setFolder(folder);
+        args.setSince(since);
+        args.setTimeout(timeout);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_waitForChanges();
+      }
+    }
+
+    public void digest(String folder, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      digest_call method_call = new digest_call(folder, path, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class digest_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      public digest_call(String folder, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("digest", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        digest_args args = new digest_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_digest();
+      }
+    }
+
+    public void digests(String folder, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      digests_call method_call = new digests_call(folder, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class digests_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      public digests_call(String folder, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("digests", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        digests_args args = new digests_args();
+        args.setFolder(folder);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_digests();
+      }
+    }
+
+    public void hashBatch(String folder, List<String> paths, String algorithm, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      hashBatch_call method_call = new hashBatch_call(folder, paths, algorithm, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class hashBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private List<String> paths;
+      private String algorithm;
+      public hashBatch_call(String folder, List<String> paths, String algorithm, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.paths = paths;
+        this.algorithm = algorithm;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("hashBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        hashBatch_args args = new hashBatch_args();
+        args.setFolder(folder);
+        args.setPaths(paths);
+        args.setAlgorithm(algorithm);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws ServerBusy, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_hashBatch();
+      }
+    }
+
+    public void openData(String folder, String path, long offset, long length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      openData_call method_call = new openData_call(folder, path, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class openData_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String folder;
+      private String path;
+      private long offset;
+      private long length;
+      public openData_call(String folder, String path, long offset, long length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.folder = folder;
+        this.path = path;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("openData", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        openData_args args = new openData_args();
+        args.setFolder(folder);
+        args.setPath(path);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public DataTicket getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_openData();
+      }
+    }
+
+    public void stats(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      stats_call method_call = new stats_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stats_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public stats_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("stats", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        stats_args args = new stats_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ServerStat getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_stats();
+      }
+    }
+
+  }
+
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    }
+
+    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("ping", new ping());
+      processMap.put("md5", new md5());
+      processMap.put("part", new part());
+      processMap.put("listFiles", new listFiles());
+      processMap.put("listTree", new listTree());
+      processMap.put("md5Batch", new md5Batch());
+      processMap.put("readFrame", new readFrame());
+      processMap.put("delta", new delta());
+      processMap.put("codecs", new codecs());
+      processMap.put("partCompressed", new partCompressed());
+      processMap.put("listTreeCompressed", new listTreeCompressed());
+      processMap.put("handshake", new handshake());
+      processMap.put("changesSince", new changesSince());
+      processMap.put("chunks", new chunks());
+      processMap.put("waitForChanges", new waitForChanges());
+      processMap.put("digest", new digest());
+      processMap.put("digests", new digests());
+      processMap.put("hashBatch", new hashBatch());
+      processMap.put("openData", new openData());
+      processMap.put("stats", new stats());
+      return processMap;
+    }
+
+    public static class ping<I extends Iface> extends org.apache.thrift.ProcessFunction<I, ping_args> {
+      public ping() {
+        super("ping");
+      }
+
+      public ping_args getEmptyArgsInstance() {
+        return new ping_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public ping_result getResult(I iface, ping_args args) throws org.apache.thrift.TException {
+        ping_result result = new ping_result();
+        iface.ping();
+        return result;
+      }
+    }
+
+    public static class md5<I extends Iface> extends org.apache.thrift.ProcessFunction<I, md5_args> {
+      public md5() {
+        super("md5");
+      }
+
+      public md5_args getEmptyArgsInstance() {
+        return new md5_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public md5_result getResult(I iface, md5_args args) throws org.apache.thrift.TException {
+        md5_result result = new md5_result();
+        try {
+          result.success = iface.md5(args.folder, args.path);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class part<I extends Iface> extends org.apache.thrift.ProcessFunction<I, part_args> {
+      public part() {
+        super("part");
+      }
+
+      public part_args getEmptyArgsInstance() {
+        return new part_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public part_result getResult(I iface, part_args args) throws org.apache.thrift.TException {
+        part_result result = new part_result();
+        try {
+          result.success = iface.part(args.folder, args.path, args.part, args.part_size);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class listFiles<I extends Iface> extends org.apache.thrift.ProcessFunction<I, listFiles_args> {
+      public listFiles() {
+        super("listFiles");
+      }
+
+      public listFiles_args getEmptyArgsInstance() {
+        return new listFiles_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public listFiles_result getResult(I iface, listFiles_args args) throws org.apache.thrift.TException {
+        listFiles_result result = new listFiles_result();
+        result.success = iface.listFiles(args.folder, args.path);
+        return result;
+      }
+    }
+
+    public static class listTree<I extends Iface> extends org.apache.thrift.ProcessFunction<I, listTree_args> {
+      public listTree() {
+        super("listTree");
+      }
+
+      public listTree_args getEmptyArgsInstance() {
+        return new listTree_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public listTree_result getResult(I iface, listTree_args args) throws org.apache.thrift.TException {
+        listTree_result result = new listTree_result();
+        result.success = iface.listTree(args.folder, args.path, args.after, args.max);
+        return result;
+      }
+    }
+
+    public static class md5Batch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, md5Batch_args> {
+      public md5Batch() {
+        super("md5Batch");
+      }
+
+      public md5Batch_args getEmptyArgsInstance() {
+        return new md5Batch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public md5Batch_result getResult(I iface, md5Batch_args args) throws org.apache.thrift.TException {
+        md5Batch_result result = new md5Batch_result();
+        try {
+          result.success = iface.md5Batch(args.folder, args.paths);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class readFrame<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readFrame_args> {
+      public readFrame() {
+        super("readFrame");
+      }
+
+      public readFrame_args getEmptyArgsInstance() {
+        return new readFrame_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readFrame_result getResult(I iface, readFrame_args args) throws org.apache.thrift.TException {
+        readFrame_result result = new readFrame_result();
+        try {
+          result.success = iface.readFrame(args.folder, args.path, args.offset, args.size);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class delta<I extends Iface> extends org.apache.thrift.ProcessFunction<I, delta_args> {
+      public delta() {
+        super("delta");
+      }
+
+      public delta_args getEmptyArgsInstance() {
+        return new delta_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public delta_result getResult(I iface, delta_args args) throws org.apache.thrift.TException {
+        delta_result result = new delta_result();
+        try {
+          result.success = iface.delta(args.folder, args.path, args.block_size, args.signatures, args.offset);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class codecs<I extends Iface> extends org.apache.thrift.ProcessFunction<I, codecs_args> {
+      public codecs() {
+        super("codecs");
+      }
+
+      public codecs_args getEmptyArgsInstance() {
+        return new codecs_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public codecs_result getResult(I iface, codecs_args args) throws org.apache.thrift.TException {
+        codecs_result result = new codecs_result();
+        result.success = iface.codecs();
+        return result;
+      }
+    }
+
+    public static class partCompressed<I extends Iface> extends org.apache.thrift.ProcessFunction<I, partCompressed_args> {
+      public partCompressed() {
+        super("partCompressed");
+      }
+
+      public partCompressed_args getEmptyArgsInstance() {
+        return new partCompressed_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public partCompressed_result getResult(I iface, partCompressed_args args) throws org.apache.thrift.TException {
+        partCompressed_result result = new partCompressed_result();
+        try {
+          result.success = iface.partCompressed(args.folder, args.path, args.part, args.part_size, args.codec);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class listTreeCompressed<I extends Iface> extends org.apache.thrift.ProcessFunction<I, listTreeCompressed_args> {
+      public listTreeCompressed() {
+        super("listTreeCompressed");
+      }
+
+      public listTreeCompressed_args getEmptyArgsInstance() {
+        return new listTreeCompressed_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public listTreeCompressed_result getResult(I iface, listTreeCompressed_args args) throws org.apache.thrift.TException {
+        listTreeCompressed_result result = new listTreeCompressed_result();
+        result.success = iface.listTreeCompressed(args.folder, args.path, args.after, args.max, args.codec);
+        return result;
+      }
+    }
+
+    public static class handshake<I extends Iface> extends org.apache.thrift.ProcessFunction<I, handshake_args> {
+      public handshake() {
+        super("handshake");
+      }
+
+      public handshake_args getEmptyArgsInstance() {
+        return new handshake_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public handshake_result getResult(I iface, handshake_args args) throws org.apache.thrift.TException {
+        handshake_result result = new handshake_result();
+        result.success = iface.handshake(args.stacks);
+        return result;
+      }
+    }
+
+    public static class changesSince<I extends Iface> extends org.apache.thrift.ProcessFunction<I, changesSince_args> {
+      public changesSince() {
+        super("changesSince");
+      }
+
+      public changesSince_args getEmptyArgsInstance() {
+        return new changesSince_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public changesSince_result getResult(I iface, changesSince_args args) throws org.apache.thrift.TException {
+        changesSince_result result = new changesSince_result();
+        result.success = iface.changesSince(args.folder, args.cursor, args.max);
+        return result;
+      }
+    }
+
+    public static class chunks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, chunks_args> {
+      public chunks() {
+        super("chunks");
+      }
+
+      public chunks_args getEmptyArgsInstance() {
+        return new chunks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public chunks_result getResult(I iface, chunks_args args) throws org.apache.thrift.TException {
+        chunks_result result = new chunks_result();
+        try {
+          result.success = iface.chunks(args.folder, args.path, args.avg_size, args.offset);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class waitForChanges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, waitForChanges_args> {
+      public waitForChanges() {
+        super("waitForChanges");
+      }
+
+      public waitForChanges_args getEmptyArgsInstance() {
+        return new waitForChanges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public waitForChanges_result getResult(I iface, waitForChanges_args args) throws org.apache.thrift.TException {
+        waitForChanges_result result = new waitForChanges_result();
+        result.success = iface.waitForChanges(args.folder, args.since, args.timeout);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    public static class digest<I extends Iface> extends org.apache.thrift.ProcessFunction<I, digest_args> {
+      public digest() {
+        super("digest");
+      }
+
+      public digest_args getEmptyArgsInstance() {
+        return new digest_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public digest_result getResult(I iface, digest_args args) throws org.apache.thrift.TException {
+        digest_result result = new digest_result();
+        result.success = iface.digest(args.folder, args.path);
+        return result;
+      }
+    }
+
+    public static class digests<I extends Iface> extends org.apache.thrift.ProcessFunction<I, digests_args> {
+      public digests() {
+        super("digests");
+      }
+
+      public digests_args getEmptyArgsInstance() {
+        return new digests_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public digests_result getResult(I iface, digests_args args) throws org.apache.thrift.TException {
+        digests_result result = new digests_result();
+        result.success = iface.digests(args.folder);
+        return result;
+      }
+    }
+
+    public static class hashBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, hashBatch_args> {
+      public hashBatch() {
+        super("hashBatch");
+      }
+
+      public hashBatch_args getEmptyArgsInstance() {
+        return new hashBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public hashBatch_result getResult(I iface, hashBatch_args args) throws org.apache.thrift.TException {
+        hashBatch_result result = new hashBatch_result();
+        try {
+          result.success = iface.hashBatch(args.folder, args.paths, args.algorithm);
+        } catch (ServerBusy busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class openData<I extends Iface> extends org.apache.thrift.ProcessFunction<I, openData_args> {
+      public openData() {
+        super("openData");
+      }
+
+      public openData_args getEmptyArgsInstance() {
+        return new openData_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public openData_result getResult(I iface, openData_args args) throws org.apache.thrift.TException {
+        openData_result result = new openData_result();
+        result.success = iface.openData(args.folder, args.path, args.offset, args.length);
+        return result;
+      }
+    }
+
+    public static class stats<I extends Iface> extends org.apache.thrift.ProcessFunction<I, stats_args> {
+      public stats() {
+        super("stats");
+      }
+
+      public stats_args getEmptyArgsInstance() {
+        return new stats_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public stats_result getResult(I iface, stats_args args) throws org.apache.thrift.TException {
+        stats_result result = new stats_result();
+        result.success = iface.stats();
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("ping", new ping());
+      processMap.put("md5", new md5());
+      processMap.put("part", new part());
+      processMap.put("listFiles", new listFiles());
+      processMap.put("listTree", new listTree());
+      processMap.put("md5Batch", new md5Batch());
+      processMap.put("readFrame", new readFrame());
+      processMap.put("delta", new delta());
+      processMap.put("codecs", new codecs());
+      processMap.put("partCompressed", new partCompressed());
+      processMap.put("listTreeCompressed", new listTreeCompressed());
+      processMap.put("handshake", new handshake());
+      processMap.put("changesSince", new changesSince());
+      processMap.put("chunks", new chunks());
+      processMap.put("waitForChanges", new waitForChanges());
+      processMap.put("digest", new digest());
+      processMap.put("digests", new digests());
+      processMap.put("hashBatch", new hashBatch());
+      processMap.put("openData", new openData());
+      processMap.put("stats", new stats());
+      return processMap;
+    }
+
+    public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Void> {
+      public ping() {
+        super("ping");
+      }
+
+      public ping_args getEmptyArgsInstance() {
+        return new ping_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            ping_result result = new ping_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            ping_result result = new ping_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, ping_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.ping(resultHandler);
+      }
+    }
+
+    public static class md5<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, md5_args, String> {
+      public md5() {
+        super("md5");
+      }
+
+      public md5_args getEmptyArgsInstance() {
+        return new md5_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            md5_result result = new md5_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
             md5_result result = new md5_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, md5_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.md5(args.folder, args.path,resultHandler);
+      }
+    }
+
+    public static class part<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, part_args, ByteBuffer> {
+      public part() {
+        super("part");
+      }
+
+      public part_args getEmptyArgsInstance() {
+        return new part_args();
+      }
+
+      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ByteBuffer>() { 
+          public void onComplete(ByteBuffer o) {
+            part_result result = new part_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            part_result result = new part_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, part_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
+        iface.part(args.folder, args.path, args.part, args.part_size,resultHandler);
+      }
+    }
+
+    public static class listFiles<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listFiles_args, List<RemoteFileInfo>> {
+      public listFiles() {
+        super("listFiles");
+      }
+
+      public listFiles_args getEmptyArgsInstance() {
+        return new listFiles_args();
+      }
+
+      public AsyncMethodCallback<List<RemoteFileInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<RemoteFileInfo>>() { 
+          public void onComplete(List<RemoteFileInfo> o) {
+            listFiles_result result = new listFiles_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            listFiles_result result = new listFiles_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, listFiles_args args, org.apache.thrift.async.AsyncMethodCallback<List<RemoteFileInfo>> resultHandler) throws TException {
+        iface.listFiles(args.folder, args.path,resultHandler);
+      }
+    }
+
+    public static class listTree<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listTree_args, List<RemoteFileInfo>> {
+      public listTree() {
+        super("listTree");
+      }
+
+      public listTree_args getEmptyArgsInstance() {
+        return new listTree_args();
+      }
+
+      public AsyncMethodCallback<List<RemoteFileInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<RemoteFileInfo>>() { 
+          public void onComplete(List<RemoteFileInfo> o) {
+            listTree_result result = new listTree_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            listTree_result result = new listTree_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, listTree_args args, org.apache.thrift.async.AsyncMethodCallback<List<RemoteFileInfo>> resultHandler) throws TException {
+        iface.listTree(args.folder, args.path, args.after, args.max,resultHandler);
+      }
+    }
+
+    public static class md5Batch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, md5Batch_args, List<String>> {
+      public md5Batch() {
+        super("md5Batch");
+      }
+
+      public md5Batch_args getEmptyArgsInstance() {
+        return new md5Batch_args();
+      }
+
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            md5Batch_result result = new md5Batch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            md5Batch_result result = new md5Batch_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, md5Batch_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.md5Batch(args.folder, args.paths,resultHandler);
+      }
+    }
+
+    public static class readFrame<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFrame_args, FileFrame> {
+      public readFrame() {
+        super("readFrame");
+      }
+
+      public readFrame_args getEmptyArgsInstance() {
+        return new readFrame_args();
+      }
+
+      public AsyncMethodCallback<FileFrame> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<FileFrame>() { 
+          public void onComplete(FileFrame o) {
+            readFrame_result result = new readFrame_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readFrame_result result = new readFrame_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readFrame_args args, org.apache.thrift.async.AsyncMethodCallback<FileFrame> resultHandler) throws TException {
+        iface.readFrame(args.folder, args.path, args.offset, args.size,resultHandler);
+      }
+    }
+
+    public static class delta<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, delta_args, DeltaPage> {
+      public delta() {
+        super("delta");
+      }
+
+      public delta_args getEmptyArgsInstance() {
+        return new delta_args();
+      }
+
+      public AsyncMethodCallback<DeltaPage> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<DeltaPage>() { 
+          public void onComplete(DeltaPage o) {
+            delta_result result = new delta_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            delta_result result = new delta_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, delta_args args, org.apache.thrift.async.AsyncMethodCallback<DeltaPage> resultHandler) throws TException {
+        iface.delta(args.folder, args.path, args.block_size, args.signatures, args.offset,resultHandler);
+      }
+    }
+
+    public static class codecs<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, codecs_args, List<String>> {
+      public codecs() {
+        super("codecs");
+      }
+
+      public codecs_args getEmptyArgsInstance() {
+        return new codecs_args();
+      }
+
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            codecs_result result = new codecs_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            codecs_result result = new codecs_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, codecs_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.codecs(resultHandler);
+      }
+    }
+
+    public static class partCompressed<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, partCompressed_args, Payload> {
+      public partCompressed() {
+        super("partCompressed");
+      }
+
+      public partCompressed_args getEmptyArgsInstance() {
+        return new partCompressed_args();
+      }
+
+      public AsyncMethodCallback<Payload> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Payload>() { 
+          public void onComplete(Payload o) {
+            partCompressed_result result = new partCompressed_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            partCompressed_result result = new partCompressed_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, partCompressed_args args, org.apache.thrift.async.AsyncMethodCallback<Payload> resultHandler) throws TException {
+        iface.partCompressed(args.folder, args.path, args.part, args.part_size, args.codec,resultHandler);
+      }
+    }
+
+    public static class listTreeCompressed<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listTreeCompressed_args, Payload> {
+      public listTreeCompressed() {
+        super("listTreeCompressed");
+      }
+
+      public listTreeCompressed_args getEmptyArgsInstance() {
+        return new listTreeCompressed_args();
+      }
+
+      public AsyncMethodCallback<Payload> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Payload>() { 
+          public void onComplete(Payload o) {
+            listTreeCompressed_result result = new listTreeCompressed_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            listTreeCompressed_result result = new listTreeCompressed_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, listTreeCompressed_args args, org.apache.thrift.async.AsyncMethodCallback<Payload> resultHandler) throws TException {
+        iface.listTreeCompressed(args.folder, args.path, args.after, args.max, args.codec,resultHandler);
+      }
+    }
+
+    public static class handshake<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, handshake_args, String> {
+      public handshake() {
+        super("handshake");
+      }
+
+      public handshake_args getEmptyArgsInstance() {
+        return new handshake_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            handshake_result result = new handshake_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            handshake_result result = new handshake_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, handshake_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.handshake(args.stacks,resultHandler);
+      }
+    }
+
+    public static class changesSince<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, changesSince_args, ChangeSet> {
+      public changesSince() {
+        super("changesSince");
+      }
+
+      public changesSince_args getEmptyArgsInstance() {
+        return new changesSince_args();
+      }
+
+      public AsyncMethodCallback<ChangeSet> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ChangeSet>() { 
+          public void onComplete(ChangeSet o) {
+            changesSince_result result = new changesSince_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            changesSince_result result = new changesSince_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, changesSince_args args, org.apache.thrift.async.AsyncMethodCallback<ChangeSet> resultHandler) throws TException {
+        iface.changesSince(args.folder, args.cursor, args.max,resultHandler);
+      }
+    }
+
+    public static class chunks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, chunks_args, ChunkPage> {
+      public chunks() {
+        super("chunks");
+      }
+
+      public chunks_args getEmptyArgsInstance() {
+        return new chunks_args();
+      }
+
+      public AsyncMethodCallback<ChunkPage> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ChunkPage>() { 
+          public void onComplete(ChunkPage o) {
+            chunks_result result = new chunks_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            chunks_result result = new chunks_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, chunks_args args, org.apache.thrift.async.AsyncMethodCallback<ChunkPage> resultHandler) throws TException {
+        iface.chunks(args.folder, args.path, args.avg_size, args.offset,resultHandler);
+      }
+    }
+
+    public static class waitForChanges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, waitForChanges_args, Boolean> {
+      public waitForChanges() {
+        super("waitForChanges");
+      }
+
+      public waitForChanges_args getEmptyArgsInstance() {
+        return new waitForChanges_args();
+      }
+
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            waitForChanges_result result = new waitForChanges_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            waitForChanges_result result = new waitForChanges_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, waitForChanges_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.waitForChanges(args.folder, args.since, args.timeout,resultHandler);
+      }
+    }
+
+    public static class digest<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, digest_args, String> {
+      public digest() {
+        super("digest");
+      }
+
+      public digest_args getEmptyArgsInstance() {
+        return new digest_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            digest_result result = new digest_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            digest_result result = new digest_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, digest_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.digest(args.folder, args.path,resultHandler);
+      }
+    }
+
+    public static class digests<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, digests_args, List<String>> {
+      public digests() {
+        super("digests");
+      }
+
+      public digests_args getEmptyArgsInstance() {
+        return new digests_args();
+      }
+
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            digests_result result = new digests_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            digests_result result = new digests_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, digests_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.digests(args.folder,resultHandler);
+      }
+    }
+
+    public static class hashBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, hashBatch_args, List<String>> {
+      public hashBatch() {
+        super("hashBatch");
+      }
+
+      public hashBatch_args getEmptyArgsInstance() {
+        return new hashBatch_args();
+      }
+
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            hashBatch_result result = new hashBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            hashBatch_result result = new hashBatch_result();
+            if (e instanceof ServerBusy) {
+                        result.busy = (ServerBusy) e;
+                        result.setBusyIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, hashBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.hashBatch(args.folder, args.paths, args.algorithm,resultHandler);
+      }
+    }
+
+    public static class openData<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, openData_args, DataTicket> {
+      public openData() {
+        super("openData");
+      }
+
+      public openData_args getEmptyArgsInstance() {
+        return new openData_args();
+      }
+
+      public AsyncMethodCallback<DataTicket> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<DataTicket>() { 
+          public void onComplete(DataTicket o) {
+            openData_result result = new openData_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            openData_result result = new openData_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, openData_args args, org.apache.thrift.async.AsyncMethodCallback<DataTicket> resultHandler) throws TException {
+        iface.openData(args.folder, args.path, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class stats<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, stats_args, ServerStat> {
+      public stats() {
+        super("stats");
+      }
+
+      public stats_args getEmptyArgsInstance() {
+        return new stats_args();
+      }
+
+      public AsyncMethodCallback<ServerStat> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ServerStat>() { 
+          public void onComplete(ServerStat o) {
+            stats_result result = new stats_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -533,154 +2973,15726 @@ public class SyncFileServer {
             } catch (Exception e) {
               LOGGER.error("Exception writing to internal frame buffer", e);
             }
-            fb.close();
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            stats_result result = new stats_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, stats_args args, org.apache.thrift.async.AsyncMethodCallback<ServerStat> resultHandler) throws TException {
+        iface.stats(resultHandler);
+      }
+    }
+
+  }
+
+  public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new ping_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new ping_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_args.class, metaDataMap);
+    }
+
+    public ping_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public ping_args(ping_args other) {
+    }
+
+    public ping_args deepCopy() {
+      return new ping_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof ping_args)
+        return this.equals((ping_args)that);
+      return false;
+    }
+
+    public boolean equals(ping_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(ping_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("ping_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class ping_argsStandardSchemeFactory implements SchemeFactory {
+      public ping_argsStandardScheme getScheme() {
+        return new ping_argsStandardScheme();
+      }
+    }
+
+    private static class ping_argsStandardScheme extends StandardScheme<ping_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class ping_argsTupleSchemeFactory implements SchemeFactory {
+      public ping_argsTupleScheme getScheme() {
+        return new ping_argsTupleScheme();
+      }
+    }
+
+    private static class ping_argsTupleScheme extends TupleScheme<ping_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class ping_result implements org.apache.thrift.TBase<ping_result, ping_result._Fields>, java.io.Serializable, Cloneable, Comparable<ping_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new ping_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new ping_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_result.class, metaDataMap);
+    }
+
+    public ping_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public ping_result(ping_result other) {
+    }
+
+    public ping_result deepCopy() {
+      return new ping_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof ping_result)
+        return this.equals((ping_result)that);
+      return false;
+    }
+
+    public boolean equals(ping_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(ping_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("ping_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class ping_resultStandardSchemeFactory implements SchemeFactory {
+      public ping_resultStandardScheme getScheme() {
+        return new ping_resultStandardScheme();
+      }
+    }
+
+    private static class ping_resultStandardScheme extends StandardScheme<ping_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class ping_resultTupleSchemeFactory implements SchemeFactory {
+      public ping_resultTupleScheme getScheme() {
+        return new ping_resultTupleScheme();
+      }
+    }
+
+    private static class ping_resultTupleScheme extends TupleScheme<ping_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class md5_args implements org.apache.thrift.TBase<md5_args, md5_args._Fields>, java.io.Serializable, Cloneable, Comparable<md5_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("md5_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new md5_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new md5_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(md5_args.class, metaDataMap);
+    }
+
+    public md5_args() {
+    }
+
+    public md5_args(
+      String folder,
+      String path)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public md5_args(md5_args other) {
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public md5_args deepCopy() {
+      return new md5_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public md5_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public md5_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof md5_args)
+        return this.equals((md5_args)that);
+      return false;
+    }
+
+    public boolean equals(md5_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(md5_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("md5_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class md5_argsStandardSchemeFactory implements SchemeFactory {
+      public md5_argsStandardScheme getScheme() {
+        return new md5_argsStandardScheme();
+      }
+    }
+
+    private static class md5_argsStandardScheme extends StandardScheme<md5_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, md5_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, md5_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class md5_argsTupleSchemeFactory implements SchemeFactory {
+      public md5_argsTupleScheme getScheme() {
+        return new md5_argsTupleScheme();
+      }
+    }
+
+    private static class md5_argsTupleScheme extends TupleScheme<md5_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, md5_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, md5_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class md5_result implements org.apache.thrift.TBase<md5_result, md5_result._Fields>, java.io.Serializable, Cloneable, Comparable<md5_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("md5_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new md5_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new md5_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(md5_result.class, metaDataMap);
+    }
+
+    public md5_result() {
+    }
+
+    public md5_result(
+      String success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public md5_result(md5_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public md5_result deepCopy() {
+      return new md5_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public md5_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public md5_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof md5_result)
+        return this.equals((md5_result)that);
+      return false;
+    }
+
+    public boolean equals(md5_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(md5_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("md5_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class md5_resultStandardSchemeFactory implements SchemeFactory {
+      public md5_resultStandardScheme getScheme() {
+        return new md5_resultStandardScheme();
+      }
+    }
+
+    private static class md5_resultStandardScheme extends StandardScheme<md5_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, md5_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, md5_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class md5_resultTupleSchemeFactory implements SchemeFactory {
+      public md5_resultTupleScheme getScheme() {
+        return new md5_resultTupleScheme();
+      }
+    }
+
+    private static class md5_resultTupleScheme extends TupleScheme<md5_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, md5_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, md5_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class part_args implements org.apache.thrift.TBase<part_args, part_args._Fields>, java.io.Serializable, Cloneable, Comparable<part_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("part_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PART_FIELD_DESC = new org.apache.thrift.protocol.TField("part", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField PART_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("part_size", org.apache.thrift.protocol.TType.I64, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new part_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new part_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public long part; // required
+    public long part_size; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      PART((short)3, "part"),
+      PART_SIZE((short)4, "part_size");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // PART
+            return PART;
+          case 4: // PART_SIZE
+            return PART_SIZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PART_ISSET_ID = 0;
+    private static final int __PART_SIZE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PART, new org.apache.thrift.meta_data.FieldMetaData("part", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.PART_SIZE, new org.apache.thrift.meta_data.FieldMetaData("part_size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(part_args.class, metaDataMap);
+    }
+
+    public part_args() {
+    }
+
+    public part_args(
+      String folder,
+      String path,
+      long part,
+      long part_size)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.part = part;
+      setPartIsSet(true);
+      this.part_size = part_size;
+      setPart_sizeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public part_args(part_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.part = other.part;
+      this.part_size = other.part_size;
+    }
+
+    public part_args deepCopy() {
+      return new part_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      setPartIsSet(false);
+      this.part = 0;
+      setPart_sizeIsSet(false);
+      this.part_size = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public part_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public part_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public long getPart() {
+      return this.part;
+    }
+
+    public part_args setPart(long part) {
+      this.part = part;
+      setPartIsSet(true);
+      return this;
+    }
+
+    public void unsetPart() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PART_ISSET_ID);
+    }
+
+    /** Returns true if field part is set (has been assigned a value) and false otherwise */
+    public boolean isSetPart() {
+      return EncodingUtils.testBit(__isset_bitfield, __PART_ISSET_ID);
+    }
+
+    public void setPartIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PART_ISSET_ID, value);
+    }
+
+    public long getPart_size() {
+      return this.part_size;
+    }
+
+    public part_args setPart_size(long part_size) {
+      this.part_size = part_size;
+      setPart_sizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPart_size() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PART_SIZE_ISSET_ID);
+    }
+
+    /** Returns true if field part_size is set (has been assigned a value) and false otherwise */
+    public boolean isSetPart_size() {
+      return EncodingUtils.testBit(__isset_bitfield, __PART_SIZE_ISSET_ID);
+    }
+
+    public void setPart_sizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PART_SIZE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case PART:
+        if (value == null) {
+          unsetPart();
+        } else {
+          setPart((Long)value);
+        }
+        break;
+
+      case PART_SIZE:
+        if (value == null) {
+          unsetPart_size();
+        } else {
+          setPart_size((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case PART:
+        return getPart();
+
+      case PART_SIZE:
+        return getPart_size();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case PART:
+        return isSetPart();
+      case PART_SIZE:
+        return isSetPart_size();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof part_args)
+        return this.equals((part_args)that);
+      return false;
+    }
+
+    public boolean equals(part_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_part = true;
+      boolean that_present_part = true;
+      if (this_present_part || that_present_part) {
+        if (!(this_present_part && that_present_part))
+          return false;
+        if (this.part != that.part)
+          return false;
+      }
+
+      boolean this_present_part_size = true;
+      boolean that_present_part_size = true;
+      if (this_present_part_size || that_present_part_size) {
+        if (!(this_present_part_size && that_present_part_size))
+          return false;
+        if (this.part_size != that.part_size)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_part = true;
+      list.add(present_part);
+      if (present_part)
+        list.add(part);
+
+      boolean present_part_size = true;
+      list.add(present_part_size);
+      if (present_part_size)
+        list.add(part_size);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(part_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPart()).compareTo(other.isSetPart());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPart()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.part, other.part);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPart_size()).compareTo(other.isSetPart_size());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPart_size()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.part_size, other.part_size);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("part_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("part:");
+      sb.append(this.part);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("part_size:");
+      sb.append(this.part_size);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class part_argsStandardSchemeFactory implements SchemeFactory {
+      public part_argsStandardScheme getScheme() {
+        return new part_argsStandardScheme();
+      }
+    }
+
+    private static class part_argsStandardScheme extends StandardScheme<part_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, part_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PART
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.part = iprot.readI64();
+                struct.setPartIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // PART_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.part_size = iprot.readI64();
+                struct.setPart_sizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, part_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PART_FIELD_DESC);
+        oprot.writeI64(struct.part);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(PART_SIZE_FIELD_DESC);
+        oprot.writeI64(struct.part_size);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class part_argsTupleSchemeFactory implements SchemeFactory {
+      public part_argsTupleScheme getScheme() {
+        return new part_argsTupleScheme();
+      }
+    }
+
+    private static class part_argsTupleScheme extends TupleScheme<part_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, part_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPart()) {
+          optionals.set(2);
+        }
+        if (struct.isSetPart_size()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetPart()) {
+          oprot.writeI64(struct.part);
+        }
+        if (struct.isSetPart_size()) {
+          oprot.writeI64(struct.part_size);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, part_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.part = iprot.readI64();
+          struct.setPartIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.part_size = iprot.readI64();
+          struct.setPart_sizeIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class part_result implements org.apache.thrift.TBase<part_result, part_result._Fields>, java.io.Serializable, Cloneable, Comparable<part_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("part_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new part_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new part_resultTupleSchemeFactory());
+    }
+
+    public ByteBuffer success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(part_result.class, metaDataMap);
+    }
+
+    public part_result() {
+    }
+
+    public part_result(
+      ByteBuffer success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public part_result(part_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public part_result deepCopy() {
+      return new part_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public part_result setSuccess(byte[] success) {
+      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
+      return this;
+    }
+
+    public part_result setSuccess(ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public part_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ByteBuffer)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof part_result)
+        return this.equals((part_result)that);
+      return false;
+    }
+
+    public boolean equals(part_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(part_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("part_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class part_resultStandardSchemeFactory implements SchemeFactory {
+      public part_resultStandardScheme getScheme() {
+        return new part_resultStandardScheme();
+      }
+    }
+
+    private static class part_resultStandardScheme extends StandardScheme<part_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, part_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, part_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class part_resultTupleSchemeFactory implements SchemeFactory {
+      public part_resultTupleScheme getScheme() {
+        return new part_resultTupleScheme();
+      }
+    }
+
+    private static class part_resultTupleScheme extends TupleScheme<part_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, part_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, part_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class listFiles_args implements org.apache.thrift.TBase<listFiles_args, listFiles_args._Fields>, java.io.Serializable, Cloneable, Comparable<listFiles_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listFiles_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new listFiles_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listFiles_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listFiles_args.class, metaDataMap);
+    }
+
+    public listFiles_args() {
+    }
+
+    public listFiles_args(
+      String folder,
+      String path)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listFiles_args(listFiles_args other) {
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public listFiles_args deepCopy() {
+      return new listFiles_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public listFiles_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public listFiles_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof listFiles_args)
+        return this.equals((listFiles_args)that);
+      return false;
+    }
+
+    public boolean equals(listFiles_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(listFiles_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("listFiles_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class listFiles_argsStandardSchemeFactory implements SchemeFactory {
+      public listFiles_argsStandardScheme getScheme() {
+        return new listFiles_argsStandardScheme();
+      }
+    }
+
+    private static class listFiles_argsStandardScheme extends StandardScheme<listFiles_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listFiles_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listFiles_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class listFiles_argsTupleSchemeFactory implements SchemeFactory {
+      public listFiles_argsTupleScheme getScheme() {
+        return new listFiles_argsTupleScheme();
+      }
+    }
+
+    private static class listFiles_argsTupleScheme extends TupleScheme<listFiles_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, listFiles_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, listFiles_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class listFiles_result implements org.apache.thrift.TBase<listFiles_result, listFiles_result._Fields>, java.io.Serializable, Cloneable, Comparable<listFiles_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listFiles_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new listFiles_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listFiles_resultTupleSchemeFactory());
+    }
+
+    public List<RemoteFileInfo> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteFileInfo.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listFiles_result.class, metaDataMap);
+    }
+
+    public listFiles_result() {
+    }
+
+    public listFiles_result(
+      List<RemoteFileInfo> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listFiles_result(listFiles_result other) {
+      if (other.isSetSuccess()) {
+        List<RemoteFileInfo> __this__success = new ArrayList<RemoteFileInfo>(other.success.size());
+        for (RemoteFileInfo other_element : other.success) {
+          __this__success.add(new RemoteFileInfo(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public listFiles_result deepCopy() {
+      return new listFiles_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<RemoteFileInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(RemoteFileInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<RemoteFileInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<RemoteFileInfo> getSuccess() {
+      return this.success;
+    }
+
+    public listFiles_result setSuccess(List<RemoteFileInfo> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<RemoteFileInfo>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof listFiles_result)
+        return this.equals((listFiles_result)that);
+      return false;
+    }
+
+    public boolean equals(listFiles_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(listFiles_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("listFiles_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class listFiles_resultStandardSchemeFactory implements SchemeFactory {
+      public listFiles_resultStandardScheme getScheme() {
+        return new listFiles_resultStandardScheme();
+      }
+    }
+
+    private static class listFiles_resultStandardScheme extends StandardScheme<listFiles_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listFiles_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new ArrayList<RemoteFileInfo>(_list56.size);
+                  RemoteFileInfo _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = new RemoteFileInfo();
+                    _elem57.read(iprot);
+                    struct.success.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listFiles_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (RemoteFileInfo _iter59 : struct.success)
+            {
+              _iter59.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class listFiles_resultTupleSchemeFactory implements SchemeFactory {
+      public listFiles_resultTupleScheme getScheme() {
+        return new listFiles_resultTupleScheme();
+      }
+    }
+
+    private static class listFiles_resultTupleScheme extends TupleScheme<listFiles_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, listFiles_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (RemoteFileInfo _iter60 : struct.success)
+            {
+              _iter60.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, listFiles_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<RemoteFileInfo>(_list61.size);
+            RemoteFileInfo _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new RemoteFileInfo();
+              _elem62.read(iprot);
+              struct.success.add(_elem62);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class listTree_args implements org.apache.thrift.TBase<listTree_args, listTree_args._Fields>, java.io.Serializable, Cloneable, Comparable<listTree_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listTree_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField AFTER_FIELD_DESC = new org.apache.thrift.protocol.TField("after", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("max", org.apache.thrift.protocol.TType.I32, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new listTree_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listTree_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public String after; // required
+    public int max; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      AFTER((short)3, "after"),
+      MAX((short)4, "max");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // AFTER
+            return AFTER;
+          case 4: // MAX
+            return MAX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __MAX_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.AFTER, new org.apache.thrift.meta_data.FieldMetaData("after", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.MAX, new org.apache.thrift.meta_data.FieldMetaData("max", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listTree_args.class, metaDataMap);
+    }
+
+    public listTree_args() {
+    }
+
+    public listTree_args(
+      String folder,
+      String path,
+      String after,
+      int max)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.after = after;
+      this.max = max;
+      setMaxIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listTree_args(listTree_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetAfter()) {
+        this.after = other.after;
+      }
+      this.max = other.max;
+    }
+
+    public listTree_args deepCopy() {
+      return new listTree_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      this.after = null;
+      setMaxIsSet(false);
+      this.max = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public listTree_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public listTree_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public String getAfter() {
+      return this.after;
+    }
+
+    public listTree_args setAfter(String after) {
+      this.after = after;
+      return this;
+    }
+
+    public void unsetAfter() {
+      this.after = null;
+    }
+
+    /** Returns true if field after is set (has been assigned a value) and false otherwise */
+    public boolean isSetAfter() {
+      return this.after != null;
+    }
+
+    public void setAfterIsSet(boolean value) {
+      if (!value) {
+        this.after = null;
+      }
+    }
+
+    public int getMax() {
+      return this.max;
+    }
+
+    public listTree_args setMax(int max) {
+      this.max = max;
+      setMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetMax() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAX_ISSET_ID);
+    }
+
+    /** Returns true if field max is set (has been assigned a value) and false otherwise */
+    public boolean isSetMax() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAX_ISSET_ID);
+    }
+
+    public void setMaxIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAX_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case AFTER:
+        if (value == null) {
+          unsetAfter();
+        } else {
+          setAfter((String)value);
+        }
+        break;
+
+      case MAX:
+        if (value == null) {
+          unsetMax();
+        } else {
+          setMax((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case AFTER:
+        return getAfter();
+
+      case MAX:
+        return getMax();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case AFTER:
+        return isSetAfter();
+      case MAX:
+        return isSetMax();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof listTree_args)
+        return this.equals((listTree_args)that);
+      return false;
+    }
+
+    public boolean equals(listTree_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_after = true && this.isSetAfter();
+      boolean that_present_after = true && that.isSetAfter();
+      if (this_present_after || that_present_after) {
+        if (!(this_present_after && that_present_after))
+          return false;
+        if (!this.after.equals(that.after))
+          return false;
+      }
+
+      boolean this_present_max = true;
+      boolean that_present_max = true;
+      if (this_present_max || that_present_max) {
+        if (!(this_present_max && that_present_max))
+          return false;
+        if (this.max != that.max)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_after = true && (isSetAfter());
+      list.add(present_after);
+      if (present_after)
+        list.add(after);
+
+      boolean present_max = true;
+      list.add(present_max);
+      if (present_max)
+        list.add(max);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(listTree_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetAfter()).compareTo(other.isSetAfter());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAfter()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.after, other.after);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMax()).compareTo(other.isSetMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.max, other.max);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("listTree_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("after:");
+      if (this.after == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.after);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("max:");
+      sb.append(this.max);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class listTree_argsStandardSchemeFactory implements SchemeFactory {
+      public listTree_argsStandardScheme getScheme() {
+        return new listTree_argsStandardScheme();
+      }
+    }
+
+    private static class listTree_argsStandardScheme extends StandardScheme<listTree_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listTree_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // AFTER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.after = iprot.readString();
+                struct.setAfterIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.max = iprot.readI32();
+                struct.setMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listTree_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.after != null) {
+          oprot.writeFieldBegin(AFTER_FIELD_DESC);
+          oprot.writeString(struct.after);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_FIELD_DESC);
+        oprot.writeI32(struct.max);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class listTree_argsTupleSchemeFactory implements SchemeFactory {
+      public listTree_argsTupleScheme getScheme() {
+        return new listTree_argsTupleScheme();
+      }
+    }
+
+    private static class listTree_argsTupleScheme extends TupleScheme<listTree_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, listTree_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetAfter()) {
+          optionals.set(2);
+        }
+        if (struct.isSetMax()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetAfter()) {
+          oprot.writeString(struct.after);
+        }
+        if (struct.isSetMax()) {
+          oprot.writeI32(struct.max);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, listTree_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.after = iprot.readString();
+          struct.setAfterIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.max = iprot.readI32();
+          struct.setMaxIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class listTree_result implements org.apache.thrift.TBase<listTree_result, listTree_result._Fields>, java.io.Serializable, Cloneable, Comparable<listTree_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listTree_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new listTree_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listTree_resultTupleSchemeFactory());
+    }
+
+    public List<RemoteFileInfo> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteFileInfo.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listTree_result.class, metaDataMap);
+    }
+
+    public listTree_result() {
+    }
+
+    public listTree_result(
+      List<RemoteFileInfo> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listTree_result(listTree_result other) {
+      if (other.isSetSuccess()) {
+        List<RemoteFileInfo> __this__success = new ArrayList<RemoteFileInfo>(other.success.size());
+        for (RemoteFileInfo other_element : other.success) {
+          __this__success.add(new RemoteFileInfo(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public listTree_result deepCopy() {
+      return new listTree_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<RemoteFileInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(RemoteFileInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<RemoteFileInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<RemoteFileInfo> getSuccess() {
+      return this.success;
+    }
+
+    public listTree_result setSuccess(List<RemoteFileInfo> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<RemoteFileInfo>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof listTree_result)
+        return this.equals((listTree_result)that);
+      return false;
+    }
+
+    public boolean equals(listTree_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(listTree_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("listTree_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class listTree_resultStandardSchemeFactory implements SchemeFactory {
+      public listTree_resultStandardScheme getScheme() {
+        return new listTree_resultStandardScheme();
+      }
+    }
+
+    private static class listTree_resultStandardScheme extends StandardScheme<listTree_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listTree_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.success = new ArrayList<RemoteFileInfo>(_list64.size);
+                  RemoteFileInfo _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = new RemoteFileInfo();
+                    _elem65.read(iprot);
+                    struct.success.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listTree_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (RemoteFileInfo _iter67 : struct.success)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class listTree_resultTupleSchemeFactory implements SchemeFactory {
+      public listTree_resultTupleScheme getScheme() {
+        return new listTree_resultTupleScheme();
+      }
+    }
+
+    private static class listTree_resultTupleScheme extends TupleScheme<listTree_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, listTree_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (RemoteFileInfo _iter68 : struct.success)
+            {
+              _iter68.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, listTree_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<RemoteFileInfo>(_list69.size);
+            RemoteFileInfo _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = new RemoteFileInfo();
+              _elem70.read(iprot);
+              struct.success.add(_elem70);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class md5Batch_args implements org.apache.thrift.TBase<md5Batch_args, md5Batch_args._Fields>, java.io.Serializable, Cloneable, Comparable<md5Batch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("md5Batch_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new md5Batch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new md5Batch_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public List<String> paths; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATHS((short)2, "paths");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATHS
+            return PATHS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(md5Batch_args.class, metaDataMap);
+    }
+
+    public md5Batch_args() {
+    }
+
+    public md5Batch_args(
+      String folder,
+      List<String> paths)
+    {
+      this();
+      this.folder = folder;
+      this.paths = paths;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public md5Batch_args(md5Batch_args other) {
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+    }
+
+    public md5Batch_args deepCopy() {
+      return new md5Batch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.paths = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public md5Batch_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public md5Batch_args setPaths(List<String> paths) {
+      this.paths = paths;
+      return this;
+    }
+
+    public void unsetPaths() {
+      this.paths = null;
+    }
+
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
+    }
+
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATHS:
+        if (value == null) {
+          unsetPaths();
+        } else {
+          setPaths((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATHS:
+        return getPaths();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATHS:
+        return isSetPaths();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof md5Batch_args)
+        return this.equals((md5Batch_args)that);
+      return false;
+    }
+
+    public boolean equals(md5Batch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
+          return false;
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(md5Batch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("md5Batch_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class md5Batch_argsStandardSchemeFactory implements SchemeFactory {
+      public md5Batch_argsStandardScheme getScheme() {
+        return new md5Batch_argsStandardScheme();
+      }
+    }
+
+    private static class md5Batch_argsStandardScheme extends StandardScheme<md5Batch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, md5Batch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list72.size);
+                  String _elem73;
+                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
+                  {
+                    _elem73 = iprot.readString();
+                    struct.paths.add(_elem73);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, md5Batch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter75 : struct.paths)
+            {
+              oprot.writeString(_iter75);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class md5Batch_argsTupleSchemeFactory implements SchemeFactory {
+      public md5Batch_argsTupleScheme getScheme() {
+        return new md5Batch_argsTupleScheme();
+      }
+    }
+
+    private static class md5Batch_argsTupleScheme extends TupleScheme<md5Batch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, md5Batch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPaths()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter76 : struct.paths)
+            {
+              oprot.writeString(_iter76);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, md5Batch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list77.size);
+            String _elem78;
+            for (int _i79 = 0; _i79 < _list77.size; ++_i79)
+            {
+              _elem78 = iprot.readString();
+              struct.paths.add(_elem78);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class md5Batch_result implements org.apache.thrift.TBase<md5Batch_result, md5Batch_result._Fields>, java.io.Serializable, Cloneable, Comparable<md5Batch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("md5Batch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new md5Batch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new md5Batch_resultTupleSchemeFactory());
+    }
+
+    public List<String> success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(md5Batch_result.class, metaDataMap);
+    }
+
+    public md5Batch_result() {
+    }
+
+    public md5Batch_result(
+      List<String> success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public md5Batch_result(md5Batch_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public md5Batch_result deepCopy() {
+      return new md5Batch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public md5Batch_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public md5Batch_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof md5Batch_result)
+        return this.equals((md5Batch_result)that);
+      return false;
+    }
+
+    public boolean equals(md5Batch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(md5Batch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("md5Batch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class md5Batch_resultStandardSchemeFactory implements SchemeFactory {
+      public md5Batch_resultStandardScheme getScheme() {
+        return new md5Batch_resultStandardScheme();
+      }
+    }
+
+    private static class md5Batch_resultStandardScheme extends StandardScheme<md5Batch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, md5Batch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list80.size);
+                  String _elem81;
+                  for (int _i82 = 0; _i82 < _list80.size; ++_i82)
+                  {
+                    _elem81 = iprot.readString();
+                    struct.success.add(_elem81);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, md5Batch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter83 : struct.success)
+            {
+              oprot.writeString(_iter83);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class md5Batch_resultTupleSchemeFactory implements SchemeFactory {
+      public md5Batch_resultTupleScheme getScheme() {
+        return new md5Batch_resultTupleScheme();
+      }
+    }
+
+    private static class md5Batch_resultTupleScheme extends TupleScheme<md5Batch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, md5Batch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter84 : struct.success)
+            {
+              oprot.writeString(_iter84);
+            }
+          }
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, md5Batch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list85.size);
+            String _elem86;
+            for (int _i87 = 0; _i87 < _list85.size; ++_i87)
+            {
+              _elem86 = iprot.readString();
+              struct.success.add(_elem86);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFrame_args implements org.apache.thrift.TBase<readFrame_args, readFrame_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFrame_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFrame_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("size", org.apache.thrift.protocol.TType.I32, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFrame_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFrame_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public long offset; // required
+    public int size; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      OFFSET((short)3, "offset"),
+      SIZE((short)4, "size");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // SIZE
+            return SIZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __SIZE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SIZE, new org.apache.thrift.meta_data.FieldMetaData("size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFrame_args.class, metaDataMap);
+    }
+
+    public readFrame_args() {
+    }
+
+    public readFrame_args(
+      String folder,
+      String path,
+      long offset,
+      int size)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.size = size;
+      setSizeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFrame_args(readFrame_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.offset = other.offset;
+      this.size = other.size;
+    }
+
+    public readFrame_args deepCopy() {
+      return new readFrame_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setSizeIsSet(false);
+      this.size = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public readFrame_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public readFrame_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public readFrame_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getSize() {
+      return this.size;
+    }
+
+    public readFrame_args setSize(int size) {
+      this.size = size;
+      setSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetSize() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SIZE_ISSET_ID);
+    }
+
+    /** Returns true if field size is set (has been assigned a value) and false otherwise */
+    public boolean isSetSize() {
+      return EncodingUtils.testBit(__isset_bitfield, __SIZE_ISSET_ID);
+    }
+
+    public void setSizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SIZE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case SIZE:
+        if (value == null) {
+          unsetSize();
+        } else {
+          setSize((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case OFFSET:
+        return getOffset();
+
+      case SIZE:
+        return getSize();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case OFFSET:
+        return isSetOffset();
+      case SIZE:
+        return isSetSize();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFrame_args)
+        return this.equals((readFrame_args)that);
+      return false;
+    }
+
+    public boolean equals(readFrame_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_size = true;
+      boolean that_present_size = true;
+      if (this_present_size || that_present_size) {
+        if (!(this_present_size && that_present_size))
+          return false;
+        if (this.size != that.size)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_size = true;
+      list.add(present_size);
+      if (present_size)
+        list.add(size);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFrame_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSize()).compareTo(other.isSetSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.size, other.size);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFrame_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("size:");
+      sb.append(this.size);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFrame_argsStandardSchemeFactory implements SchemeFactory {
+      public readFrame_argsStandardScheme getScheme() {
+        return new readFrame_argsStandardScheme();
+      }
+    }
+
+    private static class readFrame_argsStandardScheme extends StandardScheme<readFrame_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFrame_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.size = iprot.readI32();
+                struct.setSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFrame_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(SIZE_FIELD_DESC);
+        oprot.writeI32(struct.size);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFrame_argsTupleSchemeFactory implements SchemeFactory {
+      public readFrame_argsTupleScheme getScheme() {
+        return new readFrame_argsTupleScheme();
+      }
+    }
+
+    private static class readFrame_argsTupleScheme extends TupleScheme<readFrame_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFrame_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(2);
+        }
+        if (struct.isSetSize()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetSize()) {
+          oprot.writeI32(struct.size);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFrame_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.size = iprot.readI32();
+          struct.setSizeIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFrame_result implements org.apache.thrift.TBase<readFrame_result, readFrame_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFrame_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFrame_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFrame_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFrame_resultTupleSchemeFactory());
+    }
+
+    public FileFrame success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileFrame.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFrame_result.class, metaDataMap);
+    }
+
+    public readFrame_result() {
+    }
+
+    public readFrame_result(
+      FileFrame success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFrame_result(readFrame_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FileFrame(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public readFrame_result deepCopy() {
+      return new readFrame_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public FileFrame getSuccess() {
+      return this.success;
+    }
+
+    public readFrame_result setSuccess(FileFrame success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public readFrame_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((FileFrame)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFrame_result)
+        return this.equals((readFrame_result)that);
+      return false;
+    }
+
+    public boolean equals(readFrame_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFrame_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFrame_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFrame_resultStandardSchemeFactory implements SchemeFactory {
+      public readFrame_resultStandardScheme getScheme() {
+        return new readFrame_resultStandardScheme();
+      }
+    }
+
+    private static class readFrame_resultStandardScheme extends StandardScheme<readFrame_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFrame_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FileFrame();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFrame_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFrame_resultTupleSchemeFactory implements SchemeFactory {
+      public readFrame_resultTupleScheme getScheme() {
+        return new readFrame_resultTupleScheme();
+      }
+    }
+
+    private static class readFrame_resultTupleScheme extends TupleScheme<readFrame_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFrame_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFrame_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new FileFrame();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class delta_args implements org.apache.thrift.TBase<delta_args, delta_args._Fields>, java.io.Serializable, Cloneable, Comparable<delta_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("delta_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("block_size", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField SIGNATURES_FIELD_DESC = new org.apache.thrift.protocol.TField("signatures", org.apache.thrift.protocol.TType.LIST, (short)4);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new delta_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new delta_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public int block_size; // required
+    public List<BlockSignature> signatures; // required
+    public long offset; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      BLOCK_SIZE((short)3, "block_size"),
+      SIGNATURES((short)4, "signatures"),
+      OFFSET((short)5, "offset");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // BLOCK_SIZE
+            return BLOCK_SIZE;
+          case 4: // SIGNATURES
+            return SIGNATURES;
+          case 5: // OFFSET
+            return OFFSET;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __BLOCK_SIZE_ISSET_ID = 0;
+    private static final int __OFFSET_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BLOCK_SIZE, new org.apache.thrift.meta_data.FieldMetaData("block_size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.SIGNATURES, new org.apache.thrift.meta_data.FieldMetaData("signatures", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, BlockSignature.class))));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(delta_args.class, metaDataMap);
+    }
+
+    public delta_args() {
+    }
+
+    public delta_args(
+      String folder,
+      String path,
+      int block_size,
+      List<BlockSignature> signatures,
+      long offset)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.block_size = block_size;
+      setBlock_sizeIsSet(true);
+      this.signatures = signatures;
+      this.offset = offset;
+      setOffsetIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public delta_args(delta_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.block_size = other.block_size;
+      if (other.isSetSignatures()) {
+        List<BlockSignature> __this__signatures = new ArrayList<BlockSignature>(other.signatures.size());
+        for (BlockSignature other_element : other.signatures) {
+          __this__signatures.add(new BlockSignature(other_element));
+        }
+        this.signatures = __this__signatures;
+      }
+      this.offset = other.offset;
+    }
+
+    public delta_args deepCopy() {
+      return new delta_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      setBlock_sizeIsSet(false);
+      this.block_size = 0;
+      this.signatures = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public delta_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public delta_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public int getBlock_size() {
+      return this.block_size;
+    }
+
+    public delta_args setBlock_size(int block_size) {
+      this.block_size = block_size;
+      setBlock_sizeIsSet(true);
+      return this;
+    }
+
+    public void unsetBlock_size() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCK_SIZE_ISSET_ID);
+    }
+
+    /** Returns true if field block_size is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlock_size() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCK_SIZE_ISSET_ID);
+    }
+
+    public void setBlock_sizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCK_SIZE_ISSET_ID, value);
+    }
+
+    public int getSignaturesSize() {
+      return (this.signatures == null) ? 0 : this.signatures.size();
+    }
+
+    public java.util.Iterator<BlockSignature> getSignaturesIterator() {
+      return (this.signatures == null) ? null : this.signatures.iterator();
+    }
+
+    public void addToSignatures(BlockSignature elem) {
+      if (this.signatures == null) {
+        this.signatures = new ArrayList<BlockSignature>();
+      }
+      this.signatures.add(elem);
+    }
+
+    public List<BlockSignature> getSignatures() {
+      return this.signatures;
+    }
+
+    public delta_args setSignatures(List<BlockSignature> signatures) {
+      this.signatures = signatures;
+      return this;
+    }
+
+    public void unsetSignatures() {
+      this.signatures = null;
+    }
+
+    /** Returns true if field signatures is set (has been assigned a value) and false otherwise */
+    public boolean isSetSignatures() {
+      return this.signatures != null;
+    }
+
+    public void setSignaturesIsSet(boolean value) {
+      if (!value) {
+        this.signatures = null;
+      }
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public delta_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case BLOCK_SIZE:
+        if (value == null) {
+          unsetBlock_size();
+        } else {
+          setBlock_size((Integer)value);
+        }
+        break;
+
+      case SIGNATURES:
+        if (value == null) {
+          unsetSignatures();
+        } else {
+          setSignatures((List<BlockSignature>)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case BLOCK_SIZE:
+        return getBlock_size();
+
+      case SIGNATURES:
+        return getSignatures();
+
+      case OFFSET:
+        return getOffset();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case BLOCK_SIZE:
+        return isSetBlock_size();
+      case SIGNATURES:
+        return isSetSignatures();
+      case OFFSET:
+        return isSetOffset();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof delta_args)
+        return this.equals((delta_args)that);
+      return false;
+    }
+
+    public boolean equals(delta_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_block_size = true;
+      boolean that_present_block_size = true;
+      if (this_present_block_size || that_present_block_size) {
+        if (!(this_present_block_size && that_present_block_size))
+          return false;
+        if (this.block_size != that.block_size)
+          return false;
+      }
+
+      boolean this_present_signatures = true && this.isSetSignatures();
+      boolean that_present_signatures = true && that.isSetSignatures();
+      if (this_present_signatures || that_present_signatures) {
+        if (!(this_present_signatures && that_present_signatures))
+          return false;
+        if (!this.signatures.equals(that.signatures))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_block_size = true;
+      list.add(present_block_size);
+      if (present_block_size)
+        list.add(block_size);
+
+      boolean present_signatures = true && (isSetSignatures());
+      list.add(present_signatures);
+      if (present_signatures)
+        list.add(signatures);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(delta_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlock_size()).compareTo(other.isSetBlock_size());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlock_size()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.block_size, other.block_size);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSignatures()).compareTo(other.isSetSignatures());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSignatures()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.signatures, other.signatures);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("delta_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("block_size:");
+      sb.append(this.block_size);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("signatures:");
+      if (this.signatures == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.signatures);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class delta_argsStandardSchemeFactory implements SchemeFactory {
+      public delta_argsStandardScheme getScheme() {
+        return new delta_argsStandardScheme();
+      }
+    }
+
+    private static class delta_argsStandardScheme extends StandardScheme<delta_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, delta_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BLOCK_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.block_size = iprot.readI32();
+                struct.setBlock_sizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // SIGNATURES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list88 = iprot.readListBegin();
+                  struct.signatures = new ArrayList<BlockSignature>(_list88.size);
+                  BlockSignature _elem89;
+                  for (int _i90 = 0; _i90 < _list88.size; ++_i90)
+                  {
+                    _elem89 = new BlockSignature();
+                    _elem89.read(iprot);
+                    struct.signatures.add(_elem89);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSignaturesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, delta_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(BLOCK_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.block_size);
+        oprot.writeFieldEnd();
+        if (struct.signatures != null) {
+          oprot.writeFieldBegin(SIGNATURES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.signatures.size()));
+            for (BlockSignature _iter91 : struct.signatures)
+            {
+              _iter91.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class delta_argsTupleSchemeFactory implements SchemeFactory {
+      public delta_argsTupleScheme getScheme() {
+        return new delta_argsTupleScheme();
+      }
+    }
+
+    private static class delta_argsTupleScheme extends TupleScheme<delta_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, delta_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBlock_size()) {
+          optionals.set(2);
+        }
+        if (struct.isSetSignatures()) {
+          optionals.set(3);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetBlock_size()) {
+          oprot.writeI32(struct.block_size);
+        }
+        if (struct.isSetSignatures()) {
+          {
+            oprot.writeI32(struct.signatures.size());
+            for (BlockSignature _iter92 : struct.signatures)
+            {
+              _iter92.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, delta_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.block_size = iprot.readI32();
+          struct.setBlock_sizeIsSet(true);
+        }
+        if (incoming.get(3)) {
+          {
+            org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.signatures = new ArrayList<BlockSignature>(_list93.size);
+            BlockSignature _elem94;
+            for (int _i95 = 0; _i95 < _list93.size; ++_i95)
+            {
+              _elem94 = new BlockSignature();
+              _elem94.read(iprot);
+              struct.signatures.add(_elem94);
+            }
+          }
+          struct.setSignaturesIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class delta_result implements org.apache.thrift.TBase<delta_result, delta_result._Fields>, java.io.Serializable, Cloneable, Comparable<delta_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("delta_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new delta_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new delta_resultTupleSchemeFactory());
+    }
+
+    public DeltaPage success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeltaPage.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(delta_result.class, metaDataMap);
+    }
+
+    public delta_result() {
+    }
+
+    public delta_result(
+      DeltaPage success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public delta_result(delta_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new DeltaPage(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public delta_result deepCopy() {
+      return new delta_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public DeltaPage getSuccess() {
+      return this.success;
+    }
+
+    public delta_result setSuccess(DeltaPage success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public delta_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((DeltaPage)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof delta_result)
+        return this.equals((delta_result)that);
+      return false;
+    }
+
+    public boolean equals(delta_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(delta_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("delta_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class delta_resultStandardSchemeFactory implements SchemeFactory {
+      public delta_resultStandardScheme getScheme() {
+        return new delta_resultStandardScheme();
+      }
+    }
+
+    private static class delta_resultStandardScheme extends StandardScheme<delta_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, delta_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new DeltaPage();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, delta_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class delta_resultTupleSchemeFactory implements SchemeFactory {
+      public delta_resultTupleScheme getScheme() {
+        return new delta_resultTupleScheme();
+      }
+    }
+
+    private static class delta_resultTupleScheme extends TupleScheme<delta_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, delta_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, delta_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new DeltaPage();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class codecs_args implements org.apache.thrift.TBase<codecs_args, codecs_args._Fields>, java.io.Serializable, Cloneable, Comparable<codecs_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("codecs_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new codecs_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new codecs_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(codecs_args.class, metaDataMap);
+    }
+
+    public codecs_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public codecs_args(codecs_args other) {
+    }
+
+    public codecs_args deepCopy() {
+      return new codecs_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof codecs_args)
+        return this.equals((codecs_args)that);
+      return false;
+    }
+
+    public boolean equals(codecs_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(codecs_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("codecs_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class codecs_argsStandardSchemeFactory implements SchemeFactory {
+      public codecs_argsStandardScheme getScheme() {
+        return new codecs_argsStandardScheme();
+      }
+    }
+
+    private static class codecs_argsStandardScheme extends StandardScheme<codecs_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, codecs_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, codecs_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class codecs_argsTupleSchemeFactory implements SchemeFactory {
+      public codecs_argsTupleScheme getScheme() {
+        return new codecs_argsTupleScheme();
+      }
+    }
+
+    private static class codecs_argsTupleScheme extends TupleScheme<codecs_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, codecs_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, codecs_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class codecs_result implements org.apache.thrift.TBase<codecs_result, codecs_result._Fields>, java.io.Serializable, Cloneable, Comparable<codecs_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("codecs_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new codecs_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new codecs_resultTupleSchemeFactory());
+    }
+
+    public List<String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(codecs_result.class, metaDataMap);
+    }
+
+    public codecs_result() {
+    }
+
+    public codecs_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public codecs_result(codecs_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public codecs_result deepCopy() {
+      return new codecs_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public codecs_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof codecs_result)
+        return this.equals((codecs_result)that);
+      return false;
+    }
+
+    public boolean equals(codecs_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(codecs_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("codecs_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class codecs_resultStandardSchemeFactory implements SchemeFactory {
+      public codecs_resultStandardScheme getScheme() {
+        return new codecs_resultStandardScheme();
+      }
+    }
+
+    private static class codecs_resultStandardScheme extends StandardScheme<codecs_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, codecs_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list96.size);
+                  String _elem97;
+                  for (int _i98 = 0; _i98 < _list96.size; ++_i98)
+                  {
+                    _elem97 = iprot.readString();
+                    struct.success.add(_elem97);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, codecs_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter99 : struct.success)
+            {
+              oprot.writeString(_iter99);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class codecs_resultTupleSchemeFactory implements SchemeFactory {
+      public codecs_resultTupleScheme getScheme() {
+        return new codecs_resultTupleScheme();
+      }
+    }
+
+    private static class codecs_resultTupleScheme extends TupleScheme<codecs_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, codecs_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter100 : struct.success)
+            {
+              oprot.writeString(_iter100);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, codecs_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list101 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list101.size);
+            String _elem102;
+            for (int _i103 = 0; _i103 < _list101.size; ++_i103)
+            {
+              _elem102 = iprot.readString();
+              struct.success.add(_elem102);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class partCompressed_args implements org.apache.thrift.TBase<partCompressed_args, partCompressed_args._Fields>, java.io.Serializable, Cloneable, Comparable<partCompressed_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("partCompressed_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PART_FIELD_DESC = new org.apache.thrift.protocol.TField("part", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField PART_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("part_size", org.apache.thrift.protocol.TType.I64, (short)4);
+    private static final org.apache.thrift.protocol.TField CODEC_FIELD_DESC = new org.apache.thrift.protocol.TField("codec", org.apache.thrift.protocol.TType.STRING, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new partCompressed_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new partCompressed_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public long part; // required
+    public long part_size; // required
+    public String codec; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      PART((short)3, "part"),
+      PART_SIZE((short)4, "part_size"),
+      CODEC((short)5, "codec");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // PART
+            return PART;
+          case 4: // PART_SIZE
+            return PART_SIZE;
+          case 5: // CODEC
+            return CODEC;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PART_ISSET_ID = 0;
+    private static final int __PART_SIZE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PART, new org.apache.thrift.meta_data.FieldMetaData("part", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.PART_SIZE, new org.apache.thrift.meta_data.FieldMetaData("part_size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.CODEC, new org.apache.thrift.meta_data.FieldMetaData("codec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(partCompressed_args.class, metaDataMap);
+    }
+
+    public partCompressed_args() {
+    }
+
+    public partCompressed_args(
+      String folder,
+      String path,
+      long part,
+      long part_size,
+      String codec)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.part = part;
+      setPartIsSet(true);
+      this.part_size = part_size;
+      setPart_sizeIsSet(true);
+      this.codec = codec;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public partCompressed_args(partCompressed_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.part = other.part;
+      this.part_size = other.part_size;
+      if (other.isSetCodec()) {
+        this.codec = other.codec;
+      }
+    }
+
+    public partCompressed_args deepCopy() {
+      return new partCompressed_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      setPartIsSet(false);
+      this.part = 0;
+      setPart_sizeIsSet(false);
+      this.part_size = 0;
+      this.codec = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public partCompressed_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public partCompressed_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public long getPart() {
+      return this.part;
+    }
+
+    public partCompressed_args setPart(long part) {
+      this.part = part;
+      setPartIsSet(true);
+      return this;
+    }
+
+    public void unsetPart() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PART_ISSET_ID);
+    }
+
+    /** Returns true if field part is set (has been assigned a value) and false otherwise */
+    public boolean isSetPart() {
+      return EncodingUtils.testBit(__isset_bitfield, __PART_ISSET_ID);
+    }
+
+    public void setPartIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PART_ISSET_ID, value);
+    }
+
+    public long getPart_size() {
+      return this.part_size;
+    }
+
+    public partCompressed_args setPart_size(long part_size) {
+      this.part_size = part_size;
+      setPart_sizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPart_size() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PART_SIZE_ISSET_ID);
+    }
+
+    /** Returns true if field part_size is set (has been assigned a value) and false otherwise */
+    public boolean isSetPart_size() {
+      return EncodingUtils.testBit(__isset_bitfield, __PART_SIZE_ISSET_ID);
+    }
+
+    public void setPart_sizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PART_SIZE_ISSET_ID, value);
+    }
+
+    public String getCodec() {
+      return this.codec;
+    }
+
+    public partCompressed_args setCodec(String codec) {
+      this.codec = codec;
+      return this;
+    }
+
+    public void unsetCodec() {
+      this.codec = null;
+    }
+
+    /** Returns true if field codec is set (has been assigned a value) and false otherwise */
+    public boolean isSetCodec() {
+      return this.codec != null;
+    }
+
+    public void setCodecIsSet(boolean value) {
+      if (!value) {
+        this.codec = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case PART:
+        if (value == null) {
+          unsetPart();
+        } else {
+          setPart((Long)value);
+        }
+        break;
+
+      case PART_SIZE:
+        if (value == null) {
+          unsetPart_size();
+        } else {
+          setPart_size((Long)value);
+        }
+        break;
+
+      case CODEC:
+        if (value == null) {
+          unsetCodec();
+        } else {
+          setCodec((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case PART:
+        return getPart();
+
+      case PART_SIZE:
+        return getPart_size();
+
+      case CODEC:
+        return getCodec();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case PART:
+        return isSetPart();
+      case PART_SIZE:
+        return isSetPart_size();
+      case CODEC:
+        return isSetCodec();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof partCompressed_args)
+        return this.equals((partCompressed_args)that);
+      return false;
+    }
+
+    public boolean equals(partCompressed_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_part = true;
+      boolean that_present_part = true;
+      if (this_present_part || that_present_part) {
+        if (!(this_present_part && that_present_part))
+          return false;
+        if (this.part != that.part)
+          return false;
+      }
+
+      boolean this_present_part_size = true;
+      boolean that_present_part_size = true;
+      if (this_present_part_size || that_present_part_size) {
+        if (!(this_present_part_size && that_present_part_size))
+          return false;
+        if (this.part_size != that.part_size)
+          return false;
+      }
+
+      boolean this_present_codec = true && this.isSetCodec();
+      boolean that_present_codec = true && that.isSetCodec();
+      if (this_present_codec || that_present_codec) {
+        if (!(this_present_codec && that_present_codec))
+          return false;
+        if (!this.codec.equals(that.codec))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_part = true;
+      list.add(present_part);
+      if (present_part)
+        list.add(part);
+
+      boolean present_part_size = true;
+      list.add(present_part_size);
+      if (present_part_size)
+        list.add(part_size);
+
+      boolean present_codec = true && (isSetCodec());
+      list.add(present_codec);
+      if (present_codec)
+        list.add(codec);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(partCompressed_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPart()).compareTo(other.isSetPart());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPart()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.part, other.part);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPart_size()).compareTo(other.isSetPart_size());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPart_size()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.part_size, other.part_size);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCodec()).compareTo(other.isSetCodec());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCodec()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.codec, other.codec);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("partCompressed_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("part:");
+      sb.append(this.part);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("part_size:");
+      sb.append(this.part_size);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("codec:");
+      if (this.codec == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.codec);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class partCompressed_argsStandardSchemeFactory implements SchemeFactory {
+      public partCompressed_argsStandardScheme getScheme() {
+        return new partCompressed_argsStandardScheme();
+      }
+    }
+
+    private static class partCompressed_argsStandardScheme extends StandardScheme<partCompressed_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, partCompressed_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PART
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.part = iprot.readI64();
+                struct.setPartIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // PART_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.part_size = iprot.readI64();
+                struct.setPart_sizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // CODEC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.codec = iprot.readString();
+                struct.setCodecIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, partCompressed_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PART_FIELD_DESC);
+        oprot.writeI64(struct.part);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(PART_SIZE_FIELD_DESC);
+        oprot.writeI64(struct.part_size);
+        oprot.writeFieldEnd();
+        if (struct.codec != null) {
+          oprot.writeFieldBegin(CODEC_FIELD_DESC);
+          oprot.writeString(struct.codec);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class partCompressed_argsTupleSchemeFactory implements SchemeFactory {
+      public partCompressed_argsTupleScheme getScheme() {
+        return new partCompressed_argsTupleScheme();
+      }
+    }
+
+    private static class partCompressed_argsTupleScheme extends TupleScheme<partCompressed_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, partCompressed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPart()) {
+          optionals.set(2);
+        }
+        if (struct.isSetPart_size()) {
+          optionals.set(3);
+        }
+        if (struct.isSetCodec()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetPart()) {
+          oprot.writeI64(struct.part);
+        }
+        if (struct.isSetPart_size()) {
+          oprot.writeI64(struct.part_size);
+        }
+        if (struct.isSetCodec()) {
+          oprot.writeString(struct.codec);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, partCompressed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.part = iprot.readI64();
+          struct.setPartIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.part_size = iprot.readI64();
+          struct.setPart_sizeIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.codec = iprot.readString();
+          struct.setCodecIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class partCompressed_result implements org.apache.thrift.TBase<partCompressed_result, partCompressed_result._Fields>, java.io.Serializable, Cloneable, Comparable<partCompressed_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("partCompressed_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new partCompressed_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new partCompressed_resultTupleSchemeFactory());
+    }
+
+    public Payload success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Payload.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(partCompressed_result.class, metaDataMap);
+    }
+
+    public partCompressed_result() {
+    }
+
+    public partCompressed_result(
+      Payload success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public partCompressed_result(partCompressed_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Payload(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public partCompressed_result deepCopy() {
+      return new partCompressed_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public Payload getSuccess() {
+      return this.success;
+    }
+
+    public partCompressed_result setSuccess(Payload success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public partCompressed_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Payload)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof partCompressed_result)
+        return this.equals((partCompressed_result)that);
+      return false;
+    }
+
+    public boolean equals(partCompressed_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(partCompressed_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("partCompressed_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class partCompressed_resultStandardSchemeFactory implements SchemeFactory {
+      public partCompressed_resultStandardScheme getScheme() {
+        return new partCompressed_resultStandardScheme();
+      }
+    }
+
+    private static class partCompressed_resultStandardScheme extends StandardScheme<partCompressed_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, partCompressed_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Payload();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, partCompressed_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class partCompressed_resultTupleSchemeFactory implements SchemeFactory {
+      public partCompressed_resultTupleScheme getScheme() {
+        return new partCompressed_resultTupleScheme();
+      }
+    }
+
+    private static class partCompressed_resultTupleScheme extends TupleScheme<partCompressed_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, partCompressed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, partCompressed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new Payload();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class listTreeCompressed_args implements org.apache.thrift.TBase<listTreeCompressed_args, listTreeCompressed_args._Fields>, java.io.Serializable, Cloneable, Comparable<listTreeCompressed_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listTreeCompressed_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField AFTER_FIELD_DESC = new org.apache.thrift.protocol.TField("after", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("max", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField CODEC_FIELD_DESC = new org.apache.thrift.protocol.TField("codec", org.apache.thrift.protocol.TType.STRING, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new listTreeCompressed_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listTreeCompressed_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public String after; // required
+    public int max; // required
+    public String codec; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      AFTER((short)3, "after"),
+      MAX((short)4, "max"),
+      CODEC((short)5, "codec");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // AFTER
+            return AFTER;
+          case 4: // MAX
+            return MAX;
+          case 5: // CODEC
+            return CODEC;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __MAX_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.AFTER, new org.apache.thrift.meta_data.FieldMetaData("after", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.MAX, new org.apache.thrift.meta_data.FieldMetaData("max", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.CODEC, new org.apache.thrift.meta_data.FieldMetaData("codec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listTreeCompressed_args.class, metaDataMap);
+    }
+
+    public listTreeCompressed_args() {
+    }
+
+    public listTreeCompressed_args(
+      String folder,
+      String path,
+      String after,
+      int max,
+      String codec)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.after = after;
+      this.max = max;
+      setMaxIsSet(true);
+      this.codec = codec;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listTreeCompressed_args(listTreeCompressed_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetAfter()) {
+        this.after = other.after;
+      }
+      this.max = other.max;
+      if (other.isSetCodec()) {
+        this.codec = other.codec;
+      }
+    }
+
+    public listTreeCompressed_args deepCopy() {
+      return new listTreeCompressed_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      this.after = null;
+      setMaxIsSet(false);
+      this.max = 0;
+      this.codec = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public listTreeCompressed_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public listTreeCompressed_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public String getAfter() {
+      return this.after;
+    }
+
+    public listTreeCompressed_args setAfter(String after) {
+      this.after = after;
+      return this;
+    }
+
+    public void unsetAfter() {
+      this.after = null;
+    }
+
+    /** Returns true if field after is set (has been assigned a value) and false otherwise */
+    public boolean isSetAfter() {
+      return this.after != null;
+    }
+
+    public void setAfterIsSet(boolean value) {
+      if (!value) {
+        this.after = null;
+      }
+    }
+
+    public int getMax() {
+      return this.max;
+    }
+
+    public listTreeCompressed_args setMax(int max) {
+      this.max = max;
+      setMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetMax() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAX_ISSET_ID);
+    }
+
+    /** Returns true if field max is set (has been assigned a value) and false otherwise */
+    public boolean isSetMax() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAX_ISSET_ID);
+    }
+
+    public void setMaxIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAX_ISSET_ID, value);
+    }
+
+    public String getCodec() {
+      return this.codec;
+    }
+
+    public listTreeCompressed_args setCodec(String codec) {
+      this.codec = codec;
+      return this;
+    }
+
+    public void unsetCodec() {
+      this.codec = null;
+    }
+
+    /** Returns true if field codec is set (has been assigned a value) and false otherwise */
+    public boolean isSetCodec() {
+      return this.codec != null;
+    }
+
+    public void setCodecIsSet(boolean value) {
+      if (!value) {
+        this.codec = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case AFTER:
+        if (value == null) {
+          unsetAfter();
+        } else {
+          setAfter((String)value);
+        }
+        break;
+
+      case MAX:
+        if (value == null) {
+          unsetMax();
+        } else {
+          setMax((Integer)value);
+        }
+        break;
+
+      case CODEC:
+        if (value == null) {
+          unsetCodec();
+        } else {
+          setCodec((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case AFTER:
+        return getAfter();
+
+      case MAX:
+        return getMax();
+
+      case CODEC:
+        return getCodec();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case AFTER:
+        return isSetAfter();
+      case MAX:
+        return isSetMax();
+      case CODEC:
+        return isSetCodec();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof listTreeCompressed_args)
+        return this.equals((listTreeCompressed_args)that);
+      return false;
+    }
+
+    public boolean equals(listTreeCompressed_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_after = true && this.isSetAfter();
+      boolean that_present_after = true && that.isSetAfter();
+      if (this_present_after || that_present_after) {
+        if (!(this_present_after && that_present_after))
+          return false;
+        if (!this.after.equals(that.after))
+          return false;
+      }
+
+      boolean this_present_max = true;
+      boolean that_present_max = true;
+      if (this_present_max || that_present_max) {
+        if (!(this_present_max && that_present_max))
+          return false;
+        if (this.max != that.max)
+          return false;
+      }
+
+      boolean this_present_codec = true && this.isSetCodec();
+      boolean that_present_codec = true && that.isSetCodec();
+      if (this_present_codec || that_present_codec) {
+        if (!(this_present_codec && that_present_codec))
+          return false;
+        if (!this.codec.equals(that.codec))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_after = true && (isSetAfter());
+      list.add(present_after);
+      if (present_after)
+        list.add(after);
+
+      boolean present_max = true;
+      list.add(present_max);
+      if (present_max)
+        list.add(max);
+
+      boolean present_codec = true && (isSetCodec());
+      list.add(present_codec);
+      if (present_codec)
+        list.add(codec);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(listTreeCompressed_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetAfter()).compareTo(other.isSetAfter());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAfter()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.after, other.after);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMax()).compareTo(other.isSetMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.max, other.max);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCodec()).compareTo(other.isSetCodec());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCodec()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.codec, other.codec);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("listTreeCompressed_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("after:");
+      if (this.after == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.after);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("max:");
+      sb.append(this.max);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("codec:");
+      if (this.codec == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.codec);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class listTreeCompressed_argsStandardSchemeFactory implements SchemeFactory {
+      public listTreeCompressed_argsStandardScheme getScheme() {
+        return new listTreeCompressed_argsStandardScheme();
+      }
+    }
+
+    private static class listTreeCompressed_argsStandardScheme extends StandardScheme<listTreeCompressed_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listTreeCompressed_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // AFTER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.after = iprot.readString();
+                struct.setAfterIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.max = iprot.readI32();
+                struct.setMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // CODEC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.codec = iprot.readString();
+                struct.setCodecIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listTreeCompressed_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.after != null) {
+          oprot.writeFieldBegin(AFTER_FIELD_DESC);
+          oprot.writeString(struct.after);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_FIELD_DESC);
+        oprot.writeI32(struct.max);
+        oprot.writeFieldEnd();
+        if (struct.codec != null) {
+          oprot.writeFieldBegin(CODEC_FIELD_DESC);
+          oprot.writeString(struct.codec);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class listTreeCompressed_argsTupleSchemeFactory implements SchemeFactory {
+      public listTreeCompressed_argsTupleScheme getScheme() {
+        return new listTreeCompressed_argsTupleScheme();
+      }
+    }
+
+    private static class listTreeCompressed_argsTupleScheme extends TupleScheme<listTreeCompressed_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, listTreeCompressed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetAfter()) {
+          optionals.set(2);
+        }
+        if (struct.isSetMax()) {
+          optionals.set(3);
+        }
+        if (struct.isSetCodec()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetAfter()) {
+          oprot.writeString(struct.after);
+        }
+        if (struct.isSetMax()) {
+          oprot.writeI32(struct.max);
+        }
+        if (struct.isSetCodec()) {
+          oprot.writeString(struct.codec);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, listTreeCompressed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.after = iprot.readString();
+          struct.setAfterIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.max = iprot.readI32();
+          struct.setMaxIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.codec = iprot.readString();
+          struct.setCodecIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class listTreeCompressed_result implements org.apache.thrift.TBase<listTreeCompressed_result, listTreeCompressed_result._Fields>, java.io.Serializable, Cloneable, Comparable<listTreeCompressed_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listTreeCompressed_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new listTreeCompressed_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listTreeCompressed_resultTupleSchemeFactory());
+    }
+
+    public Payload success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Payload.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listTreeCompressed_result.class, metaDataMap);
+    }
+
+    public listTreeCompressed_result() {
+    }
+
+    public listTreeCompressed_result(
+      Payload success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listTreeCompressed_result(listTreeCompressed_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new Payload(other.success);
+      }
+    }
+
+    public listTreeCompressed_result deepCopy() {
+      return new listTreeCompressed_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public Payload getSuccess() {
+      return this.success;
+    }
+
+    public listTreeCompressed_result setSuccess(Payload success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Payload)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof listTreeCompressed_result)
+        return this.equals((listTreeCompressed_result)that);
+      return false;
+    }
+
+    public boolean equals(listTreeCompressed_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(listTreeCompressed_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("listTreeCompressed_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class listTreeCompressed_resultStandardSchemeFactory implements SchemeFactory {
+      public listTreeCompressed_resultStandardScheme getScheme() {
+        return new listTreeCompressed_resultStandardScheme();
+      }
+    }
+
+    private static class listTreeCompressed_resultStandardScheme extends StandardScheme<listTreeCompressed_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listTreeCompressed_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Payload();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listTreeCompressed_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class listTreeCompressed_resultTupleSchemeFactory implements SchemeFactory {
+      public listTreeCompressed_resultTupleScheme getScheme() {
+        return new listTreeCompressed_resultTupleScheme();
+      }
+    }
+
+    private static class listTreeCompressed_resultTupleScheme extends TupleScheme<listTreeCompressed_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, listTreeCompressed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, listTreeCompressed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new Payload();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class handshake_args implements org.apache.thrift.TBase<handshake_args, handshake_args._Fields>, java.io.Serializable, Cloneable, Comparable<handshake_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("handshake_args");
+
+    private static final org.apache.thrift.protocol.TField STACKS_FIELD_DESC = new org.apache.thrift.protocol.TField("stacks", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new handshake_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new handshake_argsTupleSchemeFactory());
+    }
+
+    public List<String> stacks; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      STACKS((short)1, "stacks");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // STACKS
+            return STACKS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.STACKS, new org.apache.thrift.meta_data.FieldMetaData("stacks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(handshake_args.class, metaDataMap);
+    }
+
+    public handshake_args() {
+    }
+
+    public handshake_args(
+      List<String> stacks)
+    {
+      this();
+      this.stacks = stacks;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public handshake_args(handshake_args other) {
+      if (other.isSetStacks()) {
+        List<String> __this__stacks = new ArrayList<String>(other.stacks);
+        this.stacks = __this__stacks;
+      }
+    }
+
+    public handshake_args deepCopy() {
+      return new handshake_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.stacks = null;
+    }
+
+    public int getStacksSize() {
+      return (this.stacks == null) ? 0 : this.stacks.size();
+    }
+
+    public java.util.Iterator<String> getStacksIterator() {
+      return (this.stacks == null) ? null : this.stacks.iterator();
+    }
+
+    public void addToStacks(String elem) {
+      if (this.stacks == null) {
+        this.stacks = new ArrayList<String>();
+      }
+      this.stacks.add(elem);
+    }
+
+    public List<String> getStacks() {
+      return this.stacks;
+    }
+
+    public handshake_args setStacks(List<String> stacks) {
+      this.stacks = stacks;
+      return this;
+    }
+
+    public void unsetStacks() {
+      this.stacks = null;
+    }
+
+    /** Returns true if field stacks is set (has been assigned a value) and false otherwise */
+    public boolean isSetStacks() {
+      return this.stacks != null;
+    }
+
+    public void setStacksIsSet(boolean value) {
+      if (!value) {
+        this.stacks = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case STACKS:
+        if (value == null) {
+          unsetStacks();
+        } else {
+          setStacks((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case STACKS:
+        return getStacks();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case STACKS:
+        return isSetStacks();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof handshake_args)
+        return this.equals((handshake_args)that);
+      return false;
+    }
+
+    public boolean equals(handshake_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_stacks = true && this.isSetStacks();
+      boolean that_present_stacks = true && that.isSetStacks();
+      if (this_present_stacks || that_present_stacks) {
+        if (!(this_present_stacks && that_present_stacks))
+          return false;
+        if (!this.stacks.equals(that.stacks))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_stacks = true && (isSetStacks());
+      list.add(present_stacks);
+      if (present_stacks)
+        list.add(stacks);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(handshake_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetStacks()).compareTo(other.isSetStacks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStacks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.stacks, other.stacks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("handshake_args(");
+      boolean first = true;
+
+      sb.append("stacks:");
+      if (this.stacks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.stacks);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class handshake_argsStandardSchemeFactory implements SchemeFactory {
+      public handshake_argsStandardScheme getScheme() {
+        return new handshake_argsStandardScheme();
+      }
+    }
+
+    private static class handshake_argsStandardScheme extends StandardScheme<handshake_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, handshake_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // STACKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list104 = iprot.readListBegin();
+                  struct.stacks = new ArrayList<String>(_list104.size);
+                  String _elem105;
+                  for (int _i106 = 0; _i106 < _list104.size; ++_i106)
+                  {
+                    _elem105 = iprot.readString();
+                    struct.stacks.add(_elem105);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setStacksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, handshake_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.stacks != null) {
+          oprot.writeFieldBegin(STACKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.stacks.size()));
+            for (String _iter107 : struct.stacks)
+            {
+              oprot.writeString(_iter107);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class handshake_argsTupleSchemeFactory implements SchemeFactory {
+      public handshake_argsTupleScheme getScheme() {
+        return new handshake_argsTupleScheme();
+      }
+    }
+
+    private static class handshake_argsTupleScheme extends TupleScheme<handshake_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, handshake_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetStacks()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetStacks()) {
+          {
+            oprot.writeI32(struct.stacks.size());
+            for (String _iter108 : struct.stacks)
+            {
+              oprot.writeString(_iter108);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, handshake_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list109 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.stacks = new ArrayList<String>(_list109.size);
+            String _elem110;
+            for (int _i111 = 0; _i111 < _list109.size; ++_i111)
+            {
+              _elem110 = iprot.readString();
+              struct.stacks.add(_elem110);
+            }
+          }
+          struct.setStacksIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class handshake_result implements org.apache.thrift.TBase<handshake_result, handshake_result._Fields>, java.io.Serializable, Cloneable, Comparable<handshake_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("handshake_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new handshake_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new handshake_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(handshake_result.class, metaDataMap);
+    }
+
+    public handshake_result() {
+    }
+
+    public handshake_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public handshake_result(handshake_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    public handshake_result deepCopy() {
+      return new handshake_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public handshake_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof handshake_result)
+        return this.equals((handshake_result)that);
+      return false;
+    }
+
+    public boolean equals(handshake_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(handshake_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("handshake_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class handshake_resultStandardSchemeFactory implements SchemeFactory {
+      public handshake_resultStandardScheme getScheme() {
+        return new handshake_resultStandardScheme();
+      }
+    }
+
+    private static class handshake_resultStandardScheme extends StandardScheme<handshake_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, handshake_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, handshake_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class handshake_resultTupleSchemeFactory implements SchemeFactory {
+      public handshake_resultTupleScheme getScheme() {
+        return new handshake_resultTupleScheme();
+      }
+    }
+
+    private static class handshake_resultTupleScheme extends TupleScheme<handshake_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, handshake_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, handshake_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class changesSince_args implements org.apache.thrift.TBase<changesSince_args, changesSince_args._Fields>, java.io.Serializable, Cloneable, Comparable<changesSince_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("changesSince_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("max", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new changesSince_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new changesSince_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String cursor; // required
+    public int max; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      CURSOR((short)2, "cursor"),
+      MAX((short)3, "max");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // CURSOR
+            return CURSOR;
+          case 3: // MAX
+            return MAX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __MAX_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.MAX, new org.apache.thrift.meta_data.FieldMetaData("max", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(changesSince_args.class, metaDataMap);
+    }
+
+    public changesSince_args() {
+    }
+
+    public changesSince_args(
+      String folder,
+      String cursor,
+      int max)
+    {
+      this();
+      this.folder = folder;
+      this.cursor = cursor;
+      this.max = max;
+      setMaxIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public changesSince_args(changesSince_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetCursor()) {
+        this.cursor = other.cursor;
+      }
+      this.max = other.max;
+    }
+
+    public changesSince_args deepCopy() {
+      return new changesSince_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.cursor = null;
+      setMaxIsSet(false);
+      this.max = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public changesSince_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getCursor() {
+      return this.cursor;
+    }
+
+    public changesSince_args setCursor(String cursor) {
+      this.cursor = cursor;
+      return this;
+    }
+
+    public void unsetCursor() {
+      this.cursor = null;
+    }
+
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return this.cursor != null;
+    }
+
+    public void setCursorIsSet(boolean value) {
+      if (!value) {
+        this.cursor = null;
+      }
+    }
+
+    public int getMax() {
+      return this.max;
+    }
+
+    public changesSince_args setMax(int max) {
+      this.max = max;
+      setMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetMax() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAX_ISSET_ID);
+    }
+
+    /** Returns true if field max is set (has been assigned a value) and false otherwise */
+    public boolean isSetMax() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAX_ISSET_ID);
+    }
+
+    public void setMaxIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAX_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unsetCursor();
+        } else {
+          setCursor((String)value);
+        }
+        break;
+
+      case MAX:
+        if (value == null) {
+          unsetMax();
+        } else {
+          setMax((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case CURSOR:
+        return getCursor();
+
+      case MAX:
+        return getMax();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case CURSOR:
+        return isSetCursor();
+      case MAX:
+        return isSetMax();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof changesSince_args)
+        return this.equals((changesSince_args)that);
+      return false;
+    }
+
+    public boolean equals(changesSince_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_cursor = true && this.isSetCursor();
+      boolean that_present_cursor = true && that.isSetCursor();
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (!this.cursor.equals(that.cursor))
+          return false;
+      }
+
+      boolean this_present_max = true;
+      boolean that_present_max = true;
+      if (this_present_max || that_present_max) {
+        if (!(this_present_max && that_present_max))
+          return false;
+        if (this.max != that.max)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_cursor = true && (isSetCursor());
+      list.add(present_cursor);
+      if (present_cursor)
+        list.add(cursor);
+
+      boolean present_max = true;
+      list.add(present_max);
+      if (present_max)
+        list.add(max);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(changesSince_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMax()).compareTo(other.isSetMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.max, other.max);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("changesSince_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      if (this.cursor == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cursor);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("max:");
+      sb.append(this.max);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class changesSince_argsStandardSchemeFactory implements SchemeFactory {
+      public changesSince_argsStandardScheme getScheme() {
+        return new changesSince_argsStandardScheme();
+      }
+    }
+
+    private static class changesSince_argsStandardScheme extends StandardScheme<changesSince_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, changesSince_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.cursor = iprot.readString();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.max = iprot.readI32();
+                struct.setMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, changesSince_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.cursor != null) {
+          oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+          oprot.writeString(struct.cursor);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_FIELD_DESC);
+        oprot.writeI32(struct.max);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class changesSince_argsTupleSchemeFactory implements SchemeFactory {
+      public changesSince_argsTupleScheme getScheme() {
+        return new changesSince_argsTupleScheme();
+      }
+    }
+
+    private static class changesSince_argsTupleScheme extends TupleScheme<changesSince_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, changesSince_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetCursor()) {
+          optionals.set(1);
+        }
+        if (struct.isSetMax()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetCursor()) {
+          oprot.writeString(struct.cursor);
+        }
+        if (struct.isSetMax()) {
+          oprot.writeI32(struct.max);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, changesSince_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.cursor = iprot.readString();
+          struct.setCursorIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.max = iprot.readI32();
+          struct.setMaxIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class changesSince_result implements org.apache.thrift.TBase<changesSince_result, changesSince_result._Fields>, java.io.Serializable, Cloneable, Comparable<changesSince_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("changesSince_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new changesSince_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new changesSince_resultTupleSchemeFactory());
+    }
+
+    public ChangeSet success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChangeSet.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(changesSince_result.class, metaDataMap);
+    }
+
+    public changesSince_result() {
+    }
+
+    public changesSince_result(
+      ChangeSet success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public changesSince_result(changesSince_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ChangeSet(other.success);
+      }
+    }
+
+    public changesSince_result deepCopy() {
+      return new changesSince_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public ChangeSet getSuccess() {
+      return this.success;
+    }
+
+    public changesSince_result setSuccess(ChangeSet success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ChangeSet)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof changesSince_result)
+        return this.equals((changesSince_result)that);
+      return false;
+    }
+
+    public boolean equals(changesSince_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(changesSince_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("changesSince_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class changesSince_resultStandardSchemeFactory implements SchemeFactory {
+      public changesSince_resultStandardScheme getScheme() {
+        return new changesSince_resultStandardScheme();
+      }
+    }
+
+    private static class changesSince_resultStandardScheme extends StandardScheme<changesSince_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, changesSince_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ChangeSet();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, changesSince_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class changesSince_resultTupleSchemeFactory implements SchemeFactory {
+      public changesSince_resultTupleScheme getScheme() {
+        return new changesSince_resultTupleScheme();
+      }
+    }
+
+    private static class changesSince_resultTupleScheme extends TupleScheme<changesSince_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, changesSince_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, changesSince_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new ChangeSet();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class chunks_args implements org.apache.thrift.TBase<chunks_args, chunks_args._Fields>, java.io.Serializable, Cloneable, Comparable<chunks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("chunks_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField AVG_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("avg_size", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new chunks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new chunks_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+    public int avg_size; // required
+    public long offset; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path"),
+      AVG_SIZE((short)3, "avg_size"),
+      OFFSET((short)4, "offset");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          case 3: // AVG_SIZE
+            return AVG_SIZE;
+          case 4: // OFFSET
+            return OFFSET;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __AVG_SIZE_ISSET_ID = 0;
+    private static final int __OFFSET_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.AVG_SIZE, new org.apache.thrift.meta_data.FieldMetaData("avg_size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(chunks_args.class, metaDataMap);
+    }
+
+    public chunks_args() {
+    }
+
+    public chunks_args(
+      String folder,
+      String path,
+      int avg_size,
+      long offset)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+      this.avg_size = avg_size;
+      setAvg_sizeIsSet(true);
+      this.offset = offset;
+      setOffsetIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public chunks_args(chunks_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.avg_size = other.avg_size;
+      this.offset = other.offset;
+    }
+
+    public chunks_args deepCopy() {
+      return new chunks_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+      setAvg_sizeIsSet(false);
+      this.avg_size = 0;
+      setOffsetIsSet(false);
+      this.offset = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public chunks_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public chunks_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public int getAvg_size() {
+      return this.avg_size;
+    }
+
+    public chunks_args setAvg_size(int avg_size) {
+      this.avg_size = avg_size;
+      setAvg_sizeIsSet(true);
+      return this;
+    }
+
+    public void unsetAvg_size() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __AVG_SIZE_ISSET_ID);
+    }
+
+    /** Returns true if field avg_size is set (has been assigned a value) and false otherwise */
+    public boolean isSetAvg_size() {
+      return EncodingUtils.testBit(__isset_bitfield, __AVG_SIZE_ISSET_ID);
+    }
+
+    public void setAvg_sizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AVG_SIZE_ISSET_ID, value);
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public chunks_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case AVG_SIZE:
+        if (value == null) {
+          unsetAvg_size();
+        } else {
+          setAvg_size((Integer)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      case AVG_SIZE:
+        return getAvg_size();
+
+      case OFFSET:
+        return getOffset();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      case AVG_SIZE:
+        return isSetAvg_size();
+      case OFFSET:
+        return isSetOffset();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof chunks_args)
+        return this.equals((chunks_args)that);
+      return false;
+    }
+
+    public boolean equals(chunks_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_avg_size = true;
+      boolean that_present_avg_size = true;
+      if (this_present_avg_size || that_present_avg_size) {
+        if (!(this_present_avg_size && that_present_avg_size))
+          return false;
+        if (this.avg_size != that.avg_size)
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_avg_size = true;
+      list.add(present_avg_size);
+      if (present_avg_size)
+        list.add(avg_size);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(chunks_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetAvg_size()).compareTo(other.isSetAvg_size());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAvg_size()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.avg_size, other.avg_size);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("chunks_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("avg_size:");
+      sb.append(this.avg_size);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class chunks_argsStandardSchemeFactory implements SchemeFactory {
+      public chunks_argsStandardScheme getScheme() {
+        return new chunks_argsStandardScheme();
+      }
+    }
+
+    private static class chunks_argsStandardScheme extends StandardScheme<chunks_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, chunks_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // AVG_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.avg_size = iprot.readI32();
+                struct.setAvg_sizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, chunks_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(AVG_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.avg_size);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class chunks_argsTupleSchemeFactory implements SchemeFactory {
+      public chunks_argsTupleScheme getScheme() {
+        return new chunks_argsTupleScheme();
+      }
+    }
+
+    private static class chunks_argsTupleScheme extends TupleScheme<chunks_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, chunks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetAvg_size()) {
+          optionals.set(2);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetAvg_size()) {
+          oprot.writeI32(struct.avg_size);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, chunks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.avg_size = iprot.readI32();
+          struct.setAvg_sizeIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class chunks_result implements org.apache.thrift.TBase<chunks_result, chunks_result._Fields>, java.io.Serializable, Cloneable, Comparable<chunks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("chunks_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new chunks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new chunks_resultTupleSchemeFactory());
+    }
+
+    public ChunkPage success; // required
+    public ServerBusy busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChunkPage.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(chunks_result.class, metaDataMap);
+    }
+
+    public chunks_result() {
+    }
+
+    public chunks_result(
+      ChunkPage success,
+      ServerBusy busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public chunks_result(chunks_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ChunkPage(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
+      }
+    }
+
+    public chunks_result deepCopy() {
+      return new chunks_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public ChunkPage getSuccess() {
+      return this.success;
+    }
+
+    public chunks_result setSuccess(ChunkPage success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public chunks_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ChunkPage)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof chunks_result)
+        return this.equals((chunks_result)that);
+      return false;
+    }
+
+    public boolean equals(chunks_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(chunks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("chunks_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class chunks_resultStandardSchemeFactory implements SchemeFactory {
+      public chunks_resultStandardScheme getScheme() {
+        return new chunks_resultStandardScheme();
+      }
+    }
+
+    private static class chunks_resultStandardScheme extends StandardScheme<chunks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, chunks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ChunkPage();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, chunks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class chunks_resultTupleSchemeFactory implements SchemeFactory {
+      public chunks_resultTupleScheme getScheme() {
+        return new chunks_resultTupleScheme();
+      }
+    }
+
+    private static class chunks_resultTupleScheme extends TupleScheme<chunks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, chunks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, chunks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new ChunkPage();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class waitForChanges_args implements org.apache.thrift.TBase<waitForChanges_args, waitForChanges_args._Fields>, java.io.Serializable, Cloneable, Comparable<waitForChanges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("waitForChanges_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SINCE_FIELD_DESC = new org.apache.thrift.protocol.TField("since", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_FIELD_DESC = new org.apache.thrift.protocol.TField("timeout", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new waitForChanges_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new waitForChanges_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String since; // required
+    public int timeout; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      SINCE((short)2, "since"),
+      TIMEOUT((short)3, "timeout");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // SINCE
+            return SINCE;
+          case 3: // TIMEOUT
+            return TIMEOUT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMEOUT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SINCE, new org.apache.thrift.meta_data.FieldMetaData("since", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMEOUT, new org.apache.thrift.meta_data.FieldMetaData("timeout", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(waitForChanges_args.class, metaDataMap);
+    }
+
+    public waitForChanges_args() {
+    }
+
+    public waitForChanges_args(
+      String folder,
+      String since,
+      int timeout)
+    {
+      this();
+      this.folder = folder;
+      this.since = since;
+      this.timeout = timeout;
+      setTimeoutIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public waitForChanges_args(waitForChanges_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetSince()) {
+        this.since = other.since;
+      }
+      this.timeout = other.timeout;
+    }
+
+    public waitForChanges_args deepCopy() {
+      return new waitForChanges_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.since = null;
+      setTimeoutIsSet(false);
+      this.timeout = 0;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public waitForChanges_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getSince() {
+      return this.since;
+    }
+
+    public waitForChanges_args setSince(String since) {
+      this.since = since;
+      return this;
+    }
+
+    public void unsetSince() {
+      this.since = null;
+    }
+
+    /** Returns true if field since is set (has been assigned a value) and false otherwise */
+    public boolean isSetSince() {
+      return this.since != null;
+    }
+
+    public void setSinceIsSet(boolean value) {
+      if (!value) {
+        this.since = null;
+      }
+    }
+
+    public int getTimeout() {
+      return this.timeout;
+    }
+
+    public waitForChanges_args setTimeout(int timeout) {
+      this.timeout = timeout;
+      setTimeoutIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeout() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMEOUT_ISSET_ID);
+    }
+
+    /** Returns true if field timeout is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeout() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMEOUT_ISSET_ID);
+    }
+
+    public void setTimeoutIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMEOUT_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case SINCE:
+        if (value == null) {
+          unsetSince();
+        } else {
+          setSince((String)value);
+        }
+        break;
+
+      case TIMEOUT:
+        if (value == null) {
+          unsetTimeout();
+        } else {
+          setTimeout((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case SINCE:
+        return getSince();
+
+      case TIMEOUT:
+        return getTimeout();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case SINCE:
+        return isSetSince();
+      case TIMEOUT:
+        return isSetTimeout();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof waitForChanges_args)
+        return this.equals((waitForChanges_args)that);
+      return false;
+    }
+
+    public boolean equals(waitForChanges_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_since = true && this.isSetSince();
+      boolean that_present_since = true && that.isSetSince();
+      if (this_present_since || that_present_since) {
+        if (!(this_present_since && that_present_since))
+          return false;
+        if (!this.since.equals(that.since))
+          return false;
+      }
+
+      boolean this_present_timeout = true;
+      boolean that_present_timeout = true;
+      if (this_present_timeout || that_present_timeout) {
+        if (!(this_present_timeout && that_present_timeout))
+          return false;
+        if (this.timeout != that.timeout)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_since = true && (isSetSince());
+      list.add(present_since);
+      if (present_since)
+        list.add(since);
+
+      boolean present_timeout = true;
+      list.add(present_timeout);
+      if (present_timeout)
+        list.add(timeout);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(waitForChanges_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSince()).compareTo(other.isSetSince());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSince()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.since, other.since);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimeout()).compareTo(other.isSetTimeout());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeout()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeout, other.timeout);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("waitForChanges_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("since:");
+      if (this.since == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.since);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeout:");
+      sb.append(this.timeout);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class waitForChanges_argsStandardSchemeFactory implements SchemeFactory {
+      public waitForChanges_argsStandardScheme getScheme() {
+        return new waitForChanges_argsStandardScheme();
+      }
+    }
+
+    private static class waitForChanges_argsStandardScheme extends StandardScheme<waitForChanges_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, waitForChanges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SINCE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.since = iprot.readString();
+                struct.setSinceIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // TIMEOUT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.timeout = iprot.readI32();
+                struct.setTimeoutIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, waitForChanges_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.since != null) {
+          oprot.writeFieldBegin(SINCE_FIELD_DESC);
+          oprot.writeString(struct.since);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMEOUT_FIELD_DESC);
+        oprot.writeI32(struct.timeout);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class waitForChanges_argsTupleSchemeFactory implements SchemeFactory {
+      public waitForChanges_argsTupleScheme getScheme() {
+        return new waitForChanges_argsTupleScheme();
+      }
+    }
+
+    private static class waitForChanges_argsTupleScheme extends TupleScheme<waitForChanges_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, waitForChanges_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSince()) {
+          optionals.set(1);
+        }
+        if (struct.isSetTimeout()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetSince()) {
+          oprot.writeString(struct.since);
+        }
+        if (struct.isSetTimeout()) {
+          oprot.writeI32(struct.timeout);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, waitForChanges_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.since = iprot.readString();
+          struct.setSinceIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.timeout = iprot.readI32();
+          struct.setTimeoutIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class waitForChanges_result implements org.apache.thrift.TBase<waitForChanges_result, waitForChanges_result._Fields>, java.io.Serializable, Cloneable, Comparable<waitForChanges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("waitForChanges_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new waitForChanges_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new waitForChanges_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(waitForChanges_result.class, metaDataMap);
+    }
+
+    public waitForChanges_result() {
+    }
+
+    public waitForChanges_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public waitForChanges_result(waitForChanges_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
+
+    public waitForChanges_result deepCopy() {
+      return new waitForChanges_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public waitForChanges_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return isSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof waitForChanges_result)
+        return this.equals((waitForChanges_result)that);
+      return false;
+    }
+
+    public boolean equals(waitForChanges_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(waitForChanges_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("waitForChanges_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class waitForChanges_resultStandardSchemeFactory implements SchemeFactory {
+      public waitForChanges_resultStandardScheme getScheme() {
+        return new waitForChanges_resultStandardScheme();
+      }
+    }
+
+    private static class waitForChanges_resultStandardScheme extends StandardScheme<waitForChanges_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, waitForChanges_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, waitForChanges_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class waitForChanges_resultTupleSchemeFactory implements SchemeFactory {
+      public waitForChanges_resultTupleScheme getScheme() {
+        return new waitForChanges_resultTupleScheme();
+      }
+    }
+
+    private static class waitForChanges_resultTupleScheme extends TupleScheme<waitForChanges_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, waitForChanges_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, waitForChanges_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class digest_args implements org.apache.thrift.TBase<digest_args, digest_args._Fields>, java.io.Serializable, Cloneable, Comparable<digest_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("digest_args");
+
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new digest_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new digest_argsTupleSchemeFactory());
+    }
+
+    public String folder; // required
+    public String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FOLDER((short)1, "folder"),
+      PATH((short)2, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
+          case 2: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(digest_args.class, metaDataMap);
+    }
+
+    public digest_args() {
+    }
+
+    public digest_args(
+      String folder,
+      String path)
+    {
+      this();
+      this.folder = folder;
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public digest_args(digest_args other) {
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public digest_args deepCopy() {
+      return new digest_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.folder = null;
+      this.path = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public digest_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public digest_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FOLDER:
+        return getFolder();
+
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FOLDER:
+        return isSetFolder();
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof digest_args)
+        return this.equals((digest_args)that);
+      return false;
+    }
+
+    public boolean equals(digest_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(digest_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("digest_args(");
+      boolean first = true;
+
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class digest_argsStandardSchemeFactory implements SchemeFactory {
+      public digest_argsStandardScheme getScheme() {
+        return new digest_argsStandardScheme();
+      }
+    }
+
+    private static class digest_argsStandardScheme extends StandardScheme<digest_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, digest_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
           }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            md5_result result = new md5_result();
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
+          switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
-        };
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, digest_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class digest_argsTupleSchemeFactory implements SchemeFactory {
+      public digest_argsTupleScheme getScheme() {
+        return new digest_argsTupleScheme();
+      }
+    }
+
+    private static class digest_argsTupleScheme extends TupleScheme<digest_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, digest_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, digest_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class digest_result implements org.apache.thrift.TBase<digest_result, digest_result._Fields>, java.io.Serializable, Cloneable, Comparable<digest_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("digest_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new digest_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new digest_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(digest_result.class, metaDataMap);
+    }
+
+    public digest_result() {
+    }
+
+    public digest_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public digest_result(digest_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    public digest_result deepCopy() {
+      return new digest_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public digest_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof digest_result)
+        return this.equals((digest_result)that);
+      return false;
+    }
+
+    public boolean equals(digest_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(digest_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
       }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("digest_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
 
-      protected boolean isOneway() {
-        return false;
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
+    }
 
-      public void start(I iface, md5_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
-        iface.md5(args.folder, args.path,resultHandler);
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
     }
 
-    public static class part<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, part_args, ByteBuffer> {
-      public part() {
-        super("part");
+    private static class digest_resultStandardSchemeFactory implements SchemeFactory {
+      public digest_resultStandardScheme getScheme() {
+        return new digest_resultStandardScheme();
       }
+    }
 
-      public part_args getEmptyArgsInstance() {
-        return new part_args();
-      }
+    private static class digest_resultStandardScheme extends StandardScheme<digest_result> {
 
-      public AsyncMethodCallback<ByteBuffer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<ByteBuffer>() { 
-          public void onComplete(ByteBuffer o) {
-            part_result result = new part_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
+      public void read(org.apache.thrift.protocol.TProtocol iprot, digest_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
           }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            part_result result = new part_result();
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
-        };
-      }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
 
-      protected boolean isOneway() {
-        return false;
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
-      public void start(I iface, part_args args, org.apache.thrift.async.AsyncMethodCallback<ByteBuffer> resultHandler) throws TException {
-        iface.part(args.folder, args.path, args.part, args.part_size,resultHandler);
-      }
-    }
+      public void write(org.apache.thrift.protocol.TProtocol oprot, digest_result struct) throws org.apache.thrift.TException {
+        struct.validate();
 
-    public static class listFiles<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listFiles_args, List<RemoteFileInfo>> {
-      public listFiles() {
-        super("listFiles");
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
 
-      public listFiles_args getEmptyArgsInstance() {
-        return new listFiles_args();
-      }
+    }
 
-      public AsyncMethodCallback<List<RemoteFileInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<RemoteFileInfo>>() { 
-          public void onComplete(List<RemoteFileInfo> o) {
-            listFiles_result result = new listFiles_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            listFiles_result result = new listFiles_result();
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
+    private static class digest_resultTupleSchemeFactory implements SchemeFactory {
+      public digest_resultTupleScheme getScheme() {
+        return new digest_resultTupleScheme();
       }
+    }
 
-      protected boolean isOneway() {
-        return false;
+    private static class digest_resultTupleScheme extends TupleScheme<digest_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, digest_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
       }
 
-      public void start(I iface, listFiles_args args, org.apache.thrift.async.AsyncMethodCallback<List<RemoteFileInfo>> resultHandler) throws TException {
-        iface.listFiles(args.folder, args.path,resultHandler);
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, digest_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
+  public static class digests_args implements org.apache.thrift.TBase<digests_args, digests_args._Fields>, java.io.Serializable, Cloneable, Comparable<digests_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("digests_args");
 
+    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new ping_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new ping_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new digests_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new digests_argsTupleSchemeFactory());
     }
 
+    public String folder; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      FOLDER((short)1, "folder");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -695,6 +18707,8 @@ public class SyncFileServer {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // FOLDER
+            return FOLDER;
           default:
             return null;
         }
@@ -733,37 +18747,87 @@ public class SyncFileServer {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(digests_args.class, metaDataMap);
     }
 
-    public ping_args() {
+    public digests_args() {
+    }
+
+    public digests_args(
+      String folder)
+    {
+      this();
+      this.folder = folder;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public ping_args(ping_args other) {
+    public digests_args(digests_args other) {
+      if (other.isSetFolder()) {
+        this.folder = other.folder;
+      }
     }
 
-    public ping_args deepCopy() {
-      return new ping_args(this);
+    public digests_args deepCopy() {
+      return new digests_args(this);
     }
 
     @Override
     public void clear() {
+      this.folder = null;
+    }
+
+    public String getFolder() {
+      return this.folder;
+    }
+
+    public digests_args setFolder(String folder) {
+      this.folder = folder;
+      return this;
+    }
+
+    public void unsetFolder() {
+      this.folder = null;
+    }
+
+    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
+    public boolean isSetFolder() {
+      return this.folder != null;
+    }
+
+    public void setFolderIsSet(boolean value) {
+      if (!value) {
+        this.folder = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case FOLDER:
+        if (value == null) {
+          unsetFolder();
+        } else {
+          setFolder((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case FOLDER:
+        return getFolder();
+
       }
       throw new IllegalStateException();
     }
@@ -775,6 +18839,8 @@ public class SyncFileServer {
       }
 
       switch (field) {
+      case FOLDER:
+        return isSetFolder();
       }
       throw new IllegalStateException();
     }
@@ -783,15 +18849,24 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof ping_args)
-        return this.equals((ping_args)that);
+      if (that instanceof digests_args)
+        return this.equals((digests_args)that);
       return false;
     }
 
-    public boolean equals(ping_args that) {
+    public boolean equals(digests_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_folder = true && this.isSetFolder();
+      boolean that_present_folder = true && that.isSetFolder();
+      if (this_present_folder || that_present_folder) {
+        if (!(this_present_folder && that_present_folder))
+          return false;
+        if (!this.folder.equals(that.folder))
+          return false;
+      }
+
       return true;
     }
 
@@ -799,17 +18874,32 @@ public class SyncFileServer {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_folder = true && (isSetFolder());
+      list.add(present_folder);
+      if (present_folder)
+        list.add(folder);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(ping_args other) {
+    public int compareTo(digests_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFolder()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -827,9 +18917,16 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("ping_args(");
+      StringBuilder sb = new StringBuilder("digests_args(");
       boolean first = true;
 
+      sb.append("folder:");
+      if (this.folder == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.folder);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -855,15 +18952,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class ping_argsStandardSchemeFactory implements SchemeFactory {
-      public ping_argsStandardScheme getScheme() {
-        return new ping_argsStandardScheme();
+    private static class digests_argsStandardSchemeFactory implements SchemeFactory {
+      public digests_argsStandardScheme getScheme() {
+        return new digests_argsStandardScheme();
       }
     }
 
-    private static class ping_argsStandardScheme extends StandardScheme<ping_args> {
+    private static class digests_argsStandardScheme extends StandardScheme<digests_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, digests_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -873,6 +18970,14 @@ public class SyncFileServer {
             break;
           }
           switch (schemeField.id) {
+            case 1: // FOLDER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.folder = iprot.readString();
+                struct.setFolderIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -884,51 +18989,71 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, digests_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.folder != null) {
+          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
+          oprot.writeString(struct.folder);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class ping_argsTupleSchemeFactory implements SchemeFactory {
-      public ping_argsTupleScheme getScheme() {
-        return new ping_argsTupleScheme();
+    private static class digests_argsTupleSchemeFactory implements SchemeFactory {
+      public digests_argsTupleScheme getScheme() {
+        return new digests_argsTupleScheme();
       }
     }
 
-    private static class ping_argsTupleScheme extends TupleScheme<ping_args> {
+    private static class digests_argsTupleScheme extends TupleScheme<digests_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, digests_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFolder()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFolder()) {
+          oprot.writeString(struct.folder);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, digests_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.folder = iprot.readString();
+          struct.setFolderIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class ping_result implements org.apache.thrift.TBase<ping_result, ping_result._Fields>, java.io.Serializable, Cloneable, Comparable<ping_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_result");
+  public static class digests_result implements org.apache.thrift.TBase<digests_result, digests_result._Fields>, java.io.Serializable, Cloneable, Comparable<digests_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("digests_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new ping_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new ping_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new digests_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new digests_resultTupleSchemeFactory());
     }
 
+    public List<String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -943,6 +19068,8 @@ public class SyncFileServer {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -981,37 +19108,104 @@ public class SyncFileServer {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(digests_result.class, metaDataMap);
     }
 
-    public ping_result() {
+    public digests_result() {
+    }
+
+    public digests_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public ping_result(ping_result other) {
+    public digests_result(digests_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public ping_result deepCopy() {
-      return new ping_result(this);
+    public digests_result deepCopy() {
+      return new digests_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public digests_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -1023,6 +19217,8 @@ public class SyncFileServer {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -1031,15 +19227,24 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof ping_result)
-        return this.equals((ping_result)that);
+      if (that instanceof digests_result)
+        return this.equals((digests_result)that);
       return false;
     }
 
-    public boolean equals(ping_result that) {
+    public boolean equals(digests_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -1047,17 +19252,32 @@ public class SyncFileServer {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(ping_result other) {
+    public int compareTo(digests_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1075,9 +19295,16 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("ping_result(");
+      StringBuilder sb = new StringBuilder("digests_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1103,15 +19330,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class ping_resultStandardSchemeFactory implements SchemeFactory {
-      public ping_resultStandardScheme getScheme() {
-        return new ping_resultStandardScheme();
+    private static class digests_resultStandardSchemeFactory implements SchemeFactory {
+      public digests_resultStandardScheme getScheme() {
+        return new digests_resultStandardScheme();
       }
     }
 
-    private static class ping_resultStandardScheme extends StandardScheme<ping_result> {
+    private static class digests_resultStandardScheme extends StandardScheme<digests_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, digests_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1121,6 +19348,24 @@ public class SyncFileServer {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list112 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list112.size);
+                  String _elem113;
+                  for (int _i114 = 0; _i114 < _list112.size; ++_i114)
+                  {
+                    _elem113 = iprot.readString();
+                    struct.success.add(_elem113);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1132,56 +19377,99 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, digests_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter115 : struct.success)
+            {
+              oprot.writeString(_iter115);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class ping_resultTupleSchemeFactory implements SchemeFactory {
-      public ping_resultTupleScheme getScheme() {
-        return new ping_resultTupleScheme();
+    private static class digests_resultTupleSchemeFactory implements SchemeFactory {
+      public digests_resultTupleScheme getScheme() {
+        return new digests_resultTupleScheme();
       }
     }
 
-    private static class ping_resultTupleScheme extends TupleScheme<ping_result> {
+    private static class digests_resultTupleScheme extends TupleScheme<digests_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, digests_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter116 : struct.success)
+            {
+              oprot.writeString(_iter116);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, digests_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list117 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list117.size);
+            String _elem118;
+            for (int _i119 = 0; _i119 < _list117.size; ++_i119)
+            {
+              _elem118 = iprot.readString();
+              struct.success.add(_elem118);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class md5_args implements org.apache.thrift.TBase<md5_args, md5_args._Fields>, java.io.Serializable, Cloneable, Comparable<md5_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("md5_args");
+  public static class hashBatch_args implements org.apache.thrift.TBase<hashBatch_args, hashBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<hashBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("hashBatch_args");
 
     private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField ALGORITHM_FIELD_DESC = new org.apache.thrift.protocol.TField("algorithm", org.apache.thrift.protocol.TType.STRING, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new md5_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new md5_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new hashBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new hashBatch_argsTupleSchemeFactory());
     }
 
     public String folder; // required
-    public String path; // required
+    public List<String> paths; // required
+    public String algorithm; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       FOLDER((short)1, "folder"),
-      PATH((short)2, "path");
+      PATHS((short)2, "paths"),
+      ALGORITHM((short)3, "algorithm");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1198,8 +19486,10 @@ public class SyncFileServer {
         switch(fieldId) {
           case 1: // FOLDER
             return FOLDER;
-          case 2: // PATH
-            return PATH;
+          case 2: // PATHS
+            return PATHS;
+          case 3: // ALGORITHM
+            return ALGORITHM;
           default:
             return null;
         }
@@ -1245,51 +19535,61 @@ public class SyncFileServer {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.ALGORITHM, new org.apache.thrift.meta_data.FieldMetaData("algorithm", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(md5_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(hashBatch_args.class, metaDataMap);
     }
 
-    public md5_args() {
+    public hashBatch_args() {
     }
 
-    public md5_args(
+    public hashBatch_args(
       String folder,
-      String path)
+      List<String> paths,
+      String algorithm)
     {
       this();
       this.folder = folder;
-      this.path = path;
+      this.paths = paths;
+      this.algorithm = algorithm;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public md5_args(md5_args other) {
+    public hashBatch_args(hashBatch_args other) {
       if (other.isSetFolder()) {
         this.folder = other.folder;
       }
-      if (other.isSetPath()) {
-        this.path = other.path;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      if (other.isSetAlgorithm()) {
+        this.algorithm = other.algorithm;
       }
     }
 
-    public md5_args deepCopy() {
-      return new md5_args(this);
+    public hashBatch_args deepCopy() {
+      return new hashBatch_args(this);
     }
 
     @Override
     public void clear() {
       this.folder = null;
-      this.path = null;
+      this.paths = null;
+      this.algorithm = null;
     }
 
     public String getFolder() {
       return this.folder;
     }
 
-    public md5_args setFolder(String folder) {
+    public hashBatch_args setFolder(String folder) {
       this.folder = folder;
       return this;
     }
@@ -1309,27 +19609,66 @@ public class SyncFileServer {
       }
     }
 
-    public String getPath() {
-      return this.path;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    public md5_args setPath(String path) {
-      this.path = path;
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public hashBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.paths = null;
+      }
+    }
+
+    public String getAlgorithm() {
+      return this.algorithm;
+    }
+
+    public hashBatch_args setAlgorithm(String algorithm) {
+      this.algorithm = algorithm;
+      return this;
+    }
+
+    public void unsetAlgorithm() {
+      this.algorithm = null;
+    }
+
+    /** Returns true if field algorithm is set (has been assigned a value) and false otherwise */
+    public boolean isSetAlgorithm() {
+      return this.algorithm != null;
+    }
+
+    public void setAlgorithmIsSet(boolean value) {
+      if (!value) {
+        this.algorithm = null;
       }
     }
 
@@ -1343,11 +19682,19 @@ public class SyncFileServer {
         }
         break;
 
-      case PATH:
+      case PATHS:
+        if (value == null) {
+          unsetPaths();
+        } else {
+          setPaths((List<String>)value);
+        }
+        break;
+
+      case ALGORITHM:
         if (value == null) {
-          unsetPath();
+          unsetAlgorithm();
         } else {
-          setPath((String)value);
+          setAlgorithm((String)value);
         }
         break;
 
@@ -1359,8 +19706,11 @@ public class SyncFileServer {
       case FOLDER:
         return getFolder();
 
-      case PATH:
-        return getPath();
+      case PATHS:
+        return getPaths();
+
+      case ALGORITHM:
+        return getAlgorithm();
 
       }
       throw new IllegalStateException();
@@ -1375,8 +19725,10 @@ public class SyncFileServer {
       switch (field) {
       case FOLDER:
         return isSetFolder();
-      case PATH:
-        return isSetPath();
+      case PATHS:
+        return isSetPaths();
+      case ALGORITHM:
+        return isSetAlgorithm();
       }
       throw new IllegalStateException();
     }
@@ -1385,12 +19737,12 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof md5_args)
-        return this.equals((md5_args)that);
+      if (that instanceof hashBatch_args)
+        return this.equals((hashBatch_args)that);
       return false;
     }
 
-    public boolean equals(md5_args that) {
+    public boolean equals(hashBatch_args that) {
       if (that == null)
         return false;
 
@@ -1403,12 +19755,21 @@ public class SyncFileServer {
           return false;
       }
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      boolean this_present_algorithm = true && this.isSetAlgorithm();
+      boolean that_present_algorithm = true && that.isSetAlgorithm();
+      if (this_present_algorithm || that_present_algorithm) {
+        if (!(this_present_algorithm && that_present_algorithm))
+          return false;
+        if (!this.algorithm.equals(that.algorithm))
           return false;
       }
 
@@ -1424,16 +19785,21 @@ public class SyncFileServer {
       if (present_folder)
         list.add(folder);
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
+
+      boolean present_algorithm = true && (isSetAlgorithm());
+      list.add(present_algorithm);
+      if (present_algorithm)
+        list.add(algorithm);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(md5_args other) {
+    public int compareTo(hashBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1450,12 +19816,22 @@ public class SyncFileServer {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetAlgorithm()).compareTo(other.isSetAlgorithm());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAlgorithm()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.algorithm, other.algorithm);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1477,7 +19853,7 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("md5_args(");
+      StringBuilder sb = new StringBuilder("hashBatch_args(");
       boolean first = true;
 
       sb.append("folder:");
@@ -1488,11 +19864,19 @@ public class SyncFileServer {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.paths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("algorithm:");
+      if (this.algorithm == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.algorithm);
       }
       first = false;
       sb.append(")");
@@ -1520,15 +19904,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class md5_argsStandardSchemeFactory implements SchemeFactory {
-      public md5_argsStandardScheme getScheme() {
-        return new md5_argsStandardScheme();
+    private static class hashBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public hashBatch_argsStandardScheme getScheme() {
+        return new hashBatch_argsStandardScheme();
       }
     }
 
-    private static class md5_argsStandardScheme extends StandardScheme<md5_args> {
+    private static class hashBatch_argsStandardScheme extends StandardScheme<hashBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, md5_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, hashBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1546,10 +19930,28 @@ public class SyncFileServer {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // PATH
+            case 2: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list120 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list120.size);
+                  String _elem121;
+                  for (int _i122 = 0; _i122 < _list120.size; ++_i122)
+                  {
+                    _elem121 = iprot.readString();
+                    struct.paths.add(_elem121);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // ALGORITHM
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+                struct.algorithm = iprot.readString();
+                struct.setAlgorithmIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1565,7 +19967,7 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, md5_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, hashBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1574,9 +19976,21 @@ public class SyncFileServer {
           oprot.writeString(struct.folder);
           oprot.writeFieldEnd();
         }
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter123 : struct.paths)
+            {
+              oprot.writeString(_iter123);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.algorithm != null) {
+          oprot.writeFieldBegin(ALGORITHM_FIELD_DESC);
+          oprot.writeString(struct.algorithm);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1585,66 +19999,94 @@ public class SyncFileServer {
 
     }
 
-    private static class md5_argsTupleSchemeFactory implements SchemeFactory {
-      public md5_argsTupleScheme getScheme() {
-        return new md5_argsTupleScheme();
+    private static class hashBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public hashBatch_argsTupleScheme getScheme() {
+        return new hashBatch_argsTupleScheme();
       }
     }
 
-    private static class md5_argsTupleScheme extends TupleScheme<md5_args> {
+    private static class hashBatch_argsTupleScheme extends TupleScheme<hashBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, md5_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, hashBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFolder()) {
           optionals.set(0);
         }
-        if (struct.isSetPath()) {
+        if (struct.isSetPaths()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAlgorithm()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetFolder()) {
           oprot.writeString(struct.folder);
         }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter124 : struct.paths)
+            {
+              oprot.writeString(_iter124);
+            }
+          }
+        }
+        if (struct.isSetAlgorithm()) {
+          oprot.writeString(struct.algorithm);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, md5_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, hashBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.folder = iprot.readString();
           struct.setFolderIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list125 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list125.size);
+            String _elem126;
+            for (int _i127 = 0; _i127 < _list125.size; ++_i127)
+            {
+              _elem126 = iprot.readString();
+              struct.paths.add(_elem126);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.algorithm = iprot.readString();
+          struct.setAlgorithmIsSet(true);
         }
       }
     }
 
   }
 
-  public static class md5_result implements org.apache.thrift.TBase<md5_result, md5_result._Fields>, java.io.Serializable, Cloneable, Comparable<md5_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("md5_result");
+  public static class hashBatch_result implements org.apache.thrift.TBase<hashBatch_result, hashBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<hashBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("hashBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new md5_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new md5_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new hashBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new hashBatch_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public List<String> success; // required
+    public ServerBusy busy; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      BUSY((short)1, "busy");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1661,6 +20103,8 @@ public class SyncFileServer {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // BUSY
+            return BUSY;
           default:
             return null;
         }
@@ -1705,44 +20149,69 @@ public class SyncFileServer {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(md5_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(hashBatch_result.class, metaDataMap);
     }
 
-    public md5_result() {
+    public hashBatch_result() {
     }
 
-    public md5_result(
-      String success)
+    public hashBatch_result(
+      List<String> success,
+      ServerBusy busy)
     {
       this();
       this.success = success;
+      this.busy = busy;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public md5_result(md5_result other) {
+    public hashBatch_result(hashBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = other.success;
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ServerBusy(other.busy);
       }
     }
 
-    public md5_result deepCopy() {
-      return new md5_result(this);
+    public hashBatch_result deepCopy() {
+      return new hashBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
+      this.busy = null;
     }
 
-    public String getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
       return this.success;
     }
 
-    public md5_result setSuccess(String success) {
+    public hashBatch_result setSuccess(List<String> success) {
       this.success = success;
       return this;
     }
@@ -1762,13 +20231,45 @@ public class SyncFileServer {
       }
     }
 
+    public ServerBusy getBusy() {
+      return this.busy;
+    }
+
+    public hashBatch_result setBusy(ServerBusy busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ServerBusy)value);
         }
         break;
 
@@ -1780,6 +20281,9 @@ public class SyncFileServer {
       case SUCCESS:
         return getSuccess();
 
+      case BUSY:
+        return getBusy();
+
       }
       throw new IllegalStateException();
     }
@@ -1793,6 +20297,8 @@ public class SyncFileServer {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
       }
       throw new IllegalStateException();
     }
@@ -1801,12 +20307,12 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof md5_result)
-        return this.equals((md5_result)that);
+      if (that instanceof hashBatch_result)
+        return this.equals((hashBatch_result)that);
       return false;
     }
 
-    public boolean equals(md5_result that) {
+    public boolean equals(hashBatch_result that) {
       if (that == null)
         return false;
 
@@ -1819,6 +20325,15 @@ public class SyncFileServer {
           return false;
       }
 
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
       return true;
     }
 
@@ -1831,11 +20346,16 @@ public class SyncFileServer {
       if (present_success)
         list.add(success);
 
+      boolean present_busy = true && (isSetBusy());
+      list.add(present_busy);
+      if (present_busy)
+        list.add(busy);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(md5_result other) {
+    public int compareTo(hashBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1852,6 +20372,16 @@ public class SyncFileServer {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetBusy()).compareTo(other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1869,7 +20399,7 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("md5_result(");
+      StringBuilder sb = new StringBuilder("hashBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1879,6 +20409,14 @@ public class SyncFileServer {
         sb.append(this.success);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1904,15 +20442,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class md5_resultStandardSchemeFactory implements SchemeFactory {
-      public md5_resultStandardScheme getScheme() {
-        return new md5_resultStandardScheme();
+    private static class hashBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public hashBatch_resultStandardScheme getScheme() {
+        return new hashBatch_resultStandardScheme();
       }
     }
 
-    private static class md5_resultStandardScheme extends StandardScheme<md5_result> {
+    private static class hashBatch_resultStandardScheme extends StandardScheme<hashBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, md5_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, hashBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1923,13 +20461,32 @@ public class SyncFileServer {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list128 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list128.size);
+                  String _elem129;
+                  for (int _i130 = 0; _i130 < _list128.size; ++_i130)
+                  {
+                    _elem129 = iprot.readString();
+                    struct.success.add(_elem129);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ServerBusy();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1941,13 +20498,25 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, md5_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, hashBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter131 : struct.success)
+            {
+              oprot.writeString(_iter131);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1956,65 +20525,91 @@ public class SyncFileServer {
 
     }
 
-    private static class md5_resultTupleSchemeFactory implements SchemeFactory {
-      public md5_resultTupleScheme getScheme() {
-        return new md5_resultTupleScheme();
+    private static class hashBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public hashBatch_resultTupleScheme getScheme() {
+        return new hashBatch_resultTupleScheme();
       }
     }
 
-    private static class md5_resultTupleScheme extends TupleScheme<md5_result> {
+    private static class hashBatch_resultTupleScheme extends TupleScheme<hashBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, md5_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, hashBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter132 : struct.success)
+            {
+              oprot.writeString(_iter132);
+            }
+          }
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, md5_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, hashBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          {
+            org.apache.thrift.protocol.TList _list133 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list133.size);
+            String _elem134;
+            for (int _i135 = 0; _i135 < _list133.size; ++_i135)
+            {
+              _elem134 = iprot.readString();
+              struct.success.add(_elem134);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.busy = new ServerBusy();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class part_args implements org.apache.thrift.TBase<part_args, part_args._Fields>, java.io.Serializable, Cloneable, Comparable<part_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("part_args");
+  public static class openData_args implements org.apache.thrift.TBase<openData_args, openData_args._Fields>, java.io.Serializable, Cloneable, Comparable<openData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openData_args");
 
     private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PART_FIELD_DESC = new org.apache.thrift.protocol.TField("part", org.apache.thrift.protocol.TType.I64, (short)3);
-    private static final org.apache.thrift.protocol.TField PART_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("part_size", org.apache.thrift.protocol.TType.I64, (short)4);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I64, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new part_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new part_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new openData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openData_argsTupleSchemeFactory());
     }
 
     public String folder; // required
     public String path; // required
-    public long part; // required
-    public long part_size; // required
+    public long offset; // required
+    public long length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       FOLDER((short)1, "folder"),
       PATH((short)2, "path"),
-      PART((short)3, "part"),
-      PART_SIZE((short)4, "part_size");
+      OFFSET((short)3, "offset"),
+      LENGTH((short)4, "length");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2033,10 +20628,10 @@ public class SyncFileServer {
             return FOLDER;
           case 2: // PATH
             return PATH;
-          case 3: // PART
-            return PART;
-          case 4: // PART_SIZE
-            return PART_SIZE;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -2077,8 +20672,8 @@ public class SyncFileServer {
     }
 
     // isset id assignments
-    private static final int __PART_ISSET_ID = 0;
-    private static final int __PART_SIZE_ISSET_ID = 1;
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -2087,36 +20682,36 @@ public class SyncFileServer {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PART, new org.apache.thrift.meta_data.FieldMetaData("part", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.PART_SIZE, new org.apache.thrift.meta_data.FieldMetaData("part_size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(part_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openData_args.class, metaDataMap);
     }
 
-    public part_args() {
+    public openData_args() {
     }
 
-    public part_args(
+    public openData_args(
       String folder,
       String path,
-      long part,
-      long part_size)
+      long offset,
+      long length)
     {
       this();
       this.folder = folder;
       this.path = path;
-      this.part = part;
-      setPartIsSet(true);
-      this.part_size = part_size;
-      setPart_sizeIsSet(true);
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public part_args(part_args other) {
+    public openData_args(openData_args other) {
       __isset_bitfield = other.__isset_bitfield;
       if (other.isSetFolder()) {
         this.folder = other.folder;
@@ -2124,29 +20719,29 @@ public class SyncFileServer {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      this.part = other.part;
-      this.part_size = other.part_size;
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public part_args deepCopy() {
-      return new part_args(this);
+    public openData_args deepCopy() {
+      return new openData_args(this);
     }
 
     @Override
     public void clear() {
       this.folder = null;
       this.path = null;
-      setPartIsSet(false);
-      this.part = 0;
-      setPart_sizeIsSet(false);
-      this.part_size = 0;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
     }
 
     public String getFolder() {
       return this.folder;
     }
 
-    public part_args setFolder(String folder) {
+    public openData_args setFolder(String folder) {
       this.folder = folder;
       return this;
     }
@@ -2170,7 +20765,7 @@ public class SyncFileServer {
       return this.path;
     }
 
-    public part_args setPath(String path) {
+    public openData_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -2190,50 +20785,50 @@ public class SyncFileServer {
       }
     }
 
-    public long getPart() {
-      return this.part;
+    public long getOffset() {
+      return this.offset;
     }
 
-    public part_args setPart(long part) {
-      this.part = part;
-      setPartIsSet(true);
+    public openData_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
       return this;
     }
 
-    public void unsetPart() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PART_ISSET_ID);
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    /** Returns true if field part is set (has been assigned a value) and false otherwise */
-    public boolean isSetPart() {
-      return EncodingUtils.testBit(__isset_bitfield, __PART_ISSET_ID);
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    public void setPartIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PART_ISSET_ID, value);
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
     }
 
-    public long getPart_size() {
-      return this.part_size;
+    public long getLength() {
+      return this.length;
     }
 
-    public part_args setPart_size(long part_size) {
-      this.part_size = part_size;
-      setPart_sizeIsSet(true);
+    public openData_args setLength(long length) {
+      this.length = length;
+      setLengthIsSet(true);
       return this;
     }
 
-    public void unsetPart_size() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PART_SIZE_ISSET_ID);
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
     }
 
-    /** Returns true if field part_size is set (has been assigned a value) and false otherwise */
-    public boolean isSetPart_size() {
-      return EncodingUtils.testBit(__isset_bitfield, __PART_SIZE_ISSET_ID);
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
     }
 
-    public void setPart_sizeIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PART_SIZE_ISSET_ID, value);
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -2254,19 +20849,19 @@ public class SyncFileServer {
         }
         break;
 
-      case PART:
+      case OFFSET:
         if (value == null) {
-          unsetPart();
+          unsetOffset();
         } else {
-          setPart((Long)value);
+          setOffset((Long)value);
         }
         break;
 
-      case PART_SIZE:
+      case LENGTH:
         if (value == null) {
-          unsetPart_size();
+          unsetLength();
         } else {
-          setPart_size((Long)value);
+          setLength((Long)value);
         }
         break;
 
@@ -2281,11 +20876,11 @@ public class SyncFileServer {
       case PATH:
         return getPath();
 
-      case PART:
-        return getPart();
+      case OFFSET:
+        return getOffset();
 
-      case PART_SIZE:
-        return getPart_size();
+      case LENGTH:
+        return getLength();
 
       }
       throw new IllegalStateException();
@@ -2302,10 +20897,10 @@ public class SyncFileServer {
         return isSetFolder();
       case PATH:
         return isSetPath();
-      case PART:
-        return isSetPart();
-      case PART_SIZE:
-        return isSetPart_size();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new IllegalStateException();
     }
@@ -2314,12 +20909,12 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof part_args)
-        return this.equals((part_args)that);
+      if (that instanceof openData_args)
+        return this.equals((openData_args)that);
       return false;
     }
 
-    public boolean equals(part_args that) {
+    public boolean equals(openData_args that) {
       if (that == null)
         return false;
 
@@ -2341,21 +20936,21 @@ public class SyncFileServer {
           return false;
       }
 
-      boolean this_present_part = true;
-      boolean that_present_part = true;
-      if (this_present_part || that_present_part) {
-        if (!(this_present_part && that_present_part))
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
           return false;
-        if (this.part != that.part)
+        if (this.offset != that.offset)
           return false;
       }
 
-      boolean this_present_part_size = true;
-      boolean that_present_part_size = true;
-      if (this_present_part_size || that_present_part_size) {
-        if (!(this_present_part_size && that_present_part_size))
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
           return false;
-        if (this.part_size != that.part_size)
+        if (this.length != that.length)
           return false;
       }
 
@@ -2376,21 +20971,21 @@ public class SyncFileServer {
       if (present_path)
         list.add(path);
 
-      boolean present_part = true;
-      list.add(present_part);
-      if (present_part)
-        list.add(part);
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
 
-      boolean present_part_size = true;
-      list.add(present_part_size);
-      if (present_part_size)
-        list.add(part_size);
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(part_args other) {
+    public int compareTo(openData_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2417,22 +21012,22 @@ public class SyncFileServer {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart()).compareTo(other.isSetPart());
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.part, other.part);
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPart_size()).compareTo(other.isSetPart_size());
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPart_size()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.part_size, other.part_size);
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2454,7 +21049,7 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("part_args(");
+      StringBuilder sb = new StringBuilder("openData_args(");
       boolean first = true;
 
       sb.append("folder:");
@@ -2473,12 +21068,12 @@ public class SyncFileServer {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part:");
-      sb.append(this.part);
+      sb.append("offset:");
+      sb.append(this.offset);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("part_size:");
-      sb.append(this.part_size);
+      sb.append("length:");
+      sb.append(this.length);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2507,15 +21102,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class part_argsStandardSchemeFactory implements SchemeFactory {
-      public part_argsStandardScheme getScheme() {
-        return new part_argsStandardScheme();
+    private static class openData_argsStandardSchemeFactory implements SchemeFactory {
+      public openData_argsStandardScheme getScheme() {
+        return new openData_argsStandardScheme();
       }
     }
 
-    private static class part_argsStandardScheme extends StandardScheme<part_args> {
+    private static class openData_argsStandardScheme extends StandardScheme<openData_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, part_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openData_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2541,18 +21136,18 @@ public class SyncFileServer {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // PART
+            case 3: // OFFSET
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.part = iprot.readI64();
-                struct.setPartIsSet(true);
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // PART_SIZE
+            case 4: // LENGTH
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.part_size = iprot.readI64();
-                struct.setPart_sizeIsSet(true);
+                struct.length = iprot.readI64();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2568,7 +21163,7 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, part_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openData_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2582,11 +21177,11 @@ public class SyncFileServer {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(PART_FIELD_DESC);
-        oprot.writeI64(struct.part);
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(PART_SIZE_FIELD_DESC);
-        oprot.writeI64(struct.part_size);
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI64(struct.length);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -2594,16 +21189,16 @@ public class SyncFileServer {
 
     }
 
-    private static class part_argsTupleSchemeFactory implements SchemeFactory {
-      public part_argsTupleScheme getScheme() {
-        return new part_argsTupleScheme();
+    private static class openData_argsTupleSchemeFactory implements SchemeFactory {
+      public openData_argsTupleScheme getScheme() {
+        return new openData_argsTupleScheme();
       }
     }
 
-    private static class part_argsTupleScheme extends TupleScheme<part_args> {
+    private static class openData_argsTupleScheme extends TupleScheme<openData_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, part_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, openData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFolder()) {
@@ -2612,10 +21207,10 @@ public class SyncFileServer {
         if (struct.isSetPath()) {
           optionals.set(1);
         }
-        if (struct.isSetPart()) {
+        if (struct.isSetOffset()) {
           optionals.set(2);
         }
-        if (struct.isSetPart_size()) {
+        if (struct.isSetLength()) {
           optionals.set(3);
         }
         oprot.writeBitSet(optionals, 4);
@@ -2625,16 +21220,16 @@ public class SyncFileServer {
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetPart()) {
-          oprot.writeI64(struct.part);
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
         }
-        if (struct.isSetPart_size()) {
-          oprot.writeI64(struct.part_size);
+        if (struct.isSetLength()) {
+          oprot.writeI64(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, part_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, openData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
@@ -2646,30 +21241,30 @@ public class SyncFileServer {
           struct.setPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.part = iprot.readI64();
-          struct.setPartIsSet(true);
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
         }
         if (incoming.get(3)) {
-          struct.part_size = iprot.readI64();
-          struct.setPart_sizeIsSet(true);
+          struct.length = iprot.readI64();
+          struct.setLengthIsSet(true);
         }
       }
     }
 
   }
 
-  public static class part_result implements org.apache.thrift.TBase<part_result, part_result._Fields>, java.io.Serializable, Cloneable, Comparable<part_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("part_result");
+  public static class openData_result implements org.apache.thrift.TBase<openData_result, openData_result._Fields>, java.io.Serializable, Cloneable, Comparable<openData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openData_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new part_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new part_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new openData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openData_resultTupleSchemeFactory());
     }
 
-    public ByteBuffer success; // required
+    public DataTicket success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -2734,32 +21329,32 @@ public class SyncFileServer {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DataTicket.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(part_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openData_result.class, metaDataMap);
     }
 
-    public part_result() {
+    public openData_result() {
     }
 
-    public part_result(
-      ByteBuffer success)
+    public openData_result(
+      DataTicket success)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public part_result(part_result other) {
+    public openData_result(openData_result other) {
       if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+        this.success = new DataTicket(other.success);
       }
     }
 
-    public part_result deepCopy() {
-      return new part_result(this);
+    public openData_result deepCopy() {
+      return new openData_result(this);
     }
 
     @Override
@@ -2767,22 +21362,12 @@ public class SyncFileServer {
       this.success = null;
     }
 
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
-    }
-
-    public part_result setSuccess(byte[] success) {
-      this.success = success == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(success, success.length));
-      return this;
+    public DataTicket getSuccess() {
+      return this.success;
     }
 
-    public part_result setSuccess(ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public openData_result setSuccess(DataTicket success) {
+      this.success = success;
       return this;
     }
 
@@ -2807,7 +21392,7 @@ public class SyncFileServer {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ByteBuffer)value);
+          setSuccess((DataTicket)value);
         }
         break;
 
@@ -2840,12 +21425,12 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof part_result)
-        return this.equals((part_result)that);
+      if (that instanceof openData_result)
+        return this.equals((openData_result)that);
       return false;
     }
 
-    public boolean equals(part_result that) {
+    public boolean equals(openData_result that) {
       if (that == null)
         return false;
 
@@ -2874,7 +21459,7 @@ public class SyncFileServer {
     }
 
     @Override
-    public int compareTo(part_result other) {
+    public int compareTo(openData_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2908,14 +21493,14 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("part_result(");
+      StringBuilder sb = new StringBuilder("openData_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -2925,6 +21510,9 @@ public class SyncFileServer {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -2943,15 +21531,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class part_resultStandardSchemeFactory implements SchemeFactory {
-      public part_resultStandardScheme getScheme() {
-        return new part_resultStandardScheme();
+    private static class openData_resultStandardSchemeFactory implements SchemeFactory {
+      public openData_resultStandardScheme getScheme() {
+        return new openData_resultStandardScheme();
       }
     }
 
-    private static class part_resultStandardScheme extends StandardScheme<part_result> {
+    private static class openData_resultStandardScheme extends StandardScheme<openData_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, part_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openData_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2962,8 +21550,9 @@ public class SyncFileServer {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new DataTicket();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -2980,13 +21569,13 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, part_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openData_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2995,16 +21584,16 @@ public class SyncFileServer {
 
     }
 
-    private static class part_resultTupleSchemeFactory implements SchemeFactory {
-      public part_resultTupleScheme getScheme() {
-        return new part_resultTupleScheme();
+    private static class openData_resultTupleSchemeFactory implements SchemeFactory {
+      public openData_resultTupleScheme getScheme() {
+        return new openData_resultTupleScheme();
       }
     }
 
-    private static class part_resultTupleScheme extends TupleScheme<part_result> {
+    private static class openData_resultTupleScheme extends TupleScheme<openData_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, part_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, openData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3012,16 +21601,17 @@ public class SyncFileServer {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, part_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, openData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          struct.success = new DataTicket();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -3029,25 +21619,20 @@ public class SyncFileServer {
 
   }
 
-  public static class listFiles_args implements org.apache.thrift.TBase<listFiles_args, listFiles_args._Fields>, java.io.Serializable, Cloneable, Comparable<listFiles_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listFiles_args");
+  public static class stats_args implements org.apache.thrift.TBase<stats_args, stats_args._Fields>, java.io.Serializable, Cloneable, Comparable<stats_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stats_args");
 
-    private static final org.apache.thrift.protocol.TField FOLDER_FIELD_DESC = new org.apache.thrift.protocol.TField("folder", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listFiles_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listFiles_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new stats_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new stats_argsTupleSchemeFactory());
     }
 
-    public String folder; // required
-    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FOLDER((short)1, "folder"),
-      PATH((short)2, "path");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3062,10 +21647,6 @@ public class SyncFileServer {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FOLDER
-            return FOLDER;
-          case 2: // PATH
-            return PATH;
           default:
             return null;
         }
@@ -3104,130 +21685,37 @@ public class SyncFileServer {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FOLDER, new org.apache.thrift.meta_data.FieldMetaData("folder", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listFiles_args.class, metaDataMap);
-    }
-
-    public listFiles_args() {
-    }
-
-    public listFiles_args(
-      String folder,
-      String path)
-    {
-      this();
-      this.folder = folder;
-      this.path = path;
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public listFiles_args(listFiles_args other) {
-      if (other.isSetFolder()) {
-        this.folder = other.folder;
-      }
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-    }
-
-    public listFiles_args deepCopy() {
-      return new listFiles_args(this);
-    }
-
-    @Override
-    public void clear() {
-      this.folder = null;
-      this.path = null;
-    }
-
-    public String getFolder() {
-      return this.folder;
-    }
-
-    public listFiles_args setFolder(String folder) {
-      this.folder = folder;
-      return this;
-    }
-
-    public void unsetFolder() {
-      this.folder = null;
-    }
-
-    /** Returns true if field folder is set (has been assigned a value) and false otherwise */
-    public boolean isSetFolder() {
-      return this.folder != null;
-    }
-
-    public void setFolderIsSet(boolean value) {
-      if (!value) {
-        this.folder = null;
-      }
-    }
-
-    public String getPath() {
-      return this.path;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stats_args.class, metaDataMap);
     }
 
-    public listFiles_args setPath(String path) {
-      this.path = path;
-      return this;
+    public stats_args() {
     }
 
-    public void unsetPath() {
-      this.path = null;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public stats_args(stats_args other) {
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    public stats_args deepCopy() {
+      return new stats_args(this);
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    @Override
+    public void clear() {
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FOLDER:
-        if (value == null) {
-          unsetFolder();
-        } else {
-          setFolder((String)value);
-        }
-        break;
-
-      case PATH:
-        if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FOLDER:
-        return getFolder();
-
-      case PATH:
-        return getPath();
-
       }
       throw new IllegalStateException();
     }
@@ -3239,10 +21727,6 @@ public class SyncFileServer {
       }
 
       switch (field) {
-      case FOLDER:
-        return isSetFolder();
-      case PATH:
-        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -3251,33 +21735,15 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listFiles_args)
-        return this.equals((listFiles_args)that);
+      if (that instanceof stats_args)
+        return this.equals((stats_args)that);
       return false;
     }
 
-    public boolean equals(listFiles_args that) {
+    public boolean equals(stats_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_folder = true && this.isSetFolder();
-      boolean that_present_folder = true && that.isSetFolder();
-      if (this_present_folder || that_present_folder) {
-        if (!(this_present_folder && that_present_folder))
-          return false;
-        if (!this.folder.equals(that.folder))
-          return false;
-      }
-
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
       return true;
     }
 
@@ -3285,47 +21751,17 @@ public class SyncFileServer {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_folder = true && (isSetFolder());
-      list.add(present_folder);
-      if (present_folder)
-        list.add(folder);
-
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(listFiles_args other) {
+    public int compareTo(stats_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFolder()).compareTo(other.isSetFolder());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFolder()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.folder, other.folder);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -3343,24 +21779,9 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listFiles_args(");
+      StringBuilder sb = new StringBuilder("stats_args(");
       boolean first = true;
 
-      sb.append("folder:");
-      if (this.folder == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.folder);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -3386,15 +21807,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class listFiles_argsStandardSchemeFactory implements SchemeFactory {
-      public listFiles_argsStandardScheme getScheme() {
-        return new listFiles_argsStandardScheme();
+    private static class stats_argsStandardSchemeFactory implements SchemeFactory {
+      public stats_argsStandardScheme getScheme() {
+        return new stats_argsStandardScheme();
       }
     }
 
-    private static class listFiles_argsStandardScheme extends StandardScheme<listFiles_args> {
+    private static class stats_argsStandardScheme extends StandardScheme<stats_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listFiles_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stats_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3404,22 +21825,6 @@ public class SyncFileServer {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FOLDER
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.folder = iprot.readString();
-                struct.setFolderIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -3431,82 +21836,49 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listFiles_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stats_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.folder != null) {
-          oprot.writeFieldBegin(FOLDER_FIELD_DESC);
-          oprot.writeString(struct.folder);
-          oprot.writeFieldEnd();
-        }
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class listFiles_argsTupleSchemeFactory implements SchemeFactory {
-      public listFiles_argsTupleScheme getScheme() {
-        return new listFiles_argsTupleScheme();
+    private static class stats_argsTupleSchemeFactory implements SchemeFactory {
+      public stats_argsTupleScheme getScheme() {
+        return new stats_argsTupleScheme();
       }
     }
 
-    private static class listFiles_argsTupleScheme extends TupleScheme<listFiles_args> {
+    private static class stats_argsTupleScheme extends TupleScheme<stats_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listFiles_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, stats_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetFolder()) {
-          optionals.set(0);
-        }
-        if (struct.isSetPath()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFolder()) {
-          oprot.writeString(struct.folder);
-        }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listFiles_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, stats_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.folder = iprot.readString();
-          struct.setFolderIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class listFiles_result implements org.apache.thrift.TBase<listFiles_result, listFiles_result._Fields>, java.io.Serializable, Cloneable, Comparable<listFiles_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listFiles_result");
+  public static class stats_result implements org.apache.thrift.TBase<stats_result, stats_result._Fields>, java.io.Serializable, Cloneable, Comparable<stats_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stats_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listFiles_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listFiles_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new stats_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new stats_resultTupleSchemeFactory());
     }
 
-    public List<RemoteFileInfo> success; // required
+    public ServerStat success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -3571,17 +21943,16 @@ public class SyncFileServer {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteFileInfo.class))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ServerStat.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listFiles_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stats_result.class, metaDataMap);
     }
 
-    public listFiles_result() {
+    public stats_result() {
     }
 
-    public listFiles_result(
-      List<RemoteFileInfo> success)
+    public stats_result(
+      ServerStat success)
     {
       this();
       this.success = success;
@@ -3590,18 +21961,14 @@ public class SyncFileServer {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listFiles_result(listFiles_result other) {
+    public stats_result(stats_result other) {
       if (other.isSetSuccess()) {
-        List<RemoteFileInfo> __this__success = new ArrayList<RemoteFileInfo>(other.success.size());
-        for (RemoteFileInfo other_element : other.success) {
-          __this__success.add(new RemoteFileInfo(other_element));
-        }
-        this.success = __this__success;
+        this.success = new ServerStat(other.success);
       }
     }
 
-    public listFiles_result deepCopy() {
-      return new listFiles_result(this);
+    public stats_result deepCopy() {
+      return new stats_result(this);
     }
 
     @Override
@@ -3609,26 +21976,11 @@ public class SyncFileServer {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<RemoteFileInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(RemoteFileInfo elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<RemoteFileInfo>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<RemoteFileInfo> getSuccess() {
+    public ServerStat getSuccess() {
       return this.success;
     }
 
-    public listFiles_result setSuccess(List<RemoteFileInfo> success) {
+    public stats_result setSuccess(ServerStat success) {
       this.success = success;
       return this;
     }
@@ -3654,7 +22006,7 @@ public class SyncFileServer {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<RemoteFileInfo>)value);
+          setSuccess((ServerStat)value);
         }
         break;
 
@@ -3687,12 +22039,12 @@ public class SyncFileServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listFiles_result)
-        return this.equals((listFiles_result)that);
+      if (that instanceof stats_result)
+        return this.equals((stats_result)that);
       return false;
     }
 
-    public boolean equals(listFiles_result that) {
+    public boolean equals(stats_result that) {
       if (that == null)
         return false;
 
@@ -3721,7 +22073,7 @@ public class SyncFileServer {
     }
 
     @Override
-    public int compareTo(listFiles_result other) {
+    public int compareTo(stats_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3755,7 +22107,7 @@ public class SyncFileServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listFiles_result(");
+      StringBuilder sb = new StringBuilder("stats_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3772,6 +22124,9 @@ public class SyncFileServer {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3790,15 +22145,15 @@ public class SyncFileServer {
       }
     }
 
-    private static class listFiles_resultStandardSchemeFactory implements SchemeFactory {
-      public listFiles_resultStandardScheme getScheme() {
-        return new listFiles_resultStandardScheme();
+    private static class stats_resultStandardSchemeFactory implements SchemeFactory {
+      public stats_resultStandardScheme getScheme() {
+        return new stats_resultStandardScheme();
       }
     }
 
-    private static class listFiles_resultStandardScheme extends StandardScheme<listFiles_result> {
+    private static class stats_resultStandardScheme extends StandardScheme<stats_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listFiles_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stats_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3809,19 +22164,9 @@ public class SyncFileServer {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.success = new ArrayList<RemoteFileInfo>(_list0.size);
-                  RemoteFileInfo _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
-                  {
-                    _elem1 = new RemoteFileInfo();
-                    _elem1.read(iprot);
-                    struct.success.add(_elem1);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ServerStat();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -3838,20 +22183,13 @@ public class SyncFileServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listFiles_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stats_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (RemoteFileInfo _iter3 : struct.success)
-            {
-              _iter3.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3860,16 +22198,16 @@ public class SyncFileServer {
 
     }
 
-    private static class listFiles_resultTupleSchemeFactory implements SchemeFactory {
-      public listFiles_resultTupleScheme getScheme() {
-        return new listFiles_resultTupleScheme();
+    private static class stats_resultTupleSchemeFactory implements SchemeFactory {
+      public stats_resultTupleScheme getScheme() {
+        return new stats_resultTupleScheme();
       }
     }
 
-    private static class listFiles_resultTupleScheme extends TupleScheme<listFiles_result> {
+    private static class stats_resultTupleScheme extends TupleScheme<stats_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listFiles_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, stats_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3877,32 +22215,17 @@ public class SyncFileServer {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (RemoteFileInfo _iter4 : struct.success)
-            {
-              _iter4.write(oprot);
-            }
-          }
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listFiles_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, stats_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<RemoteFileInfo>(_list5.size);
-            RemoteFileInfo _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
-            {
-              _elem6 = new RemoteFileInfo();
-              _elem6.read(iprot);
-              struct.success.add(_elem6);
-            }
-          }
+          struct.success = new ServerStat();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -101,7 +101,114 @@ struct RemoteFileInfo {
   2: string path,
   3: i64 length,
   4: i64 lastModify,
-  5: bool isFolder
+  5: bool isFolder,
+  // merkle digest of a folder (names, sizes, mtimes and digests of its children), unset when unknown
+  6: optional string digest
+}
+
+// one frame of a streamed file, credit is how many readFrame calls the server lets a client keep in flight
+struct FileFrame {
+  1: i64 offset,
+  2: binary data,
+  3: i32 credit
+}
+
+// rsync block signature: rolling checksum and md5 of one full block of the client's file
+struct BlockSignature {
+  1: i32 weak,
+  2: binary strong
+}
+
+// copy count blocks of the client's file starting at block, or write data when it is set
+struct DeltaOp {
+  1: i32 block,
+  2: i32 count,
+  3: binary data
+}
+
+// delta of the server's file from offset to next, finished when next is the end of the file
+struct DeltaPage {
+  1: list<DeltaOp> ops,
+  2: i64 next,
+  3: bool finished
+}
+
+// data compressed with codec ("none", "fast", "deflate"), length is the size before compression
+struct Payload {
+  1: string codec,
+  2: binary data,
+  3: i32 length
+}
+
+// content defined chunk of a file: length bytes whose md5 is hash, chunks of a file are consecutive
+struct Chunk {
+  1: i32 length,
+  2: binary hash
+}
+
+// chunks of a file from offset to next, finished when next is the end of the file
+struct ChunkPage {
+  1: list<Chunk> chunks,
+  2: i64 next,
+  3: bool finished
+}
+
+// changes of a folder after a cursor; expired means the cursor is unknown and the client must walk the whole tree,
+// more means there are more changes after the returned cursor
+struct ChangeSet {
+  1: list<RemoteFileInfo> changed,
+  2: list<string> deleted,
+  3: string cursor,
+  4: bool more,
+  5: bool expired
+}
+
+// single use ticket for reading a byte range from the data port; port is 0 when the server has no data port
+struct DataTicket {
+  1: i32 port,
+  2: binary ticket
+}
+
+// counters of one rpc method or one folder since the server started; latencies are in microseconds,
+// percentiles come from a log-linear histogram (about 6% relative error), bytes are the data sent
+struct RpcStat {
+  1: string name,
+  2: i64 calls,
+  3: i64 errors,
+  4: i32 active,
+  5: i64 bytes,
+  6: i64 total_micros,
+  7: i64 p50_micros,
+  8: i64 p90_micros,
+  9: i64 p99_micros,
+  10: i64 max_micros
+}
+
+// counters of the in-memory digest cache of one local folder; weight is the estimated memory in bytes,
+// loads are files actually hashed, shared are callers that waited for another caller's lookup or hashing
+struct CacheStat {
+  1: string name,
+  2: i64 hits,
+  3: i64 misses,
+  4: i64 loads,
+  5: i64 shared,
+  6: i64 evictions,
+  7: i64 entries,
+  8: i64 weight,
+  9: i64 max_weight
+}
+
+// server statistics returned by stats()
+struct ServerStat {
+  1: i64 start_time,
+  2: list<RpcStat> methods,
+  3: list<RpcStat> folders,
+  4: list<CacheStat> caches
+}
+
+// the server is at its limit for this kind of call (server.admit.*); retry after retry_after milliseconds
+exception ServerBusy {
+  1: i32 retry_after
 }
 
 /**
@@ -127,11 +234,56 @@ service SyncFileServer {
 
    void ping(),
    
-   string md5(1:string folder, 2:string path),
+   string md5(1:string folder, 2:string path) throws (1:ServerBusy busy),
    
-   binary part(1:string folder, 2:string path, 3:i64 part , 4:i64 part_size),
+   binary part(1:string folder, 2:string path, 3:i64 part , 4:i64 part_size) throws (1:ServerBusy busy),
    
-   list<RemoteFileInfo> listFiles(1:string folder, 2:string path)
+   list<RemoteFileInfo> listFiles(1:string folder, 2:string path),
+
+   // whole subtree of path in pages: pre-order, children sorted by name,
+   // "after" is the path of the last entry of the previous page (null for the first page)
+   list<RemoteFileInfo> listTree(1:string folder, 2:string path, 3:string after, 4:i32 max),
+
+   // md5 of many files in one call, result is in the same order as paths
+   list<string> md5Batch(1:string folder, 2:list<string> paths) throws (1:ServerBusy busy),
+
+   // size bytes of path from offset, may be pipelined up to the returned credit
+   FileFrame readFrame(1:string folder, 2:string path, 3:i64 offset, 4:i32 size) throws (1:ServerBusy busy),
+
+   // rsync style delta of path against the client's block signatures, starting at offset
+   DeltaPage delta(1:string folder, 2:string path, 3:i32 block_size, 4:list<BlockSignature> signatures, 5:i64 offset) throws (1:ServerBusy busy),
+
+   // codecs supported by the server, most preferred first
+   list<string> codecs(),
+
+   Payload partCompressed(1:string folder, 2:string path, 3:i64 part, 4:i64 part_size, 5:string codec) throws (1:ServerBusy busy),
+
+   // data is the compact protocol encoding of list<RemoteFileInfo>
+   Payload listTreeCompressed(1:string folder, 2:string path, 3:string after, 4:i32 max, 5:string codec),
+
+   // stacks ("protocol/transport", e.g. "compact/framed") offered by the client, most preferred first;
+   // returns the first one the server supports (empty when none), the client switches after the reply
+   string handshake(1:list<string> stacks),
+   // created/modified entries and deleted paths since cursor (null for a new cursor), at most max entries
+   ChangeSet changesSince(1:string folder, 2:string cursor, 3:i32 max),
+   // content defined chunks (average avg_size bytes) of path starting at offset, which must be a chunk boundary
+   ChunkPage chunks(1:string folder, 2:string path, 3:i32 avg_size, 4:i64 offset) throws (1:ServerBusy busy),
+   // long poll: returns true as soon as there are changes after the cursor since (or it expired),
+   // false after timeout ms (the server may shorten the timeout)
+   bool waitForChanges(1:string folder, 2:string since, 3:i32 timeout),
+   // merkle digest of the folder path (null for the root), empty when unknown
+   string digest(1:string folder, 2:string path),
+   // file digest algorithms supported by the server ("xxh64", "sha256", "md5") for folder, most preferred first;
+   // without folder (old clients) only the algorithms every folder supports
+   list<string> digests(1:string folder),
+   // digest of many files with algorithm, result is in the same order as paths
+   list<string> hashBatch(1:string folder, 2:list<string> paths, 3:string algorithm) throws (1:ServerBusy busy),
+   // ticket for [offset, offset + length) of path; the client connects to the data port, sends the ticket
+   // and reads the raw bytes until the server closes the connection
+   DataTicket openData(1:string folder, 2:string path, 3:i64 offset, 4:i64 length),
+
+   // per method and per folder call counts, errors, bytes and latency percentiles
+   ServerStat stats()
 
 }
 